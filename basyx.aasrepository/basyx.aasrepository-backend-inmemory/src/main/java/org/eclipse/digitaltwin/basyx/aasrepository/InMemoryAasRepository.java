@@ -24,11 +24,9 @@
  ******************************************************************************/
 package org.eclipse.digitaltwin.basyx.aasrepository;
 
-import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.TreeMap;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShell;
 import org.eclipse.digitaltwin.aas4j.v3.model.AssetInformation;
@@ -38,9 +36,10 @@ import org.eclipse.digitaltwin.basyx.aasservice.AasServiceFactory;
 import org.eclipse.digitaltwin.basyx.core.exceptions.CollidingIdentifierException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.IdentificationMismatchException;
+import org.eclipse.digitaltwin.basyx.core.pagination.ConcurrentSortedStore;
+import org.eclipse.digitaltwin.basyx.core.pagination.CursorIterator;
 import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
-import org.eclipse.digitaltwin.basyx.core.pagination.PaginationSupport;
 
 /**
  * In-memory implementation of the AasRepository
@@ -50,7 +49,7 @@ import org.eclipse.digitaltwin.basyx.core.pagination.PaginationSupport;
  */
 public class InMemoryAasRepository implements AasRepository {
 
-	private Map<String, AasService> aasServices = new LinkedHashMap<>();
+	private ConcurrentSortedStore<AasService> aasServices = new ConcurrentSortedStore<>(service -> service.getAAS().getId());
 
 	private AasServiceFactory aasServiceFactory;
 	
@@ -79,39 +78,39 @@ public class InMemoryAasRepository implements AasRepository {
 
 	@Override
 	public CursorResult<List<AssetAdministrationShell>> getAllAas(PaginationInfo pInfo) {
-		List<AssetAdministrationShell> allAas = aasServices.values()
+		CursorResult<List<AasService>> paginatedServices = aasServices.getPaged(pInfo);
+
+		List<AssetAdministrationShell> paginatedAAS = paginatedServices.getResult()
 				.stream()
 				.map(AasService::getAAS)
 				.collect(Collectors.toList());
 
-		TreeMap<String, AssetAdministrationShell> aasMap = allAas.stream()
-				.collect(Collectors.toMap(AssetAdministrationShell::getId, aas -> aas, (a, b) -> a, TreeMap::new));
+		return new CursorResult<>(paginatedServices.getCursor(), paginatedAAS);
+	}
+
+	@Override
+	public CursorIterator<AssetAdministrationShell> iterateAllAas(PaginationInfo pInfo) {
+		Stream<AssetAdministrationShell> page = aasServices.getPage(pInfo, service -> true)
+				.map(AasService::getAAS);
 
-		PaginationSupport<AssetAdministrationShell> paginationSupport = new PaginationSupport<>(aasMap, AssetAdministrationShell::getId);
-		CursorResult<List<AssetAdministrationShell>> paginatedAAS = paginationSupport.getPaged(pInfo);
-		return paginatedAAS;
+		return new CursorIterator<>(page.iterator(), pInfo, AssetAdministrationShell::getId, page::close);
 	}
 
 	@Override
 	public AssetAdministrationShell getAas(String aasId) throws ElementDoesNotExistException {
-		throwIfAasDoesNotExist(aasId);
-
-		return aasServices.get(aasId)
-				.getAAS();
+		return getAasService(aasId).getAAS();
 	}
 
 	@Override
 	public void createAas(AssetAdministrationShell aas) throws CollidingIdentifierException {
-		throwIfAasExists(aas);
-
-		aasServices.put(aas.getId(), aasServiceFactory.create(aas));
+		if (!aasServices.putIfAbsent(aas.getId(), aasServiceFactory.create(aas)))
+			throw new CollidingIdentifierException();
 	}
 
 	@Override
 	public void deleteAas(String aasId) {
-		throwIfAasDoesNotExist(aasId);
-
-		aasServices.remove(aasId);
+		if (aasServices.remove(aasId) == null)
+			throw new ElementDoesNotExistException(aasId);
 	}
 
 	@Override
@@ -120,13 +119,8 @@ public class InMemoryAasRepository implements AasRepository {
 
 		throwIfMismatchingIds(aasId, aas);
 
-		aasServices.put(aasId, aasServiceFactory.create(aas));
-	}
-
-	private void throwIfAasExists(AssetAdministrationShell aas) {
-		if (aasServices.containsKey(aas.getId())) {
-			throw new CollidingIdentifierException();
-		}
+		if (!aasServices.replace(aasId, aasServiceFactory.create(aas)))
+			throw new ElementDoesNotExistException(aasId);
 	}
 
 	private void throwIfAasDoesNotExist(String aasId) {
@@ -135,41 +129,43 @@ public class InMemoryAasRepository implements AasRepository {
 		}
 	}
 
+	private AasService getAasService(String aasId) {
+		AasService aasService = aasServices.get(aasId);
+		if (aasService == null)
+			throw new ElementDoesNotExistException(aasId);
+
+		return aasService;
+	}
+
 	@Override
 	public CursorResult<List<Reference>> getSubmodelReferences(String aasId, PaginationInfo pInfo) {
-		throwIfAasDoesNotExist(aasId);
-
-		CursorResult<List<Reference>> paginatedSubmodelReference = aasServices.get(aasId).getSubmodelReferences(pInfo);
+		CursorResult<List<Reference>> paginatedSubmodelReference = getAasService(aasId).getSubmodelReferences(pInfo);
 
 		return paginatedSubmodelReference;
 	}
 
 	@Override
 	public void addSubmodelReference(String aasId, Reference submodelReference) {
-		throwIfAasDoesNotExist(aasId);
-		aasServices.get(aasId)
+		getAasService(aasId)
 				.addSubmodelReference(submodelReference);
 	}
 
 	@Override
 	public void removeSubmodelReference(String aasId, String submodelId) {
-		throwIfAasDoesNotExist(aasId);
-		aasServices.get(aasId)
+		getAasService(aasId)
 				.removeSubmodelReference(submodelId);
 	}
 
 	@Override
 	public void setAssetInformation(String aasId, AssetInformation aasInfo) throws ElementDoesNotExistException {
-		throwIfAasDoesNotExist(aasId);
-		aasServices.get(aasId)
+		getAasService(aasId)
 				.getAAS()
 				.setAssetInformation(aasInfo);
 	}
 
 	@Override
 	public AssetInformation getAssetInformation(String aasId) throws ElementDoesNotExistException {
-		throwIfAasDoesNotExist(aasId);
-		return aasServices.get(aasId)
+		return getAasService(aasId)
 				.getAAS()
 				.getAssetInformation();
 	}
@@ -31,17 +31,21 @@ import org.eclipse.digitaltwin.aas4j.v3.model.AssetInformation;
 import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
 import org.eclipse.digitaltwin.basyx.aasservice.AasService;
 import org.eclipse.digitaltwin.basyx.aasservice.AasServiceFactory;
+import org.eclipse.digitaltwin.basyx.common.mongocore.MongoDBUtilities;
 import org.eclipse.digitaltwin.basyx.core.exceptions.CollidingIdentifierException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.IdentificationMismatchException;
+import org.eclipse.digitaltwin.basyx.core.pagination.CursorIterator;
 import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.index.Index;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.util.CloseableIterator;
 
 import com.mongodb.client.result.DeleteResult;
 
@@ -79,16 +83,31 @@ public class MongoDBAasRepository implements AasRepository {
 
 	@Override
 	public CursorResult<List<AssetAdministrationShell>> getAllAas(PaginationInfo pInfo) {
-		Query query = new Query();
-		applySorting(query, pInfo);
-		applyPagination(query, pInfo);
-		List<AssetAdministrationShell> foundDescriptors = mongoTemplate.find(query, AssetAdministrationShell.class,
+		List<AssetAdministrationShell> foundDescriptors = mongoTemplate.find(createAllAasQuery(pInfo), AssetAdministrationShell.class,
 				collectionName);
 
 		String cursor = resolveCursor(pInfo, foundDescriptors, AssetAdministrationShell::getId);
 		return new CursorResult<List<AssetAdministrationShell>>(cursor, foundDescriptors);
 	}
 
+	/**
+	 * The Asset Administration Shells are read from the MongoDB cursor while they
+	 * are iterated.
+	 */
+	@Override
+	public CursorIterator<AssetAdministrationShell> iterateAllAas(PaginationInfo pInfo) {
+		CloseableIterator<AssetAdministrationShell> foundShells = mongoTemplate.stream(createAllAasQuery(pInfo), AssetAdministrationShell.class, collectionName);
+
+		return new CursorIterator<>(foundShells, pInfo, AssetAdministrationShell::getId, foundShells::close);
+	}
+
+	private Query createAllAasQuery(PaginationInfo pInfo) {
+		Query query = new Query();
+		applySorting(query, pInfo);
+		applyPagination(query, pInfo);
+		return query;
+	}
+
 	@Override
 	public AssetAdministrationShell getAas(String aasId) throws ElementDoesNotExistException {
 		AssetAdministrationShell aas = mongoTemplate.findOne(new Query().addCriteria(Criteria.where(IDJSONPATH)
@@ -101,11 +120,10 @@ public class MongoDBAasRepository implements AasRepository {
 
 	@Override
 	public void createAas(AssetAdministrationShell aas) throws CollidingIdentifierException {
-		if (mongoTemplate.exists(new Query().addCriteria(Criteria.where(IDJSONPATH)
-				.is(aas.getId())), AssetAdministrationShell.class, collectionName)) {
+		try {
+			mongoTemplate.insert(aas, collectionName);
+		} catch (DuplicateKeyException e) {
 			throw new CollidingIdentifierException(aas.getId());
-		} else {
-			mongoTemplate.save(aas, collectionName);
 		}
 	}
 
@@ -121,15 +139,10 @@ public class MongoDBAasRepository implements AasRepository {
 
 	@Override
 	public void updateAas(String aasId, AssetAdministrationShell aas) {
-		Query query = new Query().addCriteria(Criteria.where(IDJSONPATH)
-				.is(aasId));
-
-		throwIfAasDoesNotExist(query, aasId);
-
 		throwIfMismatchingIds(aasId, aas);
 
-		mongoTemplate.remove(query, AssetAdministrationShell.class, collectionName);
-		mongoTemplate.save(aas, collectionName);
+		if (!MongoDBUtilities.replace(mongoTemplate, collectionName, aas))
+			throw new ElementDoesNotExistException(aasId);
 	}
 
 	@Override
@@ -179,16 +192,23 @@ public class MongoDBAasRepository implements AasRepository {
 		return aasServiceFactory.create(getAas(aasId));
 	}
 
-	private void throwIfAasDoesNotExist(Query query, String aasId) {
-		if (!mongoTemplate.exists(query, AssetAdministrationShell.class, collectionName))
-			throw new ElementDoesNotExistException(aasId);
-	}
-
+	/**
+	 * A missing AAS takes precedence over the mismatch. Thus, only this error
+	 * case requires a lookup of the AAS.
+	 */
 	private void throwIfMismatchingIds(String aasId, AssetAdministrationShell newAas) {
 		String newAasId = newAas.getId();
 
-		if (!aasId.equals(newAasId))
-			throw new IdentificationMismatchException();
+		if (aasId.equals(newAasId))
+			return;
+
+		throwIfAasDoesNotExist(aasId);
+		throw new IdentificationMismatchException();
+	}
+
+	private void throwIfAasDoesNotExist(String aasId) {
+		if (!mongoTemplate.exists(new Query().addCriteria(Criteria.where(IDJSONPATH).is(aasId)), AssetAdministrationShell.class, collectionName))
+			throw new ElementDoesNotExistException(aasId);
 	}
 
 	private <T> String resolveCursor(PaginationInfo pRequest, List<T> foundDescriptors,
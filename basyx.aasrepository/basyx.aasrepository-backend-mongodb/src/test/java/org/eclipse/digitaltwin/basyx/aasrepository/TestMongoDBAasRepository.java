@@ -26,6 +26,7 @@
 package org.eclipse.digitaltwin.basyx.aasrepository;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
 
 import java.util.Arrays;
 
@@ -33,6 +34,7 @@ import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShell;
 import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultAssetAdministrationShell;
 import org.eclipse.digitaltwin.basyx.aasservice.backend.InMemoryAasServiceFactory;
 import org.eclipse.digitaltwin.basyx.common.mongocore.MongoDBUtilities;
+import org.eclipse.digitaltwin.basyx.core.exceptions.CollidingIdentifierException;
 import org.junit.Test;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import com.mongodb.client.MongoClient;
@@ -79,6 +81,20 @@ public class TestMongoDBAasRepository extends AasRepositorySuite {
 		assertEquals(expectedShell, retrievedShell);
 	}
 	
+	@Test
+	public void createAasWithExistingIdKeepsStoredAas() {
+		AasRepository repo = getAasRepositoryFactory().create();
+		repo.createAas(new DefaultAssetAdministrationShell.Builder().id("dummy").idShort("stored").build());
+
+		try {
+			repo.createAas(new DefaultAssetAdministrationShell.Builder().id("dummy").idShort("colliding").build());
+			fail();
+		} catch (CollidingIdentifierException expected) {
+		}
+
+		assertEquals("stored", repo.getAas("dummy").getIdShort());
+	}
+
 	@Test
 	public void getConfiguredMongoDBAasRepositoryName() {
 		AasRepository repo = new MongoDBAasRepository(createMongoTemplate(), COLLECTION, new InMemoryAasServiceFactory(), CONFIGURED_AAS_REPO_NAME);
@@ -31,6 +31,7 @@ import org.eclipse.digitaltwin.aas4j.v3.model.AssetInformation;
 import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
 import org.eclipse.digitaltwin.basyx.core.exceptions.CollidingIdentifierException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
+import org.eclipse.digitaltwin.basyx.core.pagination.CursorIterator;
 import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
 
@@ -49,6 +50,17 @@ public interface AasRepository {
 	 */
 	public CursorResult<List<AssetAdministrationShell>> getAllAas(PaginationInfo pInfo);
 
+	/**
+	 * Iterates the Asset Administration Shells while they are read from the
+	 * storage. The iterator has to be closed if it is not iterated completely.
+	 * 
+	 * @param pInfo
+	 * @return the iterator over the found Asset Administration Shells
+	 */
+	public default CursorIterator<AssetAdministrationShell> iterateAllAas(PaginationInfo pInfo) {
+		return CursorIterator.of(getAllAas(pInfo));
+	}
+
 	/**
 	 * Retrieves a specific AAS
 	 * 
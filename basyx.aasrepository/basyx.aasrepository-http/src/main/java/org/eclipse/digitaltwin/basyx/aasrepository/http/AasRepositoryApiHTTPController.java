@@ -35,13 +35,14 @@ import org.eclipse.digitaltwin.aas4j.v3.model.AssetInformation;
 import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
 import org.eclipse.digitaltwin.aas4j.v3.model.SpecificAssetID;
 import org.eclipse.digitaltwin.basyx.aasrepository.AasRepository;
-import org.eclipse.digitaltwin.basyx.aasrepository.http.pagination.GetAssetAdministrationShellsResult;
 import org.eclipse.digitaltwin.basyx.aasrepository.http.pagination.GetReferencesResult;
+import org.eclipse.digitaltwin.basyx.core.pagination.CursorIterator;
 import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
 import org.eclipse.digitaltwin.basyx.http.Base64UrlEncodedIdentifier;
 import org.eclipse.digitaltwin.basyx.http.pagination.PagedResult;
 import org.eclipse.digitaltwin.basyx.http.pagination.PagedResultPagingMetadata;
+import org.eclipse.digitaltwin.basyx.http.pagination.StreamingPagedResult;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -105,13 +106,9 @@ public class AasRepositoryApiHTTPController implements AasRepositoryHTTPApi {
 			cursor = "";
 
 		PaginationInfo paginationInfo = new PaginationInfo(limit, cursor);
-		CursorResult<List<AssetAdministrationShell>> paginatedAAS = aasRepository.getAllAas(paginationInfo);
+		CursorIterator<AssetAdministrationShell> shells = aasRepository.iterateAllAas(paginationInfo);
 
-		GetAssetAdministrationShellsResult result = new GetAssetAdministrationShellsResult();
-		result.setResult(paginatedAAS.getResult());
-		result.setPagingMetadata(new PagedResultPagingMetadata().cursor(paginatedAAS.getCursor()));
-
-		return new ResponseEntity<>(result, HttpStatus.OK);
+		return new ResponseEntity<>(new StreamingPagedResult<>(shells, AssetAdministrationShell.class), HttpStatus.OK);
 	}
 
 	@Override
@@ -76,7 +76,7 @@ public interface AasRepositoryHTTPApi {
 			@ApiResponse(responseCode = "500", description = "Internal Server Error", content = @Content(mediaType = "application/json", schema = @Schema(implementation = Result.class))),
 
 			@ApiResponse(responseCode = "200", description = "Default error handling for unmentioned status codes", content = @Content(mediaType = "application/json", schema = @Schema(implementation = Result.class))) })
-	@RequestMapping(value = "/shells/{aasIdentifier}", produces = { "application/json" }, method = RequestMethod.DELETE)
+	@RequestMapping(value = "/shells/{aasIdentifier}", produces = { "application/json", "application/cbor", "application/x-jackson-smile" }, method = RequestMethod.DELETE)
 	ResponseEntity<Void> deleteAssetAdministrationShellById(
 			@Parameter(in = ParameterIn.PATH, description = "The Asset Administration Shell’s unique id (UTF8-BASE64-URL-encoded)", required = true, schema = @Schema()) @PathVariable("aasIdentifier") Base64UrlEncodedIdentifier aasIdentifier);
 
@@ -94,7 +94,7 @@ public interface AasRepositoryHTTPApi {
 			@ApiResponse(responseCode = "500", description = "Internal Server Error", content = @Content(mediaType = "application/json", schema = @Schema(implementation = Result.class))),
 
 			@ApiResponse(responseCode = "200", description = "Default error handling for unmentioned status codes", content = @Content(mediaType = "application/json", schema = @Schema(implementation = Result.class))) })
-	@RequestMapping(value = "/shells/{aasIdentifier}/submodel-refs/{submodelIdentifier}", produces = { "application/json" }, method = RequestMethod.DELETE)
+	@RequestMapping(value = "/shells/{aasIdentifier}/submodel-refs/{submodelIdentifier}", produces = { "application/json", "application/cbor", "application/x-jackson-smile" }, method = RequestMethod.DELETE)
 	ResponseEntity<Void> deleteSubmodelReferenceByIdAasRepository(
 			@Parameter(in = ParameterIn.PATH, description = "The Asset Administration Shell’s unique id (UTF8-BASE64-URL-encoded)", required = true, schema = @Schema()) @PathVariable("aasIdentifier") Base64UrlEncodedIdentifier aasIdentifier,
 			@Parameter(in = ParameterIn.PATH, description = "The Submodel’s unique id (UTF8-BASE64-URL-encoded)", required = true, schema = @Schema()) @PathVariable("submodelIdentifier") Base64UrlEncodedIdentifier submodelIdentifier);
@@ -111,7 +111,7 @@ public interface AasRepositoryHTTPApi {
 			@ApiResponse(responseCode = "500", description = "Internal Server Error", content = @Content(mediaType = "application/json", schema = @Schema(implementation = Result.class))),
 
 			@ApiResponse(responseCode = "200", description = "Default error handling for unmentioned status codes", content = @Content(mediaType = "application/json", schema = @Schema(implementation = Result.class))) })
-	@RequestMapping(value = "/shells", produces = { "application/json" }, method = RequestMethod.GET)
+	@RequestMapping(value = "/shells", produces = { "application/json", "application/cbor", "application/x-jackson-smile" }, method = RequestMethod.GET)
 	ResponseEntity<PagedResult> getAllAssetAdministrationShells(
 			@Parameter(in = ParameterIn.QUERY, description = "A list of specific Asset identifiers", schema = @Schema()) @Valid @RequestParam(value = "assetIds", required = false) List<SpecificAssetID> assetIds,
 			@Parameter(in = ParameterIn.QUERY, description = "The Asset Administration Shell’s IdShort", schema = @Schema()) @Valid @RequestParam(value = "idShort", required = false) String idShort,
@@ -133,7 +133,7 @@ public interface AasRepositoryHTTPApi {
 			@ApiResponse(responseCode = "500", description = "Internal Server Error", content = @Content(mediaType = "application/json", schema = @Schema(implementation = Result.class))),
 
 			@ApiResponse(responseCode = "200", description = "Default error handling for unmentioned status codes", content = @Content(mediaType = "application/json", schema = @Schema(implementation = Result.class))) })
-	@RequestMapping(value = "/shells/{aasIdentifier}/submodel-refs", produces = { "application/json" }, method = RequestMethod.GET)
+	@RequestMapping(value = "/shells/{aasIdentifier}/submodel-refs", produces = { "application/json", "application/cbor", "application/x-jackson-smile" }, method = RequestMethod.GET)
 	ResponseEntity<PagedResult> getAllSubmodelReferencesAasRepository(
 			@Parameter(in = ParameterIn.PATH, description = "The Asset Administration Shell’s unique id (UTF8-BASE64-URL-encoded)", required = true, schema = @Schema()) @PathVariable("aasIdentifier") Base64UrlEncodedIdentifier aasIdentifier,
 			@Min(1) @Parameter(in = ParameterIn.QUERY, description = "The maximum number of elements in the response array", schema = @Schema(allowableValues = {
@@ -154,7 +154,7 @@ public interface AasRepositoryHTTPApi {
 			@ApiResponse(responseCode = "500", description = "Internal Server Error", content = @Content(mediaType = "application/json", schema = @Schema(implementation = Result.class))),
 
 			@ApiResponse(responseCode = "200", description = "Default error handling for unmentioned status codes", content = @Content(mediaType = "application/json", schema = @Schema(implementation = Result.class))) })
-	@RequestMapping(value = "/shells/{aasIdentifier}", produces = { "application/json" }, method = RequestMethod.GET)
+	@RequestMapping(value = "/shells/{aasIdentifier}", produces = { "application/json", "application/cbor", "application/x-jackson-smile" }, method = RequestMethod.GET)
 	ResponseEntity<AssetAdministrationShell> getAssetAdministrationShellById(
 			@Parameter(in = ParameterIn.PATH, description = "The Asset Administration Shell’s unique id (UTF8-BASE64-URL-encoded)", required = true, schema = @Schema()) @PathVariable("aasIdentifier") Base64UrlEncodedIdentifier aasIdentifier);
 
@@ -173,7 +173,7 @@ public interface AasRepositoryHTTPApi {
 			@ApiResponse(responseCode = "500", description = "Internal Server Error", content = @Content(mediaType = "application/json", schema = @Schema(implementation = Result.class))),
 
 			@ApiResponse(responseCode = "200", description = "Default error handling for unmentioned status codes", content = @Content(mediaType = "application/json", schema = @Schema(implementation = Result.class))) })
-	@RequestMapping(value = "/shells", produces = { "application/json" }, consumes = { "application/json" }, method = RequestMethod.POST)
+	@RequestMapping(value = "/shells", produces = { "application/json", "application/cbor", "application/x-jackson-smile" }, consumes = { "application/json", "application/cbor", "application/x-jackson-smile" }, method = RequestMethod.POST)
 	ResponseEntity<AssetAdministrationShell> postAssetAdministrationShell(
 			@Parameter(in = ParameterIn.DEFAULT, description = "Asset Administration Shell object", required = true, schema = @Schema()) @Valid @RequestBody AssetAdministrationShell body);
 
@@ -193,7 +193,7 @@ public interface AasRepositoryHTTPApi {
 			@ApiResponse(responseCode = "500", description = "Internal Server Error", content = @Content(mediaType = "application/json", schema = @Schema(implementation = Result.class))),
 
 			@ApiResponse(responseCode = "200", description = "Default error handling for unmentioned status codes", content = @Content(mediaType = "application/json", schema = @Schema(implementation = Result.class))) })
-	@RequestMapping(value = "/shells/{aasIdentifier}/submodel-refs", produces = { "application/json" }, consumes = { "application/json" }, method = RequestMethod.POST)
+	@RequestMapping(value = "/shells/{aasIdentifier}/submodel-refs", produces = { "application/json", "application/cbor", "application/x-jackson-smile" }, consumes = { "application/json", "application/cbor", "application/x-jackson-smile" }, method = RequestMethod.POST)
 	ResponseEntity<Reference> postSubmodelReferenceAasRepository(
 			@Parameter(in = ParameterIn.PATH, description = "The Asset Administration Shell’s unique id (UTF8-BASE64-URL-encoded)", required = true, schema = @Schema()) @PathVariable("aasIdentifier") Base64UrlEncodedIdentifier aasIdentifier,
 			@Parameter(in = ParameterIn.DEFAULT, description = "Reference to the Submodel", required = true, schema = @Schema()) @Valid @RequestBody Reference body);
@@ -212,7 +212,7 @@ public interface AasRepositoryHTTPApi {
 			@ApiResponse(responseCode = "500", description = "Internal Server Error", content = @Content(mediaType = "application/json", schema = @Schema(implementation = Result.class))),
 
 			@ApiResponse(responseCode = "200", description = "Default error handling for unmentioned status codes", content = @Content(mediaType = "application/json", schema = @Schema(implementation = Result.class))) })
-	@RequestMapping(value = "/shells/{aasIdentifier}", produces = { "application/json" }, consumes = { "application/json" }, method = RequestMethod.PUT)
+	@RequestMapping(value = "/shells/{aasIdentifier}", produces = { "application/json", "application/cbor", "application/x-jackson-smile" }, consumes = { "application/json", "application/cbor", "application/x-jackson-smile" }, method = RequestMethod.PUT)
 	ResponseEntity<Void> putAssetAdministrationShellById(
 			@Parameter(in = ParameterIn.PATH, description = "The Asset Administration Shell’s unique id (UTF8-BASE64-URL-encoded)", required = true, schema = @Schema()) @PathVariable("aasIdentifier") Base64UrlEncodedIdentifier aasIdentifier,
 			@Parameter(in = ParameterIn.DEFAULT, description = "Asset Administration Shell object", required = true, schema = @Schema()) @Valid @RequestBody AssetAdministrationShell body);
@@ -231,7 +231,7 @@ public interface AasRepositoryHTTPApi {
 			@ApiResponse(responseCode = "500", description = "Internal Server Error", content = @Content(mediaType = "application/json", schema = @Schema(implementation = Result.class))),
 
 			@ApiResponse(responseCode = "200", description = "Default error handling for unmentioned status codes", content = @Content(mediaType = "application/json", schema = @Schema(implementation = Result.class))) })
-	@RequestMapping(value = "/shells/{aasIdentifier}/asset-information", produces = { "application/json" }, consumes = { "application/json" }, method = RequestMethod.PUT)
+	@RequestMapping(value = "/shells/{aasIdentifier}/asset-information", produces = { "application/json", "application/cbor", "application/x-jackson-smile" }, consumes = { "application/json", "application/cbor", "application/x-jackson-smile" }, method = RequestMethod.PUT)
 	ResponseEntity<Void> putAssetInformationAasRepository(
 			@Parameter(in = ParameterIn.PATH, description = "The Asset Administration Shell’s unique id (UTF8-BASE64-URL-encoded)", required = true, schema = @Schema()) @PathVariable("aasIdentifier") Base64UrlEncodedIdentifier aasIdentifier,
 			@Parameter(in = ParameterIn.DEFAULT, description = "Asset Information object", required = true, schema = @Schema()) @Valid @RequestBody AssetInformation body);
@@ -250,7 +250,7 @@ public interface AasRepositoryHTTPApi {
 			@ApiResponse(responseCode = "500", description = "Internal Server Error", content = @Content(mediaType = "application/json", schema = @Schema(implementation = Result.class))),
 
 			@ApiResponse(responseCode = "200", description = "Default error handling for unmentioned status codes", content = @Content(mediaType = "application/json", schema = @Schema(implementation = Result.class))) })
-	@RequestMapping(value = "/shells/{aasIdentifier}/asset-information", produces = { "application/json" }, method = RequestMethod.GET)
+	@RequestMapping(value = "/shells/{aasIdentifier}/asset-information", produces = { "application/json", "application/cbor", "application/x-jackson-smile" }, method = RequestMethod.GET)
 	ResponseEntity<AssetInformation> getAssetInformationAasRepository(
 			@Parameter(in = ParameterIn.PATH, description = "The Asset Administration Shell’s unique id (UTF8-BASE64-URL-encoded)", required = true, schema = @Schema()) @PathVariable("aasIdentifier") Base64UrlEncodedIdentifier aasIdentifier);
 }
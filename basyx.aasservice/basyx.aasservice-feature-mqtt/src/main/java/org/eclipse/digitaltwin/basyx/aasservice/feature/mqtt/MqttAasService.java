@@ -31,15 +31,12 @@ import org.eclipse.digitaltwin.aas4j.v3.model.AssetInformation;
 import org.eclipse.digitaltwin.aas4j.v3.model.Key;
 import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
 import org.eclipse.digitaltwin.basyx.aasservice.AasService;
+import org.eclipse.digitaltwin.basyx.common.mqttcore.publisher.MqttEventPublisher;
+import org.eclipse.digitaltwin.basyx.common.mqttcore.publisher.SynchronousMqttEventPublisher;
 import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
 import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
 import org.eclipse.paho.client.mqttv3.IMqttClient;
-import org.eclipse.paho.client.mqttv3.MqttException;
-import org.eclipse.paho.client.mqttv3.MqttMessage;
-import org.eclipse.paho.client.mqttv3.MqttPersistenceException;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -53,57 +50,35 @@ import com.fasterxml.jackson.databind.ObjectMapper;
  */
 public class MqttAasService implements AasService {
 	private static final PaginationInfo NO_LIMIT_PAGINATION_INFO = new PaginationInfo(0, null);
-	private static Logger logger = LoggerFactory.getLogger(MqttAasService.class);
+	private static final ObjectMapper MAPPER = new ObjectMapper();
 	private MqttAasServiceTopicFactory topicFactory;
 
 	private AasService decorated;
 
-	private IMqttClient mqttClient;
+	private MqttEventPublisher publisher;
 	private String repoId;
 
 	public MqttAasService(AasService decorated, IMqttClient mqttClient, MqttAasServiceTopicFactory topicFactory, String repoId) {
+		this(decorated, new SynchronousMqttEventPublisher(mqttClient), topicFactory, repoId);
+	}
+
+	public MqttAasService(AasService decorated, MqttEventPublisher publisher, MqttAasServiceTopicFactory topicFactory, String repoId) {
 		this.topicFactory = topicFactory;
 		this.decorated = decorated;
-		this.mqttClient = mqttClient;
+		this.publisher = publisher;
 		this.repoId = repoId;
 	}
 
 	public String serialize(Object obj) {
-		ObjectMapper objectMapper = new ObjectMapper();
 		try {
-			return objectMapper.writeValueAsString(obj);
+			return MAPPER.writeValueAsString(obj);
 		} catch (JsonProcessingException e) {
 			throw new RuntimeException("MqttAasService serialization");
 		}
 	}
 
-	/**
-	 * Sends MQTT message to connected broker
-	 * 
-	 * @param topic
-	 *            in which the message will be published
-	 * @param payload
-	 *            the actual message
-	 */
 	private void sendMqttMessage(String topic, String payload) {
-		MqttMessage msg = createMqttMessage(payload);
-
-		try {
-			logger.debug("Send MQTT message to " + topic + ": " + payload);
-			mqttClient.publish(topic, msg);
-		} catch (MqttPersistenceException e) {
-			logger.error("Could not persist mqtt message", e);
-		} catch (MqttException e) {
-			logger.error("Could not send mqtt message", e);
-		}
-	}
-
-	private MqttMessage createMqttMessage(String payload) {
-		if (payload == null) {
-			return new MqttMessage();
-		} else {
-			return new MqttMessage(payload.getBytes());
-		}
+		publisher.publish(topic, payload);
 	}
 
 	@Override
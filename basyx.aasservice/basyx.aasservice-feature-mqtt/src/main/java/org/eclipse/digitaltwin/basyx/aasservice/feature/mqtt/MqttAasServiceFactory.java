@@ -27,25 +27,31 @@ package org.eclipse.digitaltwin.basyx.aasservice.feature.mqtt;
 import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShell;
 import org.eclipse.digitaltwin.basyx.aasservice.AasService;
 import org.eclipse.digitaltwin.basyx.aasservice.AasServiceFactory;
+import org.eclipse.digitaltwin.basyx.common.mqttcore.publisher.MqttEventPublisher;
+import org.eclipse.digitaltwin.basyx.common.mqttcore.publisher.SynchronousMqttEventPublisher;
 import org.eclipse.paho.client.mqttv3.IMqttClient;
 
 public class MqttAasServiceFactory implements AasServiceFactory {
 
 	private AasServiceFactory decorated;
-	private IMqttClient client;
+	private MqttEventPublisher publisher;
 	private MqttAasServiceTopicFactory topicFactory;
 	private String repoId;
 
 	public MqttAasServiceFactory(AasServiceFactory decorated, IMqttClient client, MqttAasServiceTopicFactory topicFactory, String repoId) {
+		this(decorated, new SynchronousMqttEventPublisher(client), topicFactory, repoId);
+	}
+
+	public MqttAasServiceFactory(AasServiceFactory decorated, MqttEventPublisher publisher, MqttAasServiceTopicFactory topicFactory, String repoId) {
 		this.decorated = decorated;
-		this.client = client;
+		this.publisher = publisher;
 		this.topicFactory = topicFactory;
 		this.repoId = repoId;
 	}
 
 	@Override
 	public AasService create(AssetAdministrationShell aas) {
-		return new MqttAasService(decorated.create(aas), client, topicFactory, repoId);
+		return new MqttAasService(decorated.create(aas), publisher, topicFactory, repoId);
 	}
 
 }
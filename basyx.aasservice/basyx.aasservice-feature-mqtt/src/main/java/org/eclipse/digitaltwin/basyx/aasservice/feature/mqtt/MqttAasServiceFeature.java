@@ -28,7 +28,7 @@ import org.eclipse.digitaltwin.basyx.aasrepository.AasRepository;
 import org.eclipse.digitaltwin.basyx.aasservice.AasServiceFactory;
 import org.eclipse.digitaltwin.basyx.aasservice.feature.AasServiceFeature;
 import org.eclipse.digitaltwin.basyx.common.mqttcore.encoding.URLEncoder;
-import org.eclipse.paho.client.mqttv3.IMqttClient;
+import org.eclipse.digitaltwin.basyx.common.mqttcore.publisher.MqttEventPublisher;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
@@ -42,19 +42,19 @@ public class MqttAasServiceFeature implements AasServiceFeature {
 	@Value("#{${" + FEATURENAME + ".enabled:false} or ${basyx.feature.mqtt.enabled:false}}")
 	private boolean enabled;
 
-	private IMqttClient mqttClient;
+	private MqttEventPublisher publisher;
 
 	private String repoId;
 
 	@Autowired
-	public MqttAasServiceFeature(IMqttClient mqttClient, AasRepository repo) {
-		this.mqttClient = mqttClient;
+	public MqttAasServiceFeature(MqttEventPublisher publisher, AasRepository repo) {
+		this.publisher = publisher;
 		this.repoId = repo.getName();
 	}
 
 	@Override
 	public AasServiceFactory decorate(AasServiceFactory aasServiceFactory) {
-		return new MqttAasServiceFactory(aasServiceFactory, mqttClient, new MqttAasServiceTopicFactory(new URLEncoder()), repoId);
+		return new MqttAasServiceFactory(aasServiceFactory, publisher, new MqttAasServiceTopicFactory(new URLEncoder()), repoId);
 	}
 
 	@Override
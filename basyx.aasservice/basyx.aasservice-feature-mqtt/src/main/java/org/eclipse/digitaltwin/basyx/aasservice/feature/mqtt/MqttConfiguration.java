@@ -24,8 +24,8 @@
  ******************************************************************************/
 package org.eclipse.digitaltwin.basyx.aasservice.feature.mqtt;
 
+import org.eclipse.digitaltwin.basyx.common.mqttcore.publisher.BaSyxMqttClient;
 import org.eclipse.paho.client.mqttv3.IMqttClient;
-import org.eclipse.paho.client.mqttv3.MqttClient;
 import org.eclipse.paho.client.mqttv3.MqttConnectOptions;
 import org.eclipse.paho.client.mqttv3.MqttException;
 import org.springframework.beans.factory.annotation.Value;
@@ -42,7 +42,7 @@ public class MqttConfiguration {
 	@ConditionalOnMissingBean
 	@Bean
 	public IMqttClient mqttClient(@Value("${mqtt.clientId}") String clientId, @Value("${mqtt.hostname}") String hostname, @Value("${mqtt.port}") int port) throws MqttException {
-		IMqttClient mqttClient = new MqttClient("tcp://" + hostname + ":" + port, clientId);
+		IMqttClient mqttClient = new BaSyxMqttClient("tcp://" + hostname + ":" + port, clientId);
 
 		mqttClient.connect(mqttConnectOptions());
 
@@ -43,6 +43,7 @@ import org.eclipse.digitaltwin.basyx.aasservice.DummyAssetAdministrationShell;
 import org.eclipse.digitaltwin.basyx.aasservice.backend.InMemoryAasServiceFactory;
 import org.eclipse.digitaltwin.basyx.common.mqttcore.encoding.URLEncoder;
 import org.eclipse.digitaltwin.basyx.common.mqttcore.listener.MqttTestListener;
+import org.eclipse.digitaltwin.basyx.common.mqttcore.publisher.SynchronousMqttEventPublisher;
 import org.eclipse.paho.client.mqttv3.MqttClient;
 import org.eclipse.paho.client.mqttv3.MqttException;
 import org.eclipse.paho.client.mqttv3.MqttSecurityException;
@@ -103,7 +104,7 @@ public class TestMqttAasService extends AasServiceSuite {
 
 	private static AasServiceFactory createMqttAasServiceFactory(MqttClient client) {
 		AasServiceFactory serviceFactory = new InMemoryAasServiceFactory();
-		MqttAasServiceFeature mqttFeature = new MqttAasServiceFeature(client, aasRepository);
+		MqttAasServiceFeature mqttFeature = new MqttAasServiceFeature(new SynchronousMqttEventPublisher(client), aasRepository);
 		return mqttFeature.decorate(serviceFactory);
 	}
 
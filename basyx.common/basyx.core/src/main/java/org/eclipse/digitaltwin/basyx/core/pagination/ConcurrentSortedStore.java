@@ -0,0 +1,135 @@
+/*******************************************************************************
+ * Copyright (C) 2023 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.core.pagination;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * Thread-safe store keeping its entries sorted by their identifier. Pages are
+ * served directly from the sorted entries, i.e., in O(log n + limit) and
+ * without copying the store.
+ * 
+ * @author schnicke
+ *
+ * @param <T>
+ *            the type of the stored entries
+ */
+public class ConcurrentSortedStore<T> {
+
+	private final ConcurrentSkipListMap<String, T> entries = new ConcurrentSkipListMap<>();
+	private final PaginationSupport<T> paginationSupport;
+
+	/**
+	 * Creates the store
+	 * 
+	 * @param idResolver
+	 *            resolves the identifier of an entry, which is used as cursor
+	 */
+	public ConcurrentSortedStore(Function<T, String> idResolver) {
+		this.paginationSupport = new PaginationSupport<>(entries, idResolver);
+	}
+
+	/**
+	 * Returns the entry with the passed id
+	 * 
+	 * @param id
+	 * @return the entry or null, if there is none
+	 */
+	public T get(String id) {
+		return entries.get(id);
+	}
+
+	public boolean containsKey(String id) {
+		return entries.containsKey(id);
+	}
+
+	/**
+	 * Atomically adds the entry if there is none with the same id
+	 * 
+	 * @param id
+	 * @param entry
+	 * @return true, if the entry has been added
+	 */
+	public boolean putIfAbsent(String id, T entry) {
+		return entries.putIfAbsent(id, entry) == null;
+	}
+
+	/**
+	 * Atomically replaces the entry if there is one with the same id
+	 * 
+	 * @param id
+	 * @param entry
+	 * @return true, if the entry has been replaced
+	 */
+	public boolean replace(String id, T entry) {
+		return entries.replace(id, entry) != null;
+	}
+
+	/**
+	 * Removes the entry with the passed id
+	 * 
+	 * @param id
+	 * @return the removed entry or null, if there was none
+	 */
+	public T remove(String id) {
+		return entries.remove(id);
+	}
+
+	/**
+	 * Returns a live view of all entries in ascending order of their ids
+	 * 
+	 * @return the entries
+	 */
+	public Collection<T> values() {
+		return entries.values();
+	}
+
+	public int size() {
+		return entries.size();
+	}
+
+	public CursorResult<List<T>> getPaged(PaginationInfo pInfo) {
+		return paginationSupport.getPaged(pInfo);
+	}
+
+	public CursorResult<List<T>> getPaged(PaginationInfo pInfo, Predicate<T> filter) {
+		return paginationSupport.getPaged(pInfo, filter);
+	}
+
+	/**
+	 * Returns the page of entries matching the filter as lazy stream
+	 * 
+	 * @see PaginationSupport#getPage(PaginationInfo, Predicate)
+	 */
+	public Stream<T> getPage(PaginationInfo pInfo, Predicate<T> filter) {
+		return paginationSupport.getPage(pInfo, filter);
+	}
+}
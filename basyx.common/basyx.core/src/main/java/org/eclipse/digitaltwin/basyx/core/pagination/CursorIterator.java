@@ -0,0 +1,148 @@
+/*******************************************************************************
+ * Copyright (C) 2023 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.core.pagination;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+/**
+ * Iterates a page of elements while it is read from the storage, e.g., from a
+ * database cursor. Thus, the page is never held in memory completely.<br>
+ * <br>
+ * The cursor of the next page is only known after the page has been iterated
+ * completely. The underlying storage resources are released as soon as the
+ * page is exhausted or the iterator is closed.
+ * 
+ * @author schnicke
+ *
+ * @param <T>
+ *            the type of the elements
+ */
+public class CursorIterator<T> implements Iterator<T>, AutoCloseable {
+
+	private final Iterator<T> source;
+	private final PaginationInfo pInfo;
+	private final Function<T, String> idResolver;
+	private final Runnable closeHandler;
+
+	private int count;
+	private T last;
+	private boolean closed;
+
+	/**
+	 * @param source
+	 *            the elements of the page, at most as many as the limit of the
+	 *            pInfo
+	 * @param pInfo
+	 *            the pagination info the page has been requested with
+	 * @param idResolver
+	 *            resolves the identifier of an element, which is used as cursor
+	 * @param closeHandler
+	 *            releases the resources of the source
+	 */
+	public CursorIterator(Iterator<T> source, PaginationInfo pInfo, Function<T, String> idResolver, Runnable closeHandler) {
+		this.source = source;
+		this.pInfo = pInfo;
+		this.idResolver = idResolver;
+		this.closeHandler = closeHandler;
+	}
+
+	/**
+	 * Creates an iterator over an already materialized page
+	 * 
+	 * @param cursorResult
+	 * @return the iterator
+	 */
+	public static <T> CursorIterator<T> of(CursorResult<List<T>> cursorResult) {
+		return new MaterializedCursorIterator<>(cursorResult);
+	}
+
+	@Override
+	public boolean hasNext() {
+		if (closed)
+			return false;
+
+		if (source.hasNext())
+			return true;
+
+		close();
+		return false;
+	}
+
+	@Override
+	public T next() {
+		if (!hasNext())
+			throw new NoSuchElementException();
+
+		last = source.next();
+		count++;
+		return last;
+	}
+
+	/**
+	 * Returns the cursor of the next page. There is no next page, if no limit
+	 * has been requested or less elements than the limit have been found.
+	 * 
+	 * @return the cursor or null, if there is no next page
+	 * @throws IllegalStateException
+	 *             if the page has not been iterated completely
+	 */
+	public String getCursor() {
+		if (!closed)
+			throw new IllegalStateException("The cursor is only known after the page has been iterated completely");
+
+		if (!pInfo.hasLimit() || count < pInfo.getLimit() || last == null)
+			return null;
+
+		return idResolver.apply(last);
+	}
+
+	@Override
+	public void close() {
+		if (closed)
+			return;
+
+		closed = true;
+		closeHandler.run();
+	}
+
+	private static class MaterializedCursorIterator<T> extends CursorIterator<T> {
+		private final String cursor;
+
+		private MaterializedCursorIterator(CursorResult<List<T>> cursorResult) {
+			super(cursorResult.getResult().iterator(), new PaginationInfo(null, null), t -> null, () -> {
+			});
+			this.cursor = cursorResult.getCursor();
+		}
+
+		@Override
+		public String getCursor() {
+			return cursor;
+		}
+	}
+}
@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * Copyright (C) 2023 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.core.pagination;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Pagination of elements that are addressed by their position, e.g. the
+ * children of a SubmodelElementList. In contrast to {@link PaginationSupport},
+ * the cursor is the position of the last element of the previous page, so that
+ * a page can be retrieved directly by its index range.
+ * 
+ * @author schnicke
+ *
+ */
+public class IndexPaginationSupport {
+
+	private IndexPaginationSupport() {
+	}
+
+	/**
+	 * Returns the position of the first element of the page requested by the
+	 * passed PaginationInfo
+	 * 
+	 * @param pInfo
+	 * @return the position
+	 * @throws IllegalArgumentException
+	 *             if the cursor is not a valid position
+	 */
+	public static int getStartIndex(PaginationInfo pInfo) throws IllegalArgumentException {
+		if (!pInfo.hasCursor())
+			return 0;
+
+		try {
+			int cursor = Integer.parseInt(pInfo.getCursor());
+			if (cursor < 0 || cursor == Integer.MAX_VALUE)
+				throw new IllegalArgumentException("Invalid cursor " + pInfo.getCursor());
+
+			return cursor + 1;
+		} catch (NumberFormatException e) {
+			throw new IllegalArgumentException("Invalid cursor " + pInfo.getCursor(), e);
+		}
+	}
+
+	/**
+	 * Returns the maximum number of elements of the page requested by the passed
+	 * PaginationInfo
+	 * 
+	 * @param pInfo
+	 * @return the limit or {@link Integer#MAX_VALUE} if there is none
+	 */
+	public static int getLimit(PaginationInfo pInfo) {
+		return pInfo.hasLimit() ? pInfo.getLimit() : Integer.MAX_VALUE;
+	}
+
+	/**
+	 * Returns the page of the passed elements requested by the PaginationInfo.
+	 * Only the elements of the page are copied.
+	 * 
+	 * @param elements
+	 * @param pInfo
+	 * @return the page
+	 * @throws IllegalArgumentException
+	 *             if the cursor is not a valid position
+	 */
+	public static <T> CursorResult<List<T>> getPaged(List<T> elements, PaginationInfo pInfo) throws IllegalArgumentException {
+		int startIndex = getStartIndex(pInfo);
+		if (startIndex >= elements.size())
+			return createResult(new ArrayList<>(), startIndex, pInfo);
+
+		int endIndex = (int) Math.min(elements.size(), (long) startIndex + getLimit(pInfo));
+
+		return createResult(new ArrayList<>(elements.subList(startIndex, endIndex)), startIndex, pInfo);
+	}
+
+	/**
+	 * Creates the result for an already retrieved page, e.g. a slice retrieved
+	 * from a database
+	 * 
+	 * @param page
+	 *            the elements of the page
+	 * @param startIndex
+	 *            the position of the first element of the page
+	 * @param pInfo
+	 *            the PaginationInfo the page has been retrieved for
+	 * @return the page together with the cursor of the next page
+	 */
+	public static <T> CursorResult<List<T>> createResult(List<T> page, int startIndex, PaginationInfo pInfo) {
+		if (!pInfo.hasLimit() || page.size() < pInfo.getLimit())
+			return new CursorResult<>(null, page);
+
+		return new CursorResult<>(Integer.toString(startIndex + page.size() - 1), page);
+	}
+}
@@ -29,30 +29,36 @@ package org.eclipse.digitaltwin.basyx.core.pagination;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.TreeMap;
+import java.util.NavigableMap;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 public class PaginationSupport<T extends Object> {
 
-	private final TreeMap<String, T> sortedMap;
+	private final NavigableMap<String, T> sortedMap;
 	private final Function<T, String> idResolver;
 
-	public PaginationSupport(TreeMap<String, T> sortedMap, Function<T, String> idResolver) {
+	public PaginationSupport(NavigableMap<String, T> sortedMap, Function<T, String> idResolver) {
 		this.sortedMap = sortedMap;
 		this.idResolver = idResolver;
 	}
 
 	public CursorResult<List<T>> getPaged(PaginationInfo pInfo) {
-		Map<String, T> cursorView = getCursorView(pInfo);
-		Stream<Entry<String, T>> eStream = cursorView.entrySet()
-				.stream();
-
-		Stream<T> tStream = eStream.map(Entry::getValue);
-		tStream = applyLimit(pInfo, tStream);
+		return getPaged(pInfo, t -> true);
+	}
 
-		List<T> resultList = tStream.collect(Collectors.toList());
+	/**
+	 * Returns the page of elements matching the filter. The sorted map is only
+	 * traversed from the cursor on until the limit is reached.
+	 * 
+	 * @param pInfo
+	 * @param filter
+	 * @return the page
+	 */
+	public CursorResult<List<T>> getPaged(PaginationInfo pInfo, Predicate<T> filter) {
+		List<T> resultList = getPage(pInfo, filter).collect(Collectors.toList());
 		String cursor;
 		if (pInfo.hasLimit() && resultList.size() < pInfo.getLimit()) {
 			cursor = null; // got less than requested
@@ -62,6 +68,24 @@ public class PaginationSupport<T extends Object> {
 		return new CursorResult<>(cursor, resultList);
 	}
 
+	/**
+	 * Returns the page of elements matching the filter as lazy stream, i.e., the
+	 * sorted map is only traversed while the stream is consumed. The cursor of
+	 * the next page can be computed by a {@link CursorIterator} over the stream.
+	 * 
+	 * @param pInfo
+	 * @param filter
+	 * @return the page
+	 */
+	public Stream<T> getPage(PaginationInfo pInfo, Predicate<T> filter) {
+		Map<String, T> cursorView = getCursorView(pInfo);
+		Stream<Entry<String, T>> eStream = cursorView.entrySet()
+				.stream();
+
+		Stream<T> tStream = eStream.map(Entry::getValue).filter(filter);
+		return applyLimit(pInfo, tStream);
+	}
+
 	private Stream<T> applyLimit(PaginationInfo info, Stream<T> aStream) {
 		if (info.hasLimit()) {
 			return aStream.limit(info.getLimit());
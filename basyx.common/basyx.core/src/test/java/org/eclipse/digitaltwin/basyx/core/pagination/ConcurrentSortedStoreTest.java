@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright (C) 2023 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.core.pagination;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.junit.Test;
+
+/**
+ * Tests the {@link ConcurrentSortedStore}
+ * 
+ * @author schnicke
+ *
+ */
+public class ConcurrentSortedStoreTest {
+
+	@Test
+	public void entriesArePagedInIdOrder() {
+		ConcurrentSortedStore<String> store = new ConcurrentSortedStore<>(Function.identity());
+		store.putIfAbsent("c", "c");
+		store.putIfAbsent("a", "a");
+		store.putIfAbsent("b", "b");
+
+		CursorResult<List<String>> page = store.getPaged(new PaginationInfo(2, null));
+		assertArrayEquals(new String[] { "a", "b" }, page.getResult().toArray(String[]::new));
+
+		page = store.getPaged(new PaginationInfo(2, page.getCursor()));
+		assertArrayEquals(new String[] { "c" }, page.getResult().toArray(String[]::new));
+	}
+
+	@Test
+	public void putIfAbsentDoesNotOverwrite() {
+		ConcurrentSortedStore<String> store = new ConcurrentSortedStore<>(Function.identity());
+
+		assertTrue(store.putIfAbsent("a", "first"));
+		assertFalse(store.putIfAbsent("a", "second"));
+		assertEquals("first", store.get("a"));
+	}
+
+	@Test
+	public void replaceRequiresExistingEntry() {
+		ConcurrentSortedStore<String> store = new ConcurrentSortedStore<>(Function.identity());
+
+		assertFalse(store.replace("a", "a"));
+		assertEquals(0, store.size());
+	}
+
+	@Test
+	public void concurrentCreation() throws InterruptedException {
+		ConcurrentSortedStore<String> store = new ConcurrentSortedStore<>(Function.identity());
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+
+		for (int i = 0; i < 1000; i++) {
+			String id = String.format("%04d", i);
+			executor.execute(() -> store.putIfAbsent(id, id));
+		}
+		executor.shutdown();
+		assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+		assertEquals(1000, store.getPaged(new PaginationInfo(null, null)).getResult().size());
+	}
+}
@@ -0,0 +1,66 @@
+package org.eclipse.digitaltwin.basyx.core.pagination;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CursorIteratorTest {
+
+	@Test
+	public void testCursorOfFullPage() {
+		CursorIterator<String> iterator = createIterator(new PaginationInfo(3, null), new AtomicInteger());
+		iterator.forEachRemaining(s -> {
+		});
+		Assert.assertEquals("2", iterator.getCursor());
+	}
+
+	@Test
+	public void testCursorOfLastPage() {
+		CursorIterator<String> iterator = createIterator(new PaginationInfo(4, null), new AtomicInteger());
+		iterator.forEachRemaining(s -> {
+		});
+		Assert.assertNull(iterator.getCursor());
+	}
+
+	@Test
+	public void testNoLimit() {
+		CursorIterator<String> iterator = createIterator(new PaginationInfo(null, null), new AtomicInteger());
+		iterator.forEachRemaining(s -> {
+		});
+		Assert.assertNull(iterator.getCursor());
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void testCursorOfIncompletePage() {
+		CursorIterator<String> iterator = createIterator(new PaginationInfo(3, null), new AtomicInteger());
+		iterator.next();
+		iterator.getCursor();
+	}
+
+	@Test
+	public void testClosedOnceWhenExhausted() {
+		AtomicInteger closed = new AtomicInteger();
+		CursorIterator<String> iterator = createIterator(new PaginationInfo(3, null), closed);
+		iterator.forEachRemaining(s -> {
+		});
+		iterator.close();
+		Assert.assertEquals(1, closed.get());
+		Assert.assertFalse(iterator.hasNext());
+	}
+
+	@Test
+	public void testMaterialized() {
+		CursorIterator<String> iterator = CursorIterator.of(new CursorResult<>("1", Arrays.asList("0", "1")));
+		Assert.assertEquals("0", iterator.next());
+		Assert.assertEquals("1", iterator.next());
+		Assert.assertFalse(iterator.hasNext());
+		Assert.assertEquals("1", iterator.getCursor());
+	}
+
+	private CursorIterator<String> createIterator(PaginationInfo info, AtomicInteger closed) {
+		return new CursorIterator<>(Arrays.asList("0", "1", "2").iterator(), info, Function.identity(), closed::incrementAndGet);
+	}
+}
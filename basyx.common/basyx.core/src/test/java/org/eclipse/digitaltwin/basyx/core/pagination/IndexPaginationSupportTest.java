@@ -0,0 +1,53 @@
+package org.eclipse.digitaltwin.basyx.core.pagination;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class IndexPaginationSupportTest {
+
+	@Test
+	public void testPagination() {
+		List<String> elements = getElements();
+
+		CursorResult<List<String>> cursorResult = IndexPaginationSupport.getPaged(elements, new PaginationInfo(6, null));
+		Assert.assertArrayEquals(new String[] { "0", "1", "2", "3", "4", "5" }, cursorResult.getResult().toArray(String[]::new));
+		Assert.assertEquals("5", cursorResult.getCursor());
+
+		cursorResult = IndexPaginationSupport.getPaged(elements, new PaginationInfo(6, cursorResult.getCursor()));
+		Assert.assertArrayEquals(new String[] { "6", "7", "8", "9" }, cursorResult.getResult().toArray(String[]::new));
+		Assert.assertNull(cursorResult.getCursor());
+	}
+
+	@Test
+	public void testNoLimit() {
+		CursorResult<List<String>> cursorResult = IndexPaginationSupport.getPaged(getElements(), new PaginationInfo(null, "3"));
+		Assert.assertArrayEquals(new String[] { "4", "5", "6", "7", "8", "9" }, cursorResult.getResult().toArray(String[]::new));
+		Assert.assertNull(cursorResult.getCursor());
+	}
+
+	@Test
+	public void testCursorAtEndOfList() {
+		CursorResult<List<String>> cursorResult = IndexPaginationSupport.getPaged(getElements(), new PaginationInfo(10, "9"));
+		Assert.assertEquals(0, cursorResult.getResult().size());
+		Assert.assertNull(cursorResult.getCursor());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidCursor() {
+		IndexPaginationSupport.getPaged(getElements(), new PaginationInfo(10, "abc"));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testNegativeCursor() {
+		IndexPaginationSupport.getPaged(getElements(), new PaginationInfo(10, "-2"));
+	}
+
+	private List<String> getElements() {
+		return IntStream.range(0, 10).mapToObj(Integer::toString).collect(Collectors.toList());
+	}
+
+}
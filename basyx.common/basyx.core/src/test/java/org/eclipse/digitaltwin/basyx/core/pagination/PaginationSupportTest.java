@@ -61,6 +61,14 @@ public class PaginationSupportTest {
 		Assert.assertNull(cursorResult.getCursor());
 	}
 
+	@Test
+	public void testFilteredPagination() {
+		PaginationSupport<String> support = getPaginationSupport();
+		CursorResult<List<String>> cursorResult = support.getPaged(new PaginationInfo(2, "2"), s -> Integer.parseInt(s) % 2 == 0);
+		Assert.assertArrayEquals(new String[] { "4", "6" }, cursorResult.getResult().toArray(String[]::new));
+		Assert.assertEquals("6", cursorResult.getCursor());
+	}
+
 	private PaginationSupport<String> getPaginationSupport() {
 		TreeMap<String, String> sorted = new TreeMap<>();
 		IntStream.iterate(0, i -> ++i).limit(10).mapToObj(Integer::toString).forEach(i -> sorted.put(i, i));
@@ -29,6 +29,8 @@ import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.deserialization.EnumDese
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.serialization.EnumSerializer;
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.util.ReflectionHelper;
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.json.ReflectionAnnotationIntrospector;
+import org.eclipse.digitaltwin.basyx.http.model.ExecutionState;
+import org.eclipse.digitaltwin.basyx.http.model.Message.MessageTypeEnum;
 import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.stereotype.Component;
 
@@ -37,6 +39,7 @@ import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.fasterxml.jackson.databind.module.SimpleAbstractTypeResolver;
 import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 
 /**
  * SerializationExtension integrating the AAS4J serialization in BaSyx
@@ -73,6 +76,9 @@ public class Aas4JHTTPSerializationExtension implements SerializationExtension {
 	protected SimpleModule buildEnumModule() {
 		SimpleModule module = new SimpleModule();
 		module.addSerializer(Enum.class, new EnumSerializer());
+		// The enums of the HTTP model provide their serialized value themselves
+		module.addSerializer(ExecutionState.class, ToStringSerializer.instance);
+		module.addSerializer(MessageTypeEnum.class, ToStringSerializer.instance);
 		ReflectionHelper.ENUMS.forEach(x -> module.addDeserializer(x, new EnumDeserializer<>(x)));
 		return module;
 	}
@@ -30,6 +30,7 @@ import org.eclipse.digitaltwin.basyx.core.exceptions.CollidingIdentifierExceptio
 import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.FeatureNotSupportedException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.IdentificationMismatchException;
+import org.eclipse.digitaltwin.basyx.core.exceptions.InvocationLimitExceededException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.NotInvokableException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -76,4 +77,9 @@ public class BaSyxExceptionHandler extends ResponseEntityExceptionHandler {
 	public <T> ResponseEntity<T> handleNotInvokableException(NotInvokableException exception) {
 		return new ResponseEntity<>(HttpStatus.METHOD_NOT_ALLOWED);
 	}
+
+	@ExceptionHandler(InvocationLimitExceededException.class)
+	public <T> ResponseEntity<T> handleInvocationLimitExceededException(InvocationLimitExceededException exception) {
+		return new ResponseEntity<>(HttpStatus.TOO_MANY_REQUESTS);
+	}
 }
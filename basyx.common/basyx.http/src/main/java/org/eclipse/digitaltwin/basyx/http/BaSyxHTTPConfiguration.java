@@ -26,11 +26,16 @@
 
 package org.eclipse.digitaltwin.basyx.http;
 
+import java.time.Duration;
 import java.util.List;
 
+import org.eclipse.digitaltwin.basyx.http.operation.OperationInvocationExecutor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
 import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 
@@ -53,12 +58,57 @@ public class BaSyxHTTPConfiguration {
 	 */
 	@Bean
 	public Jackson2ObjectMapperBuilder jackson2ObjectMapperBuilder(List<SerializationExtension> serializationExtensions) {
-		Jackson2ObjectMapperBuilder builder = new Jackson2ObjectMapperBuilder().serializationInclusion(JsonInclude.Include.NON_NULL);
+		return configure(new Jackson2ObjectMapperBuilder(), serializationExtensions);
+	}
+
+	/**
+	 * Returns the converter for application/cbor payloads. Its mapper is
+	 * configured using the same {@link SerializationExtension}s as the JSON
+	 * mapper.
+	 * 
+	 * @param serializationExtensions
+	 * @return
+	 */
+	@Bean
+	public MappingJackson2CborHttpMessageConverter mappingJackson2CborHttpMessageConverter(List<SerializationExtension> serializationExtensions) {
+		return new MappingJackson2CborHttpMessageConverter(configure(Jackson2ObjectMapperBuilder.cbor(), serializationExtensions).build());
+	}
+
+	/**
+	 * Returns the converter for application/x-jackson-smile payloads. Its mapper
+	 * is configured using the same {@link SerializationExtension}s as the JSON
+	 * mapper.
+	 * 
+	 * @param serializationExtensions
+	 * @return
+	 */
+	@Bean
+	public MappingJackson2SmileHttpMessageConverter mappingJackson2SmileHttpMessageConverter(List<SerializationExtension> serializationExtensions) {
+		return new MappingJackson2SmileHttpMessageConverter(configure(Jackson2ObjectMapperBuilder.smile(), serializationExtensions).build());
+	}
+
+	/**
+	 * Returns the executor used for invoking operations
+	 * 
+	 * @param maxConcurrentInvocations
+	 * @param maxConcurrentInvocationsPerOperation
+	 * @param resultRetention
+	 * @return the executor, which is shut down together with the application
+	 *         context
+	 */
+	@Bean(destroyMethod = "shutdown")
+	public OperationInvocationExecutor operationInvocationExecutor(@Value("${basyx.operation.max-concurrent-invocations:256}") int maxConcurrentInvocations,
+			@Value("${basyx.operation.max-concurrent-invocations-per-operation:16}") int maxConcurrentInvocationsPerOperation, @Value("${basyx.operation.result-retention:PT5M}") Duration resultRetention) {
+		return new OperationInvocationExecutor(maxConcurrentInvocations, maxConcurrentInvocationsPerOperation, resultRetention);
+	}
+
+	private static Jackson2ObjectMapperBuilder configure(Jackson2ObjectMapperBuilder builder, List<SerializationExtension> serializationExtensions) {
+		builder.serializationInclusion(JsonInclude.Include.NON_NULL);
 
 		for (SerializationExtension serializationExtension : serializationExtensions) {
 			serializationExtension.extend(builder);
 		}
-		
+
 		return builder;
 	}
 }
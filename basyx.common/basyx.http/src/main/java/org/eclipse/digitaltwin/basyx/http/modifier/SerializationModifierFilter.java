@@ -0,0 +1,128 @@
+/*******************************************************************************
+ * Copyright (C) 2023 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.http.modifier;
+
+import org.eclipse.digitaltwin.aas4j.v3.model.AnnotatedRelationshipElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.Blob;
+import org.eclipse.digitaltwin.aas4j.v3.model.Entity;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementCollection;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementList;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+
+/**
+ * Applies the serialization modifiers level and extent while Submodels and
+ * SubmodelElements are serialized. Thus, the omitted parts are neither copied
+ * nor written.
+ * 
+ * <ul>
+ * <li>level=core: The children of SubmodelElements are only written for the
+ * requested SubmodelElement itself, i.e., the response root. The
+ * SubmodelElements of a Submodel are its first level and are always
+ * written.</li>
+ * <li>extent=WithoutBlobValue: The value of Blobs is not written.</li>
+ * </ul>
+ * 
+ * The modifier values are matched case-insensitively, since the API
+ * documentation spells them in lower camel case.
+ * 
+ * @author schnicke
+ *
+ */
+public class SerializationModifierFilter extends SimpleBeanPropertyFilter {
+
+	public static final String FILTER_ID = "basyxSerializationModifier";
+
+	public static final String LEVEL_CORE = "core";
+	public static final String EXTENT_WITHOUT_BLOB_VALUE = "WithoutBlobValue";
+
+	private static final String VALUE = "value";
+	private static final String STATEMENTS = "statements";
+	private static final String ANNOTATIONS = "annotations";
+
+	private final boolean core;
+	private final boolean withoutBlobValue;
+
+	/**
+	 * @param level
+	 *            the requested level or null
+	 * @param extent
+	 *            the requested extent or null
+	 */
+	public SerializationModifierFilter(String level, String extent) {
+		this.core = LEVEL_CORE.equalsIgnoreCase(level);
+		this.withoutBlobValue = EXTENT_WITHOUT_BLOB_VALUE.equalsIgnoreCase(extent);
+	}
+
+	/**
+	 * @return true, if the filter omits anything
+	 */
+	public boolean isModifying() {
+		return core || withoutBlobValue;
+	}
+
+	@Override
+	public void serializeAsField(Object pojo, JsonGenerator gen, SerializerProvider provider, PropertyWriter writer) throws Exception {
+		if (!isOmitted(pojo, gen, writer.getName()))
+			writer.serializeAsField(pojo, gen, provider);
+		else if (!gen.canOmitFields())
+			writer.serializeAsOmittedField(pojo, gen, provider);
+	}
+
+	private boolean isOmitted(Object pojo, JsonGenerator gen, String propertyName) {
+		if (withoutBlobValue && pojo instanceof Blob && VALUE.equals(propertyName))
+			return true;
+
+		return core && isChildrenProperty(pojo, propertyName) && !isResponseRoot(gen);
+	}
+
+	private static boolean isChildrenProperty(Object pojo, String propertyName) {
+		if (pojo instanceof SubmodelElementCollection || pojo instanceof SubmodelElementList)
+			return VALUE.equals(propertyName);
+
+		if (pojo instanceof Entity)
+			return STATEMENTS.equals(propertyName);
+
+		if (pojo instanceof AnnotatedRelationshipElement)
+			return ANNOTATIONS.equals(propertyName);
+
+		return false;
+	}
+
+	/**
+	 * While the properties of an object are written, the output context is the
+	 * object itself. Thus, the object is the response root if its parent is the
+	 * root context.
+	 */
+	private static boolean isResponseRoot(JsonGenerator gen) {
+		JsonStreamContext parent = gen.getOutputContext().getParent();
+		return parent == null || parent.inRoot();
+	}
+}
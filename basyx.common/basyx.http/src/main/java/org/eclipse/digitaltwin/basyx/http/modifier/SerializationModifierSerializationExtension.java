@@ -0,0 +1,74 @@
+/*******************************************************************************
+ * Copyright (C) 2023 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.http.modifier;
+
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.basyx.http.SerializationExtension;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.AnnotationIntrospector;
+import com.fasterxml.jackson.databind.introspect.Annotated;
+import com.fasterxml.jackson.databind.introspect.AnnotatedClass;
+import com.fasterxml.jackson.databind.introspect.NopAnnotationIntrospector;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+
+/**
+ * SerializationExtension attaching the {@link SerializationModifierFilter} to
+ * Submodels and SubmodelElements. Without modifiers, all properties are
+ * serialized.
+ * 
+ * @author schnicke
+ *
+ */
+@Component
+public class SerializationModifierSerializationExtension implements SerializationExtension {
+
+	@Override
+	public void extend(Jackson2ObjectMapperBuilder builder) {
+		builder.filters(new SimpleFilterProvider().setDefaultFilter(SimpleBeanPropertyFilter.serializeAll()));
+		builder.postConfigurer(mapper -> mapper.setAnnotationIntrospector(AnnotationIntrospector.pair(new FilterIdIntrospector(), mapper.getSerializationConfig()
+				.getAnnotationIntrospector())));
+	}
+
+	private static class FilterIdIntrospector extends NopAnnotationIntrospector {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		public Object findFilterId(Annotated annotated) {
+			if (!(annotated instanceof AnnotatedClass))
+				return null;
+
+			Class<?> type = annotated.getRawType();
+			if (Submodel.class.isAssignableFrom(type) || SubmodelElement.class.isAssignableFrom(type))
+				return SerializationModifierFilter.FILTER_ID;
+
+			return null;
+		}
+	}
+}
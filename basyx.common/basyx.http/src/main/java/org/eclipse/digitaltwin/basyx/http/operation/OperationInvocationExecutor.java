@@ -0,0 +1,514 @@
+/*******************************************************************************
+ * Copyright (C) 2023 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+
+package org.eclipse.digitaltwin.basyx.http.operation;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import javax.xml.datatype.DatatypeConfigurationException;
+import javax.xml.datatype.DatatypeFactory;
+
+import org.eclipse.digitaltwin.aas4j.v3.model.OperationVariable;
+import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
+import org.eclipse.digitaltwin.basyx.core.exceptions.InvocationLimitExceededException;
+import org.eclipse.digitaltwin.basyx.http.model.BaseOperationResult;
+import org.eclipse.digitaltwin.basyx.http.model.ExecutionState;
+import org.eclipse.digitaltwin.basyx.http.model.Message;
+import org.eclipse.digitaltwin.basyx.http.model.Message.MessageTypeEnum;
+import org.eclipse.digitaltwin.basyx.http.model.OperationResult;
+import org.springframework.web.context.request.async.DeferredResult;
+
+/**
+ * Executes operation invocations on a bounded executor instead of the request
+ * threads. If available, i.e., on Java 21 or newer, virtual threads are used,
+ * otherwise a pool of platform threads.<br>
+ * <br>
+ * The number of concurrently running invocations is limited both overall and
+ * per operation. Invocations exceeding a limit are rejected with an
+ * {@link InvocationLimitExceededException} instead of being queued, so that
+ * neither threads nor memory grow unbounded.<br>
+ * <br>
+ * Asynchronous invocations return a handle that can be used to poll their
+ * state and result. Finished handles are retained for a configurable duration.
+ * The timeout requested by the client is enforced for both synchronous and
+ * asynchronous invocations by interrupting the invocation.
+ * 
+ * @author schnicke
+ *
+ */
+public class OperationInvocationExecutor {
+
+	private static final DatatypeFactory DATATYPE_FACTORY = createDatatypeFactory();
+
+	/**
+	 * A non-positive timeout disables the asynchronous request timeout of the
+	 * servlet container
+	 */
+	private static final long NO_REQUEST_TIMEOUT = 0;
+
+	private final ExecutorService executor;
+	private final ScheduledThreadPoolExecutor scheduler;
+	private final Semaphore invocationPermits;
+	private final int maxConcurrentInvocationsPerOperation;
+	private final Duration resultRetention;
+
+	/**
+	 * Number of running invocations per operation. Entries are removed as soon as
+	 * no invocation of the operation is running anymore, so that the map does not
+	 * grow with the number of operations ever invoked.
+	 */
+	private final ConcurrentMap<String, Integer> runningInvocationsPerOperation = new ConcurrentHashMap<>();
+	private final ConcurrentMap<String, OperationHandle> handles = new ConcurrentHashMap<>();
+
+	/**
+	 * @param maxConcurrentInvocations
+	 *            the maximum number of concurrently running invocations
+	 * @param maxConcurrentInvocationsPerOperation
+	 *            the maximum number of concurrently running invocations of the
+	 *            same operation
+	 * @param resultRetention
+	 *            how long the results of finished asynchronous invocations can be
+	 *            retrieved
+	 */
+	public OperationInvocationExecutor(int maxConcurrentInvocations, int maxConcurrentInvocationsPerOperation, Duration resultRetention) {
+		this.invocationPermits = new Semaphore(maxConcurrentInvocations);
+		this.maxConcurrentInvocationsPerOperation = maxConcurrentInvocationsPerOperation;
+		this.resultRetention = resultRetention;
+		this.executor = createExecutor(maxConcurrentInvocations);
+		this.scheduler = new ScheduledThreadPoolExecutor(1, new OperationThreadFactory("basyx-operation-timeout-"));
+		this.scheduler.setRemoveOnCancelPolicy(true);
+	}
+
+	/**
+	 * Invokes the operation without blocking the calling thread
+	 * 
+	 * @param operationKey
+	 *            identifies the operation for the per operation limit, see
+	 *            {@link #getOperationKey(String, String)}
+	 * @param invocation
+	 *            the actual invocation
+	 * @param clientTimeoutDuration
+	 *            the timeout as xs:duration, may be null
+	 * @return the future result of the invocation, which is in state
+	 *         {@link ExecutionState#TIMEOUT} if the timeout has been exceeded.
+	 *         If the invocation failed, the future is completed exceptionally.
+	 * @throws InvocationLimitExceededException
+	 *             if a concurrency limit has been reached
+	 * @throws IllegalArgumentException
+	 *             if the timeout can not be parsed
+	 */
+	public CompletableFuture<OperationResult> invoke(String operationKey, Supplier<OperationVariable[]> invocation, String clientTimeoutDuration) {
+		OperationHandle handle = submit(operationKey, invocation, parseTimeout(clientTimeoutDuration));
+
+		return handle.finished.thenApply(finished -> {
+			handle.rethrowFailure();
+			return handle.toSynchronousResult();
+		});
+	}
+
+	/**
+	 * Starts the invocation of the operation and returns immediately
+	 * 
+	 * @param operationKey
+	 *            identifies the operation for the per operation limit, see
+	 *            {@link #getOperationKey(String, String)}
+	 * @param invocation
+	 *            the actual invocation
+	 * @param clientTimeoutDuration
+	 *            the timeout as xs:duration, may be null
+	 * @return the id of the handle for retrieving state and result
+	 * @throws InvocationLimitExceededException
+	 *             if a concurrency limit has been reached
+	 * @throws IllegalArgumentException
+	 *             if the timeout can not be parsed
+	 */
+	public String invokeAsync(String operationKey, Supplier<OperationVariable[]> invocation, String clientTimeoutDuration) {
+		String handleId = UUID.randomUUID().toString();
+
+		OperationHandle handle = submit(operationKey, invocation, parseTimeout(clientTimeoutDuration));
+		handles.put(handleId, handle);
+		handle.whenFinished(() -> scheduler.schedule(() -> handles.remove(handleId), resultRetention.toMillis(), TimeUnit.MILLISECONDS));
+
+		return handleId;
+	}
+
+	/**
+	 * Returns the state of an asynchronous invocation
+	 * 
+	 * @param operationKey
+	 *            the operation the handle has been created for
+	 * @param handleId
+	 * @return the current state
+	 * @throws ElementDoesNotExistException
+	 *             if there is no such handle for the operation
+	 */
+	public BaseOperationResult getStatus(String operationKey, String handleId) throws ElementDoesNotExistException {
+		OperationHandle handle = getHandle(operationKey, handleId);
+
+		return new BaseOperationResult().executionState(handle.getState()).success(handle.isSuccess());
+	}
+
+	/**
+	 * Returns the result of an asynchronous invocation. As long as the invocation
+	 * has not finished, the result contains only its state.
+	 * 
+	 * @param operationKey
+	 *            the operation the handle has been created for
+	 * @param handleId
+	 * @return the result
+	 * @throws ElementDoesNotExistException
+	 *             if there is no such handle for the operation
+	 */
+	public OperationResult getResult(String operationKey, String handleId) throws ElementDoesNotExistException {
+		return getHandle(operationKey, handleId).toOperationResult();
+	}
+
+	/**
+	 * Returns the key identifying an operation for the per operation limit and
+	 * for looking up the handles of its asynchronous invocations
+	 * 
+	 * @param submodelId
+	 *            the id of the submodel containing the operation
+	 * @param idShortPath
+	 *            the path of the operation within the submodel
+	 * @return the key
+	 */
+	public static String getOperationKey(String submodelId, String idShortPath) {
+		return submodelId + "/" + idShortPath;
+	}
+
+	/**
+	 * Adapts the future response of an invocation to a {@link DeferredResult},
+	 * so that the request thread is released while the invocation is running.
+	 * The request timeout of the container is disabled, since the timeout
+	 * requested by the client is already enforced by the executor.
+	 * 
+	 * @param response
+	 *            the future response
+	 * @return the deferred response
+	 */
+	public static <T> DeferredResult<T> toDeferredResult(CompletionStage<T> response) {
+		DeferredResult<T> deferredResult = new DeferredResult<>(NO_REQUEST_TIMEOUT);
+		response.whenComplete((result, failure) -> {
+			if (failure == null)
+				deferredResult.setResult(result);
+			else if (failure instanceof CompletionException && failure.getCause() != null)
+				deferredResult.setErrorResult(failure.getCause());
+			else
+				deferredResult.setErrorResult(failure);
+		});
+
+		return deferredResult;
+	}
+
+	/**
+	 * Stops all running invocations
+	 */
+	public void shutdown() {
+		executor.shutdownNow();
+		scheduler.shutdownNow();
+	}
+
+	private OperationHandle submit(String operationKey, Supplier<OperationVariable[]> invocation, Duration timeout) {
+		if (!tryAcquireOperationPermit(operationKey))
+			throw new InvocationLimitExceededException(operationKey);
+
+		if (!invocationPermits.tryAcquire()) {
+			releaseOperationPermit(operationKey);
+			throw new InvocationLimitExceededException(operationKey);
+		}
+
+		OperationHandle handle = new OperationHandle(operationKey, () -> {
+			releaseOperationPermit(operationKey);
+			invocationPermits.release();
+		});
+
+		try {
+			handle.setFuture(executor.submit(() -> handle.run(invocation)));
+		} catch (RejectedExecutionException e) {
+			handle.releasePermits();
+			throw new InvocationLimitExceededException(operationKey);
+		}
+
+		if (timeout != null) {
+			ScheduledFuture<?> timeoutTask = scheduler.schedule(handle::timeout, timeout.toMillis(), TimeUnit.MILLISECONDS);
+			handle.whenFinished(() -> timeoutTask.cancel(false));
+		}
+
+		return handle;
+	}
+
+	private boolean tryAcquireOperationPermit(String operationKey) {
+		AtomicBoolean acquired = new AtomicBoolean();
+		runningInvocationsPerOperation.compute(operationKey, (key, running) -> {
+			int current = running == null ? 0 : running;
+			if (current >= maxConcurrentInvocationsPerOperation)
+				return running;
+
+			acquired.set(true);
+			return current + 1;
+		});
+
+		return acquired.get();
+	}
+
+	private void releaseOperationPermit(String operationKey) {
+		runningInvocationsPerOperation.computeIfPresent(operationKey, (key, running) -> running > 1 ? running - 1 : null);
+	}
+
+	/**
+	 * @return the number of operations that currently have running invocations
+	 */
+	int getNumberOfRunningOperations() {
+		return runningInvocationsPerOperation.size();
+	}
+
+	private OperationHandle getHandle(String operationKey, String handleId) {
+		OperationHandle handle = handles.get(handleId);
+		if (handle == null || !handle.getOperationKey().equals(operationKey))
+			throw new ElementDoesNotExistException(handleId);
+
+		return handle;
+	}
+
+	private static Duration parseTimeout(String clientTimeoutDuration) {
+		if (clientTimeoutDuration == null || clientTimeoutDuration.isBlank())
+			return null;
+
+		long millis = DATATYPE_FACTORY.newDuration(clientTimeoutDuration).getTimeInMillis(Calendar.getInstance());
+		if (millis < 0)
+			throw new IllegalArgumentException("Negative clientTimeoutDuration " + clientTimeoutDuration);
+
+		return Duration.ofMillis(millis);
+	}
+
+	/**
+	 * Looking up the factory implementation is expensive, whereas the factory
+	 * itself is stateless and can thus be shared
+	 */
+	private static DatatypeFactory createDatatypeFactory() {
+		try {
+			return DatatypeFactory.newInstance();
+		} catch (DatatypeConfigurationException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Virtual threads are resolved reflectively, since the code base still
+	 * targets Java 11
+	 */
+	private static ExecutorService createExecutor(int maxConcurrentInvocations) {
+		try {
+			return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			return new ThreadPoolExecutor(0, maxConcurrentInvocations, 60, TimeUnit.SECONDS, new SynchronousQueue<>(), new OperationThreadFactory("basyx-operation-"));
+		}
+	}
+
+	private static class OperationThreadFactory implements ThreadFactory {
+		private final AtomicInteger counter = new AtomicInteger();
+		private final String prefix;
+
+		public OperationThreadFactory(String prefix) {
+			this.prefix = prefix;
+		}
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		}
+	}
+
+	/**
+	 * Tracks the state of a single invocation. The state is changed only once
+	 * from a non-final state to a final one, so that a late result can not
+	 * overwrite a timeout and vice versa.
+	 */
+	private static class OperationHandle {
+		private final String operationKey;
+		private final Runnable permitReleaser;
+		private final CompletableFuture<Void> finished = new CompletableFuture<>();
+		private final AtomicBoolean permitsReleased = new AtomicBoolean();
+
+		private volatile Future<?> future;
+		private volatile ExecutionState state = ExecutionState.INITIATED;
+		private volatile OperationVariable[] outputArguments;
+		private volatile Throwable failure;
+
+		public OperationHandle(String operationKey, Runnable permitReleaser) {
+			this.operationKey = operationKey;
+			this.permitReleaser = permitReleaser;
+		}
+
+		public void run(Supplier<OperationVariable[]> invocation) {
+			if (!transition(ExecutionState.INITIATED, ExecutionState.RUNNING)) {
+				releasePermits();
+				return;
+			}
+
+			OperationVariable[] result = null;
+			Throwable failure = null;
+			try {
+				result = invocation.get();
+			} catch (Throwable e) {
+				failure = e;
+			} finally {
+				// Released before completing, so that the caller can immediately invoke
+				// the operation again
+				releasePermits();
+			}
+
+			if (failure == null)
+				finish(ExecutionState.COMPLETED, result, null);
+			else
+				finish(ExecutionState.FAILED, null, failure);
+		}
+
+		public void timeout() {
+			boolean started = state == ExecutionState.RUNNING;
+			if (!finish(ExecutionState.TIMEOUT, null, null))
+				return;
+
+			future.cancel(true);
+
+			// An invocation that has not been started yet will never release its permits
+			if (!started)
+				releasePermits();
+		}
+
+		public void releasePermits() {
+			if (permitsReleased.compareAndSet(false, true))
+				permitReleaser.run();
+		}
+
+		public void setFuture(Future<?> future) {
+			this.future = future;
+		}
+
+		public void whenFinished(Runnable action) {
+			finished.thenRun(action);
+		}
+
+		public void rethrowFailure() {
+			if (failure instanceof RuntimeException)
+				throw (RuntimeException) failure;
+
+			if (failure instanceof Error)
+				throw (Error) failure;
+
+			if (failure != null)
+				throw new IllegalStateException(failure);
+		}
+
+		public String getOperationKey() {
+			return operationKey;
+		}
+
+		public ExecutionState getState() {
+			return state;
+		}
+
+		public Boolean isSuccess() {
+			if (!finished.isDone())
+				return null;
+
+			return state == ExecutionState.COMPLETED;
+		}
+
+		/**
+		 * Synchronous results carry their execution state only if the invocation
+		 * did not complete, i.e., it timed out. Failures are reported as errors
+		 * instead.
+		 */
+		public OperationResult toSynchronousResult() {
+			if (state != ExecutionState.COMPLETED)
+				return toOperationResult();
+
+			OperationResult result = new OperationResult();
+			if (outputArguments != null)
+				result.setOutputArguments(Arrays.asList(outputArguments));
+
+			return result;
+		}
+
+		public OperationResult toOperationResult() {
+			OperationResult result = new OperationResult();
+			result.executionState(state).success(isSuccess());
+
+			if (outputArguments != null)
+				result.setOutputArguments(Arrays.asList(outputArguments));
+
+			if (failure != null)
+				result.addMessagesItem(new Message().messageType(MessageTypeEnum.EXCEPTION).text(String.valueOf(failure.getMessage())));
+
+			return result;
+		}
+
+		private synchronized boolean transition(ExecutionState from, ExecutionState to) {
+			if (state != from)
+				return false;
+
+			state = to;
+			return true;
+		}
+
+		private synchronized boolean finish(ExecutionState finalState, OperationVariable[] outputArguments, Throwable failure) {
+			if (finished.isDone())
+				return false;
+
+			this.outputArguments = outputArguments;
+			this.failure = failure;
+			this.state = finalState;
+			finished.complete(null);
+			return true;
+		}
+	}
+}
@@ -0,0 +1,127 @@
+/*******************************************************************************
+ * Copyright (C) 2023 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.http.pagination;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.digitaltwin.basyx.core.pagination.CursorIterator;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+
+/**
+ * {@link PagedResult} that writes its result element by element while it is
+ * read from a {@link CursorIterator}. Thus, the page is never held in memory
+ * completely and the response is sent while the storage is still read.<br>
+ * <br>
+ * Since the cursor of the next page is only known after the page has been
+ * read, the paging_metadata is written after the result.<br>
+ * <br>
+ * If it is created within a request, the page is also closed once the request
+ * has completed. Thus, the storage resources are released even if the result
+ * is never written, e.g., as the request failed before.
+ * 
+ * @author schnicke
+ *
+ * @param <T>
+ *            the type of the elements
+ */
+public class StreamingPagedResult<T> extends PagedResult implements JsonSerializable {
+	private static final String RESULT = "result";
+	private static final String PAGING_METADATA = "paging_metadata";
+	private static final String CLOSE_CALLBACK_PREFIX = StreamingPagedResult.class.getName() + ".close.";
+	private static final AtomicLong CLOSE_CALLBACK_COUNTER = new AtomicLong();
+
+	private final CursorIterator<T> elements;
+	private final Class<T> elementType;
+
+	/**
+	 * @param elements
+	 *            the page, which is closed after it has been written
+	 * @param elementType
+	 *            the declared type of the elements, which determines their type
+	 *            information
+	 */
+	public StreamingPagedResult(CursorIterator<T> elements, Class<T> elementType) {
+		this.elements = elements;
+		this.elementType = elementType;
+
+		closeOnRequestCompletion(elements);
+	}
+
+	private static void closeOnRequestCompletion(CursorIterator<?> elements) {
+		RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+		if (requestAttributes == null)
+			return;
+
+		requestAttributes.registerDestructionCallback(CLOSE_CALLBACK_PREFIX + CLOSE_CALLBACK_COUNTER.incrementAndGet(), elements::close, RequestAttributes.SCOPE_REQUEST);
+	}
+
+	@Override
+	public void serialize(JsonGenerator gen, SerializerProvider provider) throws IOException {
+		gen.writeStartObject(this);
+
+		try (CursorIterator<T> page = elements) {
+			writeResult(gen, provider);
+		}
+
+		gen.writeFieldName(PAGING_METADATA);
+		provider.defaultSerializeValue(new PagedResultPagingMetadata().cursor(elements.getCursor()), gen);
+		gen.writeEndObject();
+	}
+
+	@Override
+	public void serializeWithType(JsonGenerator gen, SerializerProvider provider, TypeSerializer typeSer) throws IOException {
+		serialize(gen, provider);
+	}
+
+	/**
+	 * Like for a List of the elementType, the serializer is resolved by the
+	 * runtime type of each element and the type information by the elementType.
+	 */
+	private void writeResult(JsonGenerator gen, SerializerProvider provider) throws IOException {
+		gen.writeArrayFieldStart(RESULT);
+
+		TypeSerializer typeSerializer = provider.findTypeSerializer(provider.constructType(elementType));
+		while (elements.hasNext()) {
+			T element = elements.next();
+			JsonSerializer<Object> serializer = provider.findValueSerializer(element.getClass());
+
+			if (typeSerializer == null)
+				serializer.serialize(element, gen, provider);
+			else
+				serializer.serializeWithType(element, gen, provider, typeSerializer);
+		}
+
+		gen.writeEndArray();
+	}
+}
@@ -0,0 +1,274 @@
+/*******************************************************************************
+ * Copyright (C) 2023 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+
+package org.eclipse.digitaltwin.basyx.http.operation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.eclipse.digitaltwin.aas4j.v3.model.OperationVariable;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultOperationVariable;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultProperty;
+import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
+import org.eclipse.digitaltwin.basyx.core.exceptions.InvocationLimitExceededException;
+import org.eclipse.digitaltwin.basyx.core.exceptions.NotInvokableException;
+import org.eclipse.digitaltwin.basyx.http.model.ExecutionState;
+import org.eclipse.digitaltwin.basyx.http.model.OperationResult;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.web.context.request.async.DeferredResult;
+
+/**
+ * Tests the {@link OperationInvocationExecutor}
+ * 
+ * @author schnicke
+ *
+ */
+public class TestOperationInvocationExecutor {
+	private static final String OPERATION = "operation";
+
+	private OperationInvocationExecutor executor;
+	private CountDownLatch blocker;
+
+	@Before
+	public void setUp() {
+		executor = new OperationInvocationExecutor(4, 2, Duration.ofMinutes(1));
+		blocker = new CountDownLatch(1);
+	}
+
+	@After
+	public void tearDown() {
+		blocker.countDown();
+		executor.shutdown();
+	}
+
+	@Test
+	public void invokeSynchronously() {
+		OperationResult result = invokeAndWait(OPERATION, createResultSupplier("5"), null);
+
+		assertNull(result.getExecutionState());
+		assertEquals("5", ((DefaultProperty) result.getOutputArguments().get(0).getValue()).getValue());
+	}
+
+	@Test(expected = NotInvokableException.class)
+	public void synchronousInvocationRethrowsFailure() {
+		invokeAndWait(OPERATION, () -> {
+			throw new NotInvokableException(OPERATION);
+		}, null);
+	}
+
+	@Test
+	public void invokeAsynchronously() throws InterruptedException {
+		String handleId = executor.invokeAsync(OPERATION, createBlockingSupplier(), null);
+
+		assertNull(executor.getStatus(OPERATION, handleId).isSuccess());
+
+		blocker.countDown();
+		OperationResult result = awaitResult(handleId);
+
+		assertEquals(ExecutionState.COMPLETED, result.getExecutionState());
+		assertTrue(result.isSuccess());
+		assertEquals("5", ((DefaultProperty) result.getOutputArguments().get(0).getValue()).getValue());
+	}
+
+	@Test
+	public void failingAsynchronousInvocation() throws InterruptedException {
+		String handleId = executor.invokeAsync(OPERATION, () -> {
+			throw new IllegalStateException("failure");
+		}, null);
+
+		OperationResult result = awaitResult(handleId);
+
+		assertEquals(ExecutionState.FAILED, result.getExecutionState());
+		assertFalse(result.isSuccess());
+		assertEquals("failure", result.getMessages().get(0).getText());
+	}
+
+	@Test
+	public void asynchronousInvocationThrowingError() throws InterruptedException {
+		String handleId = executor.invokeAsync(OPERATION, () -> {
+			throw new NoClassDefFoundError("failure");
+		}, null);
+
+		OperationResult result = awaitResult(handleId);
+
+		assertEquals(ExecutionState.FAILED, result.getExecutionState());
+		assertFalse(result.isSuccess());
+		assertEquals("failure", result.getMessages().get(0).getText());
+		assertEquals(0, executor.getNumberOfRunningOperations());
+	}
+
+	@Test(expected = NoClassDefFoundError.class)
+	public void synchronousInvocationRethrowsError() {
+		invokeAndWait(OPERATION, () -> {
+			throw new NoClassDefFoundError("failure");
+		}, null);
+	}
+
+	@Test
+	public void clientTimeoutIsEnforced() {
+		OperationResult result = invokeAndWait(OPERATION, createBlockingSupplier(), "PT0.1S");
+
+		assertEquals(ExecutionState.TIMEOUT, result.getExecutionState());
+		assertFalse(result.isSuccess());
+	}
+
+	@Test
+	public void permitsAreReleasedAfterTimeout() throws InterruptedException {
+		invokeAndWait(OPERATION, createBlockingSupplier(), "PT0.1S");
+		invokeAndWait(OPERATION, createBlockingSupplier(), "PT0.1S");
+
+		// The interrupted invocations release their permits as soon as they have
+		// terminated, which may be slightly after the timeout has been reported
+		for (int i = 0; i < 100; i++) {
+			try {
+				OperationResult result = invokeAndWait(OPERATION, createResultSupplier("5"), null);
+				assertEquals(1, result.getOutputArguments().size());
+				return;
+			} catch (InvocationLimitExceededException e) {
+				TimeUnit.MILLISECONDS.sleep(20);
+			}
+		}
+
+		throw new AssertionError("Permits have not been released");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void invalidClientTimeout() {
+		invokeAndWait(OPERATION, createResultSupplier("5"), "tomorrow");
+	}
+
+	@Test
+	public void concurrentInvocationsPerOperationAreLimited() {
+		executor.invokeAsync(OPERATION, createBlockingSupplier(), null);
+		executor.invokeAsync(OPERATION, createBlockingSupplier(), null);
+
+		try {
+			executor.invokeAsync(OPERATION, createBlockingSupplier(), null);
+			throw new AssertionError("Expected the invocation to be rejected");
+		} catch (InvocationLimitExceededException expected) {
+		}
+
+		// Other operations are not affected by the limit
+		executor.invokeAsync("otherOperation", createBlockingSupplier(), null);
+	}
+
+	@Test
+	public void concurrentInvocationsAreLimited() {
+		for (int i = 0; i < 4; i++)
+			executor.invokeAsync(OPERATION + i, createBlockingSupplier(), null);
+
+		try {
+			executor.invokeAsync(OPERATION, createBlockingSupplier(), null);
+			throw new AssertionError("Expected the invocation to be rejected");
+		} catch (InvocationLimitExceededException expected) {
+		}
+	}
+
+	@Test
+	public void finishedOperationsAreNoLongerTracked() {
+		for (int i = 0; i < 10; i++)
+			invokeAndWait(OPERATION + i, createResultSupplier("5"), "PT1M");
+
+		assertEquals(0, executor.getNumberOfRunningOperations());
+	}
+
+	@Test
+	public void deferredResultIsCompletedWithCauseOfFailure() throws InterruptedException {
+		DeferredResult<OperationResult> response = OperationInvocationExecutor.toDeferredResult(executor.invoke(OPERATION, () -> {
+			throw new NotInvokableException(OPERATION);
+		}, null));
+
+		for (int i = 0; i < 100 && !response.hasResult(); i++)
+			TimeUnit.MILLISECONDS.sleep(20);
+
+		assertTrue(response.getResult() instanceof NotInvokableException);
+	}
+
+	@Test(expected = ElementDoesNotExistException.class)
+	public void getStatusOfNonExistingHandle() {
+		executor.getStatus(OPERATION, "nonExisting");
+	}
+
+	@Test(expected = ElementDoesNotExistException.class)
+	public void getResultOfHandleOfOtherOperation() {
+		String handleId = executor.invokeAsync(OPERATION, createResultSupplier("5"), null);
+
+		executor.getResult("otherOperation", handleId);
+	}
+
+	/**
+	 * Waits for the synchronous invocation and rethrows its failure as is
+	 */
+	private OperationResult invokeAndWait(String operationKey, Supplier<OperationVariable[]> invocation, String clientTimeoutDuration) {
+		try {
+			return executor.invoke(operationKey, invocation, clientTimeoutDuration).join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof Error)
+				throw (Error) e.getCause();
+
+			throw (RuntimeException) e.getCause();
+		}
+	}
+
+	private OperationResult awaitResult(String handleId) throws InterruptedException {
+		for (int i = 0; i < 100; i++) {
+			OperationResult result = executor.getResult(OPERATION, handleId);
+			if (result.isSuccess() != null)
+				return result;
+
+			TimeUnit.MILLISECONDS.sleep(20);
+		}
+
+		throw new AssertionError("Operation did not finish in time");
+	}
+
+	private Supplier<OperationVariable[]> createBlockingSupplier() {
+		return () -> {
+			try {
+				blocker.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException(e);
+			}
+
+			return createResultSupplier("5").get();
+		};
+	}
+
+	private static Supplier<OperationVariable[]> createResultSupplier(String value) {
+		return () -> new OperationVariable[] { new DefaultOperationVariable.Builder().value(new DefaultProperty.Builder().idShort("result").value(value).build()).build() };
+	}
+}
@@ -0,0 +1,145 @@
+/*******************************************************************************
+ * Copyright (C) 2023 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.http.pagination;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.digitaltwin.basyx.core.pagination.CursorIterator;
+import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.web.context.request.AbstractRequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Tests that the page of a {@link StreamingPagedResult} is closed exactly once,
+ * whether it is written or not
+ * 
+ * @author agent
+ *
+ */
+public class TestStreamingPagedResult {
+	private final AtomicInteger closeCount = new AtomicInteger();
+	private TestRequestAttributes requestAttributes;
+
+	@Before
+	public void setUp() {
+		requestAttributes = new TestRequestAttributes();
+		RequestContextHolder.setRequestAttributes(requestAttributes);
+	}
+
+	@After
+	public void tearDown() {
+		RequestContextHolder.resetRequestAttributes();
+	}
+
+	@Test
+	public void unwrittenPageIsClosedOnRequestCompletion() {
+		new StreamingPagedResult<>(createPage(), String.class);
+		assertEquals(0, closeCount.get());
+
+		requestAttributes.requestCompleted();
+
+		assertEquals(1, closeCount.get());
+	}
+
+	@Test
+	public void writtenPageIsClosedOnce() throws JsonProcessingException {
+		StreamingPagedResult<String> result = new StreamingPagedResult<>(createPage(), String.class);
+
+		String json = new ObjectMapper().writeValueAsString(result);
+		requestAttributes.requestCompleted();
+
+		assertEquals("{\"result\":[\"a\",\"b\"],\"paging_metadata\":{\"cursor\":\"b\"}}", json);
+		assertEquals(1, closeCount.get());
+	}
+
+	@Test
+	public void pageOutsideOfRequestIsClosedWhenWritten() throws JsonProcessingException {
+		RequestContextHolder.resetRequestAttributes();
+		StreamingPagedResult<String> result = new StreamingPagedResult<>(createPage(), String.class);
+
+		new ObjectMapper().writeValueAsString(result);
+
+		assertEquals(1, closeCount.get());
+	}
+
+	private CursorIterator<String> createPage() {
+		return new CursorIterator<>(Arrays.asList("a", "b").iterator(), new PaginationInfo(2, null), s -> s, closeCount::incrementAndGet);
+	}
+
+	private static class TestRequestAttributes extends AbstractRequestAttributes {
+
+		@Override
+		public Object getAttribute(String name, int scope) {
+			return null;
+		}
+
+		@Override
+		public void setAttribute(String name, Object value, int scope) {
+		}
+
+		@Override
+		public void removeAttribute(String name, int scope) {
+		}
+
+		@Override
+		public String[] getAttributeNames(int scope) {
+			return new String[0];
+		}
+
+		@Override
+		public void registerDestructionCallback(String name, Runnable callback, int scope) {
+			registerRequestDestructionCallback(name, callback);
+		}
+
+		@Override
+		public Object resolveReference(String key) {
+			return null;
+		}
+
+		@Override
+		public String getSessionId() {
+			return null;
+		}
+
+		@Override
+		public Object getSessionMutex() {
+			return null;
+		}
+
+		@Override
+		protected void updateAccessedSessionAttributes() {
+		}
+	}
+}
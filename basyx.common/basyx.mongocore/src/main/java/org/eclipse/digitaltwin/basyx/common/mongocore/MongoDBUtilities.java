@@ -24,6 +24,7 @@
  ******************************************************************************/
 package org.eclipse.digitaltwin.basyx.common.mongocore;
 
+import org.bson.Document;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Query;
 
@@ -33,6 +34,7 @@ import org.springframework.data.mongodb.core.query.Query;
  *
  */
 public class MongoDBUtilities {
+	private static final String ID = "_id";
 
 	/**
 	 * Removes all documents from the specified collection.
@@ -43,4 +45,24 @@ public class MongoDBUtilities {
 	public static void clearCollection(MongoTemplate template, String collection) {
 		template.remove(new Query(), collection);
 	}
+
+	/**
+	 * Replaces the document having the id of the passed object by a single
+	 * replaceOne. In contrast to removing and saving the object, concurrent
+	 * readers always see either the old or the new document. The replacement is
+	 * marked by a {@link MongoDBWriteToken}.
+	 * 
+	 * @param template
+	 * @param collection
+	 * @param replacement
+	 * @return true if the document has been replaced, false if there is no
+	 *         document with the id
+	 */
+	public static boolean replace(MongoTemplate template, String collection, Object replacement) {
+		Document document = new Document();
+		template.getConverter().write(replacement, document);
+		MongoDBWriteToken.stamp(document);
+
+		return template.getCollection(collection).replaceOne(new Document(ID, document.get(ID)), document).getMatchedCount() > 0;
+	}
 }
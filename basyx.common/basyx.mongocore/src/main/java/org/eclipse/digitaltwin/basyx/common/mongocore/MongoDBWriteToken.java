@@ -0,0 +1,93 @@
+/*******************************************************************************
+ * Copyright (C) 2023 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.common.mongocore;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.bson.Document;
+import org.bson.conversions.Bson;
+
+import com.mongodb.client.model.Updates;
+
+/**
+ * Marks the documents written by this process. Every write stores a new token,
+ * consisting of the id of this process and a sequence number, in
+ * {@link #FIELD}. Thus, the field is part of every change event, which allows
+ * change stream consumers to skip the changes of this process.
+ * 
+ * @author agent
+ *
+ */
+public class MongoDBWriteToken {
+	public static final String FIELD = "_writeToken";
+
+	private static final String PROCESS_PREFIX = UUID.randomUUID() + ":";
+	private static final AtomicLong SEQUENCE = new AtomicLong();
+
+	private MongoDBWriteToken() {
+	}
+
+	/**
+	 * Returns a new token of this process
+	 * 
+	 * @return the token
+	 */
+	public static String next() {
+		return PROCESS_PREFIX + SEQUENCE.incrementAndGet();
+	}
+
+	/**
+	 * Returns the update storing a new token of this process
+	 * 
+	 * @return the update
+	 */
+	public static Bson update() {
+		return Updates.set(FIELD, next());
+	}
+
+	/**
+	 * Stores a new token of this process in the passed document
+	 * 
+	 * @param document
+	 * @return the passed document
+	 */
+	public static Document stamp(Document document) {
+		document.put(FIELD, next());
+		return document;
+	}
+
+	/**
+	 * Tells whether the token has been written by this process
+	 * 
+	 * @param token
+	 *            the token or null
+	 * @return true if the token is one of this process
+	 */
+	public static boolean isOwn(String token) {
+		return token != null && token.startsWith(PROCESS_PREFIX);
+	}
+}
@@ -25,13 +25,20 @@
 
 package org.eclipse.digitaltwin.basyx.common.mqttcore;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 import org.eclipse.digitaltwin.basyx.common.mqttcore.encoding.Encoder;
 
 /**
  * Abstract base class for all MQTT topic factories.
  */
 public abstract class AbstractMqttTopicFactory {
+	private static final int ENCODED_ID_CACHE_SIZE = 1024;
+
 	private Encoder encoder;
+	private Map<String, String> encodedIds = Collections.synchronizedMap(new EncodedIdCache());
 
 	/**
 	 * @param encoder
@@ -46,6 +53,23 @@ public abstract class AbstractMqttTopicFactory {
 			return "<empty>";
 		}
 
-		return encoder.encode(id);
+		return encodedIds.computeIfAbsent(id, encoder::encode);
+	}
+
+	/**
+	 * Keeps the ids of the most recently used topics, as the same ids are
+	 * encoded for every event of an element
+	 */
+	private static class EncodedIdCache extends LinkedHashMap<String, String> {
+		private static final long serialVersionUID = 1L;
+
+		private EncodedIdCache() {
+			super(16, 0.75f, true);
+		}
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+			return size() > ENCODED_ID_CACHE_SIZE;
+		}
 	}
 }
@@ -0,0 +1,287 @@
+/*******************************************************************************
+ * Copyright (C) 2023 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.common.mqttcore.publisher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.paho.client.mqttv3.IMqttAsyncClient;
+import org.eclipse.paho.client.mqttv3.IMqttClient;
+import org.eclipse.paho.client.mqttv3.IMqttDeliveryToken;
+import org.eclipse.paho.client.mqttv3.MqttConnectOptions;
+import org.eclipse.paho.client.mqttv3.MqttException;
+import org.eclipse.paho.client.mqttv3.MqttMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Publishes the events on a dedicated I/O thread, thus a slow broker does not
+ * delay the callers.<br>
+ * <br>
+ * The events are queued in a bounded queue and published in their order. If
+ * the client is a {@link BaSyxMqttClient}, the queued events are drained in
+ * batches, which are sent back to back via its asynchronous client. The
+ * acknowledgements the quality of service requires are awaited once per batch,
+ * thus a batch costs about one round trip to the broker instead of one per
+ * event. Other clients only offer a blocking publish, so their events are
+ * published one after another.<br>
+ * <br>
+ * The batch size must not exceed the maximum number of in-flight messages of
+ * the connection, i.e., {@link MqttConnectOptions#setMaxInflight(int)}, which
+ * is 10 by default. If the queue is full, the {@link MqttOverflowPolicy}
+ * decides whether the caller waits or the event is dropped.
+ * 
+ * @author schnicke
+ *
+ */
+public class AsyncMqttEventPublisher implements MqttEventPublisher, MeterBinder, AutoCloseable {
+	private static final Logger logger = LoggerFactory.getLogger(AsyncMqttEventPublisher.class);
+	private static final String METER_PREFIX = "basyx.mqtt.publisher";
+	private static final long POLL_TIMEOUT_MILLIS = 100;
+	private static final long CLOSE_TIMEOUT_MILLIS = 5000;
+	public static final int DEFAULT_BATCH_SIZE = MqttConnectOptions.MAX_INFLIGHT_DEFAULT;
+
+	private final IMqttClient mqttClient;
+	private final IMqttAsyncClient asyncClient;
+	private final int qos;
+	private final int batchSize;
+	private final MqttOverflowPolicy overflowPolicy;
+	private final BlockingQueue<MqttEvent> queue;
+	private final Thread ioThread;
+	private volatile boolean running = true;
+
+	private final LongAdder publishedEvents = new LongAdder();
+	private final LongAdder droppedEvents = new LongAdder();
+	private final LongAdder failedEvents = new LongAdder();
+	private volatile Timer publishTimer;
+
+	/**
+	 * @param mqttClient
+	 * @param qos
+	 *            the quality of service the events are published with
+	 * @param capacity
+	 *            the maximum number of queued events
+	 * @param overflowPolicy
+	 *            how events are handled if the queue is full
+	 */
+	public AsyncMqttEventPublisher(IMqttClient mqttClient, int qos, int capacity, MqttOverflowPolicy overflowPolicy) {
+		this(mqttClient, qos, capacity, DEFAULT_BATCH_SIZE, overflowPolicy);
+	}
+
+	/**
+	 * @param mqttClient
+	 * @param qos
+	 *            the quality of service the events are published with
+	 * @param capacity
+	 *            the maximum number of queued events
+	 * @param batchSize
+	 *            the maximum number of events sent before awaiting their
+	 *            acknowledgements
+	 * @param overflowPolicy
+	 *            how events are handled if the queue is full
+	 */
+	public AsyncMqttEventPublisher(IMqttClient mqttClient, int qos, int capacity, int batchSize, MqttOverflowPolicy overflowPolicy) {
+		if (qos < 0 || qos > 2)
+			throw new IllegalArgumentException("The MQTT quality of service has to be 0, 1 or 2");
+
+		if (capacity < 1)
+			throw new IllegalArgumentException("The capacity of the MQTT publisher queue has to be positive");
+
+		if (batchSize < 1)
+			throw new IllegalArgumentException("The MQTT publisher batch size has to be positive");
+
+		this.mqttClient = mqttClient;
+		this.asyncClient = mqttClient instanceof BaSyxMqttClient ? ((BaSyxMqttClient) mqttClient).getAsyncClient() : null;
+		this.qos = qos;
+		this.batchSize = batchSize;
+		this.overflowPolicy = overflowPolicy;
+		this.queue = new ArrayBlockingQueue<>(capacity);
+
+		ioThread = new Thread(this::run, "basyx-mqtt-publisher");
+		ioThread.setDaemon(true);
+		ioThread.start();
+	}
+
+	@Override
+	public void publish(String topic, byte[] payload) {
+		MqttEvent event = new MqttEvent(topic, SynchronousMqttEventPublisher.createMqttMessage(payload, qos));
+
+		try {
+			if (!enqueue(event))
+				dropped(event, running ? "the queue is full" : "the publisher is closed");
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			dropped(event, "the publishing thread has been interrupted");
+		}
+	}
+
+	private boolean enqueue(MqttEvent event) throws InterruptedException {
+		if (overflowPolicy == MqttOverflowPolicy.DROP)
+			return running && queue.offer(event);
+
+		// Waits in slices, so callers are released as soon as the publisher is closed
+		while (running) {
+			if (queue.offer(event, POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS))
+				return true;
+		}
+
+		return false;
+	}
+
+	private void dropped(MqttEvent event, String reason) {
+		droppedEvents.increment();
+		logger.debug("Dropped MQTT message to {} as {}", event.topic, reason);
+	}
+
+	/**
+	 * Returns the number of events waiting to be published
+	 */
+	public int getQueueDepth() {
+		return queue.size();
+	}
+
+	private void run() {
+		List<MqttEvent> batch = new ArrayList<>(batchSize);
+		while (running || !queue.isEmpty()) {
+			try {
+				MqttEvent event = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+				if (event == null)
+					continue;
+
+				batch.add(event);
+				queue.drainTo(batch, batchSize - 1);
+				send(batch);
+				batch.clear();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+	}
+
+	private void send(List<MqttEvent> batch) {
+		long start = System.nanoTime();
+
+		if (asyncClient == null)
+			batch.forEach(this::sendBlocking);
+		else
+			sendBatch(batch);
+
+		Timer timer = publishTimer;
+		if (timer != null)
+			timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+	}
+
+	private void sendBlocking(MqttEvent event) {
+		if (SynchronousMqttEventPublisher.publish(mqttClient, event.topic, event.message))
+			publishedEvents.increment();
+		else
+			failedEvents.increment();
+	}
+
+	/**
+	 * Sends all events of the batch before awaiting any acknowledgement. The
+	 * broker processes the messages of a connection in order, thus the order of
+	 * the events is kept.
+	 */
+	private void sendBatch(List<MqttEvent> batch) {
+		List<IMqttDeliveryToken> tokens = new ArrayList<>(batch.size());
+		for (MqttEvent event : batch) {
+			try {
+				logger.debug("Send MQTT message to {}", event.topic);
+				tokens.add(asyncClient.publish(event.topic, event.message));
+			} catch (MqttException e) {
+				failedEvents.increment();
+				logger.error("Could not send mqtt message", e);
+			}
+		}
+
+		for (IMqttDeliveryToken token : tokens) {
+			try {
+				token.waitForCompletion();
+				publishedEvents.increment();
+			} catch (MqttException e) {
+				failedEvents.increment();
+				logger.error("Could not send mqtt message", e);
+			}
+		}
+	}
+
+	/**
+	 * Stops accepting events and publishes the queued ones. Events that could
+	 * not be published within the close timeout are dropped.
+	 */
+	@Override
+	public void close() {
+		running = false;
+
+		try {
+			ioThread.join(CLOSE_TIMEOUT_MILLIS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+
+		if (!ioThread.isAlive())
+			return;
+
+		ioThread.interrupt();
+		int remaining = queue.size();
+		if (remaining == 0)
+			return;
+
+		droppedEvents.add(remaining);
+		logger.warn("Dropped {} MQTT messages that could not be published before closing", remaining);
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		Gauge.builder(METER_PREFIX + ".queue.depth", this, AsyncMqttEventPublisher::getQueueDepth).description("Number of events waiting to be published").register(registry);
+		FunctionCounter.builder(METER_PREFIX + ".events.published", publishedEvents, LongAdder::sum).description("Number of events published").register(registry);
+		FunctionCounter.builder(METER_PREFIX + ".events.dropped", droppedEvents, LongAdder::sum).description("Number of events dropped as the queue was full or the publisher was closed").register(registry);
+		FunctionCounter.builder(METER_PREFIX + ".events.failed", failedEvents, LongAdder::sum).description("Number of events that could not be sent to the broker").register(registry);
+		publishTimer = Timer.builder(METER_PREFIX + ".publish").description("Latency of publishing a batch of events to the broker").register(registry);
+	}
+
+	private static class MqttEvent {
+		private final String topic;
+		private final MqttMessage message;
+
+		private MqttEvent(String topic, MqttMessage message) {
+			this.topic = topic;
+			this.message = message;
+		}
+	}
+}
@@ -0,0 +1,59 @@
+/*******************************************************************************
+ * Copyright (C) 2023 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.common.mqttcore.publisher;
+
+import org.eclipse.paho.client.mqttv3.IMqttAsyncClient;
+import org.eclipse.paho.client.mqttv3.MqttClient;
+import org.eclipse.paho.client.mqttv3.MqttClientPersistence;
+import org.eclipse.paho.client.mqttv3.MqttException;
+
+/**
+ * {@link MqttClient} that additionally exposes the asynchronous client it
+ * delegates to. {@link MqttClient#publish(String, org.eclipse.paho.client.mqttv3.MqttMessage)}
+ * waits for the acknowledgement of each message, whereas the asynchronous
+ * client allows the {@link AsyncMqttEventPublisher} to send several messages
+ * back to back and to await their acknowledgements afterwards.
+ * 
+ * @author agent
+ *
+ */
+public class BaSyxMqttClient extends MqttClient {
+
+	public BaSyxMqttClient(String serverURI, String clientId) throws MqttException {
+		super(serverURI, clientId);
+	}
+
+	public BaSyxMqttClient(String serverURI, String clientId, MqttClientPersistence persistence) throws MqttException {
+		super(serverURI, clientId, persistence);
+	}
+
+	/**
+	 * Returns the asynchronous client sharing the connection of this client
+	 */
+	public IMqttAsyncClient getAsyncClient() {
+		return aClient;
+	}
+}
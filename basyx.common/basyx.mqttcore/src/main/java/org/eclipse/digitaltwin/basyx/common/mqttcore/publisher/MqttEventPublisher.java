@@ -0,0 +1,59 @@
+/*******************************************************************************
+ * Copyright (C) 2023 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.common.mqttcore.publisher;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Publishes the MQTT events of the BaSyx components to the broker
+ * 
+ * @author schnicke
+ *
+ */
+public interface MqttEventPublisher {
+
+	/**
+	 * Publishes the payload to the topic
+	 * 
+	 * @param topic
+	 *            in which the message will be published
+	 * @param payload
+	 *            the actual message, may be null for an empty message
+	 */
+	public void publish(String topic, byte[] payload);
+
+	/**
+	 * Publishes the UTF-8 encoded payload to the topic
+	 * 
+	 * @param topic
+	 *            in which the message will be published
+	 * @param payload
+	 *            the actual message, may be null for an empty message
+	 */
+	public default void publish(String topic, String payload) {
+		publish(topic, payload == null ? null : payload.getBytes(StandardCharsets.UTF_8));
+	}
+}
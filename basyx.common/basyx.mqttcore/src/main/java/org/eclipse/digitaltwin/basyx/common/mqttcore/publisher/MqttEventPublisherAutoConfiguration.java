@@ -0,0 +1,52 @@
+/*******************************************************************************
+ * Copyright (C) 2023 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.common.mqttcore.publisher;
+
+import org.eclipse.paho.client.mqttv3.IMqttClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Provides the {@link MqttEventPublisher} shared by all MQTT features, as soon
+ * as one of them has configured an {@link IMqttClient}
+ * 
+ * @author agent
+ *
+ */
+@AutoConfiguration
+@ConditionalOnBean(IMqttClient.class)
+public class MqttEventPublisherAutoConfiguration {
+
+	@ConditionalOnMissingBean(MqttEventPublisher.class)
+	@Bean
+	public AsyncMqttEventPublisher mqttEventPublisher(IMqttClient mqttClient, @Value("${mqtt.publisher.qos:1}") int qos, @Value("${mqtt.publisher.queue-capacity:10000}") int capacity,
+			@Value("${mqtt.publisher.batch-size:" + AsyncMqttEventPublisher.DEFAULT_BATCH_SIZE + "}") int batchSize, @Value("${mqtt.publisher.overflow-policy:BLOCK}") MqttOverflowPolicy overflowPolicy) {
+		return new AsyncMqttEventPublisher(mqttClient, qos, capacity, batchSize, overflowPolicy);
+	}
+}
@@ -0,0 +1,93 @@
+/*******************************************************************************
+ * Copyright (C) 2023 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.common.mqttcore.publisher;
+
+import org.eclipse.paho.client.mqttv3.IMqttClient;
+import org.eclipse.paho.client.mqttv3.MqttException;
+import org.eclipse.paho.client.mqttv3.MqttMessage;
+import org.eclipse.paho.client.mqttv3.MqttPersistenceException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Publishes the events on the calling thread, i.e., the caller waits until the
+ * broker has received the event
+ * 
+ * @author schnicke
+ *
+ */
+public class SynchronousMqttEventPublisher implements MqttEventPublisher {
+	private static final Logger logger = LoggerFactory.getLogger(SynchronousMqttEventPublisher.class);
+	public static final int DEFAULT_QOS = 1;
+
+	private final IMqttClient mqttClient;
+	private final int qos;
+
+	public SynchronousMqttEventPublisher(IMqttClient mqttClient) {
+		this(mqttClient, DEFAULT_QOS);
+	}
+
+	/**
+	 * @param mqttClient
+	 * @param qos
+	 *            the quality of service the events are published with
+	 */
+	public SynchronousMqttEventPublisher(IMqttClient mqttClient, int qos) {
+		this.mqttClient = mqttClient;
+		this.qos = qos;
+	}
+
+	@Override
+	public void publish(String topic, byte[] payload) {
+		publish(mqttClient, topic, createMqttMessage(payload, qos));
+	}
+
+	static MqttMessage createMqttMessage(byte[] payload, int qos) {
+		MqttMessage msg = payload == null ? new MqttMessage() : new MqttMessage(payload);
+		msg.setQos(qos);
+
+		return msg;
+	}
+
+	/**
+	 * Sends the message to the connected broker, failures are logged
+	 * 
+	 * @return true if the message has been sent
+	 */
+	static boolean publish(IMqttClient mqttClient, String topic, MqttMessage msg) {
+		try {
+			logger.debug("Send MQTT message to {}", topic);
+			mqttClient.publish(topic, msg);
+			return true;
+		} catch (MqttPersistenceException e) {
+			logger.error("Could not persist mqtt message", e);
+		} catch (MqttException e) {
+			logger.error("Could not send mqtt message", e);
+		}
+
+		return false;
+	}
+}
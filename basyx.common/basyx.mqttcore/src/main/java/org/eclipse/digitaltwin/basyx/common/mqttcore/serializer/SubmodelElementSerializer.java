@@ -25,21 +25,21 @@
 
 package org.eclipse.digitaltwin.basyx.common.mqttcore.serializer;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Optional;
 
-import org.eclipse.digitaltwin.aas4j.v3.dataformat.DeserializationException;
-import org.eclipse.digitaltwin.aas4j.v3.dataformat.SerializationException;
-import org.eclipse.digitaltwin.aas4j.v3.dataformat.json.JsonDeserializer;
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.json.JsonSerializer;
-import org.eclipse.digitaltwin.aas4j.v3.model.Blob;
-import org.eclipse.digitaltwin.aas4j.v3.model.File;
-import org.eclipse.digitaltwin.aas4j.v3.model.MultiLanguageProperty;
-import org.eclipse.digitaltwin.aas4j.v3.model.Property;
 import org.eclipse.digitaltwin.aas4j.v3.model.Qualifier;
-import org.eclipse.digitaltwin.aas4j.v3.model.ReferenceElement;
 import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
-import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementCollection;
-import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementList;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.filter.FilteringGeneratorDelegate;
+import com.fasterxml.jackson.core.filter.TokenFilter;
+import com.fasterxml.jackson.core.filter.TokenFilter.Inclusion;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 /**
  * Serializer for the submodel element.
@@ -49,6 +49,9 @@ import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementList;
 public class SubmodelElementSerializer {
 	public static final String EMPTYVALUEUPDATE_TYPE = "emptyValueUpdateEvent";
 
+	private static final ObjectMapper MAPPER = new AasMapperAccess().getMapper();
+	private static final TokenFilter WITHOUT_VALUE_FILTER = new WithoutValueFilter();
+
 	private SubmodelElementSerializer() {
 	}
 
@@ -59,57 +62,58 @@ public class SubmodelElementSerializer {
 	 * @return serialized submodelElement as JSON String
 	 */
 	public static String serializeSubmodelElement(SubmodelElement submodelElement) {
-		try {
-			SubmodelElement localElement;
-			if (shouldSendEmptyValueEvent(submodelElement)) {
-				localElement = getSubmodelElementWithoutValue(submodelElement);
-			} else {
-				localElement = submodelElement;
-			}
+		StringWriter writer = new StringWriter();
 
-			return new JsonSerializer().write(localElement);
-		} catch (SerializationException | DeserializationException e) {
+		try (JsonGenerator gen = MAPPER.createGenerator(writer)) {
+			writeSubmodelElement(submodelElement, gen);
+		} catch (IOException e) {
 			throw new RuntimeException(e);
 		}
+
+		return writer.toString();
 	}
 
 	/**
-	 * Generator to create a copy of a submodelElement without its value.
+	 * Serializer to create a JSON String for the given submodel elements. The
+	 * result is a JSON object containing each serialized submodel element under
+	 * its idShortPath.
 	 * 
-	 * @param submodelElement
-	 * @return submodelElement without value
-	 * @throws SerializationException
-	 * @throws DeserializationException
+	 * @param submodelElements
+	 *            the submodel elements mapped by their idShortPath
+	 * @return serialized submodelElements as JSON String
 	 */
-	private static SubmodelElement getSubmodelElementWithoutValue(SubmodelElement submodelElement) throws SerializationException, DeserializationException {
-		// Copy the SubmodelElement to not modify the original.
-		String jsonToCopy = new JsonSerializer().write(submodelElement);
-		SubmodelElement localElement = new JsonDeserializer().readReferable(jsonToCopy, SubmodelElement.class);
-
-		if (submodelElement instanceof Blob) {
-			((Blob) localElement).setValue(null);
-		} else if (submodelElement instanceof File) {
-			((File) localElement).setValue(null);
-		} else if (submodelElement instanceof MultiLanguageProperty) {
-			((MultiLanguageProperty) localElement).setValue(null);
-		} else if (submodelElement instanceof Property) {
-			((Property) localElement).setValue(null);
-		} else if (submodelElement instanceof ReferenceElement) {
-			((ReferenceElement) localElement).setValue(null);
-		} else if (submodelElement instanceof SubmodelElementCollection) {
-			((SubmodelElementCollection) localElement).setValue(null);
-		} else if (submodelElement instanceof SubmodelElementList) {
-			((SubmodelElementList) localElement).setValue(null);
+	public static String serializeSubmodelElements(Map<String, SubmodelElement> submodelElements) {
+		StringWriter writer = new StringWriter();
+
+		try (JsonGenerator gen = MAPPER.createGenerator(writer)) {
+			gen.writeStartObject();
+			for (Entry<String, SubmodelElement> entry : submodelElements.entrySet()) {
+				gen.writeFieldName(entry.getKey());
+				writeSubmodelElement(entry.getValue(), gen);
+			}
+			gen.writeEndObject();
+		} catch (IOException e) {
+			throw new RuntimeException(e);
 		}
 
-		return localElement;
+		return writer.toString();
+	}
+
+	/**
+	 * Returns the mapper configured for the aas4j model. It is shared and thus
+	 * must not be reconfigured.
+	 * 
+	 * @return the aas4j mapper
+	 */
+	public static ObjectMapper getMapper() {
+		return MAPPER;
 	}
 
 	/**
 	 * Returns true if the submodelElement has an EmptyValueUpdateEvent with a value
 	 * of true.
 	 */
-	private static boolean shouldSendEmptyValueEvent(SubmodelElement submodelElement) {
+	public static boolean shouldSendEmptyValueEvent(SubmodelElement submodelElement) {
 		Optional<Qualifier> qualifier = submodelElement.getQualifiers().stream().filter(c -> c instanceof Qualifier).map(Qualifier.class::cast).filter(q -> q.getType().equals(EMPTYVALUEUPDATE_TYPE)).findAny();
 		if (qualifier.isEmpty()) {
 			return false;
@@ -117,4 +121,38 @@ public class SubmodelElementSerializer {
 
 		return Boolean.parseBoolean(qualifier.get().getValue());
 	}
+
+	/**
+	 * Writes the submodelElement to the generator. If no value is to be sent, the
+	 * value is filtered while writing, i.e., the submodelElement is neither copied
+	 * nor modified.
+	 */
+	private static void writeSubmodelElement(SubmodelElement submodelElement, JsonGenerator gen) throws IOException {
+		if (shouldSendEmptyValueEvent(submodelElement))
+			gen = new FilteringGeneratorDelegate(gen, WITHOUT_VALUE_FILTER, Inclusion.INCLUDE_ALL_AND_PATH, true);
+
+		MAPPER.writeValue(gen, submodelElement);
+	}
+
+	/**
+	 * Excludes the value of the written submodelElement. Properties named value
+	 * nested deeper, e.g., of its qualifiers, are kept.
+	 */
+	private static class WithoutValueFilter extends TokenFilter {
+		private static final String VALUE = "value";
+
+		@Override
+		public TokenFilter includeProperty(String name) {
+			return VALUE.equals(name) ? null : TokenFilter.INCLUDE_ALL;
+		}
+	}
+
+	/**
+	 * Grants access to the mapper configured by the aas4j JsonSerializer
+	 */
+	private static class AasMapperAccess extends JsonSerializer {
+		public ObjectMapper getMapper() {
+			return mapper;
+		}
+	}
 }
@@ -35,6 +35,8 @@ import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
  * @author fischer
  */
 public class SubmodelSerializer {
+	private static final JsonSerializer SERIALIZER = new JsonSerializer();
+
 	private SubmodelSerializer() {
 	}
 
@@ -46,7 +48,7 @@ public class SubmodelSerializer {
 	 */
 	public static String serializeSubmodel(Submodel submodel) {
 		try {
-			return new JsonSerializer().write(submodel);
+			return SERIALIZER.write(submodel);
 		} catch (SerializationException e) {
 			throw new RuntimeException(e);
 		}
@@ -0,0 +1,161 @@
+/*******************************************************************************
+ * Copyright (C) 2023 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.common.mqttcore.publisher;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.eclipse.digitaltwin.basyx.common.mqttcore.listener.MqttTestListener;
+import org.eclipse.paho.client.mqttv3.IMqttClient;
+import org.eclipse.paho.client.mqttv3.MqttException;
+import org.eclipse.paho.client.mqttv3.persist.MemoryPersistence;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.moquette.broker.Server;
+import io.moquette.broker.config.ClasspathResourceLoader;
+import io.moquette.broker.config.ResourceLoaderConfig;
+
+/**
+ * Tests the {@link AsyncMqttEventPublisher} against an embedded broker
+ * 
+ * @author schnicke
+ *
+ */
+public class TestAsyncMqttEventPublisher {
+	private static Server mqttBroker;
+	private static MqttTestListener listener;
+	private static BaSyxMqttClient mqttClient;
+
+	@BeforeClass
+	public static void setUpClass() throws MqttException, IOException {
+		mqttBroker = new Server();
+		mqttBroker.startServer(new ResourceLoaderConfig(new ClasspathResourceLoader()));
+
+		listener = new MqttTestListener();
+		mqttBroker.addInterceptHandler(listener);
+
+		mqttClient = new BaSyxMqttClient("tcp://localhost:1884", "testClient", new MemoryPersistence());
+		mqttClient.connect();
+	}
+
+	@AfterClass
+	public static void tearDownClass() throws MqttException {
+		mqttClient.disconnect();
+		mqttBroker.removeInterceptHandler(listener);
+		mqttBroker.stopServer();
+	}
+
+	@Test
+	public void eventsArePublishedInOrder() throws InterruptedException {
+		List<String> topics = IntStream.range(0, 50).mapToObj(i -> "async/" + i).collect(Collectors.toList());
+
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		try (AsyncMqttEventPublisher publisher = new AsyncMqttEventPublisher(mqttClient, 1, 10, MqttOverflowPolicy.BLOCK)) {
+			publisher.bindTo(registry);
+			topics.forEach(topic -> publisher.publish(topic, "payload"));
+		}
+
+		awaitTopics(topics.size());
+		assertEquals(topics, listener.getTopics().subList(listener.getTopics().size() - topics.size(), listener.getTopics().size()));
+		assertEquals(topics.size(), registry.get("basyx.mqtt.publisher.events.published").functionCounter().count(), 0);
+		assertEquals(0, registry.get("basyx.mqtt.publisher.events.dropped").functionCounter().count(), 0);
+	}
+
+	@Test
+	public void eventsAreDroppedIfQueueIsFull() throws InterruptedException {
+		CountDownLatch publishing = new CountDownLatch(1);
+		CountDownLatch brokerReleased = new CountDownLatch(1);
+		IMqttClient slowClient = createSlowClient(publishing, brokerReleased);
+
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		AsyncMqttEventPublisher publisher = new AsyncMqttEventPublisher(slowClient, 0, 1, MqttOverflowPolicy.DROP);
+		publisher.bindTo(registry);
+
+		publisher.publish("slow/0", "inFlight");
+		assertTrue(publishing.await(5, TimeUnit.SECONDS));
+
+		publisher.publish("slow/1", "queued");
+		publisher.publish("slow/2", "dropped");
+		assertEquals(1, publisher.getQueueDepth());
+		assertEquals(1, registry.get("basyx.mqtt.publisher.events.dropped").functionCounter().count(), 0);
+
+		brokerReleased.countDown();
+		publisher.close();
+		assertEquals(2, registry.get("basyx.mqtt.publisher.events.published").functionCounter().count(), 0);
+	}
+
+	@Test
+	public void eventsOfBlockingClientArePublishedInOrder() throws InterruptedException {
+		IMqttClient blockingClient = (IMqttClient) Proxy.newProxyInstance(IMqttClient.class.getClassLoader(), new Class<?>[] { IMqttClient.class }, (proxy, method, args) -> method.invoke(mqttClient, args));
+		List<String> topics = IntStream.range(0, 20).mapToObj(i -> "blocking/" + i).collect(Collectors.toList());
+		int alreadyReceived = listener.getTopics().size();
+
+		try (AsyncMqttEventPublisher publisher = new AsyncMqttEventPublisher(blockingClient, 1, 10, MqttOverflowPolicy.BLOCK)) {
+			topics.forEach(topic -> publisher.publish(topic, "payload"));
+		}
+
+		awaitTopics(alreadyReceived + topics.size());
+		List<String> received = listener.getTopics();
+		assertEquals(topics, received.subList(received.size() - topics.size(), received.size()));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void invalidBatchSize() {
+		new AsyncMqttEventPublisher(mqttClient, 1, 1, 0, MqttOverflowPolicy.BLOCK);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void invalidQos() {
+		new AsyncMqttEventPublisher(mqttClient, 3, 1, MqttOverflowPolicy.BLOCK);
+	}
+
+	private static IMqttClient createSlowClient(CountDownLatch publishing, CountDownLatch brokerReleased) {
+		return (IMqttClient) Proxy.newProxyInstance(IMqttClient.class.getClassLoader(), new Class<?>[] { IMqttClient.class }, (proxy, method, args) -> {
+			if (method.getName().equals("publish")) {
+				publishing.countDown();
+				brokerReleased.await();
+			}
+
+			return null;
+		});
+	}
+
+	private void awaitTopics(int count) throws InterruptedException {
+		for (int i = 0; i < 50 && listener.getTopics().size() < count; i++)
+			Thread.sleep(100);
+	}
+}
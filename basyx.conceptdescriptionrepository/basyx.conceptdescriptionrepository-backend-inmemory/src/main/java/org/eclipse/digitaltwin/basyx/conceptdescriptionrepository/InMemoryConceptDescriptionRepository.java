@@ -27,13 +27,10 @@ package org.eclipse.digitaltwin.basyx.conceptdescriptionrepository;
 
 import java.util.Collection;
 import java.util.HashSet;
-import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.TreeMap;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.eclipse.digitaltwin.aas4j.v3.model.ConceptDescription;
 import org.eclipse.digitaltwin.aas4j.v3.model.EmbeddedDataSpecification;
@@ -41,9 +38,10 @@ import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
 import org.eclipse.digitaltwin.basyx.core.exceptions.CollidingIdentifierException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.IdentificationMismatchException;
+import org.eclipse.digitaltwin.basyx.core.pagination.ConcurrentSortedStore;
+import org.eclipse.digitaltwin.basyx.core.pagination.CursorIterator;
 import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
-import org.eclipse.digitaltwin.basyx.core.pagination.PaginationSupport;
 
 /**
  * In-memory implementation of the ConceptDescriptionRepository
@@ -53,7 +51,7 @@ import org.eclipse.digitaltwin.basyx.core.pagination.PaginationSupport;
  */
 public class InMemoryConceptDescriptionRepository implements ConceptDescriptionRepository {
 
-	private Map<String, ConceptDescription> conceptDescriptions = new LinkedHashMap<>();
+	private ConcurrentSortedStore<ConceptDescription> conceptDescriptions = new ConcurrentSortedStore<>(ConceptDescription::getId);
 	
 	private String cdRepositoryName;
 
@@ -81,7 +79,7 @@ public class InMemoryConceptDescriptionRepository implements ConceptDescriptionR
 	public InMemoryConceptDescriptionRepository(Collection<ConceptDescription> conceptDescriptions) {
 		assertIdUniqueness(conceptDescriptions);
 
-		this.conceptDescriptions.putAll(mapConceptDescriptions(conceptDescriptions));
+		conceptDescriptions.forEach(conceptDescription -> this.conceptDescriptions.putIfAbsent(conceptDescription.getId(), conceptDescription));
 	}
 	
 	/**
@@ -98,60 +96,43 @@ public class InMemoryConceptDescriptionRepository implements ConceptDescriptionR
 
 	@Override
 	public CursorResult<List<ConceptDescription>> getAllConceptDescriptions(PaginationInfo pInfo) {
-		List<ConceptDescription> conceptDescriptionList = conceptDescriptions.values()
-				.stream()
-				.collect(Collectors.toList());
-
-		CursorResult<List<ConceptDescription>> paginatedCD = paginateList(pInfo, conceptDescriptionList);
+		CursorResult<List<ConceptDescription>> paginatedCD = conceptDescriptions.getPaged(pInfo);
 		return paginatedCD;
 	}
 
 	@Override
-	public CursorResult<List<ConceptDescription>> getAllConceptDescriptionsByIdShort(String idShort, PaginationInfo pInfo) {
-		List<ConceptDescription> allDescriptions = conceptDescriptions.values()
-				.stream()
-				.collect(Collectors.toList());
+	public CursorIterator<ConceptDescription> iterateAllConceptDescriptions(PaginationInfo pInfo) {
+		Stream<ConceptDescription> page = conceptDescriptions.getPage(pInfo, conceptDescription -> true);
 
-		List<ConceptDescription> filtered = allDescriptions.stream()
-				.filter(conceptDescription -> conceptDescription.getIdShort()
-						.equals(idShort))
-				.collect(Collectors.toList());
-		CursorResult<List<ConceptDescription>> result = paginateList(pInfo, filtered);
+		return new CursorIterator<>(page.iterator(), pInfo, ConceptDescription::getId, page::close);
+	}
+
+	@Override
+	public CursorResult<List<ConceptDescription>> getAllConceptDescriptionsByIdShort(String idShort, PaginationInfo pInfo) {
+		CursorResult<List<ConceptDescription>> result = conceptDescriptions.getPaged(pInfo, conceptDescription -> conceptDescription.getIdShort()
+				.equals(idShort));
 		return result;
 	}
 
 	@Override
 	public CursorResult<List<ConceptDescription>> getAllConceptDescriptionsByIsCaseOf(Reference reference, PaginationInfo pInfo) {
-		List<ConceptDescription> allDescriptions = conceptDescriptions.values()
-				.stream()
-				.collect(Collectors.toList());
-		List<ConceptDescription> filtered = allDescriptions.stream()
-				.filter(conceptDescription -> hasMatchingReference(conceptDescription, reference))
-				.collect(Collectors.toList());
-
-		CursorResult<List<ConceptDescription>> result = paginateList(pInfo, filtered);
+		CursorResult<List<ConceptDescription>> result = conceptDescriptions.getPaged(pInfo, conceptDescription -> hasMatchingReference(conceptDescription, reference));
 		return result;
 	}
 
 	@Override
 	public CursorResult<List<ConceptDescription>> getAllConceptDescriptionsByDataSpecificationReference(Reference reference, PaginationInfo pInfo) {
-		List<ConceptDescription> allDescriptions = conceptDescriptions.values()
-				.stream()
-				.collect(Collectors.toList());
-
-		List<ConceptDescription> filtered = allDescriptions.stream()
-				.filter(conceptDescription -> hasMatchingDataSpecificationReference(conceptDescription, reference))
-				.collect(Collectors.toList());
-
-		CursorResult<List<ConceptDescription>> result = paginateList(pInfo, filtered);
+		CursorResult<List<ConceptDescription>> result = conceptDescriptions.getPaged(pInfo, conceptDescription -> hasMatchingDataSpecificationReference(conceptDescription, reference));
 		return result;
 	}
 
 	@Override
 	public ConceptDescription getConceptDescription(String conceptDescriptionId) throws ElementDoesNotExistException {
-		throwIfConceptDescriptionDoesNotExist(conceptDescriptionId);
+		ConceptDescription conceptDescription = conceptDescriptions.get(conceptDescriptionId);
+		if (conceptDescription == null)
+			throw new ElementDoesNotExistException(conceptDescriptionId);
 
-		return conceptDescriptions.get(conceptDescriptionId);
+		return conceptDescription;
 	}
 
 	@Override
@@ -160,21 +141,20 @@ public class InMemoryConceptDescriptionRepository implements ConceptDescriptionR
 
 		throwIfMismatchingIds(conceptDescriptionId, conceptDescription);
 
-		conceptDescriptions.put(conceptDescriptionId, conceptDescription);
+		if (!conceptDescriptions.replace(conceptDescriptionId, conceptDescription))
+			throw new ElementDoesNotExistException(conceptDescriptionId);
 	}
 
 	@Override
 	public void createConceptDescription(ConceptDescription conceptDescription) throws CollidingIdentifierException {
-		throwIfConceptDescriptionExists(conceptDescription.getId());
-
-		conceptDescriptions.put(conceptDescription.getId(), conceptDescription);
+		if (!conceptDescriptions.putIfAbsent(conceptDescription.getId(), conceptDescription))
+			throw new CollidingIdentifierException(conceptDescription.getId());
 	}
 
 	@Override
 	public void deleteConceptDescription(String conceptDescriptionId) throws ElementDoesNotExistException {
-		throwIfConceptDescriptionDoesNotExist(conceptDescriptionId);
-
-		conceptDescriptions.remove(conceptDescriptionId);
+		if (conceptDescriptions.remove(conceptDescriptionId) == null)
+			throw new ElementDoesNotExistException(conceptDescriptionId);
 	}
 	
 	@Override
@@ -195,16 +175,6 @@ public class InMemoryConceptDescriptionRepository implements ConceptDescriptionR
 		}
 	}
 
-	private Map<String, ConceptDescription> mapConceptDescriptions(Collection<ConceptDescription> conceptDescriptions) {
-		return conceptDescriptions.stream()
-				.collect(Collectors.toMap(ConceptDescription::getId, conceptDescription -> conceptDescription));
-	}
-
-	private void throwIfConceptDescriptionExists(String id) {
-		if (conceptDescriptions.containsKey(id))
-			throw new CollidingIdentifierException(id);
-	}
-
 	private void throwIfConceptDescriptionDoesNotExist(String id) {
 		if (!conceptDescriptions.containsKey(id))
 			throw new ElementDoesNotExistException(id);
@@ -236,13 +206,4 @@ public class InMemoryConceptDescriptionRepository implements ConceptDescriptionR
 			throw new IdentificationMismatchException();
 	}
 
-	private CursorResult<List<ConceptDescription>> paginateList(PaginationInfo pInfo, List<ConceptDescription> conceptDescriptionList) {
-		TreeMap<String, ConceptDescription> cdMap = conceptDescriptionList.stream()
-				.collect(Collectors.toMap(ConceptDescription::getId, cd -> cd, (a, b) -> a, TreeMap::new));
-
-		PaginationSupport<ConceptDescription> paginationSupport = new PaginationSupport<>(cdMap, ConceptDescription::getId);
-		CursorResult<List<ConceptDescription>> paginatedCD = paginationSupport.getPaged(pInfo);
-		return paginatedCD;
-	}
-
 }
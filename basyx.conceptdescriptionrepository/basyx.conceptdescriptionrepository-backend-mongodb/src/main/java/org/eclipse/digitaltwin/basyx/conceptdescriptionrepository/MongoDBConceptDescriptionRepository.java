@@ -31,17 +31,22 @@ import java.util.stream.Collectors;
 import org.eclipse.digitaltwin.aas4j.v3.model.ConceptDescription;
 import org.eclipse.digitaltwin.aas4j.v3.model.EmbeddedDataSpecification;
 import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
+import org.eclipse.digitaltwin.basyx.common.mongocore.MongoDBUtilities;
 import org.eclipse.digitaltwin.basyx.core.exceptions.CollidingIdentifierException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.IdentificationMismatchException;
+import org.eclipse.digitaltwin.basyx.core.pagination.CursorIterator;
 import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationSupport;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.index.Index;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.util.CloseableIterator;
 
 import com.mongodb.client.result.DeleteResult;
 
@@ -54,6 +59,7 @@ import com.mongodb.client.result.DeleteResult;
  */
 public class MongoDBConceptDescriptionRepository implements ConceptDescriptionRepository {
 	private static final String IDJSONPATH = "id";
+	private static final String ID = "_id";
 
 	private MongoTemplate mongoTemplate;
 	private String collectionName;
@@ -77,6 +83,23 @@ public class MongoDBConceptDescriptionRepository implements ConceptDescriptionRe
 		return paginatedCD;
 	}
 
+	/**
+	 * The ConceptDescriptions are read from the MongoDB cursor while they are
+	 * iterated.
+	 */
+	@Override
+	public CursorIterator<ConceptDescription> iterateAllConceptDescriptions(PaginationInfo pInfo) {
+		Query query = new Query().with(Sort.by(Direction.ASC, ID));
+		if (pInfo.hasCursor())
+			query.addCriteria(Criteria.where(ID).gt(pInfo.getCursor()));
+		if (pInfo.hasLimit())
+			query.limit(pInfo.getLimit());
+
+		CloseableIterator<ConceptDescription> foundConceptDescriptions = mongoTemplate.stream(query, ConceptDescription.class, collectionName);
+
+		return new CursorIterator<>(foundConceptDescriptions, pInfo, ConceptDescription::getId, foundConceptDescriptions::close);
+	}
+
 	@Override
 	public CursorResult<List<ConceptDescription>> getAllConceptDescriptionsByIdShort(String idShort, PaginationInfo pInfo) {
 		List<ConceptDescription> allDescriptions = mongoTemplate.findAll(ConceptDescription.class, collectionName);
@@ -125,27 +148,19 @@ public class MongoDBConceptDescriptionRepository implements ConceptDescriptionRe
 
 	@Override
 	public void updateConceptDescription(String conceptDescriptionId, ConceptDescription conceptDescription) throws ElementDoesNotExistException {
-
-		Query query = new Query().addCriteria(Criteria.where(IDJSONPATH)
-				.is(conceptDescriptionId));
-
-		throwIfConceptDescriptionDoesNotExist(query, conceptDescriptionId);
-
 		throwIfMismatchingIds(conceptDescriptionId, conceptDescription);
 
-		mongoTemplate.remove(query, ConceptDescription.class, collectionName);
-		mongoTemplate.save(conceptDescription, collectionName);
+		if (!MongoDBUtilities.replace(mongoTemplate, collectionName, conceptDescription))
+			throw new ElementDoesNotExistException(conceptDescriptionId);
 	}
 
 	@Override
 	public void createConceptDescription(ConceptDescription conceptDescription) throws CollidingIdentifierException {
-		Query query = new Query().addCriteria(Criteria.where(IDJSONPATH)
-				.is(conceptDescription.getId()));
-
-		if (mongoTemplate.exists(query, ConceptDescription.class, collectionName))
+		try {
+			mongoTemplate.insert(conceptDescription, collectionName);
+		} catch (DuplicateKeyException e) {
 			throw new CollidingIdentifierException(conceptDescription.getId());
-
-		mongoTemplate.save(conceptDescription, collectionName);
+		}
 	}
 
 	@Override
@@ -189,16 +204,23 @@ public class MongoDBConceptDescriptionRepository implements ConceptDescriptionRe
 		return optionalReference.isPresent();
 	}
 
-	private void throwIfConceptDescriptionDoesNotExist(Query query, String conceptDescriptionId) {
-		if (!mongoTemplate.exists(query, ConceptDescription.class, collectionName))
-			throw new ElementDoesNotExistException(conceptDescriptionId);
-	}
-
+	/**
+	 * A missing ConceptDescription takes precedence over the mismatch. Thus,
+	 * only this error case requires a lookup of the ConceptDescription.
+	 */
 	private void throwIfMismatchingIds(String conceptDescriptionId, ConceptDescription newConceptDescription) {
 		String newConceptDescriptionId = newConceptDescription.getId();
 
-		if (!conceptDescriptionId.equals(newConceptDescriptionId))
-			throw new IdentificationMismatchException();
+		if (conceptDescriptionId.equals(newConceptDescriptionId))
+			return;
+
+		throwIfConceptDescriptionDoesNotExist(conceptDescriptionId);
+		throw new IdentificationMismatchException();
+	}
+
+	private void throwIfConceptDescriptionDoesNotExist(String conceptDescriptionId) {
+		if (!mongoTemplate.exists(new Query().addCriteria(Criteria.where(IDJSONPATH).is(conceptDescriptionId)), ConceptDescription.class, collectionName))
+			throw new ElementDoesNotExistException(conceptDescriptionId);
 	}
 
 	private CursorResult<List<ConceptDescription>> paginateList(PaginationInfo pInfo, List<ConceptDescription> cdList) {
@@ -27,6 +27,7 @@
 package org.eclipse.digitaltwin.basyx.aasrepository;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
 
 import java.util.Arrays;
 import java.util.Collection;
@@ -38,6 +39,7 @@ import org.eclipse.digitaltwin.basyx.conceptdescriptionrepository.ConceptDescrip
 import org.eclipse.digitaltwin.basyx.conceptdescriptionrepository.MongoDBConceptDescriptionRepository;
 import org.eclipse.digitaltwin.basyx.conceptdescriptionrepository.MongoDBConceptDescriptionRepositoryFactory;
 import org.eclipse.digitaltwin.basyx.conceptdescriptionrepository.core.ConceptDescriptionRepositorySuite;
+import org.eclipse.digitaltwin.basyx.core.exceptions.CollidingIdentifierException;
 import org.junit.Test;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Query;
@@ -113,6 +115,20 @@ public class TestMongoDBConceptDescriptionRepository extends ConceptDescriptionR
 		assertEquals(expectedConceptDescription, retrievedConceptDescription);
 	}
 	
+	@Test
+	public void createConceptDescriptionWithExistingIdKeepsStoredConceptDescription() {
+		ConceptDescriptionRepository repo = getConceptDescriptionRepository();
+		repo.createConceptDescription(new DefaultConceptDescription.Builder().id("dummy").idShort("stored").build());
+
+		try {
+			repo.createConceptDescription(new DefaultConceptDescription.Builder().id("dummy").idShort("colliding").build());
+			fail();
+		} catch (CollidingIdentifierException expected) {
+		}
+
+		assertEquals("stored", repo.getConceptDescription("dummy").getIdShort());
+	}
+
 	private void addDescriptionToConceptDescription(ConceptDescription expectedConceptDescription) {
 		expectedConceptDescription.setDescription(Arrays.asList(new DefaultLangStringTextType.Builder().text("description").language("en").build()));
 	}
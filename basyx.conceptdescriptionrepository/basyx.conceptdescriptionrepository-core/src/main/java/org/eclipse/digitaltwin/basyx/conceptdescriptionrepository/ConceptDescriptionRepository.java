@@ -31,6 +31,7 @@ import org.eclipse.digitaltwin.aas4j.v3.model.ConceptDescription;
 import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
 import org.eclipse.digitaltwin.basyx.core.exceptions.CollidingIdentifierException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
+import org.eclipse.digitaltwin.basyx.core.pagination.CursorIterator;
 import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
 
@@ -49,6 +50,17 @@ public interface ConceptDescriptionRepository {
 	 */
 	public CursorResult<List<ConceptDescription>> getAllConceptDescriptions(PaginationInfo pInfo);
 
+	/**
+	 * Iterates the ConceptDescriptions while they are read from the storage. The
+	 * iterator has to be closed if it is not iterated completely.
+	 * 
+	 * @param pInfo
+	 * @return the iterator over the found ConceptDescriptions
+	 */
+	public default CursorIterator<ConceptDescription> iterateAllConceptDescriptions(PaginationInfo pInfo) {
+		return CursorIterator.of(getAllConceptDescriptions(pInfo));
+	}
+
 	/**
 	 * Retrieves all ConceptDescriptions from the repository matching the passed
 	 * idShort
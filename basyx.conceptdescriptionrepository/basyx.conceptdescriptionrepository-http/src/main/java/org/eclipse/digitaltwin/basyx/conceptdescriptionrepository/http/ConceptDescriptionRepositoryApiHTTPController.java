@@ -1,7 +1,5 @@
 package org.eclipse.digitaltwin.basyx.conceptdescriptionrepository.http;
 
-import java.util.List;
-
 import javax.validation.Valid;
 import javax.validation.constraints.Min;
 
@@ -10,12 +8,11 @@ import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
 import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultReference;
 import org.eclipse.digitaltwin.basyx.conceptdescriptionrepository.ConceptDescriptionRepository;
 import org.eclipse.digitaltwin.basyx.conceptdescriptionrepository.http.filter.ConceptDescriptionRepositoryFilter;
-import org.eclipse.digitaltwin.basyx.conceptdescriptionrepository.http.pagination.GetConceptDescriptionsResult;
-import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
+import org.eclipse.digitaltwin.basyx.core.pagination.CursorIterator;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
 import org.eclipse.digitaltwin.basyx.http.Base64UrlEncodedIdentifier;
 import org.eclipse.digitaltwin.basyx.http.pagination.PagedResult;
-import org.eclipse.digitaltwin.basyx.http.pagination.PagedResultPagingMetadata;
+import org.eclipse.digitaltwin.basyx.http.pagination.StreamingPagedResult;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -64,13 +61,9 @@ public class ConceptDescriptionRepositoryApiHTTPController implements ConceptDes
 
 		PaginationInfo pInfo = new PaginationInfo(limit, cursor);
 
-		CursorResult<List<ConceptDescription>> filteredResult = repoFilter.filter(idShort, isCaseOfReference, dataSpecificationReference, pInfo);
-
-		GetConceptDescriptionsResult paginatedConceptDescription = new GetConceptDescriptionsResult();
-		paginatedConceptDescription.setResult(filteredResult.getResult());
-		paginatedConceptDescription.setPagingMetadata(new PagedResultPagingMetadata().cursor(filteredResult.getCursor()));
+		CursorIterator<ConceptDescription> conceptDescriptions = repoFilter.filter(idShort, isCaseOfReference, dataSpecificationReference, pInfo);
 
-		return new ResponseEntity<PagedResult>(paginatedConceptDescription, HttpStatus.OK);
+		return new ResponseEntity<PagedResult>(new StreamingPagedResult<>(conceptDescriptions, ConceptDescription.class), HttpStatus.OK);
 	}
 
 	@Override
@@ -45,7 +45,7 @@ public interface ConceptDescriptionRepositoryHTTPApi {
 			@ApiResponse(responseCode = "500", description = "Internal Server Error", content = @Content(mediaType = "application/json", schema = @Schema(implementation = Result.class))),
 
 			@ApiResponse(responseCode = "200", description = "Default error handling for unmentioned status codes", content = @Content(mediaType = "application/json", schema = @Schema(implementation = Result.class))) })
-	@RequestMapping(value = "/concept-descriptions/{cdIdentifier}", produces = { "application/json" }, method = RequestMethod.DELETE)
+	@RequestMapping(value = "/concept-descriptions/{cdIdentifier}", produces = { "application/json", "application/cbor", "application/x-jackson-smile" }, method = RequestMethod.DELETE)
 	ResponseEntity<Void> deleteConceptDescriptionById(
 			@Parameter(in = ParameterIn.PATH, description = "The Concept Description’s unique id (UTF8-BASE64-URL-encoded)", required = true, schema = @Schema()) @PathVariable("cdIdentifier") Base64UrlEncodedIdentifier cdIdentifier);
 
@@ -60,7 +60,7 @@ public interface ConceptDescriptionRepositoryHTTPApi {
 			@ApiResponse(responseCode = "500", description = "Internal Server Error", content = @Content(mediaType = "application/json", schema = @Schema(implementation = Result.class))),
 
 			@ApiResponse(responseCode = "200", description = "Default error handling for unmentioned status codes", content = @Content(mediaType = "application/json", schema = @Schema(implementation = Result.class))) })
-	@RequestMapping(value = "/concept-descriptions", produces = { "application/json" }, method = RequestMethod.GET)
+	@RequestMapping(value = "/concept-descriptions", produces = { "application/json", "application/cbor", "application/x-jackson-smile" }, method = RequestMethod.GET)
 	ResponseEntity<PagedResult> getAllConceptDescriptions(
 			@Parameter(in = ParameterIn.QUERY, description = "The Concept Description’s IdShort", schema = @Schema()) @Valid @RequestParam(value = "idShort", required = false) String idShort,
 			@Parameter(in = ParameterIn.QUERY, description = "IsCaseOf reference (UTF8-BASE64-URL-encoded)", schema = @Schema()) @Valid @RequestParam(value = "isCaseOf", required = false) Base64UrlEncodedIdentifier isCaseOf,
@@ -82,7 +82,7 @@ public interface ConceptDescriptionRepositoryHTTPApi {
 			@ApiResponse(responseCode = "500", description = "Internal Server Error", content = @Content(mediaType = "application/json", schema = @Schema(implementation = Result.class))),
 
 			@ApiResponse(responseCode = "200", description = "Default error handling for unmentioned status codes", content = @Content(mediaType = "application/json", schema = @Schema(implementation = Result.class))) })
-	@RequestMapping(value = "/concept-descriptions/{cdIdentifier}", produces = { "application/json" }, method = RequestMethod.GET)
+	@RequestMapping(value = "/concept-descriptions/{cdIdentifier}", produces = { "application/json", "application/cbor", "application/x-jackson-smile" }, method = RequestMethod.GET)
 	ResponseEntity<ConceptDescription> getConceptDescriptionById(
 			@Parameter(in = ParameterIn.PATH, description = "The Concept Description’s unique id (UTF8-BASE64-URL-encoded)", required = true, schema = @Schema()) @PathVariable("cdIdentifier") Base64UrlEncodedIdentifier cdIdentifier);
 
@@ -99,7 +99,7 @@ public interface ConceptDescriptionRepositoryHTTPApi {
 			@ApiResponse(responseCode = "500", description = "Internal Server Error", content = @Content(mediaType = "application/json", schema = @Schema(implementation = Result.class))),
 
 			@ApiResponse(responseCode = "200", description = "Default error handling for unmentioned status codes", content = @Content(mediaType = "application/json", schema = @Schema(implementation = Result.class))) })
-	@RequestMapping(value = "/concept-descriptions", produces = { "application/json" }, consumes = { "application/json" }, method = RequestMethod.POST)
+	@RequestMapping(value = "/concept-descriptions", produces = { "application/json", "application/cbor", "application/x-jackson-smile" }, consumes = { "application/json", "application/cbor", "application/x-jackson-smile" }, method = RequestMethod.POST)
 	ResponseEntity<ConceptDescription> postConceptDescription(@Parameter(in = ParameterIn.DEFAULT, description = "Concept Description object", required = true, schema = @Schema()) @Valid @RequestBody ConceptDescription body);
 
 
@@ -115,7 +115,7 @@ public interface ConceptDescriptionRepositoryHTTPApi {
 			@ApiResponse(responseCode = "500", description = "Internal Server Error", content = @Content(mediaType = "application/json", schema = @Schema(implementation = Result.class))),
 
 			@ApiResponse(responseCode = "200", description = "Default error handling for unmentioned status codes", content = @Content(mediaType = "application/json", schema = @Schema(implementation = Result.class))) })
-	@RequestMapping(value = "/concept-descriptions/{cdIdentifier}", produces = { "application/json" }, consumes = { "application/json" }, method = RequestMethod.PUT)
+	@RequestMapping(value = "/concept-descriptions/{cdIdentifier}", produces = { "application/json", "application/cbor", "application/x-jackson-smile" }, consumes = { "application/json", "application/cbor", "application/x-jackson-smile" }, method = RequestMethod.PUT)
 	ResponseEntity<Void> putConceptDescriptionById(
 			@Parameter(in = ParameterIn.PATH, description = "The Concept Description’s unique id (UTF8-BASE64-URL-encoded)", required = true, schema = @Schema()) @PathVariable("cdIdentifier") Base64UrlEncodedIdentifier cdIdentifier,
 			@Parameter(in = ParameterIn.DEFAULT, description = "Concept Description object", required = true, schema = @Schema()) @Valid @RequestBody ConceptDescription body);
@@ -25,12 +25,10 @@
 
 package org.eclipse.digitaltwin.basyx.conceptdescriptionrepository.http.filter;
 
-import java.util.List;
-
 import org.eclipse.digitaltwin.aas4j.v3.model.ConceptDescription;
 import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
 import org.eclipse.digitaltwin.basyx.conceptdescriptionrepository.ConceptDescriptionRepository;
-import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
+import org.eclipse.digitaltwin.basyx.core.pagination.CursorIterator;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
 
 /**
@@ -52,23 +50,23 @@ public class ConceptDescriptionRepositoryFilter {
 	 * Filters ConceptDescriptions from repository
 	 * 
 	 * 
-	 * @return a filtered collection of ConceptDescriptions
+	 * @return an iterator over the filtered ConceptDescriptions
 	 */
-	public CursorResult<List<ConceptDescription>> filter(String idShort, Reference isCaseOf, Reference dataSpecificationRef, PaginationInfo pInfo) {
+	public CursorIterator<ConceptDescription> filter(String idShort, Reference isCaseOf, Reference dataSpecificationRef, PaginationInfo pInfo) {
 		if (!hasPermittedNumberOfParameters(idShort, isCaseOf, dataSpecificationRef)) {
 			throw new IllegalArgumentException("ConceptDescriptionFilter was called with the wrong number of arguments");
 		}
 
 		if (idShort != null)
-			return repository.getAllConceptDescriptionsByIdShort(idShort, pInfo);
+			return CursorIterator.of(repository.getAllConceptDescriptionsByIdShort(idShort, pInfo));
 
 		if (isCaseOf != null)
-			return repository.getAllConceptDescriptionsByIsCaseOf(isCaseOf, pInfo);
+			return CursorIterator.of(repository.getAllConceptDescriptionsByIsCaseOf(isCaseOf, pInfo));
 
 		if (dataSpecificationRef != null)
-			return repository.getAllConceptDescriptionsByDataSpecificationReference(dataSpecificationRef, pInfo);
+			return CursorIterator.of(repository.getAllConceptDescriptionsByDataSpecificationReference(dataSpecificationRef, pInfo));
 
-		return repository.getAllConceptDescriptions(pInfo);
+		return repository.iterateAllConceptDescriptions(pInfo);
 	}
 
 	private boolean hasPermittedNumberOfParameters(String idShort, Reference isCaseOf, Reference dataSpecificationRef) {
@@ -0,0 +1,278 @@
+/*******************************************************************************
+ * Copyright (C) 2023 DFKI GmbH (https://www.dfki.de/en/web)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.submodelregistry.client.model;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.StringJoiner;
+import java.util.Objects;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.HashMap;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.fasterxml.jackson.annotation.JsonValue;
+import java.util.ArrayList;
+import java.util.List;
+import org.eclipse.digitaltwin.basyx.submodelregistry.client.model.Extension;
+import org.eclipse.digitaltwin.basyx.submodelregistry.client.model.LangStringNameType;
+import org.eclipse.digitaltwin.basyx.submodelregistry.client.model.LangStringTextType;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+
+/**
+ * Descriptor
+ */
+@JsonPropertyOrder({
+  Descriptor.JSON_PROPERTY_DESCRIPTION,
+  Descriptor.JSON_PROPERTY_DISPLAY_NAME,
+  Descriptor.JSON_PROPERTY_EXTENSIONS
+})
+@javax.annotation.Generated(value = "org.openapitools.codegen.languages.JavaClientCodegen", date = "2026-10-18T23:10:26.101880061Z[Etc/UTC]")
+public class Descriptor {
+  public static final String JSON_PROPERTY_DESCRIPTION = "description";
+  private List<LangStringTextType> description;
+
+  public static final String JSON_PROPERTY_DISPLAY_NAME = "displayName";
+  private List<LangStringNameType> displayName;
+
+  public static final String JSON_PROPERTY_EXTENSIONS = "extensions";
+  private List<Extension> extensions;
+
+  public Descriptor() { 
+  }
+
+  public Descriptor description(List<LangStringTextType> description) {
+    this.description = description;
+    return this;
+  }
+
+  public Descriptor addDescriptionItem(LangStringTextType descriptionItem) {
+    if (this.description == null) {
+      this.description = new ArrayList<>();
+    }
+    this.description.add(descriptionItem);
+    return this;
+  }
+
+   /**
+   * Get description
+   * @return description
+  **/
+  @javax.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_DESCRIPTION)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+
+  public List<LangStringTextType> getDescription() {
+    return description;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_DESCRIPTION)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setDescription(List<LangStringTextType> description) {
+    this.description = description;
+  }
+
+
+  public Descriptor displayName(List<LangStringNameType> displayName) {
+    this.displayName = displayName;
+    return this;
+  }
+
+  public Descriptor addDisplayNameItem(LangStringNameType displayNameItem) {
+    if (this.displayName == null) {
+      this.displayName = new ArrayList<>();
+    }
+    this.displayName.add(displayNameItem);
+    return this;
+  }
+
+   /**
+   * Get displayName
+   * @return displayName
+  **/
+  @javax.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_DISPLAY_NAME)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+
+  public List<LangStringNameType> getDisplayName() {
+    return displayName;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_DISPLAY_NAME)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setDisplayName(List<LangStringNameType> displayName) {
+    this.displayName = displayName;
+  }
+
+
+  public Descriptor extensions(List<Extension> extensions) {
+    this.extensions = extensions;
+    return this;
+  }
+
+  public Descriptor addExtensionsItem(Extension extensionsItem) {
+    if (this.extensions == null) {
+      this.extensions = new ArrayList<>();
+    }
+    this.extensions.add(extensionsItem);
+    return this;
+  }
+
+   /**
+   * Get extensions
+   * @return extensions
+  **/
+  @javax.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_EXTENSIONS)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+
+  public List<Extension> getExtensions() {
+    return extensions;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_EXTENSIONS)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setExtensions(List<Extension> extensions) {
+    this.extensions = extensions;
+  }
+
+
+  /**
+   * Return true if this Descriptor object is equal to o.
+   */
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    Descriptor descriptor = (Descriptor) o;
+    return Objects.equals(this.description, descriptor.description) &&
+        Objects.equals(this.displayName, descriptor.displayName) &&
+        Objects.equals(this.extensions, descriptor.extensions);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(description, displayName, extensions);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class Descriptor {\n");
+    sb.append("    description: ").append(toIndentedString(description)).append("\n");
+    sb.append("    displayName: ").append(toIndentedString(displayName)).append("\n");
+    sb.append("    extensions: ").append(toIndentedString(extensions)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+
+  /**
+   * Convert the instance into URL query string.
+   *
+   * @return URL query string
+   */
+  public String toUrlQueryString() {
+    return toUrlQueryString(null);
+  }
+
+  /**
+   * Convert the instance into URL query string.
+   *
+   * @param prefix prefix of the query string
+   * @return URL query string
+   */
+  public String toUrlQueryString(String prefix) {
+    String suffix = "";
+    String containerSuffix = "";
+    String containerPrefix = "";
+    if (prefix == null) {
+      // style=form, explode=true, e.g. /pet?name=cat&type=manx
+      prefix = "";
+    } else {
+      // deepObject style e.g. /pet?id[name]=cat&id[type]=manx
+      prefix = prefix + "[";
+      suffix = "]";
+      containerSuffix = "]";
+      containerPrefix = "[";
+    }
+
+    StringJoiner joiner = new StringJoiner("&");
+
+    // add `description` to the URL query string
+    if (getDescription() != null) {
+      for (int i = 0; i < getDescription().size(); i++) {
+        if (getDescription().get(i) != null) {
+          joiner.add(getDescription().get(i).toUrlQueryString(String.format("%sdescription%s%s", prefix, suffix,
+          "".equals(suffix) ? "" : String.format("%s%d%s", containerPrefix, i, containerSuffix))));
+        }
+      }
+    }
+
+    // add `displayName` to the URL query string
+    if (getDisplayName() != null) {
+      for (int i = 0; i < getDisplayName().size(); i++) {
+        if (getDisplayName().get(i) != null) {
+          joiner.add(getDisplayName().get(i).toUrlQueryString(String.format("%sdisplayName%s%s", prefix, suffix,
+          "".equals(suffix) ? "" : String.format("%s%d%s", containerPrefix, i, containerSuffix))));
+        }
+      }
+    }
+
+    // add `extensions` to the URL query string
+    if (getExtensions() != null) {
+      for (int i = 0; i < getExtensions().size(); i++) {
+        if (getExtensions().get(i) != null) {
+          joiner.add(getExtensions().get(i).toUrlQueryString(String.format("%sextensions%s%s", prefix, suffix,
+          "".equals(suffix) ? "" : String.format("%s%d%s", containerPrefix, i, containerSuffix))));
+        }
+      }
+    }
+
+    return joiner.toString();
+  }
+}
+
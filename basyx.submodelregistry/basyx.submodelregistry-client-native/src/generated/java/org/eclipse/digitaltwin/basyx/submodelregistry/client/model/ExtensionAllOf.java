@@ -0,0 +1,287 @@
+/*******************************************************************************
+ * Copyright (C) 2023 DFKI GmbH (https://www.dfki.de/en/web)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.submodelregistry.client.model;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.StringJoiner;
+import java.util.Objects;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.HashMap;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.fasterxml.jackson.annotation.JsonValue;
+import java.util.ArrayList;
+import java.util.List;
+import org.eclipse.digitaltwin.basyx.submodelregistry.client.model.DataTypeDefXsd;
+import org.eclipse.digitaltwin.basyx.submodelregistry.client.model.Reference;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+
+/**
+ * ExtensionAllOf
+ */
+@JsonPropertyOrder({
+  ExtensionAllOf.JSON_PROPERTY_NAME,
+  ExtensionAllOf.JSON_PROPERTY_VALUE_TYPE,
+  ExtensionAllOf.JSON_PROPERTY_VALUE,
+  ExtensionAllOf.JSON_PROPERTY_REFERS_TO
+})
+@javax.annotation.Generated(value = "org.openapitools.codegen.languages.JavaClientCodegen", date = "2026-10-18T23:10:26.101880061Z[Etc/UTC]")
+public class ExtensionAllOf {
+  public static final String JSON_PROPERTY_NAME = "name";
+  private String name;
+
+  public static final String JSON_PROPERTY_VALUE_TYPE = "valueType";
+  private DataTypeDefXsd valueType;
+
+  public static final String JSON_PROPERTY_VALUE = "value";
+  private String value;
+
+  public static final String JSON_PROPERTY_REFERS_TO = "refersTo";
+  private List<Reference> refersTo;
+
+  public ExtensionAllOf() { 
+  }
+
+  public ExtensionAllOf name(String name) {
+    this.name = name;
+    return this;
+  }
+
+   /**
+   * Get name
+   * @return name
+  **/
+  @javax.annotation.Nonnull
+  @JsonProperty(JSON_PROPERTY_NAME)
+  @JsonInclude(value = JsonInclude.Include.ALWAYS)
+
+  public String getName() {
+    return name;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_NAME)
+  @JsonInclude(value = JsonInclude.Include.ALWAYS)
+  public void setName(String name) {
+    this.name = name;
+  }
+
+
+  public ExtensionAllOf valueType(DataTypeDefXsd valueType) {
+    this.valueType = valueType;
+    return this;
+  }
+
+   /**
+   * Get valueType
+   * @return valueType
+  **/
+  @javax.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_VALUE_TYPE)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+
+  public DataTypeDefXsd getValueType() {
+    return valueType;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_VALUE_TYPE)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setValueType(DataTypeDefXsd valueType) {
+    this.valueType = valueType;
+  }
+
+
+  public ExtensionAllOf value(String value) {
+    this.value = value;
+    return this;
+  }
+
+   /**
+   * Get value
+   * @return value
+  **/
+  @javax.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_VALUE)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+
+  public String getValue() {
+    return value;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_VALUE)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setValue(String value) {
+    this.value = value;
+  }
+
+
+  public ExtensionAllOf refersTo(List<Reference> refersTo) {
+    this.refersTo = refersTo;
+    return this;
+  }
+
+  public ExtensionAllOf addRefersToItem(Reference refersToItem) {
+    if (this.refersTo == null) {
+      this.refersTo = new ArrayList<>();
+    }
+    this.refersTo.add(refersToItem);
+    return this;
+  }
+
+   /**
+   * Get refersTo
+   * @return refersTo
+  **/
+  @javax.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_REFERS_TO)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+
+  public List<Reference> getRefersTo() {
+    return refersTo;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_REFERS_TO)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setRefersTo(List<Reference> refersTo) {
+    this.refersTo = refersTo;
+  }
+
+
+  /**
+   * Return true if this Extension_allOf object is equal to o.
+   */
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    ExtensionAllOf extensionAllOf = (ExtensionAllOf) o;
+    return Objects.equals(this.name, extensionAllOf.name) &&
+        Objects.equals(this.valueType, extensionAllOf.valueType) &&
+        Objects.equals(this.value, extensionAllOf.value) &&
+        Objects.equals(this.refersTo, extensionAllOf.refersTo);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(name, valueType, value, refersTo);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class ExtensionAllOf {\n");
+    sb.append("    name: ").append(toIndentedString(name)).append("\n");
+    sb.append("    valueType: ").append(toIndentedString(valueType)).append("\n");
+    sb.append("    value: ").append(toIndentedString(value)).append("\n");
+    sb.append("    refersTo: ").append(toIndentedString(refersTo)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+
+  /**
+   * Convert the instance into URL query string.
+   *
+   * @return URL query string
+   */
+  public String toUrlQueryString() {
+    return toUrlQueryString(null);
+  }
+
+  /**
+   * Convert the instance into URL query string.
+   *
+   * @param prefix prefix of the query string
+   * @return URL query string
+   */
+  public String toUrlQueryString(String prefix) {
+    String suffix = "";
+    String containerSuffix = "";
+    String containerPrefix = "";
+    if (prefix == null) {
+      // style=form, explode=true, e.g. /pet?name=cat&type=manx
+      prefix = "";
+    } else {
+      // deepObject style e.g. /pet?id[name]=cat&id[type]=manx
+      prefix = prefix + "[";
+      suffix = "]";
+      containerSuffix = "]";
+      containerPrefix = "[";
+    }
+
+    StringJoiner joiner = new StringJoiner("&");
+
+    // add `name` to the URL query string
+    if (getName() != null) {
+      joiner.add(String.format("%sname%s=%s", prefix, suffix, URLEncoder.encode(String.valueOf(getName()), StandardCharsets.UTF_8).replaceAll("\\+", "%20")));
+    }
+
+    // add `valueType` to the URL query string
+    if (getValueType() != null) {
+      joiner.add(String.format("%svalueType%s=%s", prefix, suffix, URLEncoder.encode(String.valueOf(getValueType()), StandardCharsets.UTF_8).replaceAll("\\+", "%20")));
+    }
+
+    // add `value` to the URL query string
+    if (getValue() != null) {
+      joiner.add(String.format("%svalue%s=%s", prefix, suffix, URLEncoder.encode(String.valueOf(getValue()), StandardCharsets.UTF_8).replaceAll("\\+", "%20")));
+    }
+
+    // add `refersTo` to the URL query string
+    if (getRefersTo() != null) {
+      for (int i = 0; i < getRefersTo().size(); i++) {
+        if (getRefersTo().get(i) != null) {
+          joiner.add(getRefersTo().get(i).toUrlQueryString(String.format("%srefersTo%s%s", prefix, suffix,
+          "".equals(suffix) ? "" : String.format("%s%d%s", containerPrefix, i, containerSuffix))));
+        }
+      }
+    }
+
+    return joiner.toString();
+  }
+}
+
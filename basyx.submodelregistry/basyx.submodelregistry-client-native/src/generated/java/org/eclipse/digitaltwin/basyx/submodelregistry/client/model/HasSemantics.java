@@ -0,0 +1,214 @@
+/*******************************************************************************
+ * Copyright (C) 2023 DFKI GmbH (https://www.dfki.de/en/web)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.submodelregistry.client.model;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.StringJoiner;
+import java.util.Objects;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.HashMap;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.fasterxml.jackson.annotation.JsonValue;
+import java.util.ArrayList;
+import java.util.List;
+import org.eclipse.digitaltwin.basyx.submodelregistry.client.model.Reference;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+
+/**
+ * HasSemantics
+ */
+@JsonPropertyOrder({
+  HasSemantics.JSON_PROPERTY_SEMANTIC_ID,
+  HasSemantics.JSON_PROPERTY_SUPPLEMENTAL_SEMANTIC_IDS
+})
+@javax.annotation.Generated(value = "org.openapitools.codegen.languages.JavaClientCodegen", date = "2026-10-18T23:10:26.101880061Z[Etc/UTC]")
+public class HasSemantics {
+  public static final String JSON_PROPERTY_SEMANTIC_ID = "semanticId";
+  private Reference semanticId;
+
+  public static final String JSON_PROPERTY_SUPPLEMENTAL_SEMANTIC_IDS = "supplementalSemanticIds";
+  private List<Reference> supplementalSemanticIds;
+
+  public HasSemantics() { 
+  }
+
+  public HasSemantics semanticId(Reference semanticId) {
+    this.semanticId = semanticId;
+    return this;
+  }
+
+   /**
+   * Get semanticId
+   * @return semanticId
+  **/
+  @javax.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_SEMANTIC_ID)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+
+  public Reference getSemanticId() {
+    return semanticId;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_SEMANTIC_ID)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setSemanticId(Reference semanticId) {
+    this.semanticId = semanticId;
+  }
+
+
+  public HasSemantics supplementalSemanticIds(List<Reference> supplementalSemanticIds) {
+    this.supplementalSemanticIds = supplementalSemanticIds;
+    return this;
+  }
+
+  public HasSemantics addSupplementalSemanticIdsItem(Reference supplementalSemanticIdsItem) {
+    if (this.supplementalSemanticIds == null) {
+      this.supplementalSemanticIds = new ArrayList<>();
+    }
+    this.supplementalSemanticIds.add(supplementalSemanticIdsItem);
+    return this;
+  }
+
+   /**
+   * Get supplementalSemanticIds
+   * @return supplementalSemanticIds
+  **/
+  @javax.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_SUPPLEMENTAL_SEMANTIC_IDS)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+
+  public List<Reference> getSupplementalSemanticIds() {
+    return supplementalSemanticIds;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_SUPPLEMENTAL_SEMANTIC_IDS)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setSupplementalSemanticIds(List<Reference> supplementalSemanticIds) {
+    this.supplementalSemanticIds = supplementalSemanticIds;
+  }
+
+
+  /**
+   * Return true if this HasSemantics object is equal to o.
+   */
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    HasSemantics hasSemantics = (HasSemantics) o;
+    return Objects.equals(this.semanticId, hasSemantics.semanticId) &&
+        Objects.equals(this.supplementalSemanticIds, hasSemantics.supplementalSemanticIds);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(semanticId, supplementalSemanticIds);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class HasSemantics {\n");
+    sb.append("    semanticId: ").append(toIndentedString(semanticId)).append("\n");
+    sb.append("    supplementalSemanticIds: ").append(toIndentedString(supplementalSemanticIds)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+
+  /**
+   * Convert the instance into URL query string.
+   *
+   * @return URL query string
+   */
+  public String toUrlQueryString() {
+    return toUrlQueryString(null);
+  }
+
+  /**
+   * Convert the instance into URL query string.
+   *
+   * @param prefix prefix of the query string
+   * @return URL query string
+   */
+  public String toUrlQueryString(String prefix) {
+    String suffix = "";
+    String containerSuffix = "";
+    String containerPrefix = "";
+    if (prefix == null) {
+      // style=form, explode=true, e.g. /pet?name=cat&type=manx
+      prefix = "";
+    } else {
+      // deepObject style e.g. /pet?id[name]=cat&id[type]=manx
+      prefix = prefix + "[";
+      suffix = "]";
+      containerSuffix = "]";
+      containerPrefix = "[";
+    }
+
+    StringJoiner joiner = new StringJoiner("&");
+
+    // add `semanticId` to the URL query string
+    if (getSemanticId() != null) {
+      joiner.add(getSemanticId().toUrlQueryString(prefix + "semanticId" + suffix));
+    }
+
+    // add `supplementalSemanticIds` to the URL query string
+    if (getSupplementalSemanticIds() != null) {
+      for (int i = 0; i < getSupplementalSemanticIds().size(); i++) {
+        if (getSupplementalSemanticIds().get(i) != null) {
+          joiner.add(getSupplementalSemanticIds().get(i).toUrlQueryString(String.format("%ssupplementalSemanticIds%s%s", prefix, suffix,
+          "".equals(suffix) ? "" : String.format("%s%d%s", containerPrefix, i, containerSuffix))));
+        }
+      }
+    }
+
+    return joiner.toString();
+  }
+}
+
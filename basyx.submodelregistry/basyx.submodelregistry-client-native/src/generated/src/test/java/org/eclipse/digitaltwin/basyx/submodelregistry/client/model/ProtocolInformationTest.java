@@ -0,0 +1,111 @@
+/*******************************************************************************
+ * Copyright (C) 2023 DFKI GmbH (https://www.dfki.de/en/web)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.submodelregistry.client.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.fasterxml.jackson.annotation.JsonValue;
+import java.util.ArrayList;
+import java.util.List;
+import org.eclipse.digitaltwin.basyx.submodelregistry.client.model.ProtocolInformationSecurityAttributes;
+import org.junit.Assert;
+import org.junit.Ignore;
+import org.junit.Test;
+
+
+/**
+ * Model tests for ProtocolInformation
+ */
+public class ProtocolInformationTest {
+    private final ProtocolInformation model = new ProtocolInformation();
+
+    /**
+     * Model tests for ProtocolInformation
+     */
+    @Test
+    public void testProtocolInformation() {
+        // TODO: test ProtocolInformation
+    }
+
+    /**
+     * Test the property 'href'
+     */
+    @Test
+    public void hrefTest() {
+        // TODO: test href
+    }
+
+    /**
+     * Test the property 'endpointProtocol'
+     */
+    @Test
+    public void endpointProtocolTest() {
+        // TODO: test endpointProtocol
+    }
+
+    /**
+     * Test the property 'endpointProtocolVersion'
+     */
+    @Test
+    public void endpointProtocolVersionTest() {
+        // TODO: test endpointProtocolVersion
+    }
+
+    /**
+     * Test the property 'subprotocol'
+     */
+    @Test
+    public void subprotocolTest() {
+        // TODO: test subprotocol
+    }
+
+    /**
+     * Test the property 'subprotocolBody'
+     */
+    @Test
+    public void subprotocolBodyTest() {
+        // TODO: test subprotocolBody
+    }
+
+    /**
+     * Test the property 'subprotocolBodyEncoding'
+     */
+    @Test
+    public void subprotocolBodyEncodingTest() {
+        // TODO: test subprotocolBodyEncoding
+    }
+
+    /**
+     * Test the property 'securityAttributes'
+     */
+    @Test
+    public void securityAttributesTest() {
+        // TODO: test securityAttributes
+    }
+
+}
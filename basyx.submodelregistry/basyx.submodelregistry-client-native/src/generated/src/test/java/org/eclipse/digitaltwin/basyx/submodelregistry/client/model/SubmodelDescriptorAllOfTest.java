@@ -0,0 +1,105 @@
+/*******************************************************************************
+ * Copyright (C) 2023 DFKI GmbH (https://www.dfki.de/en/web)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.submodelregistry.client.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.fasterxml.jackson.annotation.JsonValue;
+import java.util.ArrayList;
+import java.util.List;
+import org.eclipse.digitaltwin.basyx.submodelregistry.client.model.AdministrativeInformation;
+import org.eclipse.digitaltwin.basyx.submodelregistry.client.model.Endpoint;
+import org.eclipse.digitaltwin.basyx.submodelregistry.client.model.Reference;
+import org.junit.Assert;
+import org.junit.Ignore;
+import org.junit.Test;
+
+
+/**
+ * Model tests for SubmodelDescriptorAllOf
+ */
+public class SubmodelDescriptorAllOfTest {
+    private final SubmodelDescriptorAllOf model = new SubmodelDescriptorAllOf();
+
+    /**
+     * Model tests for SubmodelDescriptorAllOf
+     */
+    @Test
+    public void testSubmodelDescriptorAllOf() {
+        // TODO: test SubmodelDescriptorAllOf
+    }
+
+    /**
+     * Test the property 'administration'
+     */
+    @Test
+    public void administrationTest() {
+        // TODO: test administration
+    }
+
+    /**
+     * Test the property 'idShort'
+     */
+    @Test
+    public void idShortTest() {
+        // TODO: test idShort
+    }
+
+    /**
+     * Test the property 'id'
+     */
+    @Test
+    public void idTest() {
+        // TODO: test id
+    }
+
+    /**
+     * Test the property 'semanticId'
+     */
+    @Test
+    public void semanticIdTest() {
+        // TODO: test semanticId
+    }
+
+    /**
+     * Test the property 'supplementalSemanticId'
+     */
+    @Test
+    public void supplementalSemanticIdTest() {
+        // TODO: test supplementalSemanticId
+    }
+
+    /**
+     * Test the property 'endpoints'
+     */
+    @Test
+    public void endpointsTest() {
+        // TODO: test endpoints
+    }
+
+}
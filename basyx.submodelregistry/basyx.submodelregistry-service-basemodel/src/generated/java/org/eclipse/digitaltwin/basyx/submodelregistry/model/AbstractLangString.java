@@ -0,0 +1,102 @@
+package org.eclipse.digitaltwin.basyx.submodelregistry.model;
+
+import java.net.URI;
+import java.util.Objects;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import org.openapitools.jackson.nullable.JsonNullable;
+import java.io.Serializable;
+import java.time.OffsetDateTime;
+import javax.validation.Valid;
+import javax.validation.constraints.*;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+
+import java.util.*;
+import javax.annotation.Generated;
+
+/**
+ * AbstractLangString
+ */
+
+@Generated(value = "org.openapitools.codegen.languages.SpringCodegen", date = "2026-10-18T23:10:22.763251391Z[Etc/UTC]")
+public class AbstractLangString implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  private String language;
+
+  /**
+   * Default constructor
+   * @deprecated Use {@link AbstractLangString#AbstractLangString(String)}
+   */
+  @Deprecated
+  public AbstractLangString() {
+    super();
+  }
+
+  /**
+   * Constructor with only required parameters
+   */
+  public AbstractLangString(String language) {
+    this.language = language;
+  }
+
+  public AbstractLangString language(String language) {
+    this.language = language;
+    return this;
+  }
+
+  /**
+   * Get language
+   * @return language
+  */
+  @NotNull @Pattern(regexp = "^(([a-zA-Z]{2,3}(-[a-zA-Z]{3}(-[a-zA-Z]{3}){2})?|[a-zA-Z]{4}|[a-zA-Z]{5,8})(-[a-zA-Z]{4})?(-([a-zA-Z]{2}|[0-9]{3}))?(-(([a-zA-Z0-9]){5,8}|[0-9]([a-zA-Z0-9]){3}))*(-[0-9A-WY-Za-wy-z](-([a-zA-Z0-9]){2,8})+)*(-[xX](-([a-zA-Z0-9]){1,8})+)?|[xX](-([a-zA-Z0-9]){1,8})+|((en-GB-oed|i-ami|i-bnn|i-default|i-enochian|i-hak|i-klingon|i-lux|i-mingo|i-navajo|i-pwn|i-tao|i-tay|i-tsu|sgn-BE-FR|sgn-BE-NL|sgn-CH-DE)|(art-lojban|cel-gaulish|no-bok|no-nyn|zh-guoyu|zh-hakka|zh-min|zh-min-nan|zh-xiang)))$") 
+  @Schema(name = "language", requiredMode = Schema.RequiredMode.REQUIRED)
+  @JsonProperty("language")
+  public String getLanguage() {
+    return language;
+  }
+
+  public void setLanguage(String language) {
+    this.language = language;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    AbstractLangString abstractLangString = (AbstractLangString) o;
+    return Objects.equals(this.language, abstractLangString.language);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(language);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class AbstractLangString {\n");
+    sb.append("    language: ").append(toIndentedString(language)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+}
+
@@ -0,0 +1,100 @@
+package org.eclipse.digitaltwin.basyx.submodelregistry.model;
+
+import java.net.URI;
+import java.util.Objects;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import java.util.ArrayList;
+import java.util.List;
+import org.eclipse.digitaltwin.basyx.submodelregistry.model.SubmodelDescriptor;
+import org.openapitools.jackson.nullable.JsonNullable;
+import java.io.Serializable;
+import java.time.OffsetDateTime;
+import javax.validation.Valid;
+import javax.validation.constraints.*;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+
+import java.util.*;
+import javax.annotation.Generated;
+
+/**
+ * GetSubmodelDescriptorsResultAllOf
+ */
+
+@JsonTypeName("GetSubmodelDescriptorsResult_allOf")
+@Generated(value = "org.openapitools.codegen.languages.SpringCodegen", date = "2026-10-18T23:10:22.763251391Z[Etc/UTC]")
+public class GetSubmodelDescriptorsResultAllOf implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  @Valid
+  private List<@Valid SubmodelDescriptor> result;
+
+  public GetSubmodelDescriptorsResultAllOf result(List<@Valid SubmodelDescriptor> result) {
+    this.result = result;
+    return this;
+  }
+
+  public GetSubmodelDescriptorsResultAllOf addResultItem(SubmodelDescriptor resultItem) {
+    if (this.result == null) {
+      this.result = new ArrayList<>();
+    }
+    this.result.add(resultItem);
+    return this;
+  }
+
+  /**
+   * Get result
+   * @return result
+  */
+  @Valid 
+  @Schema(name = "result", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("result")
+  public List<@Valid SubmodelDescriptor> getResult() {
+    return result;
+  }
+
+  public void setResult(List<@Valid SubmodelDescriptor> result) {
+    this.result = result;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    GetSubmodelDescriptorsResultAllOf getSubmodelDescriptorsResultAllOf = (GetSubmodelDescriptorsResultAllOf) o;
+    return Objects.equals(this.result, getSubmodelDescriptorsResultAllOf.result);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(result);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class GetSubmodelDescriptorsResultAllOf {\n");
+    sb.append("    result: ").append(toIndentedString(result)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+}
+
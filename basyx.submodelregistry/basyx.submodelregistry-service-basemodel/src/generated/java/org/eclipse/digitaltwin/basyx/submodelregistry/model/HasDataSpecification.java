@@ -0,0 +1,98 @@
+package org.eclipse.digitaltwin.basyx.submodelregistry.model;
+
+import java.net.URI;
+import java.util.Objects;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import java.util.ArrayList;
+import java.util.List;
+import org.eclipse.digitaltwin.basyx.submodelregistry.model.EmbeddedDataSpecification;
+import org.openapitools.jackson.nullable.JsonNullable;
+import java.io.Serializable;
+import java.time.OffsetDateTime;
+import javax.validation.Valid;
+import javax.validation.constraints.*;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+
+import java.util.*;
+import javax.annotation.Generated;
+
+/**
+ * HasDataSpecification
+ */
+
+@Generated(value = "org.openapitools.codegen.languages.SpringCodegen", date = "2026-10-18T23:10:22.763251391Z[Etc/UTC]")
+public class HasDataSpecification implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  @Valid
+  private List<@Valid EmbeddedDataSpecification> embeddedDataSpecifications;
+
+  public HasDataSpecification embeddedDataSpecifications(List<@Valid EmbeddedDataSpecification> embeddedDataSpecifications) {
+    this.embeddedDataSpecifications = embeddedDataSpecifications;
+    return this;
+  }
+
+  public HasDataSpecification addEmbeddedDataSpecificationsItem(EmbeddedDataSpecification embeddedDataSpecificationsItem) {
+    if (this.embeddedDataSpecifications == null) {
+      this.embeddedDataSpecifications = new ArrayList<>();
+    }
+    this.embeddedDataSpecifications.add(embeddedDataSpecificationsItem);
+    return this;
+  }
+
+  /**
+   * Get embeddedDataSpecifications
+   * @return embeddedDataSpecifications
+  */
+  @Valid @Size(min = 1) 
+  @Schema(name = "embeddedDataSpecifications", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("embeddedDataSpecifications")
+  public List<@Valid EmbeddedDataSpecification> getEmbeddedDataSpecifications() {
+    return embeddedDataSpecifications;
+  }
+
+  public void setEmbeddedDataSpecifications(List<@Valid EmbeddedDataSpecification> embeddedDataSpecifications) {
+    this.embeddedDataSpecifications = embeddedDataSpecifications;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    HasDataSpecification hasDataSpecification = (HasDataSpecification) o;
+    return Objects.equals(this.embeddedDataSpecifications, hasDataSpecification.embeddedDataSpecifications);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(embeddedDataSpecifications);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class HasDataSpecification {\n");
+    sb.append("    embeddedDataSpecifications: ").append(toIndentedString(embeddedDataSpecifications)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+}
+
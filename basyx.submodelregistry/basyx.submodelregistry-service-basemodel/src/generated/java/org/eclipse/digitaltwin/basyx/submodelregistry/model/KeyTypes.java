@@ -0,0 +1,101 @@
+package org.eclipse.digitaltwin.basyx.submodelregistry.model;
+
+import java.net.URI;
+import java.util.Objects;
+import com.fasterxml.jackson.annotation.JsonValue;
+import org.openapitools.jackson.nullable.JsonNullable;
+import java.io.Serializable;
+import java.time.OffsetDateTime;
+import javax.validation.Valid;
+import javax.validation.constraints.*;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+
+import java.util.*;
+import javax.annotation.Generated;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+/**
+ * Gets or Sets KeyTypes
+ */
+
+@Generated(value = "org.openapitools.codegen.languages.SpringCodegen", date = "2026-10-18T23:10:22.763251391Z[Etc/UTC]")
+public enum KeyTypes {
+  
+  ANNOTATEDRELATIONSHIPELEMENT("AnnotatedRelationshipElement"),
+  
+  ASSETADMINISTRATIONSHELL("AssetAdministrationShell"),
+  
+  BASICEVENTELEMENT("BasicEventElement"),
+  
+  BLOB("Blob"),
+  
+  CAPABILITY("Capability"),
+  
+  CONCEPTDESCRIPTION("ConceptDescription"),
+  
+  DATAELEMENT("DataElement"),
+  
+  ENTITY("Entity"),
+  
+  EVENTELEMENT("EventElement"),
+  
+  FILE("File"),
+  
+  FRAGMENTREFERENCE("FragmentReference"),
+  
+  GLOBALREFERENCE("GlobalReference"),
+  
+  IDENTIFIABLE("Identifiable"),
+  
+  MULTILANGUAGEPROPERTY("MultiLanguageProperty"),
+  
+  OPERATION("Operation"),
+  
+  PROPERTY("Property"),
+  
+  RANGE("Range"),
+  
+  REFERABLE("Referable"),
+  
+  REFERENCEELEMENT("ReferenceElement"),
+  
+  RELATIONSHIPELEMENT("RelationshipElement"),
+  
+  SUBMODEL("Submodel"),
+  
+  SUBMODELELEMENT("SubmodelElement"),
+  
+  SUBMODELELEMENTCOLLECTION("SubmodelElementCollection"),
+  
+  SUBMODELELEMENTLIST("SubmodelElementList");
+
+  private String value;
+
+  KeyTypes(String value) {
+    this.value = value;
+  }
+
+  @JsonValue
+  public String getValue() {
+    return value;
+  }
+
+  @Override
+  public String toString() {
+    return String.valueOf(value);
+  }
+
+  @JsonCreator
+  public static KeyTypes fromValue(String value) {
+    for (KeyTypes b : KeyTypes.values()) {
+      if (b.value.equals(value)) {
+        return b;
+      }
+    }
+    throw new IllegalArgumentException("Unexpected value '" + value + "'");
+  }
+}
+
@@ -0,0 +1,227 @@
+package org.eclipse.digitaltwin.basyx.submodelregistry.model;
+
+import java.net.URI;
+import java.util.Objects;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+import java.time.OffsetDateTime;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.openapitools.jackson.nullable.JsonNullable;
+import java.io.Serializable;
+import java.time.OffsetDateTime;
+import javax.validation.Valid;
+import javax.validation.constraints.*;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+
+import java.util.*;
+import javax.annotation.Generated;
+
+/**
+ * Message
+ */
+
+@Generated(value = "org.openapitools.codegen.languages.SpringCodegen", date = "2026-10-18T23:10:22.763251391Z[Etc/UTC]")
+public class Message implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  private String code;
+
+  private String correlationId;
+
+  /**
+   * Gets or Sets messageType
+   */
+  public enum MessageTypeEnum {
+    UNDEFINED("Undefined"),
+    
+    INFO("Info"),
+    
+    WARNING("Warning"),
+    
+    ERROR("Error"),
+    
+    EXCEPTION("Exception");
+
+    private String value;
+
+    MessageTypeEnum(String value) {
+      this.value = value;
+    }
+
+    @JsonValue
+    public String getValue() {
+      return value;
+    }
+
+    @Override
+    public String toString() {
+      return String.valueOf(value);
+    }
+
+    @JsonCreator
+    public static MessageTypeEnum fromValue(String value) {
+      for (MessageTypeEnum b : MessageTypeEnum.values()) {
+        if (b.value.equals(value)) {
+          return b;
+        }
+      }
+      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    }
+  }
+
+  private MessageTypeEnum messageType;
+
+  private String text;
+
+  @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+  private OffsetDateTime timestamp;
+
+  public Message code(String code) {
+    this.code = code;
+    return this;
+  }
+
+  /**
+   * Get code
+   * @return code
+  */
+  @Size(min = 1, max = 32) 
+  @Schema(name = "code", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("code")
+  public String getCode() {
+    return code;
+  }
+
+  public void setCode(String code) {
+    this.code = code;
+  }
+
+  public Message correlationId(String correlationId) {
+    this.correlationId = correlationId;
+    return this;
+  }
+
+  /**
+   * Get correlationId
+   * @return correlationId
+  */
+  @Size(min = 1, max = 128) 
+  @Schema(name = "correlationId", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("correlationId")
+  public String getCorrelationId() {
+    return correlationId;
+  }
+
+  public void setCorrelationId(String correlationId) {
+    this.correlationId = correlationId;
+  }
+
+  public Message messageType(MessageTypeEnum messageType) {
+    this.messageType = messageType;
+    return this;
+  }
+
+  /**
+   * Get messageType
+   * @return messageType
+  */
+  
+  @Schema(name = "messageType", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("messageType")
+  public MessageTypeEnum getMessageType() {
+    return messageType;
+  }
+
+  public void setMessageType(MessageTypeEnum messageType) {
+    this.messageType = messageType;
+  }
+
+  public Message text(String text) {
+    this.text = text;
+    return this;
+  }
+
+  /**
+   * Get text
+   * @return text
+  */
+  
+  @Schema(name = "text", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("text")
+  public String getText() {
+    return text;
+  }
+
+  public void setText(String text) {
+    this.text = text;
+  }
+
+  public Message timestamp(OffsetDateTime timestamp) {
+    this.timestamp = timestamp;
+    return this;
+  }
+
+  /**
+   * Get timestamp
+   * @return timestamp
+  */
+  @Valid 
+  @Schema(name = "timestamp", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("timestamp")
+  public OffsetDateTime getTimestamp() {
+    return timestamp;
+  }
+
+  public void setTimestamp(OffsetDateTime timestamp) {
+    this.timestamp = timestamp;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    Message message = (Message) o;
+    return Objects.equals(this.code, message.code) &&
+        Objects.equals(this.correlationId, message.correlationId) &&
+        Objects.equals(this.messageType, message.messageType) &&
+        Objects.equals(this.text, message.text) &&
+        Objects.equals(this.timestamp, message.timestamp);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(code, correlationId, messageType, text, timestamp);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class Message {\n");
+    sb.append("    code: ").append(toIndentedString(code)).append("\n");
+    sb.append("    correlationId: ").append(toIndentedString(correlationId)).append("\n");
+    sb.append("    messageType: ").append(toIndentedString(messageType)).append("\n");
+    sb.append("    text: ").append(toIndentedString(text)).append("\n");
+    sb.append("    timestamp: ").append(toIndentedString(timestamp)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+}
+
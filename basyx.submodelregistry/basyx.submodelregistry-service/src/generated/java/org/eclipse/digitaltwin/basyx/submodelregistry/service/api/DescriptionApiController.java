@@ -0,0 +1,45 @@
+package org.eclipse.digitaltwin.basyx.submodelregistry.service.api;
+
+import org.eclipse.digitaltwin.basyx.submodelregistry.model.Result;
+import org.eclipse.digitaltwin.basyx.submodelregistry.model.ServiceDescription;
+
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.CookieValue;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RequestPart;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.validation.constraints.*;
+import javax.validation.Valid;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import javax.annotation.Generated;
+
+@Generated(value = "org.openapitools.codegen.languages.SpringCodegen", date = "2026-10-18T23:10:24.455071778Z[Etc/UTC]")
+@Controller
+@RequestMapping("${openapi.dotAASPart2HTTPRESTSubmodelRegistryServiceSpecification.base-path:}")
+public class DescriptionApiController implements DescriptionApi {
+
+    private final DescriptionApiDelegate delegate;
+
+    public DescriptionApiController(@Autowired(required = false) DescriptionApiDelegate delegate) {
+        this.delegate = Optional.ofNullable(delegate).orElse(new DescriptionApiDelegate() {});
+    }
+
+    @Override
+    public DescriptionApiDelegate getDelegate() {
+        return delegate;
+    }
+
+}
@@ -0,0 +1,12 @@
+package org.eclipse.digitaltwin.basyx.submodelregistry.service.configuration;
+
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.convert.converter.Converter;
+
+@Configuration
+public class EnumConverterConfiguration {
+
+
+}
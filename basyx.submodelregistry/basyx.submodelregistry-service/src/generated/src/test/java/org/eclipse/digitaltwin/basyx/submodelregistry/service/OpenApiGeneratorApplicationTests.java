@@ -0,0 +1,13 @@
+package org.eclipse.digitaltwin.basyx.submodelregistry.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+class OpenApiGeneratorApplicationTests {
+
+    @Test
+    void contextLoads() {
+    }
+
+}
\ No newline at end of file
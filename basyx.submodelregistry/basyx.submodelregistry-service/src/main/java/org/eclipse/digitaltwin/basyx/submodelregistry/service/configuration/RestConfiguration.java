@@ -27,8 +27,10 @@ package org.eclipse.digitaltwin.basyx.submodelregistry.service.configuration;
 import org.eclipse.digitaltwin.basyx.submodelregistry.service.api.LocationBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
 import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 import org.springframework.web.client.RestTemplate;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
@@ -49,8 +51,20 @@ public class RestConfiguration {
 
 	@Bean
 	public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter() {
-		Jackson2ObjectMapperBuilder builder = new Jackson2ObjectMapperBuilder().serializationInclusion(JsonInclude.Include.NON_NULL);
-		builder.featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
-		return new MappingJackson2HttpMessageConverter(builder.build());
+		return new MappingJackson2HttpMessageConverter(configure(new Jackson2ObjectMapperBuilder()).build());
+	}
+
+	@Bean
+	public MappingJackson2CborHttpMessageConverter mappingJackson2CborHttpMessageConverter() {
+		return new MappingJackson2CborHttpMessageConverter(configure(Jackson2ObjectMapperBuilder.cbor()).build());
+	}
+
+	@Bean
+	public MappingJackson2SmileHttpMessageConverter mappingJackson2SmileHttpMessageConverter() {
+		return new MappingJackson2SmileHttpMessageConverter(configure(Jackson2ObjectMapperBuilder.smile()).build());
+	}
+
+	private static Jackson2ObjectMapperBuilder configure(Jackson2ObjectMapperBuilder builder) {
+		return builder.serializationInclusion(JsonInclude.Include.NON_NULL).featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
 	}
 }
\ No newline at end of file
@@ -0,0 +1,181 @@
+/*******************************************************************************
+ * Copyright (C) 2023 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.submodelrepository;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
+import org.eclipse.digitaltwin.basyx.submodelrepository.attachment.Attachment;
+import org.eclipse.digitaltwin.basyx.submodelrepository.attachment.AttachmentStore;
+import org.eclipse.digitaltwin.basyx.submodelrepository.attachment.AttachmentUtilities;
+
+/**
+ * AttachmentStore keeping the content in the file system. Each content is
+ * stored once in a file named by its hash, whereas the mapping of the File
+ * SubmodelElements to the content is kept in memory only. Like the Submodels
+ * of the in-memory backend it belongs to, the mapping is lost on restart. The
+ * content files are not removed then, but are reused if identical content is
+ * attached again.
+ * 
+ * The content is served with {@link FileChannel#transferTo}, which allows the
+ * operating system to skip copying it through user space. Its file is exposed
+ * by {@link Attachment#getFile()}, allowing the container to send it itself.
+ * 
+ * @author schnicke
+ *
+ */
+public class FileSystemAttachmentStore implements AttachmentStore {
+
+	public static final Path DEFAULT_ROOT_DIRECTORY = Paths.get(System.getProperty("java.io.tmpdir"), "basyx-attachments");
+
+	private final Path rootDirectory;
+	private final Map<String, Map<String, String>> hashesBySubmodelId = new ConcurrentHashMap<>();
+
+	/**
+	 * The root directory is created on the first attachment
+	 * 
+	 * @param rootDirectory
+	 */
+	public FileSystemAttachmentStore(Path rootDirectory) {
+		this.rootDirectory = rootDirectory;
+	}
+
+	@Override
+	public Attachment get(String submodelId, String idShortPath) throws ElementDoesNotExistException {
+		String hash = hashesBySubmodelId.getOrDefault(submodelId, Map.of()).get(idShortPath);
+		if (hash == null)
+			throw new ElementDoesNotExistException(idShortPath);
+
+		return new FileAttachment(getContentPath(hash));
+	}
+
+	@Override
+	public void put(String submodelId, String idShortPath, InputStream content) {
+		String hash = store(content);
+		hashesBySubmodelId.computeIfAbsent(submodelId, id -> new ConcurrentHashMap<>()).put(idShortPath, hash);
+	}
+
+	@Override
+	public void delete(String submodelId, String idShortPath) {
+		Map<String, String> hashes = hashesBySubmodelId.get(submodelId);
+		if (hashes != null)
+			hashes.keySet().removeIf(path -> AttachmentUtilities.isSameOrNested(path, idShortPath));
+	}
+
+	@Override
+	public void deleteAll(String submodelId) {
+		hashesBySubmodelId.remove(submodelId);
+	}
+
+	/**
+	 * The content is written to a temporary file first, since its hash is only
+	 * known after it has been read completely. Identical content is already
+	 * stored, thus the temporary file is discarded.
+	 */
+	private String store(InputStream content) {
+		Path temporaryFile = null;
+		try {
+			Files.createDirectories(rootDirectory);
+			temporaryFile = Files.createTempFile(rootDirectory, "upload", ".tmp");
+
+			String hash = AttachmentUtilities.writeAndHash(content, temporaryFile);
+			Path contentPath = getContentPath(hash);
+			if (!Files.exists(contentPath)) {
+				Files.createDirectories(contentPath.getParent());
+				Files.move(temporaryFile, contentPath, StandardCopyOption.ATOMIC_MOVE);
+			}
+
+			return hash;
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		} finally {
+			deleteIfExists(temporaryFile);
+		}
+	}
+
+	private Path getContentPath(String hash) {
+		return rootDirectory.resolve(hash.substring(0, 2)).resolve(hash);
+	}
+
+	private static void deleteIfExists(Path file) {
+		if (file == null)
+			return;
+
+		try {
+			Files.deleteIfExists(file);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private static class FileAttachment implements Attachment {
+		private final Path path;
+
+		public FileAttachment(Path path) {
+			this.path = path;
+		}
+
+		@Override
+		public long getSize() {
+			try {
+				return Files.size(path);
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+
+		@Override
+		public Optional<Path> getFile() {
+			return Optional.of(path);
+		}
+
+		@Override
+		public void transferTo(long position, long count, WritableByteChannel target) throws IOException {
+			try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+				long transferred = 0;
+				while (transferred < count) {
+					long bytes = channel.transferTo(position + transferred, count - transferred, target);
+					if (bytes <= 0)
+						break;
+
+					transferred += bytes;
+				}
+			}
+		}
+	}
+}
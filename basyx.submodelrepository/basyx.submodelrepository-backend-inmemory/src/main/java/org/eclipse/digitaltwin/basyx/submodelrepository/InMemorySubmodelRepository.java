@@ -25,14 +25,16 @@
 
 package org.eclipse.digitaltwin.basyx.submodelrepository;
 
+import java.io.InputStream;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.TreeMap;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.eclipse.digitaltwin.aas4j.v3.model.OperationVariable;
 import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
@@ -40,11 +42,16 @@ import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
 import org.eclipse.digitaltwin.basyx.core.exceptions.CollidingIdentifierException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.IdentificationMismatchException;
+import org.eclipse.digitaltwin.basyx.core.pagination.ConcurrentSortedStore;
+import org.eclipse.digitaltwin.basyx.core.pagination.CursorIterator;
 import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
-import org.eclipse.digitaltwin.basyx.core.pagination.PaginationSupport;
+import org.eclipse.digitaltwin.basyx.submodelrepository.attachment.Attachment;
+import org.eclipse.digitaltwin.basyx.submodelrepository.attachment.AttachmentStore;
+import org.eclipse.digitaltwin.basyx.submodelrepository.attachment.AttachmentUtilities;
 import org.eclipse.digitaltwin.basyx.submodelservice.SubmodelService;
 import org.eclipse.digitaltwin.basyx.submodelservice.SubmodelServiceFactory;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.FileBlobValue;
 import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelElementValue;
 import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelValueOnly;
 
@@ -57,8 +64,10 @@ import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelValueOnly;
 public class InMemorySubmodelRepository implements SubmodelRepository {
 
 	private static final PaginationInfo NO_LIMIT_PAGINATION_INFO = new PaginationInfo(0, null);
-	private Map<String, SubmodelService> submodelServices = new LinkedHashMap<>();
+	private ConcurrentSortedStore<SubmodelService> submodelServices = new ConcurrentSortedStore<>(service -> service.getSubmodel().getId());
+	private SubmodelSemanticIdIndex semanticIdIndex = new SubmodelSemanticIdIndex(this::findSubmodel);
 	private SubmodelServiceFactory submodelServiceFactory;
+	private AttachmentStore attachmentStore = new FileSystemAttachmentStore(FileSystemAttachmentStore.DEFAULT_ROOT_DIRECTORY);
 	private String smRepositoryName;
 
 	/**
@@ -83,6 +92,21 @@ public class InMemorySubmodelRepository implements SubmodelRepository {
 		this.smRepositoryName = smRepositoryName;
 	}
 
+	/**
+	 * Creates the InMemorySubmodelRepository utilizing the passed
+	 * SubmodelServiceFactory for creating new SubmodelServices and the passed
+	 * AttachmentStore for the content of File SubmodelElements
+	 * 
+	 * @param submodelServiceFactory
+	 * @param attachmentStore
+	 * @param smRepositoryName
+	 *            Name of the SubmodelRepository
+	 */
+	public InMemorySubmodelRepository(SubmodelServiceFactory submodelServiceFactory, AttachmentStore attachmentStore, String smRepositoryName) {
+		this(submodelServiceFactory, smRepositoryName);
+		this.attachmentStore = attachmentStore;
+	}
+
 	/**
 	 * Creates the InMemorySubmodelRepository utilizing the passed
 	 * SubmodelServiceFactory for creating new SubmodelServices and preconfiguring
@@ -95,7 +119,8 @@ public class InMemorySubmodelRepository implements SubmodelRepository {
 		this(submodelServiceFactory);
 		throwIfHasCollidingIds(submodels);
 
-		submodelServices = createServices(submodels);
+		submodels.forEach(submodel -> submodelServices.putIfAbsent(submodel.getId(), submodelServiceFactory.create(submodel)));
+		submodels.forEach(submodel -> semanticIdIndex.reindex(submodel.getId()));
 	}
 	
 	/**
@@ -124,26 +149,42 @@ public class InMemorySubmodelRepository implements SubmodelRepository {
 				});
 	}
 
-	private Map<String, SubmodelService> createServices(Collection<Submodel> submodels) {
-		Map<String, SubmodelService> map = new LinkedHashMap<>();
-		submodels.forEach(submodel -> map.put(submodel.getId(), submodelServiceFactory.create(submodel)));
-
-		return map;
+	@Override
+	public CursorResult<List<Submodel>> getAllSubmodels(PaginationInfo pInfo) {
+		return getAllSubmodels(null, null, pInfo);
 	}
 
 	@Override
-	public CursorResult<List<Submodel>> getAllSubmodels(PaginationInfo pInfo) {
-		List<Submodel> allSubmodels = submodelServices.values()
+	public CursorResult<List<Submodel>> getAllSubmodels(String semanticId, String idShort, PaginationInfo pInfo) {
+		Predicate<Submodel> idShortFilter = submodel -> idShort == null || idShort.equals(submodel.getIdShort());
+
+		if (semanticId != null)
+			return semanticIdIndex.getPaged(semanticId, pInfo, idShortFilter);
+
+		CursorResult<List<SubmodelService>> paginatedServices = submodelServices.getPaged(pInfo, service -> idShortFilter.test(service.getSubmodel()));
+
+		List<Submodel> paginatedSubmodels = paginatedServices.getResult()
 				.stream()
-				.map(service -> service.getSubmodel())
+				.map(SubmodelService::getSubmodel)
 				.collect(Collectors.toList());
 
-		TreeMap<String, Submodel> submodelMap = allSubmodels.stream()
-				.collect(Collectors.toMap(Submodel::getId, aas -> aas, (a, b) -> a, TreeMap::new));
+		return new CursorResult<>(paginatedServices.getCursor(), paginatedSubmodels);
+	}
 
-		PaginationSupport<Submodel> paginationSupport = new PaginationSupport<>(submodelMap, Submodel::getId);
-		CursorResult<List<Submodel>> paginatedSubmodels = paginationSupport.getPaged(pInfo);
-		return paginatedSubmodels;
+	/**
+	 * Without semanticId, the Submodels are read from the sorted store while they
+	 * are iterated.
+	 */
+	@Override
+	public CursorIterator<Submodel> iterateAllSubmodels(String semanticId, String idShort, PaginationInfo pInfo) {
+		if (semanticId != null)
+			return CursorIterator.of(getAllSubmodels(semanticId, idShort, pInfo));
+
+		Stream<Submodel> page = submodelServices.getPage(pInfo, service -> idShort == null || idShort.equals(service.getSubmodel()
+				.getIdShort()))
+				.map(SubmodelService::getSubmodel);
+
+		return new CursorIterator<>(page.iterator(), pInfo, Submodel::getId, page::close);
 	}
 
 	@Override
@@ -157,14 +198,18 @@ public class InMemorySubmodelRepository implements SubmodelRepository {
 
 		throwIfMismatchingIds(id, submodel);
 
-		submodelServices.put(id, submodelServiceFactory.create(submodel));
+		if (!submodelServices.replace(id, submodelServiceFactory.create(submodel)))
+			throw new ElementDoesNotExistException(id);
+
+		semanticIdIndex.reindex(id);
 	}
 
 	@Override
 	public void createSubmodel(Submodel submodel) throws CollidingIdentifierException {
-		throwIfSubmodelExists(submodel.getId());
+		if (!submodelServices.putIfAbsent(submodel.getId(), submodelServiceFactory.create(submodel)))
+			throw new CollidingIdentifierException(submodel.getId());
 
-		submodelServices.put(submodel.getId(), submodelServiceFactory.create(submodel));
+		semanticIdIndex.reindex(submodel.getId());
 	}
 
 	@Override
@@ -172,6 +217,11 @@ public class InMemorySubmodelRepository implements SubmodelRepository {
 		return getSubmodelService(submodelId).getSubmodelElements(pInfo);
 	}
 
+	@Override
+	public CursorResult<List<SubmodelElement>> getSubmodelElements(String submodelId, String idShortPath, PaginationInfo pInfo) throws ElementDoesNotExistException {
+		return getSubmodelService(submodelId).getSubmodelElements(idShortPath, pInfo);
+	}
+
 	@Override
 	public SubmodelElement getSubmodelElement(String submodelId, String smeIdShort) throws ElementDoesNotExistException {
 		return getSubmodelService(submodelId).getSubmodelElement(smeIdShort);
@@ -187,19 +237,39 @@ public class InMemorySubmodelRepository implements SubmodelRepository {
 		getSubmodelService(submodelId).setSubmodelElementValue(smeIdShort, value);
 	}
 
+	@Override
+	public Map<String, SubmodelElement> getSubmodelElements(String submodelId, Collection<String> idShortPaths) throws ElementDoesNotExistException {
+		SubmodelService submodelService = getSubmodelService(submodelId);
+
+		Map<String, SubmodelElement> submodelElements = new LinkedHashMap<>();
+		for (String idShortPath : idShortPaths)
+			submodelElements.put(idShortPath, submodelService.getSubmodelElement(idShortPath));
+
+		return submodelElements;
+	}
+
+	@Override
+	public Map<String, SubmodelElementValue> getSubmodelElementValues(String submodelId, Collection<String> idShortPaths) throws ElementDoesNotExistException {
+		return getSubmodelService(submodelId).getSubmodelElementValues(idShortPaths);
+	}
+
+	@Override
+	public void setSubmodelElementValues(String submodelId, Map<String, SubmodelElementValue> values) throws ElementDoesNotExistException {
+		getSubmodelService(submodelId).setSubmodelElementValues(values);
+	}
+
 	@Override
 	public void deleteSubmodel(String submodelId) throws ElementDoesNotExistException {
-		throwIfSubmodelDoesNotExist(submodelId);
+		if (submodelServices.remove(submodelId) == null)
+			throw new ElementDoesNotExistException(submodelId);
 
-		submodelServices.remove(submodelId);
+		semanticIdIndex.reindex(submodelId);
+		attachmentStore.deleteAll(submodelId);
 	}
 
 	@Override
 	public void createSubmodelElement(String submodelId, SubmodelElement smElement) {
-		throwIfSubmodelDoesNotExist(submodelId);
-
-		submodelServices.get(submodelId)
-				.createSubmodelElement(smElement);
+		getSubmodelService(submodelId).createSubmodelElement(smElement);
 	}
 
 	@Override
@@ -210,6 +280,20 @@ public class InMemorySubmodelRepository implements SubmodelRepository {
 	@Override
 	public void deleteSubmodelElement(String submodelId, String idShortPath) throws ElementDoesNotExistException {
 		getSubmodelService(submodelId).deleteSubmodelElement(idShortPath);
+		attachmentStore.delete(submodelId, idShortPath);
+	}
+
+	@Override
+	public Attachment getFileByPath(String submodelId, String idShortPath) throws ElementDoesNotExistException {
+		return AttachmentUtilities.getAttachment(attachmentStore, submodelId, idShortPath, getSubmodelElement(submodelId, idShortPath));
+	}
+
+	@Override
+	public void putFileByPath(String submodelId, String idShortPath, String fileName, String contentType, InputStream content) throws ElementDoesNotExistException {
+		AttachmentUtilities.throwIfNotAFile(getSubmodelElement(submodelId, idShortPath), idShortPath);
+
+		attachmentStore.put(submodelId, idShortPath, content);
+		setSubmodelElementValue(submodelId, idShortPath, new FileBlobValue(contentType, fileName));
 	}
 
 	@Override
@@ -244,14 +328,16 @@ public class InMemorySubmodelRepository implements SubmodelRepository {
 
 
 	private SubmodelService getSubmodelService(String submodelId) {
-		throwIfSubmodelDoesNotExist(submodelId);
+		SubmodelService submodelService = submodelServices.get(submodelId);
+		if (submodelService == null)
+			throw new ElementDoesNotExistException(submodelId);
 
-		return submodelServices.get(submodelId);
+		return submodelService;
 	}
 
-	private void throwIfSubmodelExists(String id) {
-		if (submodelServices.containsKey(id))
-			throw new CollidingIdentifierException(id);
+	private Submodel findSubmodel(String submodelId) {
+		SubmodelService submodelService = submodelServices.get(submodelId);
+		return submodelService == null ? null : submodelService.getSubmodel();
 	}
 
 	private void throwIfSubmodelDoesNotExist(String id) {
@@ -24,6 +24,9 @@
 
 package org.eclipse.digitaltwin.basyx.submodelrepository;
 
+import java.nio.file.Paths;
+
+import org.eclipse.digitaltwin.basyx.submodelrepository.attachment.AttachmentStore;
 import org.eclipse.digitaltwin.basyx.submodelservice.SubmodelServiceFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
@@ -42,6 +45,8 @@ public class InMemorySubmodelRepositoryFactory implements SubmodelRepositoryFact
 	
 	private String smRepositoryName;
 
+	private AttachmentStore attachmentStore = new FileSystemAttachmentStore(FileSystemAttachmentStore.DEFAULT_ROOT_DIRECTORY);
+
 	@Autowired(required = false)
 	public InMemorySubmodelRepositoryFactory(SubmodelServiceFactory submodelServiceFactory) {
 		this.submodelServiceFactory = submodelServiceFactory;
@@ -53,9 +58,17 @@ public class InMemorySubmodelRepositoryFactory implements SubmodelRepositoryFact
 		this.smRepositoryName = smRepositoryName;
 	}
 
+	@Autowired(required = false)
+	public InMemorySubmodelRepositoryFactory(SubmodelServiceFactory submodelServiceFactory, @Value("${basyx.smrepo.name:sm-repo}") String smRepositoryName,
+			@Value("${basyx.submodelrepository.attachments.path:}") String attachmentsPath) {
+		this(submodelServiceFactory, smRepositoryName);
+		if (!attachmentsPath.isEmpty())
+			this.attachmentStore = new FileSystemAttachmentStore(Paths.get(attachmentsPath));
+	}
+
 	@Override
 	public SubmodelRepository create() {
-		return new InMemorySubmodelRepository(submodelServiceFactory, smRepositoryName);
+		return new InMemorySubmodelRepository(submodelServiceFactory, attachmentStore, smRepositoryName);
 	}
 
 }
@@ -0,0 +1,155 @@
+/*******************************************************************************
+ * Copyright (C) 2023 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.submodelrepository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.eclipse.digitaltwin.aas4j.v3.model.Key;
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
+import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
+
+/**
+ * Hash index from the key values of the Submodels' semanticIds to the ids of
+ * the Submodels. The ids per key value are kept sorted, thus pages are served
+ * directly from the index using the Submodel id as cursor.
+ * 
+ * The index may contain stale ids while a Submodel is being updated or
+ * deleted. Thus, each Submodel resolved from the index is checked again
+ * before it is returned.
+ * 
+ * @author schnicke
+ *
+ */
+class SubmodelSemanticIdIndex {
+
+	private final Map<String, NavigableSet<String>> submodelIdsByKeyValue = new ConcurrentHashMap<>();
+	private final Map<String, Set<String>> keyValuesBySubmodelId = new ConcurrentHashMap<>();
+	private final Function<String, Submodel> submodelResolver;
+
+	/**
+	 * @param submodelResolver
+	 *            resolves the current Submodel for an id or null, if there is
+	 *            none
+	 */
+	public SubmodelSemanticIdIndex(Function<String, Submodel> submodelResolver) {
+		this.submodelResolver = submodelResolver;
+	}
+
+	/**
+	 * Aligns the index with the current state of the Submodel with the passed
+	 * id. Has to be called after each change of a Submodel's semanticId.
+	 * 
+	 * @param submodelId
+	 */
+	public synchronized void reindex(String submodelId) {
+		Set<String> currentKeyValues = getKeyValues(submodelResolver.apply(submodelId));
+		Set<String> indexedKeyValues = keyValuesBySubmodelId.getOrDefault(submodelId, Collections.emptySet());
+
+		for (String keyValue : indexedKeyValues) {
+			if (!currentKeyValues.contains(keyValue))
+				removeFromIndex(keyValue, submodelId);
+		}
+
+		for (String keyValue : currentKeyValues)
+			submodelIdsByKeyValue.computeIfAbsent(keyValue, k -> new ConcurrentSkipListSet<>()).add(submodelId);
+
+		if (currentKeyValues.isEmpty())
+			keyValuesBySubmodelId.remove(submodelId);
+		else
+			keyValuesBySubmodelId.put(submodelId, currentKeyValues);
+	}
+
+	/**
+	 * Returns the page of Submodels having a semanticId key with the passed
+	 * value and matching the filter
+	 * 
+	 * @param keyValue
+	 * @param pInfo
+	 * @param filter
+	 * @return the page
+	 */
+	public CursorResult<List<Submodel>> getPaged(String keyValue, PaginationInfo pInfo, Predicate<Submodel> filter) {
+		NavigableSet<String> submodelIds = submodelIdsByKeyValue.getOrDefault(keyValue, Collections.emptyNavigableSet());
+		if (pInfo.hasCursor())
+			submodelIds = submodelIds.tailSet(pInfo.getCursor(), false);
+
+		List<Submodel> page = new ArrayList<>();
+		for (String submodelId : submodelIds) {
+			if (pInfo.hasLimit() && page.size() == pInfo.getLimit())
+				break;
+
+			Submodel submodel = submodelResolver.apply(submodelId);
+			if (hasSemanticIdKeyValue(submodel, keyValue) && filter.test(submodel))
+				page.add(submodel);
+		}
+
+		return new CursorResult<>(computeNextCursor(page, pInfo), page);
+	}
+
+	/**
+	 * Checks whether the passed Submodel exists and has a semanticId key with the
+	 * passed value
+	 * 
+	 * @param submodel
+	 * @param keyValue
+	 * @return true, if the semanticId of the Submodel contains the key value
+	 */
+	public static boolean hasSemanticIdKeyValue(Submodel submodel, String keyValue) {
+		return getKeyValues(submodel).contains(keyValue);
+	}
+
+	private void removeFromIndex(String keyValue, String submodelId) {
+		submodelIdsByKeyValue.computeIfPresent(keyValue, (k, submodelIds) -> {
+			submodelIds.remove(submodelId);
+			return submodelIds.isEmpty() ? null : submodelIds;
+		});
+	}
+
+	private static Set<String> getKeyValues(Submodel submodel) {
+		if (submodel == null || submodel.getSemanticID() == null || submodel.getSemanticID().getKeys() == null)
+			return Collections.emptySet();
+
+		return submodel.getSemanticID().getKeys().stream().map(Key::getValue).filter(value -> value != null).collect(Collectors.toSet());
+	}
+
+	private static String computeNextCursor(List<Submodel> page, PaginationInfo pInfo) {
+		if (!pInfo.hasLimit() || page.size() < pInfo.getLimit())
+			return null;
+
+		return page.get(page.size() - 1).getId();
+	}
+}
@@ -0,0 +1,85 @@
+/*******************************************************************************
+ * Copyright (C) 2023 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.submodelrepository;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests the {@link FileSystemAttachmentStore}
+ * 
+ * @author schnicke
+ *
+ */
+public class TestFileSystemAttachmentStore {
+	private static final String SUBMODEL_ID = "submodel";
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void identicalContentIsStoredOnce() throws IOException {
+		FileSystemAttachmentStore store = new FileSystemAttachmentStore(folder.getRoot().toPath());
+
+		store.put(SUBMODEL_ID, "first", toStream("content"));
+		store.put(SUBMODEL_ID, "second", toStream("content"));
+		store.put(SUBMODEL_ID, "third", toStream("other content"));
+
+		assertEquals(2, countStoredFiles());
+		assertEquals(7, store.get(SUBMODEL_ID, "second").getSize());
+	}
+
+	@Test(expected = ElementDoesNotExistException.class)
+	public void deleteRemovesNestedAttachments() {
+		FileSystemAttachmentStore store = new FileSystemAttachmentStore(folder.getRoot().toPath());
+		store.put(SUBMODEL_ID, "collection.file", toStream("content"));
+
+		store.delete(SUBMODEL_ID, "collection");
+
+		store.get(SUBMODEL_ID, "collection.file");
+	}
+
+	private long countStoredFiles() throws IOException {
+		try (Stream<Path> files = Files.walk(folder.getRoot().toPath())) {
+			return files.filter(Files::isRegularFile).count();
+		}
+	}
+
+	private static ByteArrayInputStream toStream(String content) {
+		return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+	}
+}
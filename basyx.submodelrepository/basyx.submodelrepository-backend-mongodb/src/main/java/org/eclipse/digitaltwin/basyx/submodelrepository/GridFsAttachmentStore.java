@@ -0,0 +1,233 @@
+/*******************************************************************************
+ * Copyright (C) 2023 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.submodelrepository;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.regex.Pattern;
+
+import org.bson.BsonObjectId;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.bson.types.ObjectId;
+import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
+import org.eclipse.digitaltwin.basyx.submodelrepository.attachment.Attachment;
+import org.eclipse.digitaltwin.basyx.submodelrepository.attachment.AttachmentStore;
+import org.eclipse.digitaltwin.basyx.submodelrepository.attachment.AttachmentUtilities;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import com.mongodb.ErrorCategory;
+import com.mongodb.MongoWriteException;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.gridfs.GridFSBucket;
+import com.mongodb.client.gridfs.GridFSBuckets;
+import com.mongodb.client.gridfs.GridFSDownloadStream;
+import com.mongodb.client.gridfs.model.GridFSFile;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.IndexOptions;
+import com.mongodb.client.model.Indexes;
+import com.mongodb.client.model.ReplaceOptions;
+
+/**
+ * AttachmentStore keeping the content in GridFS. Each content is stored once
+ * as GridFS file named by its hash, which is enforced by a unique index on the
+ * filename. The mapping of the File SubmodelElements to the content is kept in
+ * a separate collection.
+ * 
+ * @author schnicke
+ *
+ */
+public class GridFsAttachmentStore implements AttachmentStore {
+
+	private static final String SUBMODEL_ID = "submodelId";
+	private static final String ID_SHORT_PATH = "idShortPath";
+	private static final String HASH = "hash";
+	private static final String FILENAME = "filename";
+	private static final String FILES_ID = "files_id";
+
+	private final GridFSBucket bucket;
+	private final MongoCollection<Document> chunks;
+	private final MongoCollection<Document> references;
+
+	/**
+	 * Creates the store using the GridFS bucket collectionName-attachments and the
+	 * collection collectionName-attachment-references
+	 * 
+	 * @param mongoTemplate
+	 * @param collectionName
+	 *            the collection of the Submodels
+	 */
+	public GridFsAttachmentStore(MongoTemplate mongoTemplate, String collectionName) {
+		String bucketName = collectionName + "-attachments";
+		this.bucket = GridFSBuckets.create(mongoTemplate.getDb(), bucketName);
+		this.chunks = mongoTemplate.getDb().getCollection(bucketName + ".chunks");
+		mongoTemplate.getDb().getCollection(bucketName + ".files").createIndex(Indexes.ascending(FILENAME), new IndexOptions().unique(true));
+		this.references = mongoTemplate.getDb().getCollection(collectionName + "-attachment-references");
+		references.createIndex(Indexes.ascending(SUBMODEL_ID, ID_SHORT_PATH), new IndexOptions().unique(true));
+	}
+
+	@Override
+	public Attachment get(String submodelId, String idShortPath) throws ElementDoesNotExistException {
+		Document reference = references.find(createReferenceFilter(submodelId, idShortPath)).first();
+		if (reference == null)
+			throw new ElementDoesNotExistException(idShortPath);
+
+		GridFSFile file = findContent(reference.getString(HASH));
+		if (file == null)
+			throw new ElementDoesNotExistException(idShortPath);
+
+		return new GridFsAttachment(bucket, file.getObjectId(), file.getLength());
+	}
+
+	@Override
+	public void put(String submodelId, String idShortPath, InputStream content) {
+		String hash = store(content);
+
+		Document reference = new Document(SUBMODEL_ID, submodelId).append(ID_SHORT_PATH, idShortPath).append(HASH, hash);
+		references.replaceOne(createReferenceFilter(submodelId, idShortPath), reference, new ReplaceOptions().upsert(true));
+	}
+
+	@Override
+	public void delete(String submodelId, String idShortPath) {
+		Bson nestedPaths = Filters.regex(ID_SHORT_PATH, "^" + Pattern.quote(idShortPath) + "[.\\[]");
+		references.deleteMany(Filters.and(Filters.eq(SUBMODEL_ID, submodelId), Filters.or(Filters.eq(ID_SHORT_PATH, idShortPath), nestedPaths)));
+	}
+
+	@Override
+	public void deleteAll(String submodelId) {
+		references.deleteMany(Filters.eq(SUBMODEL_ID, submodelId));
+	}
+
+	/**
+	 * The content is spooled to a temporary file first, since its hash is only
+	 * known after it has been read completely. Identical content is already
+	 * stored, thus it is not uploaded again. If it is uploaded concurrently
+	 * nevertheless, only the first upload is kept.
+	 */
+	private String store(InputStream content) {
+		Path temporaryFile = null;
+		try {
+			temporaryFile = Files.createTempFile("basyx-attachment", ".tmp");
+			String hash = AttachmentUtilities.writeAndHash(content, temporaryFile);
+
+			if (findContent(hash) == null)
+				upload(hash, temporaryFile);
+
+			return hash;
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		} finally {
+			deleteIfExists(temporaryFile);
+		}
+	}
+
+	/**
+	 * GridFS inserts the file document after the chunks. Thus, if identical
+	 * content has been stored in between, the unique filename rejects the file
+	 * document. The chunks written before are removed on any failure of the
+	 * file document.
+	 */
+	void upload(String hash, Path file) throws IOException {
+		ObjectId fileId = new ObjectId();
+
+		try (InputStream in = Files.newInputStream(file)) {
+			bucket.uploadFromStream(new BsonObjectId(fileId), hash, in);
+		} catch (MongoWriteException e) {
+			chunks.deleteMany(Filters.eq(FILES_ID, fileId));
+
+			if (e.getError().getCategory() != ErrorCategory.DUPLICATE_KEY)
+				throw e;
+		}
+	}
+
+	private GridFSFile findContent(String hash) {
+		return bucket.find(Filters.eq(FILENAME, hash)).first();
+	}
+
+	private static Bson createReferenceFilter(String submodelId, String idShortPath) {
+		return Filters.and(Filters.eq(SUBMODEL_ID, submodelId), Filters.eq(ID_SHORT_PATH, idShortPath));
+	}
+
+	private static void deleteIfExists(Path file) {
+		if (file == null)
+			return;
+
+		try {
+			Files.deleteIfExists(file);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private static class GridFsAttachment implements Attachment {
+		private static final int BUFFER_SIZE = 64 * 1024;
+
+		private final GridFSBucket bucket;
+		private final ObjectId fileId;
+		private final long size;
+
+		public GridFsAttachment(GridFSBucket bucket, ObjectId fileId, long size) {
+			this.bucket = bucket;
+			this.fileId = fileId;
+			this.size = size;
+		}
+
+		@Override
+		public long getSize() {
+			return size;
+		}
+
+		/**
+		 * GridFS skips whole chunks without reading them, thus ranges are served
+		 * without streaming the preceding content
+		 */
+		@Override
+		public void transferTo(long position, long count, WritableByteChannel target) throws IOException {
+			try (GridFSDownloadStream stream = bucket.openDownloadStream(fileId)) {
+				stream.skip(position);
+
+				byte[] buffer = new byte[BUFFER_SIZE];
+				long remaining = count;
+				while (remaining > 0) {
+					int read = stream.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+					if (read < 0)
+						break;
+
+					ByteBuffer byteBuffer = ByteBuffer.wrap(buffer, 0, read);
+					while (byteBuffer.hasRemaining())
+						target.write(byteBuffer);
+
+					remaining -= read;
+				}
+			}
+		}
+	}
+}
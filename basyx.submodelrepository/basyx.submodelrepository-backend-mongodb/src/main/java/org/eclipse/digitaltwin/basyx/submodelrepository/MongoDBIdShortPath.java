@@ -0,0 +1,473 @@
+/*******************************************************************************
+ * Copyright (C) 2023 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.submodelrepository;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.eclipse.digitaltwin.aas4j.v3.model.Entity;
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementCollection;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementList;
+import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
+import org.eclipse.digitaltwin.basyx.submodelservice.pathparsing.IdShortPath;
+import org.eclipse.digitaltwin.basyx.submodelservice.pathparsing.ListIndexPathToken;
+import org.eclipse.digitaltwin.basyx.submodelservice.pathparsing.PathToken;
+import org.eclipse.digitaltwin.basyx.submodelservice.pathparsing.SubmodelElementIdShortPathParser;
+
+/**
+ * Translates an idShortPath into the field path of the addressed
+ * SubmodelElement inside of a Submodel document. idShort tokens are translated
+ * to filtered positional operators (<i>$[e0]</i>) together with the matching
+ * array filters, list indices are translated to plain array positions.<br>
+ * <br>
+ * The names of the container fields depend on the type of the containing
+ * SubmodelElement, thus the translation is done either against the structure
+ * of the Submodel or against the types of the SubmodelElements along the path.
+ * 
+ * @author schnicke
+ *
+ */
+public class MongoDBIdShortPath {
+
+	static final String SUBMODEL_ELEMENTS = "submodelElements";
+	static final String VALUE = "value";
+	static final String STATEMENTS = "statements";
+	static final String ID_SHORT = "idShort";
+
+	private static final String DEFAULT_IDENTIFIER_PREFIX = "e";
+	private static final SubmodelElementIdShortPathParser PATH_PARSER = new SubmodelElementIdShortPathParser();
+
+	private final String fieldPath;
+	private final SubmodelElement submodelElement;
+	private final Class<?> submodelElementType;
+	private final List<Bson> arrayFilters;
+	private final Bson documentFilter;
+
+	private MongoDBIdShortPath(String fieldPath, SubmodelElement submodelElement, Class<?> submodelElementType, List<Bson> arrayFilters) {
+		this(fieldPath, submodelElement, submodelElementType, arrayFilters, null);
+	}
+
+	private MongoDBIdShortPath(String fieldPath, SubmodelElement submodelElement, Class<?> submodelElementType, List<Bson> arrayFilters, Bson documentFilter) {
+		this.fieldPath = fieldPath;
+		this.submodelElement = submodelElement;
+		this.submodelElementType = submodelElementType;
+		this.arrayFilters = Collections.unmodifiableList(arrayFilters);
+		this.documentFilter = documentFilter;
+	}
+
+	/**
+	 * Resolves the idShortPath against the passed Submodel
+	 * 
+	 * @param submodel
+	 * @param idShortPath
+	 * @return the translated path
+	 * @throws ElementDoesNotExistException
+	 *             if there is no SubmodelElement at the idShortPath
+	 */
+	public static MongoDBIdShortPath resolve(Submodel submodel, String idShortPath) throws ElementDoesNotExistException {
+		return resolve(submodel, idShortPath, DEFAULT_IDENTIFIER_PREFIX);
+	}
+
+	/**
+	 * Resolves the idShortPath against the passed Submodel using the passed
+	 * prefix for the identifiers of the array filters. Thus, several paths can be
+	 * combined within a single update as long as their prefixes differ.
+	 * 
+	 * @param submodel
+	 * @param idShortPath
+	 * @param identifierPrefix
+	 *            a lowercase alphanumeric prefix for the array filter identifiers
+	 * @return the translated path
+	 * @throws ElementDoesNotExistException
+	 *             if there is no SubmodelElement at the idShortPath
+	 */
+	public static MongoDBIdShortPath resolve(Submodel submodel, String idShortPath, String identifierPrefix) throws ElementDoesNotExistException {
+		IdShortPath path = PATH_PARSER.parse(idShortPath);
+
+		StringBuilder fieldPath = new StringBuilder(SUBMODEL_ELEMENTS);
+		List<Bson> arrayFilters = new ArrayList<>();
+		SubmodelElement current = getTopLevelSubmodelElement(submodel, path.getToken(0).getToken(), idShortPath);
+		appendIdShortToken(fieldPath, arrayFilters, identifierPrefix, current.getIdShort());
+
+		for (int i = 1; i < path.size(); i++) {
+			PathToken token = path.getToken(i);
+			Class<?> parentType = current.getClass();
+			current = token.getSubmodelElement(current);
+
+			appendChildToken(fieldPath, arrayFilters, identifierPrefix, parentType, token);
+		}
+
+		return new MongoDBIdShortPath(fieldPath.toString(), current, current.getClass(), arrayFilters);
+	}
+
+	/**
+	 * Creates the path from an already retrieved SubmodelElement and the types of
+	 * its parents, e.g. as returned by a projection of the Submodel document
+	 * 
+	 * @param path
+	 * @param parentTypes
+	 *            the types of the SubmodelElements addressed by the path,
+	 *            excluding the last one
+	 * @param submodelElement
+	 *            the SubmodelElement addressed by the path
+	 * @return the translated path
+	 * @throws ElementDoesNotExistException
+	 *             if a token of the path is not applicable to its parent type
+	 */
+	public static MongoDBIdShortPath create(IdShortPath path, List<Class<?>> parentTypes, SubmodelElement submodelElement) throws ElementDoesNotExistException {
+		return create(path, parentTypes, submodelElement, submodelElement.getClass());
+	}
+
+	/**
+	 * Creates the path from the types of the addressed SubmodelElement and its
+	 * parents only, e.g. if the SubmodelElement itself has not been retrieved.
+	 * {@link #getSubmodelElement()} of the returned path is null.
+	 * 
+	 * @param path
+	 * @param parentTypes
+	 *            the types of the SubmodelElements addressed by the path,
+	 *            excluding the last one
+	 * @param submodelElementType
+	 *            the type of the SubmodelElement addressed by the path
+	 * @return the translated path
+	 * @throws ElementDoesNotExistException
+	 *             if a token of the path is not applicable to its parent type
+	 */
+	public static MongoDBIdShortPath create(IdShortPath path, List<Class<?>> parentTypes, Class<?> submodelElementType) throws ElementDoesNotExistException {
+		return create(path, parentTypes, null, submodelElementType);
+	}
+
+	private static MongoDBIdShortPath create(IdShortPath path, List<Class<?>> parentTypes, SubmodelElement submodelElement, Class<?> submodelElementType) {
+		if (parentTypes.size() != path.size() - 1)
+			throw new ElementDoesNotExistException(path.toString());
+
+		StringBuilder fieldPath = new StringBuilder(SUBMODEL_ELEMENTS);
+		List<Bson> arrayFilters = new ArrayList<>();
+		appendIdShortToken(fieldPath, arrayFilters, DEFAULT_IDENTIFIER_PREFIX, path.getToken(0).getToken());
+
+		for (int i = 1; i < path.size(); i++) {
+			PathToken token = path.getToken(i);
+			Class<?> parentType = parentTypes.get(i - 1);
+			throwIfNotApplicable(token, parentType);
+
+			appendChildToken(fieldPath, arrayFilters, DEFAULT_IDENTIFIER_PREFIX, parentType, token);
+		}
+
+		return new MongoDBIdShortPath(fieldPath.toString(), submodelElement, submodelElementType, arrayFilters);
+	}
+
+	/**
+	 * Creates the path from the idShortPath alone, assuming that all parents are
+	 * SubmodelElementCollections. In addition to the idShort, the array filters
+	 * match the stored type of each SubmodelElement along the path. Thus, an
+	 * update using the path does not modify a document that is structured
+	 * differently. {@link #getDocumentFilter()} of the returned path matches only
+	 * documents containing such a SubmodelElement, thus the matched count of an
+	 * update tells whether the SubmodelElement exists with the stored types.
+	 * {@link #getSubmodelElement()} of the returned path is null.
+	 * 
+	 * @param path
+	 * @param typeKey
+	 *            the key of the stored type
+	 * @param collectionTypeAlias
+	 *            the stored type of the SubmodelElementCollections
+	 * @param submodelElementTypeAlias
+	 *            the stored type of the addressed SubmodelElement
+	 * @param submodelElementType
+	 *            the type of the addressed SubmodelElement
+	 * @return the translated path or null if the idShortPath contains list
+	 *         indices
+	 */
+	public static MongoDBIdShortPath createTypeGuarded(IdShortPath path, String typeKey, String collectionTypeAlias, String submodelElementTypeAlias, Class<?> submodelElementType) {
+		StringBuilder fieldPath = new StringBuilder(SUBMODEL_ELEMENTS);
+		List<Bson> arrayFilters = new ArrayList<>();
+		List<Document> elementMatches = new ArrayList<>();
+
+		for (int i = 0; i < path.size(); i++) {
+			PathToken token = path.getToken(i);
+			if (token instanceof ListIndexPathToken)
+				return null;
+
+			if (i > 0)
+				fieldPath.append('.').append(VALUE);
+
+			appendIdShortToken(fieldPath, arrayFilters, DEFAULT_IDENTIFIER_PREFIX, token.getToken());
+
+			String typeAlias = i == path.size() - 1 ? submodelElementTypeAlias : collectionTypeAlias;
+			Document arrayFilter = (Document) arrayFilters.get(i);
+			arrayFilter.append(DEFAULT_IDENTIFIER_PREFIX + i + "." + typeKey, typeAlias);
+			elementMatches.add(new Document(ID_SHORT, token.getToken()).append(typeKey, typeAlias));
+		}
+
+		return new MongoDBIdShortPath(fieldPath.toString(), null, submodelElementType, arrayFilters, createDocumentFilter(elementMatches));
+	}
+
+	private static Bson createDocumentFilter(List<Document> elementMatches) {
+		Document elementMatch = elementMatches.get(elementMatches.size() - 1);
+		for (int i = elementMatches.size() - 2; i >= 0; i--)
+			elementMatch = elementMatches.get(i).append(VALUE, new Document("$elemMatch", elementMatch));
+
+		return new Document(SUBMODEL_ELEMENTS, new Document("$elemMatch", elementMatch));
+	}
+
+	/**
+	 * Returns the name of the field holding the children of the passed
+	 * SubmodelElement
+	 * 
+	 * @param submodelElement
+	 * @return the field name
+	 */
+	static String getChildrenFieldName(SubmodelElement submodelElement) {
+		return getChildrenFieldName(submodelElement.getClass());
+	}
+
+	private static String getChildrenFieldName(Class<?> submodelElementType) {
+		return Entity.class.isAssignableFrom(submodelElementType) ? STATEMENTS : VALUE;
+	}
+
+	/**
+	 * Returns whether SubmodelElements of the passed type are able to contain
+	 * other SubmodelElements
+	 * 
+	 * @param submodelElementType
+	 * @return true for SubmodelElementCollections, SubmodelElementLists and
+	 *         Entities
+	 */
+	static boolean isContainer(Class<?> submodelElementType) {
+		return SubmodelElementList.class.isAssignableFrom(submodelElementType) || SubmodelElementCollection.class.isAssignableFrom(submodelElementType) || Entity.class.isAssignableFrom(submodelElementType);
+	}
+
+	/**
+	 * Returns the field path of the addressed SubmodelElement
+	 * 
+	 * @return the field path
+	 */
+	public String getFieldPath() {
+		return fieldPath;
+	}
+
+	/**
+	 * Returns the field path of the children of the addressed SubmodelElement
+	 * 
+	 * @return the field path
+	 */
+	public String getChildrenFieldPath() {
+		return fieldPath + "." + getChildrenFieldName(submodelElementType);
+	}
+
+	/**
+	 * Returns the array filters required by the filtered positional operators of
+	 * the field path
+	 * 
+	 * @return the array filters
+	 */
+	public List<Bson> getArrayFilters() {
+		return arrayFilters;
+	}
+
+	/**
+	 * Returns the filter matching only documents that contain the addressed
+	 * SubmodelElement
+	 * 
+	 * @return the document filter or null if the path has not been created type
+	 *         guarded
+	 */
+	public Bson getDocumentFilter() {
+		return documentFilter;
+	}
+
+	/**
+	 * Returns the array filters, additionally matching only if the addressed
+	 * SubmodelElement has no direct child with the passed idShort. Thus, an
+	 * update of the children field path does not modify the document if the
+	 * idShort is already used.
+	 * 
+	 * @param childIdShort
+	 * @return the array filters or null if the addressed SubmodelElement is
+	 *         addressed by a list index, which can not be matched by an array
+	 *         filter
+	 */
+	public List<Bson> getArrayFiltersExcludingChild(String childIdShort) {
+		if (!fieldPath.endsWith("]"))
+			return null;
+
+		String identifier = fieldPath.substring(fieldPath.lastIndexOf("$[") + 2, fieldPath.length() - 1);
+		Document guardedFilter = new Document((Document) arrayFilters.get(arrayFilters.size() - 1));
+		guardedFilter.append(identifier + "." + getChildrenFieldName(submodelElementType) + "." + ID_SHORT, new Document("$ne", childIdShort));
+
+		List<Bson> guardedFilters = new ArrayList<>(arrayFilters);
+		guardedFilters.set(guardedFilters.size() - 1, guardedFilter);
+		return guardedFilters;
+	}
+
+	/**
+	 * Returns the pipeline update removing the addressed SubmodelElement from its
+	 * container. In contrast to $pull, the pipeline also removes SubmodelElements
+	 * addressed by a list index. The containers along the path are rewritten by
+	 * the server within the single update, thus concurrent updates of other
+	 * SubmodelElements are kept.
+	 * 
+	 * @return the pipeline update
+	 */
+	public List<Bson> getRemovalPipeline() {
+		String[] segments = fieldPath.split("\\.");
+		Object submodelElements = removeFrom("$" + segments[0], segments, 1);
+
+		return Collections.singletonList(new Document("$set", new Document(segments[0], submodelElements)));
+	}
+
+	/**
+	 * Creates the expression of the array with the addressed SubmodelElement
+	 * removed. Each segment following the passed one alternates between the
+	 * selector of an array element and the name of its children field.
+	 */
+	private Object removeFrom(Object array, String[] segments, int selectorIndex) {
+		String selector = segments[selectorIndex];
+		if (selectorIndex == segments.length - 1)
+			return isPosition(selector) ? removeAt(array, Integer.parseInt(selector)) : removeIdShort(array, getIdShort(selector));
+
+		String variable = "v" + selectorIndex;
+		String childrenField = segments[selectorIndex + 1];
+		Object children = removeFrom("$$" + variable + "." + childrenField, segments, selectorIndex + 2);
+		Document updatedElement = new Document("$mergeObjects", Arrays.asList("$$" + variable, new Document(childrenField, children)));
+
+		if (isPosition(selector))
+			return updateAt(array, Integer.parseInt(selector), variable, updatedElement);
+
+		Document isSelected = new Document("$eq", Arrays.asList("$$" + variable + "." + ID_SHORT, getIdShort(selector)));
+		return map(array, variable, new Document("$cond", Arrays.asList(isSelected, updatedElement, "$$" + variable)));
+	}
+
+	private static Document removeAt(Object array, int position) {
+		return new Document("$concatArrays", Arrays.asList(head(array, position), tail(array, position)));
+	}
+
+	private static Document removeIdShort(Object array, String idShort) {
+		return new Document("$filter", new Document("input", array).append("as", "v").append("cond", new Document("$ne", Arrays.asList("$$v." + ID_SHORT, idShort))));
+	}
+
+	/**
+	 * Replaces the element at the passed position by mapping the single element
+	 * slice containing it, which binds the element to the variable
+	 */
+	private static Document updateAt(Object array, int position, String variable, Document updatedElement) {
+		Document element = new Document("$slice", Arrays.asList(array, position, 1));
+
+		return new Document("$concatArrays", Arrays.asList(head(array, position), map(element, variable, updatedElement), tail(array, position)));
+	}
+
+	private static Document head(Object array, int position) {
+		return new Document("$slice", Arrays.asList(array, position));
+	}
+
+	private static Document tail(Object array, int position) {
+		Document size = new Document("$max", Arrays.asList(new Document("$size", array), 1));
+
+		return new Document("$slice", Arrays.asList(array, position + 1, size));
+	}
+
+	private static Document map(Object array, String variable, Object expression) {
+		return new Document("$map", new Document("input", array).append("as", variable).append("in", expression));
+	}
+
+	private static boolean isPosition(String selector) {
+		return !selector.startsWith("$[");
+	}
+
+	private String getIdShort(String selector) {
+		String idShortField = selector.substring(2, selector.length() - 1) + "." + ID_SHORT;
+
+		return arrayFilters.stream()
+				.map(Document.class::cast)
+				.filter(arrayFilter -> arrayFilter.containsKey(idShortField))
+				.map(arrayFilter -> arrayFilter.getString(idShortField))
+				.findAny()
+				.orElseThrow(() -> new IllegalStateException("There is no array filter for " + selector));
+	}
+
+	/**
+	 * Returns the type of the SubmodelElement the path has been resolved to
+	 * 
+	 * @return the type
+	 */
+	public Class<?> getSubmodelElementType() {
+		return submodelElementType;
+	}
+
+	/**
+	 * Returns the SubmodelElement the path has been resolved to
+	 * 
+	 * @return the SubmodelElement
+	 */
+	public SubmodelElement getSubmodelElement() {
+		return submodelElement;
+	}
+
+	private static SubmodelElement getTopLevelSubmodelElement(Submodel submodel, String idShort, String idShortPath) {
+		if (submodel.getSubmodelElements() == null)
+			throw new ElementDoesNotExistException(idShortPath);
+
+		return submodel.getSubmodelElements()
+				.stream()
+				.filter(sme -> idShort.equals(sme.getIdShort()))
+				.findAny()
+				.orElseThrow(() -> new ElementDoesNotExistException(idShortPath));
+	}
+
+	private static void throwIfNotApplicable(PathToken token, Class<?> parentType) {
+		if (parentType == null)
+			throw new ElementDoesNotExistException(token.getToken());
+
+		boolean isListParent = SubmodelElementList.class.isAssignableFrom(parentType);
+		boolean isContainerParent = SubmodelElementCollection.class.isAssignableFrom(parentType) || Entity.class.isAssignableFrom(parentType);
+
+		if (token instanceof ListIndexPathToken ? !isListParent : !isContainerParent)
+			throw new ElementDoesNotExistException(token.getToken());
+	}
+
+	private static void appendChildToken(StringBuilder fieldPath, List<Bson> arrayFilters, String identifierPrefix, Class<?> parentType, PathToken token) {
+		fieldPath.append('.').append(getChildrenFieldName(parentType));
+
+		if (token instanceof ListIndexPathToken) {
+			fieldPath.append('.').append(((ListIndexPathToken) token).getIndex());
+		} else {
+			appendIdShortToken(fieldPath, arrayFilters, identifierPrefix, token.getToken());
+		}
+	}
+
+	private static void appendIdShortToken(StringBuilder fieldPath, List<Bson> arrayFilters, String identifierPrefix, String idShort) {
+		String identifier = identifierPrefix + arrayFilters.size();
+
+		fieldPath.append(".$[").append(identifier).append(']');
+		arrayFilters.add(new Document(identifier + "." + ID_SHORT, idShort));
+	}
+}
@@ -0,0 +1,325 @@
+/*******************************************************************************
+ * Copyright (C) 2023 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.submodelrepository;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementList;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodel;
+import org.eclipse.digitaltwin.basyx.core.exceptions.CollidingIdentifierException;
+import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
+import org.eclipse.digitaltwin.basyx.submodelservice.pathparsing.IdShortPath;
+import org.eclipse.digitaltwin.basyx.submodelservice.pathparsing.ListIndexPathToken;
+import org.eclipse.digitaltwin.basyx.submodelservice.pathparsing.PathToken;
+import org.eclipse.digitaltwin.basyx.submodelservice.pathparsing.SubmodelElementIdShortPathParser;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.DefaultMongoTypeMapper;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.util.TypeInformation;
+
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Filters;
+
+/**
+ * Retrieves single SubmodelElements of a Submodel document by an aggregation
+ * that walks the idShortPath on the server using <i>$filter</i> and
+ * <i>$arrayElemAt</i>. Thus, only the addressed SubmodelElement is transferred
+ * and mapped instead of the complete Submodel.<br>
+ * <br>
+ * Additionally, the type hints of all parents along the path are projected, so
+ * that the path can be validated and translated into a {@link MongoDBIdShortPath}
+ * for subsequent updates.
+ * 
+ * @author schnicke
+ *
+ */
+class MongoDBSubmodelElementProjection {
+	private static final String ID = "_id";
+	private static final String NODE = "node";
+	private static final String PARENT_TYPE = "parentType";
+	private static final String CHILD = "child";
+	private static final String NODE_TYPE = "nodeType";
+	private static final String COLLIDES = "collides";
+	private static final String CHILDREN = "children";
+
+	private final MongoTemplate mongoTemplate;
+	private final String collectionName;
+	private final SubmodelElementIdShortPathParser pathParser = new SubmodelElementIdShortPathParser();
+
+	public MongoDBSubmodelElementProjection(MongoTemplate mongoTemplate, String collectionName) {
+		this.mongoTemplate = mongoTemplate;
+		this.collectionName = collectionName;
+	}
+
+	/**
+	 * Retrieves the SubmodelElement at the idShortPath together with its
+	 * translated path
+	 * 
+	 * @param submodelId
+	 * @param idShortPath
+	 * @return the resolved path holding the retrieved SubmodelElement
+	 * @throws ElementDoesNotExistException
+	 *             if either the Submodel or the SubmodelElement does not exist
+	 */
+	public MongoDBIdShortPath find(String submodelId, String idShortPath) throws ElementDoesNotExistException {
+		IdShortPath path = pathParser.parse(idShortPath);
+
+		Document result = mongoTemplate.getCollection(collectionName).aggregate(createPipeline(submodelId, path)).first();
+		if (result == null)
+			throw new ElementDoesNotExistException(submodelId);
+
+		Document node = result.get(NODE, Document.class);
+		if (node == null)
+			throw new ElementDoesNotExistException(idShortPath);
+
+		MongoConverter converter = mongoTemplate.getConverter();
+		List<Class<?>> parentTypes = readParentTypes(converter, result, path.size() - 1);
+
+		return MongoDBIdShortPath.create(path, parentTypes, converter.read(SubmodelElement.class, node));
+	}
+
+	/**
+	 * Resolves the path of the SubmodelElement at the idShortPath, e.g. a
+	 * container a new child is to be appended to. In contrast to
+	 * {@link #find(String, String)}, only the types along the path are
+	 * transferred, but neither the addressed SubmodelElement nor its children.
+	 * 
+	 * @param submodelId
+	 * @param idShortPath
+	 * @param childIdShort
+	 *            if not null, the idShort that must not be used by any of the
+	 *            direct children of the addressed SubmodelElement. Children of
+	 *            SubmodelElementLists are addressed by their position, thus
+	 *            their idShorts are not checked.
+	 * @return the resolved path without SubmodelElement
+	 * @throws ElementDoesNotExistException
+	 *             if either the Submodel or the SubmodelElement does not exist
+	 * @throws CollidingIdentifierException
+	 *             if a direct child with the childIdShort already exists
+	 */
+	public MongoDBIdShortPath findType(String submodelId, String idShortPath, String childIdShort) throws ElementDoesNotExistException, CollidingIdentifierException {
+		IdShortPath path = pathParser.parse(idShortPath);
+
+		List<Bson> pipeline = createPipeline(submodelId, path);
+		pipeline.add(Aggregates.project(createTypeProjection(path, childIdShort)));
+
+		Document result = mongoTemplate.getCollection(collectionName).aggregate(pipeline).first();
+		if (result == null)
+			throw new ElementDoesNotExistException(submodelId);
+
+		MongoConverter converter = mongoTemplate.getConverter();
+		Class<?> type = readType(converter, result.getString(NODE_TYPE));
+		if (type == null)
+			throw new ElementDoesNotExistException(idShortPath);
+
+		if (Boolean.TRUE.equals(result.getBoolean(COLLIDES)) && !SubmodelElementList.class.isAssignableFrom(type))
+			throw new CollidingIdentifierException(childIdShort);
+
+		return MongoDBIdShortPath.create(path, readParentTypes(converter, result, path.size() - 1), type);
+	}
+
+	/**
+	 * Retrieves a range of the direct children of the SubmodelElement at the
+	 * idShortPath by a <i>$slice</i> projection, i.e., only the children of the
+	 * range are transferred
+	 * 
+	 * @param submodelId
+	 * @param idShortPath
+	 * @param fromIndex
+	 *            the position of the first retrieved child
+	 * @param count
+	 *            the maximum number of retrieved children
+	 * @return the children, empty if there is no child at fromIndex
+	 * @throws ElementDoesNotExistException
+	 *             if either the Submodel or the SubmodelElement does not exist
+	 * @throws IllegalArgumentException
+	 *             if the SubmodelElement does not contain other SubmodelElements
+	 */
+	public List<SubmodelElement> findChildren(String submodelId, String idShortPath, int fromIndex, int count) throws ElementDoesNotExistException, IllegalArgumentException {
+		IdShortPath path = pathParser.parse(idShortPath);
+
+		Object children = asArray(new Document("$ifNull", Arrays.asList("$" + NODE + "." + MongoDBIdShortPath.STATEMENTS, "$" + NODE + "." + MongoDBIdShortPath.VALUE)));
+		Document slice = new Document("$slice", Arrays.asList(children, fromIndex, count));
+
+		List<Bson> pipeline = createPipeline(submodelId, path);
+		pipeline.add(Aggregates.project(new Document(NODE_TYPE, "$" + NODE + "." + DefaultMongoTypeMapper.DEFAULT_TYPE_KEY).append(CHILDREN, slice)));
+
+		Document result = mongoTemplate.getCollection(collectionName).aggregate(pipeline).first();
+		if (result == null)
+			throw new ElementDoesNotExistException(submodelId);
+
+		MongoConverter converter = mongoTemplate.getConverter();
+		Class<?> type = readType(converter, result.getString(NODE_TYPE));
+		if (type == null)
+			throw new ElementDoesNotExistException(idShortPath);
+
+		if (!MongoDBIdShortPath.isContainer(type))
+			throw new IllegalArgumentException("SubmodelElement " + idShortPath + " does not contain other SubmodelElements");
+
+		return result.getList(CHILDREN, Document.class)
+				.stream()
+				.map(child -> converter.read(SubmodelElement.class, child))
+				.collect(Collectors.toList());
+	}
+
+	/**
+	 * Retrieves the top level SubmodelElements that contain the SubmodelElements
+	 * at the idShortPaths, so that all of the paths can be resolved against the
+	 * returned Submodel
+	 * 
+	 * @param submodelId
+	 * @param idShortPaths
+	 * @return a Submodel containing only the required top level SubmodelElements
+	 * @throws ElementDoesNotExistException
+	 *             if the Submodel does not exist
+	 */
+	public Submodel findContaining(String submodelId, Collection<String> idShortPaths) throws ElementDoesNotExistException {
+		Submodel submodel = findAllContaining(Collections.singletonMap(submodelId, idShortPaths)).get(submodelId);
+		if (submodel == null)
+			throw new ElementDoesNotExistException(submodelId);
+
+		return submodel;
+	}
+
+	/**
+	 * Retrieves the top level SubmodelElements containing the SubmodelElements at
+	 * the idShortPaths of several Submodels by a single aggregation. The
+	 * returned Submodels may contain further top level SubmodelElements, whose
+	 * idShort is addressed in one of the other Submodels.
+	 * 
+	 * @param idShortPathsBySubmodel
+	 *            the idShortPaths mapped by the Submodel id
+	 * @return the Submodels containing the required top level SubmodelElements,
+	 *         mapped by their id. Submodels that do not exist are missing.
+	 */
+	public Map<String, Submodel> findAllContaining(Map<String, ? extends Collection<String>> idShortPathsBySubmodel) {
+		Set<String> idShorts = idShortPathsBySubmodel.values()
+				.stream()
+				.flatMap(Collection::stream)
+				.map(idShortPath -> pathParser.parse(idShortPath).getToken(0).getToken())
+				.collect(Collectors.toSet());
+
+		Document idShortMatches = new Document("$in", Arrays.asList("$$" + CHILD + "." + MongoDBIdShortPath.ID_SHORT, new Document("$literal", new ArrayList<>(idShorts))));
+		Document filtered = new Document("$filter", new Document("input", asArray("$" + MongoDBIdShortPath.SUBMODEL_ELEMENTS)).append("as", CHILD).append("cond", idShortMatches));
+
+		List<Bson> pipeline = Arrays.asList(Aggregates.match(Filters.in(ID, idShortPathsBySubmodel.keySet())), Aggregates.project(new Document(MongoDBIdShortPath.SUBMODEL_ELEMENTS, filtered)));
+
+		MongoConverter converter = mongoTemplate.getConverter();
+		Map<String, Submodel> submodels = new HashMap<>();
+		for (Document result : mongoTemplate.getCollection(collectionName).aggregate(pipeline)) {
+			List<SubmodelElement> submodelElements = result.getList(MongoDBIdShortPath.SUBMODEL_ELEMENTS, Document.class)
+					.stream()
+					.map(element -> converter.read(SubmodelElement.class, element))
+					.collect(Collectors.toList());
+
+			String submodelId = result.getString(ID);
+			submodels.put(submodelId, new DefaultSubmodel.Builder().id(submodelId).submodelElements(submodelElements).build());
+		}
+
+		return submodels;
+	}
+
+	private List<Bson> createPipeline(String submodelId, IdShortPath path) {
+		List<Bson> pipeline = new ArrayList<>();
+		pipeline.add(Aggregates.match(Filters.eq(ID, submodelId)));
+
+		Object topLevelElements = asArray("$" + MongoDBIdShortPath.SUBMODEL_ELEMENTS);
+		pipeline.add(Aggregates.project(new Document(ID, 0).append(NODE, selectChild(topLevelElements, path.getToken(0)))));
+
+		for (int i = 1; i < path.size(); i++) {
+			Object children = asArray(new Document("$ifNull", Arrays.asList("$" + NODE + "." + MongoDBIdShortPath.STATEMENTS, "$" + NODE + "." + MongoDBIdShortPath.VALUE)));
+
+			Document projection = new Document(NODE, selectChild(children, path.getToken(i)));
+			for (int j = 0; j < i - 1; j++)
+				projection.append(PARENT_TYPE + j, 1);
+			projection.append(PARENT_TYPE + (i - 1), "$" + NODE + "." + DefaultMongoTypeMapper.DEFAULT_TYPE_KEY);
+
+			pipeline.add(Aggregates.project(projection));
+		}
+
+		return pipeline;
+	}
+
+	private Document createTypeProjection(IdShortPath path, String childIdShort) {
+		Document projection = new Document(NODE_TYPE, "$" + NODE + "." + DefaultMongoTypeMapper.DEFAULT_TYPE_KEY);
+		for (int i = 0; i < path.size() - 1; i++)
+			projection.append(PARENT_TYPE + i, 1);
+
+		if (childIdShort == null)
+			return projection;
+
+		Object childIdShorts = asArray(new Document("$ifNull", Arrays.asList("$" + NODE + "." + MongoDBIdShortPath.STATEMENTS + "." + MongoDBIdShortPath.ID_SHORT, "$" + NODE + "." + MongoDBIdShortPath.VALUE + "." + MongoDBIdShortPath.ID_SHORT)));
+
+		return projection.append(COLLIDES, new Document("$in", Arrays.asList(new Document("$literal", childIdShort), childIdShorts)));
+	}
+
+	private Object selectChild(Object children, PathToken token) {
+		if (token instanceof ListIndexPathToken)
+			return new Document("$arrayElemAt", Arrays.asList(children, ((ListIndexPathToken) token).getIndex()));
+
+		Document idShortMatches = new Document("$eq", Arrays.asList("$$" + CHILD + "." + MongoDBIdShortPath.ID_SHORT, new Document("$literal", token.getToken())));
+		Document filtered = new Document("$filter", new Document("input", children).append("as", CHILD).append("cond", idShortMatches));
+
+		return new Document("$arrayElemAt", Arrays.asList(filtered, 0));
+	}
+
+	/**
+	 * Non-container SubmodelElements may hold scalar values in their value field,
+	 * which must not be passed to the array operators
+	 */
+	private Object asArray(Object expression) {
+		return new Document("$cond", Arrays.asList(new Document("$isArray", Collections.singletonList(expression)), expression, Collections.emptyList()));
+	}
+
+	private List<Class<?>> readParentTypes(MongoConverter converter, Document result, int parentCount) {
+		List<Class<?>> parentTypes = new ArrayList<>(parentCount);
+		for (int i = 0; i < parentCount; i++)
+			parentTypes.add(readType(converter, result.getString(PARENT_TYPE + i)));
+
+		return parentTypes;
+	}
+
+	private Class<?> readType(MongoConverter converter, String typeAlias) {
+		if (typeAlias == null)
+			return null;
+
+		TypeInformation<?> type = converter.getTypeMapper().readType(new Document(DefaultMongoTypeMapper.DEFAULT_TYPE_KEY, typeAlias));
+
+		return type == null ? null : type.getType();
+	}
+}
@@ -24,31 +24,70 @@
  ******************************************************************************/
 package org.eclipse.digitaltwin.basyx.submodelrepository;
 
+import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Function;
 
+import org.bson.Document;
+import org.bson.conversions.Bson;
 import org.eclipse.digitaltwin.aas4j.v3.model.OperationVariable;
 import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
 import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementList;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultProperty;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodelElementCollection;
+import org.eclipse.digitaltwin.basyx.common.mongocore.MongoDBUtilities;
+import org.eclipse.digitaltwin.basyx.common.mongocore.MongoDBWriteToken;
 import org.eclipse.digitaltwin.basyx.core.exceptions.CollidingIdentifierException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.FeatureNotSupportedException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.IdentificationMismatchException;
+import org.eclipse.digitaltwin.basyx.core.pagination.CursorIterator;
 import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
+import org.eclipse.digitaltwin.basyx.core.pagination.IndexPaginationSupport;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
+import org.eclipse.digitaltwin.basyx.submodelrepository.attachment.Attachment;
+import org.eclipse.digitaltwin.basyx.submodelrepository.attachment.AttachmentStore;
+import org.eclipse.digitaltwin.basyx.submodelrepository.attachment.AttachmentUtilities;
 import org.eclipse.digitaltwin.basyx.submodelservice.SubmodelService;
 import org.eclipse.digitaltwin.basyx.submodelservice.SubmodelServiceFactory;
+import org.eclipse.digitaltwin.basyx.submodelservice.pathparsing.SubmodelElementIdShortHelper;
+import org.eclipse.digitaltwin.basyx.submodelservice.pathparsing.SubmodelElementIdShortPathParser;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.FileBlobValue;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.PropertyValue;
 import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelElementValue;
 import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelValueOnly;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.factory.SubmodelElementValueMapperFactory;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.mapper.ValueMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.DefaultMongoTypeMapper;
 import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexOperations;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
-
+import org.springframework.data.util.CloseableIterator;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.MongoWriteException;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.client.model.Updates;
 import com.mongodb.client.result.DeleteResult;
+import com.mongodb.client.result.UpdateResult;
 
 /**
  * MongoDB implementation of the SubmodelRepository
@@ -57,14 +96,24 @@ import com.mongodb.client.result.DeleteResult;
  *
  */
 public class MongoDBSubmodelRepository implements SubmodelRepository {
+	private static final Logger logger = LoggerFactory.getLogger(MongoDBSubmodelRepository.class);
 	private static final PaginationInfo NO_LIMIT_PAGINATION_INFO = new PaginationInfo(0, null);
 	private static final String ID = "_id";
 	private static String ID_JSON_PATH = "id";
+	private static final String ID_SHORT_JSON_PATH = "idShort";
+	private static final String SEMANTIC_ID_KEY_VALUE_JSON_PATH = "semanticID.keys.value";
 
 	private MongoTemplate mongoTemplate;
 	private String collectionName;
 	private SubmodelServiceFactory submodelServiceFactory;
 	private String smRepositoryName;
+	private SubmodelElementIdShortHelper idShortHelper = new SubmodelElementIdShortHelper();
+	private SubmodelElementIdShortPathParser pathParser = new SubmodelElementIdShortPathParser();
+	private SubmodelElementValueMapperFactory valueMapperFactory = new SubmodelElementValueMapperFactory();
+	private MongoDBSubmodelElementProjection elementProjection;
+	private AttachmentStore attachmentStore;
+	private String collectionTypeAlias;
+	private String propertyTypeAlias;
 
 	/**
 	 * Creates the MongoDBSubmodelRepository utilizing the passed
@@ -80,7 +129,12 @@ public class MongoDBSubmodelRepository implements SubmodelRepository {
 		this.mongoTemplate = mongoTemplate;
 		this.collectionName = collectionName;
 		this.submodelServiceFactory = submodelServiceFactory;
+		this.elementProjection = new MongoDBSubmodelElementProjection(mongoTemplate, collectionName);
+		this.attachmentStore = new GridFsAttachmentStore(mongoTemplate, collectionName);
+		this.collectionTypeAlias = getTypeAlias(DefaultSubmodelElementCollection.class);
+		this.propertyTypeAlias = getTypeAlias(DefaultProperty.class);
 		configureIndexForSubmodelId(mongoTemplate);
+		configureIndexesForFilters();
 	}
 
 	/**
@@ -147,17 +201,52 @@ public class MongoDBSubmodelRepository implements SubmodelRepository {
 				.ensureIndex(idIndex);
 	}
 
+	/**
+	 * The filters are equality matches, followed by the sorting and the cursor
+	 * on the id. Thus, the compound indexes serve the filtered pages without
+	 * scanning or sorting the non-matching documents.
+	 */
+	private void configureIndexesForFilters() {
+		IndexOperations indexOps = mongoTemplate.indexOps(collectionName);
+		indexOps.ensureIndex(new Index().on(SEMANTIC_ID_KEY_VALUE_JSON_PATH, Direction.ASC).on(ID, Direction.ASC));
+		indexOps.ensureIndex(new Index().on(ID_SHORT_JSON_PATH, Direction.ASC).on(ID, Direction.ASC));
+	}
+
 	@Override
 	public CursorResult<List<Submodel>> getAllSubmodels(PaginationInfo pInfo) {
-		Query query = new Query();
-		applySorting(query, pInfo);
-		applyPagination(query, pInfo);
+		return getAllSubmodels(null, null, pInfo);
+	}
+
+	@Override
+	public CursorResult<List<Submodel>> getAllSubmodels(String semanticId, String idShort, PaginationInfo pInfo) {
+		Query query = createAllSubmodelsQuery(semanticId, idShort, pInfo);
 		List<Submodel> foundDescriptors = mongoTemplate.find(query, Submodel.class, collectionName);
 
 		String cursor = resolveCursor(pInfo, foundDescriptors, Submodel::getId);
 		return new CursorResult<List<Submodel>>(cursor, foundDescriptors);
 	}
 
+	/**
+	 * The Submodels are read from the MongoDB cursor while they are iterated.
+	 */
+	@Override
+	public CursorIterator<Submodel> iterateAllSubmodels(String semanticId, String idShort, PaginationInfo pInfo) {
+		CloseableIterator<Submodel> foundSubmodels = mongoTemplate.stream(createAllSubmodelsQuery(semanticId, idShort, pInfo), Submodel.class, collectionName);
+
+		return new CursorIterator<>(foundSubmodels, pInfo, Submodel::getId, foundSubmodels::close);
+	}
+
+	private Query createAllSubmodelsQuery(String semanticId, String idShort, PaginationInfo pInfo) {
+		Query query = new Query();
+		if (semanticId != null)
+			query.addCriteria(Criteria.where(SEMANTIC_ID_KEY_VALUE_JSON_PATH).is(semanticId));
+		if (idShort != null)
+			query.addCriteria(Criteria.where(ID_SHORT_JSON_PATH).is(idShort));
+		applySorting(query, pInfo);
+		applyPagination(query, pInfo);
+		return query;
+	}
+
 	@Override
 	public Submodel getSubmodel(String submodelId) throws ElementDoesNotExistException {
 		Submodel submodel = mongoTemplate.findOne(new Query().addCriteria(Criteria.where(ID_JSON_PATH).is(submodelId)),
@@ -170,38 +259,33 @@ public class MongoDBSubmodelRepository implements SubmodelRepository {
 
 	@Override
 	public void updateSubmodel(String submodelId, Submodel submodel) throws ElementDoesNotExistException {
-		Query query = new Query().addCriteria(Criteria.where(ID_JSON_PATH).is(submodelId));
-
-		throwIfSubmodelDoesNotExist(query, submodelId);
 		throwIfMismatchingIds(submodelId, submodel);
 
-		mongoTemplate.remove(query, Submodel.class, collectionName);
-		mongoTemplate.save(submodel, collectionName);
-	}
-
-	private void throwIfSubmodelDoesNotExist(Query query, String submodelId) {
-		if (!mongoTemplate.exists(query, Submodel.class, collectionName))
+		if (!MongoDBUtilities.replace(mongoTemplate, collectionName, submodel))
 			throw new ElementDoesNotExistException(submodelId);
-
 	}
 
+	/**
+	 * A missing Submodel takes precedence over the mismatch. Thus, only this
+	 * error case requires a lookup of the Submodel.
+	 */
 	private void throwIfMismatchingIds(String submodelId, Submodel submodel) {
 		String newSubmodelId = submodel.getId();
 
-		if (!submodelId.equals(newSubmodelId))
-			throw new IdentificationMismatchException();
+		if (submodelId.equals(newSubmodelId))
+			return;
 
+		throwIfSubmodelDoesNotExist(submodelId);
+		throw new IdentificationMismatchException();
 	}
 
 	@Override
 	public void createSubmodel(Submodel submodel) throws CollidingIdentifierException {
-		throwIfCollidesWithRemoteId(submodel);
-		mongoTemplate.save(submodel, collectionName);
-	}
-
-	private void throwIfCollidesWithRemoteId(Submodel submodel) {
-		if (mongoTemplate.exists(new Query().addCriteria(Criteria.where(ID_JSON_PATH).is(submodel.getId())),
-				Submodel.class, collectionName)) {
+		try {
+			Document document = new Document();
+			mongoTemplate.getConverter().write(submodel, document);
+			mongoTemplate.insert(MongoDBWriteToken.stamp(document), collectionName);
+		} catch (DuplicateKeyException e) {
 			throw new CollidingIdentifierException(submodel.getId());
 		}
 	}
@@ -216,25 +300,186 @@ public class MongoDBSubmodelRepository implements SubmodelRepository {
 		return getSubmodelService(submodelId).getSubmodelElements(pInfo);
 	}
 
+	@Override
+	public CursorResult<List<SubmodelElement>> getSubmodelElements(String submodelId, String idShortPath, PaginationInfo pInfo) throws ElementDoesNotExistException {
+		int startIndex = IndexPaginationSupport.getStartIndex(pInfo);
+		List<SubmodelElement> page = elementProjection.findChildren(submodelId, idShortPath, startIndex, IndexPaginationSupport.getLimit(pInfo));
+
+		return IndexPaginationSupport.createResult(page, startIndex, pInfo);
+	}
+
 	@Override
 	public SubmodelElement getSubmodelElement(String submodelId, String submodelElementIdShort)
 			throws ElementDoesNotExistException {
-		return getSubmodelService(submodelId).getSubmodelElement(submodelElementIdShort);
+		return elementProjection.find(submodelId, submodelElementIdShort).getSubmodelElement();
 	}
 
 	@Override
 	public SubmodelElementValue getSubmodelElementValue(String submodelId, String submodelElementIdShort)
 			throws ElementDoesNotExistException {
-		return getSubmodelService(submodelId).getSubmodelElementValue(submodelElementIdShort);
+		SubmodelElement submodelElement = getSubmodelElement(submodelId, submodelElementIdShort);
+
+		return valueMapperFactory.create(submodelElement).getValue();
 	}
 
 	@Override
 	public void setSubmodelElementValue(String submodelId, String submodelElementIdShort, SubmodelElementValue value)
 			throws ElementDoesNotExistException {
-		SubmodelService submodelService = getSubmodelService(submodelId);
-		submodelService.setSubmodelElementValue(submodelElementIdShort, value);
+		if (value instanceof PropertyValue && setPropertyValue(submodelId, submodelElementIdShort, (PropertyValue) value))
+			return;
+
+		MongoDBIdShortPath path = elementProjection.find(submodelId, submodelElementIdShort);
+
+		ValueMapper<SubmodelElementValue> valueMapper = valueMapperFactory.create(path.getSubmodelElement());
+		valueMapper.setValue(value);
+
+		updateSubmodelDocument(submodelId, Updates.set(path.getFieldPath(), toDocument(path.getSubmodelElement())), path.getArrayFilters());
+	}
+
+	/**
+	 * Property values are written by a single update whose filters match the
+	 * idShorts and stored types along the path. If the update does not match the
+	 * document, e.g. since the SubmodelElement does not exist, is not a Property
+	 * or is contained in other SubmodelElements than SubmodelElementCollections,
+	 * the value is set after retrieving the SubmodelElement instead.
+	 * 
+	 * @return true if the value has been written
+	 */
+	private boolean setPropertyValue(String submodelId, String idShortPath, PropertyValue value) {
+		if (collectionTypeAlias == null || propertyTypeAlias == null)
+			return false;
+
+		MongoDBIdShortPath path = MongoDBIdShortPath.createTypeGuarded(pathParser.parse(idShortPath), DefaultMongoTypeMapper.DEFAULT_TYPE_KEY, collectionTypeAlias, propertyTypeAlias, DefaultProperty.class);
+		if (path == null)
+			return false;
+
+		Bson filter = Filters.and(Filters.eq(ID, submodelId), path.getDocumentFilter());
+		UpdateResult result = getCollection().updateOne(filter, withWriteToken(Updates.set(path.getFieldPath() + "." + MongoDBIdShortPath.VALUE, value.getValue())), new UpdateOptions().arrayFilters(path.getArrayFilters()));
+
+		return result.getMatchedCount() > 0;
+	}
+
+	@Override
+	public Map<String, SubmodelElement> getSubmodelElements(String submodelId, Collection<String> idShortPaths) throws ElementDoesNotExistException {
+		Submodel submodel = elementProjection.findContaining(submodelId, idShortPaths);
+
+		Map<String, SubmodelElement> submodelElements = new LinkedHashMap<>();
+		for (String idShortPath : idShortPaths)
+			submodelElements.put(idShortPath, MongoDBIdShortPath.resolve(submodel, idShortPath).getSubmodelElement());
+
+		return submodelElements;
+	}
+
+	@Override
+	public Map<String, SubmodelElementValue> getSubmodelElementValues(String submodelId, Collection<String> idShortPaths) throws ElementDoesNotExistException {
+		Submodel submodel = elementProjection.findContaining(submodelId, idShortPaths);
+
+		Map<String, SubmodelElementValue> values = new LinkedHashMap<>();
+		for (String idShortPath : idShortPaths)
+			values.put(idShortPath, valueMapperFactory.create(MongoDBIdShortPath.resolve(submodel, idShortPath).getSubmodelElement()).getValue());
+
+		return values;
+	}
+
+	@Override
+	public void setSubmodelElementValues(String submodelId, Map<String, SubmodelElementValue> values) throws ElementDoesNotExistException {
+		if (values.isEmpty()) {
+			throwIfSubmodelDoesNotExist(submodelId);
+			return;
+		}
+
+		UpdateOneModel<Document> update = createValuesUpdate(elementProjection.findContaining(submodelId, values.keySet()), values);
+		UpdateResult result = getCollection().updateOne(update.getFilter(), update.getUpdate(), update.getOptions());
+
+		if (result.getMatchedCount() == 0)
+			throw new ElementDoesNotExistException(submodelId);
+	}
+
+	/**
+	 * Writes the values of multiple Submodels by a single unordered bulk write.
+	 * The addressed top level SubmodelElements of all Submodels are retrieved by
+	 * a single read beforehand. Failures, e.g. Submodels whose SubmodelElements
+	 * can not be resolved anymore or write errors of single updates, are
+	 * reported for the affected Submodels only.
+	 * 
+	 * @param valuesBySubmodel
+	 *            the new values mapped by the idShortPath of their
+	 *            SubmodelElement, mapped by the Submodel id
+	 * @return the failures mapped by the id of the affected Submodel
+	 */
+	Map<String, RuntimeException> writeSubmodelElementValues(Map<String, Map<String, SubmodelElementValue>> valuesBySubmodel) {
+		Map<String, RuntimeException> failures = new HashMap<>();
+		Map<String, Collection<String>> idShortPathsBySubmodel = new HashMap<>();
+		valuesBySubmodel.forEach((submodelId, values) -> idShortPathsBySubmodel.put(submodelId, values.keySet()));
+		Map<String, Submodel> submodels = elementProjection.findAllContaining(idShortPathsBySubmodel);
+
+		List<String> updatedSubmodelIds = new ArrayList<>(valuesBySubmodel.size());
+		List<UpdateOneModel<Document>> updates = new ArrayList<>(valuesBySubmodel.size());
+		valuesBySubmodel.forEach((submodelId, values) -> {
+			try {
+				updates.add(createValuesUpdate(getContainingSubmodel(submodels, submodelId), values));
+				updatedSubmodelIds.add(submodelId);
+			} catch (RuntimeException e) {
+				failures.put(submodelId, e);
+			}
+		});
+
+		if (updates.isEmpty())
+			return failures;
+
+		try {
+			getCollection().bulkWrite(updates, new BulkWriteOptions().ordered(false));
+		} catch (MongoBulkWriteException e) {
+			if (e.getWriteConcernError() != null)
+				throw e;
+
+			for (BulkWriteError error : e.getWriteErrors())
+				failures.put(updatedSubmodelIds.get(error.getIndex()), new MongoWriteException(error, e.getServerAddress()));
+		}
+
+		return failures;
+	}
 
-		updateSubmodel(submodelId, submodelService.getSubmodel());
+	private static Submodel getContainingSubmodel(Map<String, Submodel> submodels, String submodelId) {
+		Submodel submodel = submodels.get(submodelId);
+		if (submodel == null)
+			throw new ElementDoesNotExistException(submodelId);
+
+		return submodel;
+	}
+
+	/**
+	 * All addressed SubmodelElements are retrieved and modified in memory first
+	 * and then written by a single update. SubmodelElements contained in another
+	 * addressed SubmodelElement are already part of the document of their
+	 * ancestor and thus are not written separately, since MongoDB rejects
+	 * conflicting paths within one update.
+	 */
+	private UpdateOneModel<Document> createValuesUpdate(Submodel submodel, Map<String, SubmodelElementValue> values) {
+
+		Map<String, MongoDBIdShortPath> paths = new LinkedHashMap<>();
+		for (String idShortPath : values.keySet())
+			paths.put(idShortPath, MongoDBIdShortPath.resolve(submodel, idShortPath, "p" + paths.size() + "e"));
+
+		paths.forEach((idShortPath, path) -> valueMapperFactory.create(path.getSubmodelElement()).setValue(values.get(idShortPath)));
+
+		List<Bson> updates = new ArrayList<>();
+		List<Bson> arrayFilters = new ArrayList<>();
+		paths.forEach((idShortPath, path) -> {
+			if (hasAncestorIn(idShortPath, paths.keySet()))
+				return;
+
+			updates.add(Updates.set(path.getFieldPath(), toDocument(path.getSubmodelElement())));
+			arrayFilters.addAll(path.getArrayFilters());
+		});
+
+		UpdateOptions options = arrayFilters.isEmpty() ? new UpdateOptions() : new UpdateOptions().arrayFilters(arrayFilters);
+		updates.add(MongoDBWriteToken.update());
+		return new UpdateOneModel<>(Filters.eq(ID, submodel.getId()), Updates.combine(updates), options);
+	}
+
+	private static boolean hasAncestorIn(String idShortPath, Collection<String> idShortPaths) {
+		return idShortPaths.stream().anyMatch(other -> idShortPath.startsWith(other + ".") || idShortPath.startsWith(other + "["));
 	}
 
 	@Override
@@ -246,31 +491,160 @@ public class MongoDBSubmodelRepository implements SubmodelRepository {
 			throw new ElementDoesNotExistException(submodelId);
 		}
 
+		attachmentStore.deleteAll(submodelId);
 	}
 
 	@Override
 	public void createSubmodelElement(String submodelId, SubmodelElement submodelElement) {
-		SubmodelService submodelService = getSubmodelService(submodelId);
-		submodelService.createSubmodelElement(submodelElement);
+		Bson filter = Filters.and(Filters.eq(ID, submodelId), Filters.ne(MongoDBIdShortPath.SUBMODEL_ELEMENTS + "." + MongoDBIdShortPath.ID_SHORT, submodelElement.getIdShort()));
+		UpdateResult result = getCollection().updateOne(filter, withWriteToken(Updates.push(MongoDBIdShortPath.SUBMODEL_ELEMENTS, toDocument(submodelElement))));
 
-		updateSubmodel(submodelId, submodelService.getSubmodel());
+		if (result.getMatchedCount() == 0) {
+			throwIfSubmodelDoesNotExist(submodelId);
+			throw new CollidingIdentifierException(submodelElement.getIdShort());
+		}
 	}
 
 	@Override
 	public void createSubmodelElement(String submodelId, String idShortPath, SubmodelElement submodelElement)
 			throws ElementDoesNotExistException {
-		SubmodelService submodelService = getSubmodelService(submodelId);
-		submodelService.createSubmodelElement(idShortPath, submodelElement);
+		MongoDBIdShortPath parentPath = elementProjection.findType(submodelId, idShortPath, submodelElement.getIdShort());
+		Class<?> parentType = parentPath.getSubmodelElementType();
+		if (!MongoDBIdShortPath.isContainer(parentType))
+			return;
+
+		Bson update = Updates.push(parentPath.getChildrenFieldPath(), toDocument(submodelElement));
+		List<Bson> guardedArrayFilters = getArrayFiltersExcludingChild(parentPath, submodelElement.getIdShort());
+		if (guardedArrayFilters == null) {
+			updateSubmodelDocument(submodelId, update, parentPath.getArrayFilters());
+			return;
+		}
 
-		updateSubmodel(submodelId, submodelService.getSubmodel());
+		UpdateResult result = getCollection().updateOne(Filters.eq(ID, submodelId), update, new UpdateOptions().arrayFilters(guardedArrayFilters));
+		if (result.getMatchedCount() == 0)
+			throw new ElementDoesNotExistException(submodelId);
+
+		if (result.getModifiedCount() == 0)
+			throw new CollidingIdentifierException(submodelElement.getIdShort());
+	}
+
+	/**
+	 * The idShort is checked by the update itself, since a concurrent append of
+	 * the same idShort may happen after the parent has been resolved. Children of
+	 * SubmodelElementLists are addressed by their position, thus their idShorts
+	 * are not checked. Containers addressed by a list index can not be guarded by
+	 * an array filter and are only checked when they are resolved. The guarded
+	 * update is not marked by a {@link MongoDBWriteToken}, since the token would
+	 * modify the document even if the idShort is already used. Thus, its change
+	 * is handled like the one of another process.
+	 * 
+	 * @return the guarded array filters or null if the append is not guarded
+	 */
+	private static List<Bson> getArrayFiltersExcludingChild(MongoDBIdShortPath parentPath, String childIdShort) {
+		if (childIdShort == null || SubmodelElementList.class.isAssignableFrom(parentPath.getSubmodelElementType()))
+			return null;
+
+		return parentPath.getArrayFiltersExcludingChild(childIdShort);
 	}
 
 	@Override
 	public void deleteSubmodelElement(String submodelId, String idShortPath) throws ElementDoesNotExistException {
-		SubmodelService submodelService = getSubmodelService(submodelId);
-		submodelService.deleteSubmodelElement(idShortPath);
+		if (!idShortHelper.isNestedIdShortPath(idShortPath)) {
+			deleteFlatSubmodelElement(submodelId, idShortPath);
+			attachmentStore.delete(submodelId, idShortPath);
+			return;
+		}
 
-		updateSubmodel(submodelId, submodelService.getSubmodel());
+		Submodel submodel = getSubmodel(submodelId);
+		MongoDBIdShortPath path = MongoDBIdShortPath.resolve(submodel, idShortPath);
+
+		if (idShortHelper.isDirectParentASubmodelElementList(idShortPath)) {
+			deleteListChild(submodelId, path);
+		} else {
+			String parentIdShortPath = idShortHelper.extractDirectParentSubmodelElementCollectionIdShort(idShortPath);
+			MongoDBIdShortPath parentPath = MongoDBIdShortPath.resolve(submodel, parentIdShortPath);
+			String idShort = pathParser.parse(idShortPath).getLastToken().getToken();
+			updateSubmodelDocument(submodelId, Updates.pullByFilter(new Document(parentPath.getChildrenFieldPath(), new Document(MongoDBIdShortPath.ID_SHORT, idShort))), parentPath.getArrayFilters());
+		}
+
+		attachmentStore.delete(submodelId, idShortPath);
+	}
+
+	@Override
+	public Attachment getFileByPath(String submodelId, String idShortPath) throws ElementDoesNotExistException {
+		return AttachmentUtilities.getAttachment(attachmentStore, submodelId, idShortPath, getSubmodelElement(submodelId, idShortPath));
+	}
+
+	@Override
+	public void putFileByPath(String submodelId, String idShortPath, String fileName, String contentType, InputStream content) throws ElementDoesNotExistException {
+		AttachmentUtilities.throwIfNotAFile(getSubmodelElement(submodelId, idShortPath), idShortPath);
+
+		attachmentStore.put(submodelId, idShortPath, content);
+		setSubmodelElementValue(submodelId, idShortPath, new FileBlobValue(contentType, fileName));
+	}
+
+	private void deleteFlatSubmodelElement(String submodelId, String idShort) {
+		Bson filter = Filters.and(Filters.eq(ID, submodelId), Filters.eq(MongoDBIdShortPath.SUBMODEL_ELEMENTS + "." + MongoDBIdShortPath.ID_SHORT, idShort));
+		Bson update = Updates.pullByFilter(new Document(MongoDBIdShortPath.SUBMODEL_ELEMENTS, new Document(MongoDBIdShortPath.ID_SHORT, idShort)));
+
+		UpdateResult result = getCollection().updateOne(filter, withWriteToken(update));
+
+		if (result.getMatchedCount() == 0) {
+			throwIfSubmodelDoesNotExist(submodelId);
+			throw new ElementDoesNotExistException(idShort);
+		}
+	}
+
+	/**
+	 * Elements of SubmodelElementLists are addressed by their position, which
+	 * can not be expressed by $pull. Thus, they are removed by a single pipeline
+	 * update instead.
+	 */
+	private void deleteListChild(String submodelId, MongoDBIdShortPath path) {
+		List<Bson> pipeline = new ArrayList<>(path.getRemovalPipeline());
+		pipeline.add(new Document("$set", new Document(MongoDBWriteToken.FIELD, MongoDBWriteToken.next())));
+
+		UpdateResult result = getCollection().updateOne(Filters.eq(ID, submodelId), pipeline);
+
+		if (result.getMatchedCount() == 0)
+			throw new ElementDoesNotExistException(submodelId);
+	}
+
+	private void updateSubmodelDocument(String submodelId, Bson update, List<Bson> arrayFilters) {
+		UpdateOptions options = arrayFilters.isEmpty() ? new UpdateOptions() : new UpdateOptions().arrayFilters(arrayFilters);
+		UpdateResult result = getCollection().updateOne(Filters.eq(ID, submodelId), withWriteToken(update), options);
+
+		if (result.getMatchedCount() == 0)
+			throw new ElementDoesNotExistException(submodelId);
+	}
+
+	/**
+	 * Every write marks the document by a {@link MongoDBWriteToken}, allowing
+	 * change stream consumers of this process to skip its own changes
+	 */
+	private static Bson withWriteToken(Bson update) {
+		return Updates.combine(update, MongoDBWriteToken.update());
+	}
+
+	private void throwIfSubmodelDoesNotExist(String submodelId) {
+		if (!mongoTemplate.exists(new Query().addCriteria(Criteria.where(ID_JSON_PATH).is(submodelId)), Submodel.class, collectionName))
+			throw new ElementDoesNotExistException(submodelId);
+	}
+
+	private String getTypeAlias(Class<?> type) {
+		Document document = new Document();
+		mongoTemplate.getConverter().getTypeMapper().writeType(type, document);
+		return document.getString(DefaultMongoTypeMapper.DEFAULT_TYPE_KEY);
+	}
+
+	private Document toDocument(SubmodelElement submodelElement) {
+		Document document = new Document();
+		mongoTemplate.getConverter().write(submodelElement, document);
+		return document;
+	}
+
+	private MongoCollection<Document> getCollection() {
+		return mongoTemplate.getCollection(collectionName);
 	}
 
 	@Override
@@ -280,7 +654,13 @@ public class MongoDBSubmodelRepository implements SubmodelRepository {
 
 	@Override
 	public Submodel getSubmodelByIdMetadata(String submodelId) throws ElementDoesNotExistException {
-		Submodel submodel = getSubmodel(submodelId);
+		Query query = new Query().addCriteria(Criteria.where(ID_JSON_PATH).is(submodelId));
+		query.fields().exclude(MongoDBIdShortPath.SUBMODEL_ELEMENTS);
+
+		Submodel submodel = mongoTemplate.findOne(query, Submodel.class, collectionName);
+		if (submodel == null) {
+			throw new ElementDoesNotExistException(submodelId);
+		}
 		submodel.setSubmodelElements(null);
 		return submodel;
 	}
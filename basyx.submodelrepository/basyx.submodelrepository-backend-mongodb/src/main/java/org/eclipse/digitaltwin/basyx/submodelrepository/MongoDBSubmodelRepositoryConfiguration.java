@@ -26,7 +26,9 @@ package org.eclipse.digitaltwin.basyx.submodelrepository;
 
 import org.eclipse.digitaltwin.basyx.submodelservice.InMemorySubmodelServiceFactory;
 import org.eclipse.digitaltwin.basyx.submodelservice.SubmodelServiceFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -43,8 +45,17 @@ import org.springframework.context.annotation.Configuration;
 @Configuration
 @ConditionalOnExpression("'${basyx.backend}'.equals('MongoDB')")
 public class MongoDBSubmodelRepositoryConfiguration {
+	public static final String WRITE_BEHIND = "basyx.submodelrepository.mongodb.write-behind";
+
 	@Bean
 	public SubmodelServiceFactory getInMemorySubmodelServiceFactory() {
 		return new InMemorySubmodelServiceFactory();
 	}
+
+	@Bean
+	@ConditionalOnProperty(WRITE_BEHIND + ".enabled")
+	public SubmodelValueWriteBuffer getSubmodelValueWriteBuffer(@Value("${" + WRITE_BEHIND + ".max-size:1000}") int maxSize, @Value("${" + WRITE_BEHIND + ".max-pending-size:10000}") int maxPendingSize,
+			@Value("${" + WRITE_BEHIND + ".flush-interval-ms:100}") long flushIntervalMillis, @Value("${" + WRITE_BEHIND + ".durability:FLUSH_ON_ACK}") WriteBehindDurability durability) {
+		return new SubmodelValueWriteBuffer(maxSize, maxPendingSize, flushIntervalMillis, durability);
+	}
 }
@@ -51,6 +51,8 @@ public class MongoDBSubmodelRepositoryFactory implements SubmodelRepositoryFacto
 	
 	private String smRepositoryName;
 
+	private SubmodelValueWriteBuffer writeBehindBuffer;
+
 	@Autowired(required = false)
 	public MongoDBSubmodelRepositoryFactory(MongoTemplate mongoTemplate,
 			@Value("${basyx.submodelrepository.mongodb.collectionName:submodel-repo}") String collectionName,
@@ -82,12 +84,34 @@ public class MongoDBSubmodelRepositoryFactory implements SubmodelRepositoryFacto
 		this.smRepositoryName = smRepositoryName;
 	}
 
+	/**
+	 * Enables the write-behind mode, i.e., value updates are buffered and
+	 * written by bulk writes. The buffer is not started by the factory, but by
+	 * its lifecycle.
+	 * 
+	 * @param writeBehindBuffer
+	 */
+	@Autowired(required = false)
+	public void setWriteBehindBuffer(SubmodelValueWriteBuffer writeBehindBuffer) {
+		this.writeBehindBuffer = writeBehindBuffer;
+	}
+
 	@Override
 	public SubmodelRepository create() {
+		MongoDBSubmodelRepository repository = createMongoDBSubmodelRepository();
+
+		if (writeBehindBuffer == null)
+			return repository;
+
+		writeBehindBuffer.setWriterIfAbsent(repository::writeSubmodelElementValues);
+
+		return new WriteBehindMongoDBSubmodelRepository(repository, writeBehindBuffer);
+	}
+
+	private MongoDBSubmodelRepository createMongoDBSubmodelRepository() {
 		if (this.submodels == null || this.submodels.isEmpty()) {
 			return new MongoDBSubmodelRepository(mongoTemplate, collectionName, submodelServiceFactory, smRepositoryName);
 		}
 		return new MongoDBSubmodelRepository(mongoTemplate, collectionName, submodelServiceFactory, submodels, smRepositoryName);
-
 	}
 }
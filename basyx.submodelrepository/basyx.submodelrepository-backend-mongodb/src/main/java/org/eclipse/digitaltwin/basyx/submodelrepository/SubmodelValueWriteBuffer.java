@@ -0,0 +1,331 @@
+/*******************************************************************************
+ * Copyright (C) 2023 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.submodelrepository;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelElementValue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Buffers the value updates of SubmodelElements per Submodel until they are
+ * flushed to the writer. Repeated updates of the same SubmodelElement are
+ * coalesced, thus only its latest value is written.<br>
+ * <br>
+ * Once started, the buffer is flushed periodically and as soon as it contains
+ * <i>maxSize</i> values. With {@link WriteBehindDurability#FLUSH_ON_ACK}, a
+ * flush is started as soon as values are buffered, thus callers do not wait
+ * for the periodic flush. Values buffered while a flush is written are written
+ * together by the next one. Values being flushed remain visible via
+ * {@link #getValues(String)} until they have been written. If the buffer
+ * contains <i>maxPendingSize</i> values, e.g., because the writes fall behind,
+ * callers adding further values flush the buffer themselves before their
+ * values are buffered.
+ * 
+ * @author schnicke
+ *
+ */
+public class SubmodelValueWriteBuffer implements MeterBinder, SmartLifecycle, AutoCloseable {
+	private static final Logger logger = LoggerFactory.getLogger(SubmodelValueWriteBuffer.class);
+	private static final String METER_PREFIX = "basyx.submodelrepository.write-behind";
+
+	private final int maxSize;
+	private final int maxPendingSize;
+	private final long flushIntervalMillis;
+	private final WriteBehindDurability durability;
+
+	private final Object flushLock = new Object();
+	private Map<String, Map<String, SubmodelElementValue>> pending = new LinkedHashMap<>();
+	private Map<String, CompletableFuture<Void>> pendingFlushes = new LinkedHashMap<>();
+	private Map<String, Map<String, SubmodelElementValue>> flushing = Collections.emptyMap();
+	private int depth;
+	private boolean flushScheduled;
+
+	private SubmodelValueWriter writer;
+	private ScheduledExecutorService scheduler;
+
+	private final LongAdder flushedValues = new LongAdder();
+	private final LongAdder failedFlushes = new LongAdder();
+	private final LongAdder failedSubmodels = new LongAdder();
+	private volatile Timer flushTimer;
+
+	/**
+	 * @param maxSize
+	 *            the number of buffered values triggering a flush
+	 * @param maxPendingSize
+	 *            the number of buffered values from which on callers flush the
+	 *            buffer themselves
+	 * @param flushIntervalMillis
+	 *            the delay between two periodic flushes
+	 * @param durability
+	 *            when value updates are acknowledged
+	 */
+	public SubmodelValueWriteBuffer(int maxSize, int maxPendingSize, long flushIntervalMillis, WriteBehindDurability durability) {
+		if (maxSize < 1)
+			throw new IllegalArgumentException("The maximum size of the write-behind buffer has to be positive");
+
+		if (maxPendingSize < maxSize)
+			throw new IllegalArgumentException("The maximum pending size of the write-behind buffer must not be smaller than its maximum size");
+
+		if (flushIntervalMillis < 1)
+			throw new IllegalArgumentException("The flush interval of the write-behind buffer has to be positive");
+
+		this.maxSize = maxSize;
+		this.maxPendingSize = maxPendingSize;
+		this.flushIntervalMillis = flushIntervalMillis;
+		this.durability = durability;
+	}
+
+	/**
+	 * Sets the writer of the flushed values, unless a writer has been set
+	 * already. All repositories sharing this buffer write to the same
+	 * collection, thus any of them can write the values of all Submodels.
+	 * 
+	 * @param writer
+	 */
+	public synchronized void setWriterIfAbsent(SubmodelValueWriter writer) {
+		if (this.writer == null)
+			this.writer = writer;
+	}
+
+	/**
+	 * Starts flushing the buffer periodically. Starting an already running
+	 * buffer has no effect.
+	 */
+	@Override
+	public synchronized void start() {
+		if (isRunning())
+			return;
+
+		scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "basyx-write-behind");
+			thread.setDaemon(true);
+			return thread;
+		});
+		scheduler.scheduleWithFixedDelay(this::flush, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+	}
+
+	@Override
+	public void stop() {
+		close();
+	}
+
+	@Override
+	public synchronized boolean isRunning() {
+		return scheduler != null && !scheduler.isShutdown();
+	}
+
+	public WriteBehindDurability getDurability() {
+		return durability;
+	}
+
+	/**
+	 * Buffers the values, replacing previously buffered values of the same
+	 * SubmodelElements
+	 * 
+	 * @param submodelId
+	 * @param values
+	 *            the new values mapped by the idShortPath of their
+	 *            SubmodelElement
+	 * @return completes as soon as the values of the Submodel have been flushed,
+	 *         exceptionally if they could not be written
+	 */
+	public CompletableFuture<Void> put(String submodelId, Map<String, SubmodelElementValue> values) {
+		awaitCapacity();
+
+		return buffer(submodelId, values);
+	}
+
+	private void awaitCapacity() {
+		while (getDepth() >= maxPendingSize) {
+			synchronized (this) {
+				if (writer == null)
+					throw new IllegalStateException("The write-behind buffer has no writer");
+			}
+
+			flush();
+		}
+	}
+
+	private synchronized CompletableFuture<Void> buffer(String submodelId, Map<String, SubmodelElementValue> values) {
+		Map<String, SubmodelElementValue> submodelValues = pending.computeIfAbsent(submodelId, id -> new LinkedHashMap<>());
+
+		int previousDepth = depth;
+		values.forEach((idShortPath, value) -> {
+			// Removing first moves the path to the end, so the flush keeps the order of the updates
+			if (submodelValues.remove(idShortPath) == null)
+				depth++;
+
+			submodelValues.put(idShortPath, value);
+		});
+
+		boolean reachedMaxSize = previousDepth < maxSize && depth >= maxSize;
+		if ((reachedMaxSize || durability == WriteBehindDurability.FLUSH_ON_ACK) && !flushScheduled && isRunning()) {
+			flushScheduled = true;
+			scheduler.execute(this::flush);
+		}
+
+		return pendingFlushes.computeIfAbsent(submodelId, id -> new CompletableFuture<>());
+	}
+
+	/**
+	 * Returns the values of the Submodel that have not been written yet, in the
+	 * order they have been updated
+	 * 
+	 * @param submodelId
+	 * @return the values mapped by the idShortPath of their SubmodelElement
+	 */
+	public synchronized Map<String, SubmodelElementValue> getValues(String submodelId) {
+		Map<String, SubmodelElementValue> values = new LinkedHashMap<>(flushing.getOrDefault(submodelId, Collections.emptyMap()));
+
+		pending.getOrDefault(submodelId, Collections.emptyMap()).forEach((idShortPath, value) -> {
+			values.remove(idShortPath);
+			values.put(idShortPath, value);
+		});
+
+		return values;
+	}
+
+	public synchronized boolean contains(String submodelId) {
+		return pending.containsKey(submodelId) || flushing.containsKey(submodelId);
+	}
+
+	public synchronized boolean isEmpty() {
+		return pending.isEmpty() && flushing.isEmpty();
+	}
+
+	/**
+	 * Returns the number of buffered values not being flushed yet
+	 */
+	public synchronized int getDepth() {
+		return depth;
+	}
+
+	/**
+	 * Writes all buffered values. Failures are logged and reported to the futures
+	 * returned by {@link #put(String, Map)} for the affected Submodels only,
+	 * their values are discarded.
+	 */
+	public void flush() {
+		synchronized (flushLock) {
+			Map<String, Map<String, SubmodelElementValue>> batch;
+			Map<String, CompletableFuture<Void>> flushes;
+			synchronized (this) {
+				if (pending.isEmpty() || writer == null)
+					return;
+
+				batch = pending;
+				flushes = pendingFlushes;
+				flushing = batch;
+				pending = new LinkedHashMap<>();
+				pendingFlushes = new LinkedHashMap<>();
+				depth = 0;
+				flushScheduled = false;
+			}
+
+			try {
+				Map<String, RuntimeException> failures = write(batch);
+				flushes.forEach((submodelId, flushed) -> complete(flushed, failures.get(submodelId)));
+			} catch (RuntimeException e) {
+				failedFlushes.increment();
+				logger.error("Could not flush the values of {} Submodels", batch.size(), e);
+				flushes.values().forEach(flushed -> flushed.completeExceptionally(e));
+			} finally {
+				synchronized (this) {
+					flushing = Collections.emptyMap();
+				}
+			}
+		}
+	}
+
+	private Map<String, RuntimeException> write(Map<String, Map<String, SubmodelElementValue>> batch) {
+		long start = System.nanoTime();
+		Map<String, RuntimeException> failures = writer.write(batch);
+
+		Timer timer = flushTimer;
+		if (timer != null)
+			timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+		batch.forEach((submodelId, values) -> {
+			if (!failures.containsKey(submodelId))
+				flushedValues.add(values.size());
+		});
+
+		if (!failures.isEmpty()) {
+			failedSubmodels.add(failures.size());
+			failures.forEach((submodelId, failure) -> logger.error("Could not flush the values of Submodel {}", submodelId, failure));
+		}
+
+		return failures;
+	}
+
+	private static void complete(CompletableFuture<Void> flushed, RuntimeException failure) {
+		if (failure == null)
+			flushed.complete(null);
+		else
+			flushed.completeExceptionally(failure);
+	}
+
+	/**
+	 * Stops the periodic flushing and writes the remaining values
+	 */
+	@Override
+	public void close() {
+		ScheduledExecutorService toShutdown;
+		synchronized (this) {
+			toShutdown = scheduler;
+		}
+
+		if (toShutdown != null)
+			toShutdown.shutdown();
+
+		flush();
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		Gauge.builder(METER_PREFIX + ".depth", this, SubmodelValueWriteBuffer::getDepth).description("Number of buffered values waiting for the next flush").register(registry);
+		FunctionCounter.builder(METER_PREFIX + ".values.flushed", flushedValues, LongAdder::sum).description("Number of buffered values written").register(registry);
+		FunctionCounter.builder(METER_PREFIX + ".flushes.failed", failedFlushes, LongAdder::sum).description("Number of flushes that could not be written").register(registry);
+		FunctionCounter.builder(METER_PREFIX + ".submodels.failed", failedSubmodels, LongAdder::sum).description("Number of Submodels whose flushed values could not be written").register(registry);
+		flushTimer = Timer.builder(METER_PREFIX + ".flush").description("Latency of writing the flushed values").register(registry);
+	}
+}
@@ -0,0 +1,53 @@
+/*******************************************************************************
+ * Copyright (C) 2023 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.submodelrepository;
+
+import java.util.Map;
+
+import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelElementValue;
+
+/**
+ * Writes the values flushed by a {@link SubmodelValueWriteBuffer}
+ * 
+ * @author agent
+ *
+ */
+@FunctionalInterface
+public interface SubmodelValueWriter {
+
+	/**
+	 * Writes the values of all passed Submodels. The values of a Submodel that
+	 * can not be written must not prevent writing the values of the other
+	 * Submodels.
+	 * 
+	 * @param valuesBySubmodel
+	 *            the values mapped by the idShortPath of their SubmodelElement,
+	 *            mapped by the Submodel id
+	 * @return the reasons why the values of Submodels could not be written,
+	 *         mapped by the Submodel id. Empty, if all values have been written.
+	 */
+	Map<String, RuntimeException> write(Map<String, Map<String, SubmodelElementValue>> valuesBySubmodel);
+}
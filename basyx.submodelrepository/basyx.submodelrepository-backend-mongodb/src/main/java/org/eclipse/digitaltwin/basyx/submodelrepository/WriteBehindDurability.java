@@ -0,0 +1,49 @@
+/*******************************************************************************
+ * Copyright (C) 2023 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.submodelrepository;
+
+/**
+ * Defines when a value update buffered by the
+ * {@link WriteBehindMongoDBSubmodelRepository} is acknowledged
+ * 
+ * @author schnicke
+ *
+ */
+public enum WriteBehindDurability {
+	/**
+	 * The update is acknowledged after the flush containing it has been written
+	 * to MongoDB. The flush is started as soon as the update is buffered, thus
+	 * the periodic flush interval does not delay the acknowledgement. Updates
+	 * buffered while a flush is written are written together by the next one.
+	 */
+	FLUSH_ON_ACK,
+
+	/**
+	 * The update is acknowledged as soon as it is buffered. Updates not yet
+	 * flushed are lost if the repository terminates unexpectedly.
+	 */
+	ASYNC
+}
@@ -0,0 +1,396 @@
+/*******************************************************************************
+ * Copyright (C) 2023 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.submodelrepository;
+
+import java.io.InputStream;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.eclipse.digitaltwin.aas4j.v3.model.OperationVariable;
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.basyx.core.exceptions.CollidingIdentifierException;
+import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
+import org.eclipse.digitaltwin.basyx.core.pagination.CursorIterator;
+import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
+import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
+import org.eclipse.digitaltwin.basyx.submodelrepository.attachment.Attachment;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelElementValue;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelValueOnly;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.factory.SubmodelElementValueMapperFactory;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.mapper.ValueMapper;
+
+/**
+ * Decorates the {@link MongoDBSubmodelRepository} so that value updates are
+ * collected in a {@link SubmodelValueWriteBuffer} and written by bulk writes
+ * instead of one update per request.<br>
+ * <br>
+ * Value updates are validated against a copy of the addressed
+ * SubmodelElement before being buffered, thus invalid values are still
+ * rejected synchronously. The copies of the most recently updated
+ * SubmodelElements are kept for validating subsequent updates. Reads of a
+ * buffered SubmodelElement return the stored SubmodelElement with the buffered
+ * value applied. The buffered values are read before the stored state, thus
+ * values flushed in between are contained in both instead of neither. All other operations flush the
+ * buffered values of the Submodel first, so they always see the buffered
+ * state.<br>
+ * <br>
+ * The buffer is local to this instance, thus other instances sharing the
+ * collection do not see values until they have been flushed.
+ * 
+ * @author schnicke
+ *
+ */
+public class WriteBehindMongoDBSubmodelRepository implements SubmodelRepository {
+	static final int MAX_VALIDATION_TEMPLATES = 10000;
+
+	private MongoDBSubmodelRepository decorated;
+	private SubmodelValueWriteBuffer buffer;
+	private SubmodelElementValueMapperFactory valueMapperFactory = new SubmodelElementValueMapperFactory();
+
+	private Map<Entry<String, String>, SubmodelElement> validationTemplates = Collections.synchronizedMap(new ValidationTemplateCache());
+
+	public WriteBehindMongoDBSubmodelRepository(MongoDBSubmodelRepository decorated, SubmodelValueWriteBuffer buffer) {
+		this.decorated = decorated;
+		this.buffer = buffer;
+	}
+
+	@Override
+	public CursorResult<List<Submodel>> getAllSubmodels(PaginationInfo pInfo) {
+		if (!buffer.isEmpty())
+			buffer.flush();
+
+		return decorated.getAllSubmodels(pInfo);
+	}
+
+	@Override
+	public CursorResult<List<Submodel>> getAllSubmodels(String semanticId, String idShort, PaginationInfo pInfo) {
+		if (!buffer.isEmpty())
+			buffer.flush();
+
+		return decorated.getAllSubmodels(semanticId, idShort, pInfo);
+	}
+
+	@Override
+	public CursorIterator<Submodel> iterateAllSubmodels(String semanticId, String idShort, PaginationInfo pInfo) {
+		if (!buffer.isEmpty())
+			buffer.flush();
+
+		return decorated.iterateAllSubmodels(semanticId, idShort, pInfo);
+	}
+
+	@Override
+	public Submodel getSubmodel(String submodelId) throws ElementDoesNotExistException {
+		flushIfBuffered(submodelId);
+
+		return decorated.getSubmodel(submodelId);
+	}
+
+	@Override
+	public void updateSubmodel(String submodelId, Submodel submodel) throws ElementDoesNotExistException {
+		flushIfBuffered(submodelId);
+
+		decorated.updateSubmodel(submodelId, submodel);
+		removeValidationTemplates(submodelId);
+	}
+
+	@Override
+	public void createSubmodel(Submodel submodel) throws CollidingIdentifierException {
+		decorated.createSubmodel(submodel);
+	}
+
+	@Override
+	public void deleteSubmodel(String submodelId) throws ElementDoesNotExistException {
+		flushIfBuffered(submodelId);
+
+		decorated.deleteSubmodel(submodelId);
+		removeValidationTemplates(submodelId);
+	}
+
+	@Override
+	public CursorResult<List<SubmodelElement>> getSubmodelElements(String submodelId, PaginationInfo pInfo) throws ElementDoesNotExistException {
+		flushIfBuffered(submodelId);
+
+		return decorated.getSubmodelElements(submodelId, pInfo);
+	}
+
+	@Override
+	public CursorResult<List<SubmodelElement>> getSubmodelElements(String submodelId, String idShortPath, PaginationInfo pInfo) throws ElementDoesNotExistException {
+		flushIfBuffered(submodelId);
+
+		return decorated.getSubmodelElements(submodelId, idShortPath, pInfo);
+	}
+
+	@Override
+	public SubmodelElement getSubmodelElement(String submodelId, String idShortPath) throws ElementDoesNotExistException {
+		flushIfNestingBuffered(submodelId, Collections.singleton(idShortPath));
+
+		SubmodelElementValue bufferedValue = buffer.getValues(submodelId).get(idShortPath);
+		SubmodelElement submodelElement = decorated.getSubmodelElement(submodelId, idShortPath);
+
+		if (bufferedValue != null)
+			valueMapperFactory.create(submodelElement).setValue(bufferedValue);
+
+		return submodelElement;
+	}
+
+	@Override
+	public SubmodelElementValue getSubmodelElementValue(String submodelId, String idShortPath) throws ElementDoesNotExistException {
+		flushIfNestingBuffered(submodelId, Collections.singleton(idShortPath));
+
+		SubmodelElementValue bufferedValue = buffer.getValues(submodelId).get(idShortPath);
+		if (bufferedValue == null)
+			return decorated.getSubmodelElementValue(submodelId, idShortPath);
+
+		return toReadValue(decorated.getSubmodelElement(submodelId, idShortPath), bufferedValue);
+	}
+
+	@Override
+	public void setSubmodelElementValue(String submodelId, String idShortPath, SubmodelElementValue value) throws ElementDoesNotExistException {
+		setSubmodelElementValues(submodelId, Collections.singletonMap(idShortPath, value));
+	}
+
+	@Override
+	public Map<String, SubmodelElement> getSubmodelElements(String submodelId, Collection<String> idShortPaths) throws ElementDoesNotExistException {
+		flushIfNestingBuffered(submodelId, idShortPaths);
+
+		Map<String, SubmodelElementValue> bufferedValues = buffer.getValues(submodelId);
+		Map<String, SubmodelElement> submodelElements = decorated.getSubmodelElements(submodelId, idShortPaths);
+
+		submodelElements.forEach((idShortPath, submodelElement) -> {
+			SubmodelElementValue bufferedValue = bufferedValues.get(idShortPath);
+			if (bufferedValue != null)
+				valueMapperFactory.create(submodelElement).setValue(bufferedValue);
+		});
+
+		return submodelElements;
+	}
+
+	@Override
+	public Map<String, SubmodelElementValue> getSubmodelElementValues(String submodelId, Collection<String> idShortPaths) throws ElementDoesNotExistException {
+		flushIfNestingBuffered(submodelId, idShortPaths);
+
+		Map<String, SubmodelElementValue> bufferedValues = buffer.getValues(submodelId);
+		if (Collections.disjoint(bufferedValues.keySet(), idShortPaths))
+			return decorated.getSubmodelElementValues(submodelId, idShortPaths);
+
+		Map<String, SubmodelElementValue> values = new LinkedHashMap<>();
+		decorated.getSubmodelElements(submodelId, idShortPaths).forEach((idShortPath, submodelElement) -> {
+			SubmodelElementValue bufferedValue = bufferedValues.get(idShortPath);
+			values.put(idShortPath, bufferedValue == null ? valueMapperFactory.create(submodelElement).getValue() : toReadValue(submodelElement, bufferedValue));
+		});
+
+		return values;
+	}
+
+	@Override
+	public void setSubmodelElementValues(String submodelId, Map<String, SubmodelElementValue> values) throws ElementDoesNotExistException {
+		if (values.isEmpty()) {
+			decorated.setSubmodelElementValues(submodelId, values);
+			return;
+		}
+
+		values.forEach((idShortPath, value) -> validate(submodelId, idShortPath, value));
+
+		acknowledge(buffer.put(submodelId, values));
+	}
+
+	@Override
+	public void createSubmodelElement(String submodelId, SubmodelElement smElement) {
+		flushIfBuffered(submodelId);
+
+		decorated.createSubmodelElement(submodelId, smElement);
+	}
+
+	@Override
+	public void createSubmodelElement(String submodelId, String idShortPath, SubmodelElement smElement) throws ElementDoesNotExistException {
+		flushIfBuffered(submodelId);
+
+		decorated.createSubmodelElement(submodelId, idShortPath, smElement);
+	}
+
+	@Override
+	public void deleteSubmodelElement(String submodelId, String idShortPath) throws ElementDoesNotExistException {
+		flushIfBuffered(submodelId);
+
+		decorated.deleteSubmodelElement(submodelId, idShortPath);
+		removeValidationTemplates(submodelId);
+	}
+
+	@Override
+	public Attachment getFileByPath(String submodelId, String idShortPath) throws ElementDoesNotExistException {
+		flushIfNestingBuffered(submodelId, Collections.singleton(idShortPath));
+
+		return decorated.getFileByPath(submodelId, idShortPath);
+	}
+
+	@Override
+	public void putFileByPath(String submodelId, String idShortPath, String fileName, String contentType, InputStream content) throws ElementDoesNotExistException {
+		flushIfBuffered(submodelId);
+
+		decorated.putFileByPath(submodelId, idShortPath, fileName, contentType, content);
+		removeValidationTemplates(submodelId);
+	}
+
+	@Override
+	public String getName() {
+		return decorated.getName();
+	}
+
+	@Override
+	public OperationVariable[] invokeOperation(String submodelId, String idShortPath, OperationVariable[] input) throws ElementDoesNotExistException {
+		return decorated.invokeOperation(submodelId, idShortPath, input);
+	}
+
+	@Override
+	public SubmodelValueOnly getSubmodelByIdValueOnly(String submodelId) throws ElementDoesNotExistException {
+		flushIfBuffered(submodelId);
+
+		return decorated.getSubmodelByIdValueOnly(submodelId);
+	}
+
+	@Override
+	public Submodel getSubmodelByIdMetadata(String submodelId) throws ElementDoesNotExistException {
+		return decorated.getSubmodelByIdMetadata(submodelId);
+	}
+
+	/**
+	 * Buffered values are returned as they are read from a SubmodelElement
+	 * holding them, since they may have been set in a different representation,
+	 * e.g., as raw Blob content
+	 */
+	private SubmodelElementValue toReadValue(SubmodelElement submodelElement, SubmodelElementValue bufferedValue) {
+		ValueMapper<SubmodelElementValue> valueMapper = valueMapperFactory.create(submodelElement);
+		valueMapper.setValue(bufferedValue);
+
+		return valueMapper.getValue();
+	}
+
+	/**
+	 * The value is applied to a copy of the SubmodelElement that is kept for
+	 * subsequent updates of the same SubmodelElement. Thus, only the first update
+	 * of a SubmodelElement requires a read.
+	 */
+	private void validate(String submodelId, String idShortPath, SubmodelElementValue value) {
+		SubmodelElement template = getValidationTemplate(submodelId, idShortPath);
+
+		synchronized (template) {
+			valueMapperFactory.create(template).setValue(value);
+		}
+	}
+
+	/**
+	 * The SubmodelElement is read without holding the lock of the cache, so that
+	 * concurrent updates of other SubmodelElements are not blocked by the read
+	 */
+	private SubmodelElement getValidationTemplate(String submodelId, String idShortPath) {
+		Entry<String, String> key = new SimpleImmutableEntry<>(submodelId, idShortPath);
+
+		SubmodelElement template = validationTemplates.get(key);
+		if (template != null)
+			return template;
+
+		SubmodelElement submodelElement = decorated.getSubmodelElement(submodelId, idShortPath);
+		return validationTemplates.computeIfAbsent(key, k -> submodelElement);
+	}
+
+	private void removeValidationTemplates(String submodelId) {
+		synchronized (validationTemplates) {
+			validationTemplates.keySet().removeIf(key -> key.getKey().equals(submodelId));
+		}
+	}
+
+	private void acknowledge(CompletableFuture<Void> flushed) {
+		if (buffer.getDurability() == WriteBehindDurability.ASYNC)
+			return;
+
+		try {
+			flushed.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException)
+				throw (RuntimeException) e.getCause();
+
+			throw e;
+		}
+	}
+
+	private void flushIfBuffered(String submodelId) {
+		if (buffer.contains(submodelId))
+			buffer.flush();
+	}
+
+	/**
+	 * Buffered values of SubmodelElements containing or contained in the
+	 * requested ones can not be overlaid on the stored state, thus they are
+	 * flushed first
+	 */
+	private void flushIfNestingBuffered(String submodelId, Collection<String> idShortPaths) {
+		if (!buffer.contains(submodelId))
+			return;
+
+		Collection<String> bufferedPaths = buffer.getValues(submodelId).keySet();
+		for (String idShortPath : idShortPaths) {
+			for (String bufferedPath : bufferedPaths) {
+				if (isNested(bufferedPath, idShortPath) || isNested(idShortPath, bufferedPath)) {
+					buffer.flush();
+					return;
+				}
+			}
+		}
+	}
+
+	private static boolean isNested(String idShortPath, String ancestorIdShortPath) {
+		if (idShortPath.length() <= ancestorIdShortPath.length() || !idShortPath.startsWith(ancestorIdShortPath))
+			return false;
+
+		char separator = idShortPath.charAt(ancestorIdShortPath.length());
+		return separator == '.' || separator == '[';
+	}
+
+	/**
+	 * Keeps the templates of the {@value #MAX_VALIDATION_TEMPLATES} most recently
+	 * updated SubmodelElements, mapped by their Submodel id and idShortPath
+	 */
+	private static class ValidationTemplateCache extends LinkedHashMap<Entry<String, String>, SubmodelElement> {
+		private static final long serialVersionUID = 1L;
+
+		public ValidationTemplateCache() {
+			super(16, 0.75f, true);
+		}
+
+		@Override
+		protected boolean removeEldestEntry(Entry<Entry<String, String>, SubmodelElement> eldest) {
+			return size() > MAX_VALIDATION_TEMPLATES;
+		}
+	}
+}
@@ -0,0 +1,146 @@
+/*******************************************************************************
+ * Copyright (C) 2023 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.submodelrepository;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.bson.Document;
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultEntity;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultProperty;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodelElementCollection;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodelElementList;
+import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
+import org.eclipse.digitaltwin.basyx.submodelservice.DummySubmodelFactory;
+import org.eclipse.digitaltwin.basyx.submodelservice.SubmodelServiceHelper;
+import org.eclipse.digitaltwin.basyx.submodelservice.pathparsing.IdShortPath;
+import org.eclipse.digitaltwin.basyx.submodelservice.pathparsing.SubmodelElementIdShortPathParser;
+import org.junit.Test;
+
+/**
+ * Tests the translation of idShortPaths to MongoDB field paths
+ * 
+ * @author schnicke
+ *
+ */
+public class TestMongoDBIdShortPath {
+
+	@Test
+	public void nestedPathWithListIndex() {
+		Submodel submodel = DummySubmodelFactory.createOperationalDataSubmodelWithHierarchicalSubmodelElements();
+
+		MongoDBIdShortPath path = MongoDBIdShortPath.resolve(submodel, DummySubmodelFactory.SUBMODEL_OPERATIONAL_DATA_ELEMENT_COLLECTION_ID_SHORT + "." + DummySubmodelFactory.SUBMODEL_OPERATIONAL_DATA_ELEMENT_LIST_ID_SHORT + "[0]");
+
+		assertEquals("submodelElements.$[e0].value.$[e1].value.0", path.getFieldPath());
+		assertEquals(Arrays.asList(new Document("e0.idShort", DummySubmodelFactory.SUBMODEL_OPERATIONAL_DATA_ELEMENT_COLLECTION_ID_SHORT), new Document("e1.idShort", DummySubmodelFactory.SUBMODEL_OPERATIONAL_DATA_ELEMENT_LIST_ID_SHORT)),
+				path.getArrayFilters());
+		assertEquals(DummySubmodelFactory.SUBMODEL_ELEMENT_FIRST_ID_SHORT, path.getSubmodelElement().getIdShort());
+	}
+
+	@Test
+	public void entityStatementsPath() {
+		Submodel submodel = DummySubmodelFactory.createSubmodelWithAllSubmodelElements();
+
+		MongoDBIdShortPath path = MongoDBIdShortPath.resolve(submodel, SubmodelServiceHelper.SUBMODEL_TECHNICAL_DATA_ENTITY_ID_SHORT);
+
+		assertEquals("submodelElements.$[e0]", path.getFieldPath());
+		assertEquals("submodelElements.$[e0].statements", path.getChildrenFieldPath());
+	}
+
+	@Test
+	public void pathFromParentTypes() {
+		IdShortPath idShortPath = new SubmodelElementIdShortPathParser().parse("entity.collection.list[2]");
+		List<Class<?>> parentTypes = Arrays.asList(DefaultEntity.class, DefaultSubmodelElementCollection.class, DefaultSubmodelElementList.class);
+
+		MongoDBIdShortPath path = MongoDBIdShortPath.create(idShortPath, parentTypes, new DefaultProperty());
+
+		assertEquals("submodelElements.$[e0].statements.$[e1].value.$[e2].value.2", path.getFieldPath());
+	}
+
+	@Test
+	public void typeGuardedPath() {
+		IdShortPath idShortPath = new SubmodelElementIdShortPathParser().parse("collection.property");
+
+		MongoDBIdShortPath path = MongoDBIdShortPath.createTypeGuarded(idShortPath, "_class", "collectionType", "propertyType", DefaultProperty.class);
+
+		assertEquals("submodelElements.$[e0].value.$[e1]", path.getFieldPath());
+		assertEquals(Arrays.asList(new Document("e0.idShort", "collection").append("e0._class", "collectionType"), new Document("e1.idShort", "property").append("e1._class", "propertyType")), path.getArrayFilters());
+	}
+
+	@Test
+	public void typeGuardedPathDocumentFilter() {
+		IdShortPath idShortPath = new SubmodelElementIdShortPathParser().parse("collection.property");
+
+		MongoDBIdShortPath path = MongoDBIdShortPath.createTypeGuarded(idShortPath, "_class", "collectionType", "propertyType", DefaultProperty.class);
+
+		Document propertyMatch = new Document("idShort", "property").append("_class", "propertyType");
+		Document collectionMatch = new Document("idShort", "collection").append("_class", "collectionType").append("value", new Document("$elemMatch", propertyMatch));
+		assertEquals(new Document("submodelElements", new Document("$elemMatch", collectionMatch)), path.getDocumentFilter());
+	}
+
+	@Test
+	public void typeGuardedPathWithListIndex() {
+		IdShortPath idShortPath = new SubmodelElementIdShortPathParser().parse("list[0]");
+
+		assertNull(MongoDBIdShortPath.createTypeGuarded(idShortPath, "_class", "collectionType", "propertyType", DefaultProperty.class));
+	}
+
+	@Test
+	public void arrayFiltersExcludingChild() {
+		IdShortPath idShortPath = new SubmodelElementIdShortPathParser().parse("collection.entity");
+
+		MongoDBIdShortPath path = MongoDBIdShortPath.create(idShortPath, Arrays.asList(DefaultSubmodelElementCollection.class), DefaultEntity.class);
+
+		assertEquals(Arrays.asList(new Document("e0.idShort", "collection"), new Document("e1.idShort", "entity").append("e1.statements.idShort", new Document("$ne", "child"))), path.getArrayFiltersExcludingChild("child"));
+	}
+
+	@Test
+	public void arrayFiltersExcludingChildOfListElement() {
+		IdShortPath idShortPath = new SubmodelElementIdShortPathParser().parse("list[0]");
+
+		MongoDBIdShortPath path = MongoDBIdShortPath.create(idShortPath, Arrays.asList(DefaultSubmodelElementList.class), DefaultSubmodelElementCollection.class);
+
+		assertNull(path.getArrayFiltersExcludingChild("child"));
+	}
+
+	@Test(expected = ElementDoesNotExistException.class)
+	public void listIndexOnNonListParentType() {
+		IdShortPath idShortPath = new SubmodelElementIdShortPathParser().parse("collection[0]");
+
+		MongoDBIdShortPath.create(idShortPath, Arrays.asList(DefaultSubmodelElementCollection.class), new DefaultProperty());
+	}
+
+	@Test(expected = ElementDoesNotExistException.class)
+	public void nonExistingPath() {
+		Submodel submodel = DummySubmodelFactory.createOperationalDataSubmodelWithHierarchicalSubmodelElements();
+
+		MongoDBIdShortPath.resolve(submodel, DummySubmodelFactory.SUBMODEL_OPERATIONAL_DATA_ELEMENT_COLLECTION_ID_SHORT + ".nonExisting");
+	}
+}
@@ -25,15 +25,38 @@
 package org.eclipse.digitaltwin.basyx.submodelrepository;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
 
+import org.eclipse.digitaltwin.aas4j.v3.model.DataTypeDefXSD;
+import org.eclipse.digitaltwin.aas4j.v3.model.Entity;
+import org.eclipse.digitaltwin.aas4j.v3.model.Property;
 import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementCollection;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementList;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultEntity;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultProperty;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodelElementCollection;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodelElementList;
 import org.eclipse.digitaltwin.basyx.InvokableOperation;
 import org.eclipse.digitaltwin.basyx.common.mongocore.MongoDBUtilities;
+import org.eclipse.digitaltwin.basyx.core.exceptions.CollidingIdentifierException;
+import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.FeatureNotSupportedException;
 import org.eclipse.digitaltwin.basyx.submodelrepository.core.SubmodelRepositorySuite;
 import org.eclipse.digitaltwin.basyx.submodelservice.InMemorySubmodelServiceFactory;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.PropertyValue;
 import org.junit.Test;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.junit.Test;
@@ -47,6 +70,7 @@ public class TestMongoDBSubmodelRepository extends SubmodelRepositorySuite {
 	private final MongoTemplate TEMPLATE = new MongoTemplate(CLIENT, "BaSyxTestDb");
 	private final InMemorySubmodelServiceFactory SUBMODEL_SERVICE_FACTORY = new InMemorySubmodelServiceFactory();
 	private static final String CONFIGURED_SM_REPO_NAME = "configured-sm-repo-name";
+	private static final String NESTED_SUBMODEL_ID = "nestedPropertySubmodel";
 
 	@Override
 	protected SubmodelRepository getSubmodelRepository() {
@@ -84,6 +108,125 @@ public class TestMongoDBSubmodelRepository extends SubmodelRepositorySuite {
 		super.invokeNonOperation();
 	}
 
+	@Test
+	public void setNestedPropertyValues() {
+		SubmodelRepository repo = getSubmodelRepository(Arrays.asList(createNestedPropertySubmodel()));
+
+		repo.setSubmodelElementValue(NESTED_SUBMODEL_ID, "collection.property", new PropertyValue("inCollection"));
+		repo.setSubmodelElementValue(NESTED_SUBMODEL_ID, "entity.property", new PropertyValue("inEntity"));
+
+		assertEquals("inCollection", ((Property) repo.getSubmodelElement(NESTED_SUBMODEL_ID, "collection.property")).getValue());
+		assertEquals("inEntity", ((Property) repo.getSubmodelElement(NESTED_SUBMODEL_ID, "entity.property")).getValue());
+	}
+
+	@Test
+	public void setUnchangedPropertyValue() {
+		SubmodelRepository repo = getSubmodelRepository(Arrays.asList(createNestedPropertySubmodel()));
+
+		repo.setSubmodelElementValue(NESTED_SUBMODEL_ID, "collection.property", new PropertyValue("initial"));
+
+		assertEquals("initial", ((Property) repo.getSubmodelElement(NESTED_SUBMODEL_ID, "collection.property")).getValue());
+	}
+
+	@Test(expected = ElementDoesNotExistException.class)
+	public void setNonExistingNestedPropertyValue() {
+		SubmodelRepository repo = getSubmodelRepository(Arrays.asList(createNestedPropertySubmodel()));
+
+		repo.setSubmodelElementValue(NESTED_SUBMODEL_ID, "collection.nonExisting", new PropertyValue("value"));
+	}
+
+	@Test(expected = ElementDoesNotExistException.class)
+	public void setPropertyValueBelowEmptyCollection() {
+		SubmodelElementCollection emptyCollection = new DefaultSubmodelElementCollection.Builder().idShort("emptyCollection").build();
+		Submodel submodel = createNestedPropertySubmodel();
+		submodel.getSubmodelElements().add(emptyCollection);
+		SubmodelRepository repo = getSubmodelRepository(Arrays.asList(submodel));
+
+		repo.setSubmodelElementValue(NESTED_SUBMODEL_ID, "emptyCollection.property", new PropertyValue("value"));
+	}
+
+	@Test
+	public void concurrentNestedAppendsOfSameIdShort() throws Exception {
+		SubmodelRepository repo = getSubmodelRepository(Arrays.asList(createNestedPropertySubmodel()));
+
+		int threadCount = 8;
+		ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<Boolean>> appends = new ArrayList<>();
+		for (int i = 0; i < threadCount; i++) {
+			appends.add(executor.submit(() -> {
+				start.await();
+				try {
+					repo.createSubmodelElement(NESTED_SUBMODEL_ID, "collection", new DefaultProperty.Builder().idShort("appended").build());
+					return true;
+				} catch (CollidingIdentifierException e) {
+					return false;
+				}
+			}));
+		}
+
+		start.countDown();
+		int successful = 0;
+		for (Future<Boolean> append : appends)
+			successful += append.get() ? 1 : 0;
+		executor.shutdown();
+
+		SubmodelElementCollection collection = (SubmodelElementCollection) repo.getSubmodelElement(NESTED_SUBMODEL_ID, "collection");
+		assertEquals(1, successful);
+		assertEquals(1, collection.getValue().stream().filter(child -> "appended".equals(child.getIdShort())).count());
+	}
+
+	@Test(expected = CollidingIdentifierException.class)
+	public void nestedAppendOfExistingIdShort() {
+		SubmodelRepository repo = getSubmodelRepository(Arrays.asList(createNestedPropertySubmodel()));
+
+		repo.createSubmodelElement(NESTED_SUBMODEL_ID, "entity", createProperty());
+	}
+
+	@Test
+	public void createSubmodelWithExistingIdKeepsStoredSubmodel() {
+		SubmodelRepository repo = getSubmodelRepository();
+		repo.createSubmodel(new DefaultSubmodel.Builder().id(NESTED_SUBMODEL_ID).idShort("stored").build());
+
+		try {
+			repo.createSubmodel(new DefaultSubmodel.Builder().id(NESTED_SUBMODEL_ID).idShort("colliding").build());
+			fail();
+		} catch (CollidingIdentifierException expected) {
+		}
+
+		assertEquals("stored", repo.getSubmodel(NESTED_SUBMODEL_ID).getIdShort());
+	}
+
+	@Test
+	public void deleteListChildBelowListElement() {
+		SubmodelElementList innerList = new DefaultSubmodelElementList.Builder().idShort("inner").value(new ArrayList<>(Arrays.asList(createProperty("0"), createProperty("1"), createProperty("2")))).build();
+		SubmodelElementCollection collection = new DefaultSubmodelElementCollection.Builder().idShort("collection").value(innerList).build();
+		SubmodelElementList outerList = new DefaultSubmodelElementList.Builder().idShort("outer").value(new ArrayList<>(Arrays.asList(collection, createProperty("sibling")))).build();
+		Submodel submodel = new DefaultSubmodel.Builder().id(NESTED_SUBMODEL_ID).submodelElements(new ArrayList<>(Arrays.asList(outerList))).build();
+		SubmodelRepository repo = getSubmodelRepository(Arrays.asList(submodel));
+
+		repo.deleteSubmodelElement(NESTED_SUBMODEL_ID, "outer[0].inner[1]");
+
+		List<SubmodelElement> remaining = ((SubmodelElementList) repo.getSubmodelElement(NESTED_SUBMODEL_ID, "outer[0].inner")).getValue();
+		assertEquals(Arrays.asList("0", "2"), remaining.stream().map(element -> ((Property) element).getValue()).collect(Collectors.toList()));
+		assertEquals("sibling", ((Property) repo.getSubmodelElement(NESTED_SUBMODEL_ID, "outer[1]")).getValue());
+	}
+
+	private Submodel createNestedPropertySubmodel() {
+		SubmodelElementCollection collection = new DefaultSubmodelElementCollection.Builder().idShort("collection").value(createProperty()).build();
+		Entity entity = new DefaultEntity.Builder().idShort("entity").statements(createProperty()).build();
+
+		return new DefaultSubmodel.Builder().id(NESTED_SUBMODEL_ID).submodelElements(new ArrayList<>(Arrays.asList(collection, entity))).build();
+	}
+
+	private Property createProperty() {
+		return new DefaultProperty.Builder().idShort("property").valueType(DataTypeDefXSD.STRING).value("initial").build();
+	}
+
+	private Property createProperty(String value) {
+		return new DefaultProperty.Builder().valueType(DataTypeDefXSD.STRING).value(value).build();
+	}
+
 	private void removeInvokableFromInvokableOperation(Submodel sm) {
 		sm.getSubmodelElements().stream()
 		.filter(InvokableOperation.class::isInstance)
@@ -0,0 +1,250 @@
+/*******************************************************************************
+ * Copyright (C) 2023 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.submodelrepository;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.digitaltwin.basyx.submodelservice.value.PropertyValue;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelElementValue;
+import org.junit.After;
+import org.junit.Test;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Tests the coalescing and flushing of the {@link SubmodelValueWriteBuffer}
+ * 
+ * @author schnicke
+ *
+ */
+public class TestSubmodelValueWriteBuffer {
+	private static final String SUBMODEL_ID = "submodel";
+	private static final long NO_PERIODIC_FLUSH = TimeUnit.HOURS.toMillis(1);
+
+	private List<Map<String, Map<String, SubmodelElementValue>>> writtenBatches = Collections.synchronizedList(new ArrayList<>());
+	private SubmodelValueWriteBuffer buffer;
+
+	@After
+	public void closeBuffer() {
+		if (buffer != null)
+			buffer.close();
+	}
+
+	@Test
+	public void repeatedUpdatesAreCoalesced() {
+		buffer = createStartedBuffer(10);
+
+		buffer.put(SUBMODEL_ID, Collections.singletonMap("a", new PropertyValue("1")));
+		buffer.put(SUBMODEL_ID, Collections.singletonMap("b", new PropertyValue("2")));
+		buffer.put(SUBMODEL_ID, Collections.singletonMap("a", new PropertyValue("3")));
+
+		assertEquals(2, buffer.getDepth());
+
+		Map<String, SubmodelElementValue> values = buffer.getValues(SUBMODEL_ID);
+		assertEquals(Arrays.asList("b", "a"), new ArrayList<>(values.keySet()));
+		assertEquals("3", ((PropertyValue) values.get("a")).getValue());
+	}
+
+	@Test
+	public void flushWritesAllBufferedValues() {
+		buffer = createStartedBuffer(10);
+
+		CompletableFuture<Void> flushed = buffer.put(SUBMODEL_ID, createValues("a", "b"));
+		buffer.put("other", createValues("c"));
+		buffer.flush();
+
+		assertTrue(flushed.isDone());
+		assertTrue(buffer.isEmpty());
+		assertEquals(0, buffer.getDepth());
+
+		assertEquals(1, writtenBatches.size());
+		Map<String, Map<String, SubmodelElementValue>> batch = writtenBatches.get(0);
+		assertEquals(createValues("a", "b").keySet(), batch.get(SUBMODEL_ID).keySet());
+		assertEquals(createValues("c").keySet(), batch.get("other").keySet());
+	}
+
+	@Test
+	public void reachingMaxSizeTriggersFlush() throws Exception {
+		buffer = createStartedBuffer(2);
+
+		buffer.put(SUBMODEL_ID, createValues("a"));
+		CompletableFuture<Void> flushed = buffer.put(SUBMODEL_ID, createValues("b"));
+
+		flushed.get(10, TimeUnit.SECONDS);
+		assertEquals(1, writtenBatches.size());
+	}
+
+	@Test
+	public void flushOnAckFlushesWithoutWaitingForTheInterval() throws Exception {
+		buffer = new SubmodelValueWriteBuffer(10, 10, NO_PERIODIC_FLUSH, WriteBehindDurability.FLUSH_ON_ACK);
+		buffer.setWriterIfAbsent(this::write);
+		buffer.start();
+
+		buffer.put(SUBMODEL_ID, createValues("a")).get(10, TimeUnit.SECONDS);
+		buffer.put(SUBMODEL_ID, createValues("b")).get(10, TimeUnit.SECONDS);
+
+		assertEquals(2, writtenBatches.size());
+	}
+
+	@Test
+	public void valuesBeingFlushedRemainVisible() {
+		buffer = new SubmodelValueWriteBuffer(10, 10, NO_PERIODIC_FLUSH, WriteBehindDurability.ASYNC);
+
+		List<Boolean> visibleDuringFlush = new ArrayList<>();
+		buffer.setWriterIfAbsent(batch -> {
+			visibleDuringFlush.add(buffer.getValues(SUBMODEL_ID).containsKey("a"));
+			return Collections.emptyMap();
+		});
+		buffer.start();
+
+		buffer.put(SUBMODEL_ID, createValues("a"));
+		buffer.flush();
+
+		assertEquals(Collections.singletonList(true), visibleDuringFlush);
+		assertFalse(buffer.contains(SUBMODEL_ID));
+	}
+
+	@Test
+	public void failedFlushIsReported() {
+		buffer = new SubmodelValueWriteBuffer(10, 10, NO_PERIODIC_FLUSH, WriteBehindDurability.ASYNC);
+		buffer.setWriterIfAbsent(batch -> {
+			throw new IllegalStateException();
+		});
+		buffer.start();
+
+		MeterRegistry registry = new SimpleMeterRegistry();
+		buffer.bindTo(registry);
+
+		CompletableFuture<Void> flushed = buffer.put(SUBMODEL_ID, createValues("a"));
+		buffer.flush();
+
+		assertTrue(flushed.isCompletedExceptionally());
+		assertTrue(buffer.isEmpty());
+		assertEquals(1, registry.get("basyx.submodelrepository.write-behind.flushes.failed").functionCounter().count(), 0);
+	}
+
+	@Test
+	public void failedSubmodelIsReportedSeparately() {
+		buffer = new SubmodelValueWriteBuffer(10, 10, NO_PERIODIC_FLUSH, WriteBehindDurability.ASYNC);
+		buffer.setWriterIfAbsent(batch -> Collections.singletonMap("other", new IllegalStateException()));
+		buffer.start();
+
+		MeterRegistry registry = new SimpleMeterRegistry();
+		buffer.bindTo(registry);
+
+		CompletableFuture<Void> flushed = buffer.put(SUBMODEL_ID, createValues("a"));
+		CompletableFuture<Void> failed = buffer.put("other", createValues("b", "c"));
+		buffer.flush();
+
+		assertTrue(flushed.isDone());
+		assertFalse(flushed.isCompletedExceptionally());
+		assertTrue(failed.isCompletedExceptionally());
+		assertEquals(1, registry.get("basyx.submodelrepository.write-behind.values.flushed").functionCounter().count(), 0);
+		assertEquals(1, registry.get("basyx.submodelrepository.write-behind.submodels.failed").functionCounter().count(), 0);
+		assertEquals(0, registry.get("basyx.submodelrepository.write-behind.flushes.failed").functionCounter().count(), 0);
+	}
+
+	@Test
+	public void callersFlushWhenMaxPendingSizeIsReached() {
+		buffer = new SubmodelValueWriteBuffer(2, 3, NO_PERIODIC_FLUSH, WriteBehindDurability.FLUSH_ON_ACK);
+		buffer.setWriterIfAbsent(this::write);
+
+		// Without a started scheduler, only the callers flush the buffer
+		buffer.put(SUBMODEL_ID, createValues("a", "b", "c"));
+		assertTrue(writtenBatches.isEmpty());
+
+		buffer.put(SUBMODEL_ID, createValues("d"));
+
+		assertEquals(1, writtenBatches.size());
+		assertEquals(createValues("a", "b", "c").keySet(), writtenBatches.get(0).get(SUBMODEL_ID).keySet());
+		assertEquals(1, buffer.getDepth());
+	}
+
+	@Test
+	public void firstWriterIsKept() {
+		buffer = createStartedBuffer(10);
+		buffer.setWriterIfAbsent(batch -> {
+			throw new IllegalStateException();
+		});
+		buffer.start();
+
+		CompletableFuture<Void> flushed = buffer.put(SUBMODEL_ID, createValues("a"));
+		buffer.flush();
+
+		assertFalse(flushed.isCompletedExceptionally());
+		assertEquals(1, writtenBatches.size());
+	}
+
+	@Test
+	public void metrics() {
+		buffer = createStartedBuffer(10);
+
+		MeterRegistry registry = new SimpleMeterRegistry();
+		buffer.bindTo(registry);
+
+		buffer.put(SUBMODEL_ID, createValues("a", "b"));
+		assertEquals(2, registry.get("basyx.submodelrepository.write-behind.depth").gauge().value(), 0);
+
+		buffer.flush();
+		assertEquals(0, registry.get("basyx.submodelrepository.write-behind.depth").gauge().value(), 0);
+		assertEquals(2, registry.get("basyx.submodelrepository.write-behind.values.flushed").functionCounter().count(), 0);
+		assertEquals(1, registry.get("basyx.submodelrepository.write-behind.flush").timer().count());
+	}
+
+	private SubmodelValueWriteBuffer createStartedBuffer(int maxSize) {
+		SubmodelValueWriteBuffer writeBuffer = new SubmodelValueWriteBuffer(maxSize, maxSize, NO_PERIODIC_FLUSH, WriteBehindDurability.ASYNC);
+		writeBuffer.setWriterIfAbsent(this::write);
+		writeBuffer.start();
+
+		return writeBuffer;
+	}
+
+	private Map<String, RuntimeException> write(Map<String, Map<String, SubmodelElementValue>> batch) {
+		writtenBatches.add(batch);
+
+		return Collections.emptyMap();
+	}
+
+	private static Map<String, SubmodelElementValue> createValues(String... idShortPaths) {
+		Map<String, SubmodelElementValue> values = new LinkedHashMap<>();
+		for (String idShortPath : idShortPaths)
+			values.put(idShortPath, new PropertyValue(idShortPath));
+
+		return values;
+	}
+}
@@ -25,15 +25,20 @@
 
 package org.eclipse.digitaltwin.basyx.submodelrepository;
 
+import java.io.InputStream;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.digitaltwin.aas4j.v3.model.OperationVariable;
 import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
 import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
 import org.eclipse.digitaltwin.basyx.core.exceptions.CollidingIdentifierException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
+import org.eclipse.digitaltwin.basyx.core.pagination.CursorIterator;
 import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
+import org.eclipse.digitaltwin.basyx.submodelrepository.attachment.Attachment;
 import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelElementValue;
 import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelValueOnly;
 
@@ -52,6 +57,35 @@ public interface SubmodelRepository {
 	 */
 	public CursorResult<List<Submodel>> getAllSubmodels(PaginationInfo pInfo);
 
+	/**
+	 * Retrieves all Submodels matching the passed filters from the repository.
+	 * Filters that are null are not applied.
+	 *
+	 * @param semanticId
+	 *            the value of one of the keys of the Submodels' semanticId
+	 * @param idShort
+	 *            the idShort of the Submodels
+	 * @param pInfo
+	 * @return a list of all found Submodels
+	 */
+	public CursorResult<List<Submodel>> getAllSubmodels(String semanticId, String idShort, PaginationInfo pInfo);
+
+	/**
+	 * Iterates the Submodels matching the passed filters while they are read from
+	 * the storage. Filters that are null are not applied. The iterator has to be
+	 * closed if it is not iterated completely.
+	 * 
+	 * @param semanticId
+	 *            the value of one of the keys of the Submodels' semanticId
+	 * @param idShort
+	 *            the idShort of the Submodels
+	 * @param pInfo
+	 * @return the iterator over the found Submodels
+	 */
+	public default CursorIterator<Submodel> iterateAllSubmodels(String semanticId, String idShort, PaginationInfo pInfo) {
+		return CursorIterator.of(getAllSubmodels(semanticId, idShort, pInfo));
+	}
+
 	/**
 	 * Retrieves the Submodel with the specific id
 	 * 
@@ -95,6 +129,25 @@ public interface SubmodelRepository {
 	public CursorResult<List<SubmodelElement>> getSubmodelElements(String submodelId, PaginationInfo pInfo)
 			throws ElementDoesNotExistException;
 
+	/**
+	 * Retrieves the direct children of a SubmodelElementCollection,
+	 * SubmodelElementList or Entity of a Submodel in their order. The cursor is
+	 * the position of the last child of the previous page.
+	 * 
+	 * @param submodelId
+	 *            the Submodel id
+	 * @param idShortPath
+	 *            the idShortPath of the containing SubmodelElement
+	 * @param pInfo
+	 * @return the page of children
+	 * @throws ElementDoesNotExistException
+	 *             if the SubmodelElement or the Submodel does not exist
+	 * @throws IllegalArgumentException
+	 *             if the SubmodelElement does not contain other SubmodelElements
+	 *             or the cursor is invalid
+	 */
+	public CursorResult<List<SubmodelElement>> getSubmodelElements(String submodelId, String idShortPath, PaginationInfo pInfo) throws ElementDoesNotExistException;
+
 	/**
 	 * Retrieves a specific SubmodelElement of a Submodel
 	 *
@@ -135,6 +188,48 @@ public interface SubmodelRepository {
 	 */
 	public void setSubmodelElementValue(String submodelId, String smeIdShort, SubmodelElementValue value) throws ElementDoesNotExistException;
 
+	/**
+	 * Retrieves multiple SubmodelElements of a Submodel
+	 * 
+	 * @param submodelId
+	 *            the Submodel id
+	 * @param idShortPaths
+	 *            the SubmodelElement idShortPaths
+	 * @return the SubmodelElements mapped by their idShortPath, in the order of
+	 *         the passed idShortPaths
+	 * @throws ElementDoesNotExistException
+	 *             if one of the SubmodelElements or the Submodel does not exist
+	 */
+	public Map<String, SubmodelElement> getSubmodelElements(String submodelId, Collection<String> idShortPaths) throws ElementDoesNotExistException;
+
+	/**
+	 * Retrieves the values of multiple SubmodelElements of a Submodel
+	 * 
+	 * @param submodelId
+	 *            the Submodel id
+	 * @param idShortPaths
+	 *            the SubmodelElement idShortPaths
+	 * @return the SubmodelElementValues mapped by their idShortPath, in the order
+	 *         of the passed idShortPaths
+	 * @throws ElementDoesNotExistException
+	 *             if one of the SubmodelElements or the Submodel does not exist
+	 */
+	public Map<String, SubmodelElementValue> getSubmodelElementValues(String submodelId, Collection<String> idShortPaths) throws ElementDoesNotExistException;
+
+	/**
+	 * Sets the values of multiple SubmodelElements of a Submodel. All
+	 * idShortPaths are resolved before any value is set, i.e., if one of the
+	 * SubmodelElements does not exist, no value is changed.
+	 * 
+	 * @param submodelId
+	 *            the Submodel id
+	 * @param values
+	 *            the new values mapped by the idShortPath of their SubmodelElement
+	 * @throws ElementDoesNotExistException
+	 *             if one of the SubmodelElements or the Submodel does not exist
+	 */
+	public void setSubmodelElementValues(String submodelId, Map<String, SubmodelElementValue> values) throws ElementDoesNotExistException;
+
 	/**
 	 * Creates a SubmodelElement in a Submodel
 	 * 
@@ -167,6 +262,42 @@ public interface SubmodelRepository {
 	 */
 	public void deleteSubmodelElement(String submodelId, String idShortPath) throws ElementDoesNotExistException;
 
+	/**
+	 * Retrieves the content attached to a File SubmodelElement
+	 * 
+	 * @param submodelId
+	 *            the Submodel id
+	 * @param idShortPath
+	 *            the File IdShortPath
+	 * @return the attached content
+	 * @throws ElementDoesNotExistException
+	 *             If the File or its content does not exist
+	 * @throws IllegalArgumentException
+	 *             If the SubmodelElement is not a File
+	 */
+	public Attachment getFileByPath(String submodelId, String idShortPath) throws ElementDoesNotExistException;
+
+	/**
+	 * Attaches the content to a File SubmodelElement and sets the File's value
+	 * and content type accordingly
+	 * 
+	 * @param submodelId
+	 *            the Submodel id
+	 * @param idShortPath
+	 *            the File IdShortPath
+	 * @param fileName
+	 *            the new value of the File
+	 * @param contentType
+	 *            the content type of the content
+	 * @param content
+	 *            the content to attach
+	 * @throws ElementDoesNotExistException
+	 *             If the File does not exist
+	 * @throws IllegalArgumentException
+	 *             If the SubmodelElement is not a File
+	 */
+	public void putFileByPath(String submodelId, String idShortPath, String fileName, String contentType, InputStream content) throws ElementDoesNotExistException;
+
 	/**
 	 * Returns the name of the repository
 	 * 
@@ -0,0 +1,76 @@
+/*******************************************************************************
+ * Copyright (C) 2023 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.submodelrepository.attachment;
+
+import java.io.IOException;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * The content attached to a File SubmodelElement
+ * 
+ * @author schnicke
+ *
+ */
+public interface Attachment {
+
+	/**
+	 * @return the size of the content in bytes
+	 */
+	public long getSize();
+
+	/**
+	 * Transfers a range of the content to the target channel without loading the
+	 * whole content into memory
+	 * 
+	 * @param position
+	 *            the position of the first byte to transfer
+	 * @param count
+	 *            the number of bytes to transfer
+	 * @param target
+	 * @throws IOException
+	 */
+	public void transferTo(long position, long count, WritableByteChannel target) throws IOException;
+
+	/**
+	 * @return the content type of the File the content is attached to or null if
+	 *         it is not known
+	 */
+	public default String getContentType() {
+		return null;
+	}
+
+	/**
+	 * Returns the file holding the content, allowing the container to send it
+	 * without passing it through the application
+	 * 
+	 * @return the file or an empty Optional if the content is not kept in a file
+	 */
+	public default Optional<Path> getFile() {
+		return Optional.empty();
+	}
+}
@@ -0,0 +1,78 @@
+/*******************************************************************************
+ * Copyright (C) 2023 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.submodelrepository.attachment;
+
+import java.io.InputStream;
+
+import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
+
+/**
+ * Stores the content attached to File SubmodelElements. The content is
+ * addressed by its hash, thus identical content attached to several
+ * SubmodelElements is stored only once.
+ * 
+ * @author schnicke
+ *
+ */
+public interface AttachmentStore {
+
+	/**
+	 * Retrieves the content attached to the SubmodelElement
+	 * 
+	 * @param submodelId
+	 * @param idShortPath
+	 * @return the attached content
+	 * @throws ElementDoesNotExistException
+	 *             if there is no content attached
+	 */
+	public Attachment get(String submodelId, String idShortPath) throws ElementDoesNotExistException;
+
+	/**
+	 * Attaches the content to the SubmodelElement. Previously attached content is
+	 * replaced.
+	 * 
+	 * @param submodelId
+	 * @param idShortPath
+	 * @param content
+	 */
+	public void put(String submodelId, String idShortPath, InputStream content);
+
+	/**
+	 * Removes the content attached to the SubmodelElement and to its nested
+	 * SubmodelElements
+	 * 
+	 * @param submodelId
+	 * @param idShortPath
+	 */
+	public void delete(String submodelId, String idShortPath);
+
+	/**
+	 * Removes the content attached to all SubmodelElements of the Submodel
+	 * 
+	 * @param submodelId
+	 */
+	public void deleteAll(String submodelId);
+}
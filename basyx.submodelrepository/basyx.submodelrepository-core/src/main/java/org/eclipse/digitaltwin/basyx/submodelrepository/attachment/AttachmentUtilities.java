@@ -0,0 +1,171 @@
+/*******************************************************************************
+ * Copyright (C) 2023 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.submodelrepository.attachment;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Optional;
+
+import org.eclipse.digitaltwin.aas4j.v3.model.File;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+
+/**
+ * Utilities for storing the content attached to File SubmodelElements
+ * 
+ * @author schnicke
+ *
+ */
+public class AttachmentUtilities {
+
+	private static final String HASH_ALGORITHM = "SHA-256";
+
+	private AttachmentUtilities() {
+	}
+
+	/**
+	 * Writes the content to the target file while computing its hash. Thus, the
+	 * content is read only once.
+	 * 
+	 * @param content
+	 * @param target
+	 * @return the hex encoded SHA-256 hash of the content
+	 * @throws IOException
+	 */
+	public static String writeAndHash(InputStream content, Path target) throws IOException {
+		DigestInputStream digestStream = new DigestInputStream(content, createDigest());
+
+		try (OutputStream out = Files.newOutputStream(target)) {
+			digestStream.transferTo(out);
+		}
+
+		return toHex(digestStream.getMessageDigest().digest());
+	}
+
+	/**
+	 * Checks whether the idShortPath addresses the SubmodelElement itself or one
+	 * of its nested SubmodelElements
+	 * 
+	 * @param idShortPath
+	 * @param parentIdShortPath
+	 * @return true, if the path is the parent path or nested below it
+	 */
+	public static boolean isSameOrNested(String idShortPath, String parentIdShortPath) {
+		if (!idShortPath.startsWith(parentIdShortPath))
+			return false;
+
+		if (idShortPath.length() == parentIdShortPath.length())
+			return true;
+
+		char separator = idShortPath.charAt(parentIdShortPath.length());
+		return separator == '.' || separator == '[';
+	}
+
+	/**
+	 * Attachments are only supported by File SubmodelElements
+	 * 
+	 * @param submodelElement
+	 * @param idShortPath
+	 * @throws IllegalArgumentException
+	 *             if the SubmodelElement is not a File
+	 */
+	public static void throwIfNotAFile(SubmodelElement submodelElement, String idShortPath) {
+		if (!(submodelElement instanceof File))
+			throw new IllegalArgumentException("The SubmodelElement " + idShortPath + " is not a File");
+	}
+
+	/**
+	 * Retrieves the content attached to the already read SubmodelElement. Thus,
+	 * the returned Attachment provides the content type of the File without
+	 * reading it again.
+	 * 
+	 * @param attachmentStore
+	 * @param submodelId
+	 * @param idShortPath
+	 * @param submodelElement
+	 *            the SubmodelElement at the idShortPath
+	 * @return the attached content
+	 * @throws IllegalArgumentException
+	 *             if the SubmodelElement is not a File
+	 */
+	public static Attachment getAttachment(AttachmentStore attachmentStore, String submodelId, String idShortPath, SubmodelElement submodelElement) {
+		throwIfNotAFile(submodelElement, idShortPath);
+
+		return new FileElementAttachment(attachmentStore.get(submodelId, idShortPath), ((File) submodelElement).getContentType());
+	}
+
+	private static MessageDigest createDigest() {
+		try {
+			return MessageDigest.getInstance(HASH_ALGORITHM);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static String toHex(byte[] bytes) {
+		StringBuilder builder = new StringBuilder(bytes.length * 2);
+		for (byte b : bytes)
+			builder.append(String.format("%02x", b));
+
+		return builder.toString();
+	}
+
+	private static class FileElementAttachment implements Attachment {
+		private final Attachment content;
+		private final String contentType;
+
+		public FileElementAttachment(Attachment content, String contentType) {
+			this.content = content;
+			this.contentType = contentType;
+		}
+
+		@Override
+		public long getSize() {
+			return content.getSize();
+		}
+
+		@Override
+		public void transferTo(long position, long count, WritableByteChannel target) throws IOException {
+			content.transferTo(position, count, target);
+		}
+
+		@Override
+		public String getContentType() {
+			return contentType;
+		}
+
+		@Override
+		public Optional<Path> getFile() {
+			return content.getFile();
+		}
+	}
+}
@@ -26,29 +26,51 @@
 package org.eclipse.digitaltwin.basyx.submodelrepository.core;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.stream.Collectors;
 
 import org.eclipse.digitaltwin.aas4j.v3.model.DataTypeDefXSD;
+import org.eclipse.digitaltwin.aas4j.v3.model.File;
+import org.eclipse.digitaltwin.aas4j.v3.model.KeyTypes;
 import org.eclipse.digitaltwin.aas4j.v3.model.OperationVariable;
 import org.eclipse.digitaltwin.aas4j.v3.model.Property;
+import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
+import org.eclipse.digitaltwin.aas4j.v3.model.ReferenceTypes;
 import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
 import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultKey;
 import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultProperty;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultReference;
 import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodel;
 import org.eclipse.digitaltwin.basyx.core.exceptions.CollidingIdentifierException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.IdentificationMismatchException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.NotInvokableException;
+import org.eclipse.digitaltwin.basyx.core.pagination.CursorIterator;
 import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
 import org.eclipse.digitaltwin.basyx.submodelrepository.SubmodelRepository;
+import org.eclipse.digitaltwin.basyx.submodelrepository.attachment.Attachment;
 import org.eclipse.digitaltwin.basyx.submodelservice.DummySubmodelFactory;
 import org.eclipse.digitaltwin.basyx.submodelservice.SubmodelServiceHelper;
 import org.eclipse.digitaltwin.basyx.submodelservice.value.PropertyValue;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelElementValue;
 import org.junit.Test;
 
 /**
@@ -59,6 +81,8 @@ import org.junit.Test;
  */
 public abstract class SubmodelRepositorySuite {
 	private static final PaginationInfo NO_LIMIT_PAGINATION_INFO = new PaginationInfo(0, null);
+	private static final String FILTER_SEMANTIC_ID = "urn:basyx:test:filter";
+	private static final String ATTACHMENT_CONTENT = "Hello BaSyx attachment";
 
 	protected abstract SubmodelRepository getSubmodelRepository();
 
@@ -87,6 +111,65 @@ public abstract class SubmodelRepositorySuite {
 		assertIsEmpty(submodels);
 	}
 
+	@Test
+	public void getAllSubmodelsBySemanticIdPaged() {
+		SubmodelRepository repo = getSubmodelRepositoryWithFilterableSubmodels();
+
+		CursorResult<List<Submodel>> firstPage = repo.getAllSubmodels(FILTER_SEMANTIC_ID, null, new PaginationInfo(2, null));
+		assertEquals(Arrays.asList("filter1", "filter2"), getIds(firstPage.getResult()));
+
+		CursorResult<List<Submodel>> secondPage = repo.getAllSubmodels(FILTER_SEMANTIC_ID, null, new PaginationInfo(2, firstPage.getCursor()));
+		assertEquals(Arrays.asList("filter3"), getIds(secondPage.getResult()));
+	}
+
+	@Test
+	public void iterateAllSubmodelsByIdShortPaged() {
+		SubmodelRepository repo = getSubmodelRepositoryWithFilterableSubmodels();
+
+		CursorIterator<Submodel> firstPage = repo.iterateAllSubmodels(null, "filterA", new PaginationInfo(2, null));
+		assertEquals(Arrays.asList("filter1", "filter3"), getIds(firstPage));
+		assertEquals("filter3", firstPage.getCursor());
+
+		CursorIterator<Submodel> secondPage = repo.iterateAllSubmodels(null, "filterA", new PaginationInfo(2, firstPage.getCursor()));
+		assertEquals(Arrays.asList("other"), getIds(secondPage));
+		assertNull(secondPage.getCursor());
+	}
+
+	@Test
+	public void getAllSubmodelsByIdShort() {
+		SubmodelRepository repo = getSubmodelRepositoryWithFilterableSubmodels();
+
+		List<Submodel> submodels = repo.getAllSubmodels(null, "filterA", NO_LIMIT_PAGINATION_INFO).getResult();
+		assertEquals(Arrays.asList("filter1", "filter3", "other"), getIds(submodels));
+	}
+
+	@Test
+	public void getAllSubmodelsBySemanticIdAndIdShort() {
+		SubmodelRepository repo = getSubmodelRepositoryWithFilterableSubmodels();
+
+		List<Submodel> submodels = repo.getAllSubmodels(FILTER_SEMANTIC_ID, "filterA", NO_LIMIT_PAGINATION_INFO).getResult();
+		assertEquals(Arrays.asList("filter1", "filter3"), getIds(submodels));
+	}
+
+	@Test
+	public void getAllSubmodelsByNonExistingSemanticId() {
+		SubmodelRepository repo = getSubmodelRepositoryWithFilterableSubmodels();
+
+		assertIsEmpty(repo.getAllSubmodels("urn:nonExisting", null, NO_LIMIT_PAGINATION_INFO).getResult());
+	}
+
+	@Test
+	public void getAllSubmodelsBySemanticIdAfterUpdateAndDelete() {
+		SubmodelRepository repo = getSubmodelRepositoryWithFilterableSubmodels();
+
+		repo.updateSubmodel("filter1", buildFilterableSubmodel("filter1", "filterA", "urn:changed"));
+		repo.deleteSubmodel("filter2");
+		repo.updateSubmodel("other", buildFilterableSubmodel("other", "filterA", FILTER_SEMANTIC_ID));
+
+		List<Submodel> submodels = repo.getAllSubmodels(FILTER_SEMANTIC_ID, null, NO_LIMIT_PAGINATION_INFO).getResult();
+		assertEquals(Arrays.asList("filter3", "other"), getIds(submodels));
+	}
+
 	@Test
 	public void getSpecificSubmodel() {
 		SubmodelRepository repo = getSubmodelRepositoryWithDummySubmodels();
@@ -261,6 +344,86 @@ public abstract class SubmodelRepositorySuite {
 		repo.setSubmodelElementValue("nonExisting", "doesNotMatter", valueToWrite);
 	}
 
+	@Test
+	public void getSubmodelElementsByIdShortPaths() {
+		SubmodelRepository repo = getSubmodelRepositoryWithDummySubmodels();
+		List<String> idShortPaths = Arrays.asList(getNestedCollectionPropertyPath(), DummySubmodelFactory.SUBMODEL_ELEMENT_SIMPLE_DATA_ID_SHORT, getNestedListPropertyPath());
+
+		Map<String, SubmodelElement> submodelElements = repo.getSubmodelElements(DummySubmodelFactory.SUBMODEL_SIMPLE_DATA_ID, idShortPaths);
+
+		assertEquals(idShortPaths, new ArrayList<>(submodelElements.keySet()));
+		for (String idShortPath : idShortPaths)
+			assertEquals(repo.getSubmodelElement(DummySubmodelFactory.SUBMODEL_SIMPLE_DATA_ID, idShortPath), submodelElements.get(idShortPath));
+	}
+
+	@Test(expected = ElementDoesNotExistException.class)
+	public void getSubmodelElementsByIdShortPathsWithNonExistingElement() {
+		SubmodelRepository repo = getSubmodelRepositoryWithDummySubmodels();
+
+		repo.getSubmodelElements(DummySubmodelFactory.SUBMODEL_SIMPLE_DATA_ID, Arrays.asList(getNestedCollectionPropertyPath(), "nonExisting"));
+	}
+
+	@Test
+	public void getSubmodelElementValues() {
+		SubmodelRepository repo = getSubmodelRepositoryWithDummySubmodels();
+		List<String> idShortPaths = Arrays.asList(getNestedCollectionPropertyPath(), getNestedListPropertyPath());
+
+		Map<String, SubmodelElementValue> values = repo.getSubmodelElementValues(DummySubmodelFactory.SUBMODEL_SIMPLE_DATA_ID, idShortPaths);
+
+		assertEquals(idShortPaths, new ArrayList<>(values.keySet()));
+		for (SubmodelElementValue value : values.values())
+			assertEquals(DummySubmodelFactory.SUBMODEL_OPERATIONAL_DATA_PROPERTY_VALUE, ((PropertyValue) value).getValue());
+	}
+
+	@Test(expected = ElementDoesNotExistException.class)
+	public void getSubmodelElementValuesOfNonExistingSubmodel() {
+		SubmodelRepository repo = getSubmodelRepositoryWithDummySubmodels();
+
+		repo.getSubmodelElementValues("nonExisting", Arrays.asList("doesNotMatter"));
+	}
+
+	@Test
+	public void setSubmodelElementValues() {
+		SubmodelRepository repo = getSubmodelRepositoryWithDummySubmodels();
+
+		Map<String, SubmodelElementValue> values = new LinkedHashMap<>();
+		values.put(getNestedCollectionPropertyPath(), new PropertyValue("201"));
+		values.put(getNestedListPropertyPath(), new PropertyValue("202"));
+		values.put(DummySubmodelFactory.SUBMODEL_ELEMENT_SIMPLE_DATA_ID_SHORT, new PropertyValue("203"));
+
+		repo.setSubmodelElementValues(DummySubmodelFactory.SUBMODEL_SIMPLE_DATA_ID, values);
+
+		for (Entry<String, SubmodelElementValue> entry : values.entrySet()) {
+			PropertyValue retrievedValue = (PropertyValue) repo.getSubmodelElementValue(DummySubmodelFactory.SUBMODEL_SIMPLE_DATA_ID, entry.getKey());
+			assertEquals(((PropertyValue) entry.getValue()).getValue(), retrievedValue.getValue());
+		}
+	}
+
+	@Test
+	public void setSubmodelElementValuesWithNonExistingElementChangesNothing() {
+		SubmodelRepository repo = getSubmodelRepositoryWithDummySubmodels();
+
+		Map<String, SubmodelElementValue> values = new LinkedHashMap<>();
+		values.put(getNestedCollectionPropertyPath(), new PropertyValue("201"));
+		values.put("nonExisting", new PropertyValue("doesNotMatter"));
+
+		try {
+			repo.setSubmodelElementValues(DummySubmodelFactory.SUBMODEL_SIMPLE_DATA_ID, values);
+			fail();
+		} catch (ElementDoesNotExistException expected) {
+		}
+
+		PropertyValue retrievedValue = (PropertyValue) repo.getSubmodelElementValue(DummySubmodelFactory.SUBMODEL_SIMPLE_DATA_ID, getNestedCollectionPropertyPath());
+		assertEquals(DummySubmodelFactory.SUBMODEL_OPERATIONAL_DATA_PROPERTY_VALUE, retrievedValue.getValue());
+	}
+
+	@Test(expected = ElementDoesNotExistException.class)
+	public void setSubmodelElementValuesOfNonExistingSubmodel() {
+		SubmodelRepository repo = getSubmodelRepositoryWithDummySubmodels();
+
+		repo.setSubmodelElementValues("nonExisting", Collections.singletonMap("doesNotMatter", new PropertyValue("400")));
+	}
+
 	@Test
 	public void createSubmodelElement() {
 		SubmodelRepository repo = getSubmodelRepositoryWithDummySubmodels();
@@ -289,6 +452,53 @@ public abstract class SubmodelRepositorySuite {
 		}
 	}
 
+	@Test
+	public void putAndGetFile() throws IOException {
+		SubmodelRepository repo = getSubmodelRepositoryWithDummySubmodels();
+		repo.putFileByPath(DummySubmodelFactory.SUBMODEL_TECHNICAL_DATA_ID, SubmodelServiceHelper.SUBMODEL_TECHNICAL_DATA_FILE_ID_SHORT, "manual.txt", "text/plain", toStream(ATTACHMENT_CONTENT));
+
+		Attachment attachment = repo.getFileByPath(DummySubmodelFactory.SUBMODEL_TECHNICAL_DATA_ID, SubmodelServiceHelper.SUBMODEL_TECHNICAL_DATA_FILE_ID_SHORT);
+		assertEquals(ATTACHMENT_CONTENT.length(), attachment.getSize());
+		assertEquals(ATTACHMENT_CONTENT, read(attachment, 0, attachment.getSize()));
+		assertEquals("text/plain", attachment.getContentType());
+
+		File file = (File) repo.getSubmodelElement(DummySubmodelFactory.SUBMODEL_TECHNICAL_DATA_ID, SubmodelServiceHelper.SUBMODEL_TECHNICAL_DATA_FILE_ID_SHORT);
+		assertEquals("manual.txt", file.getValue());
+		assertEquals("text/plain", file.getContentType());
+	}
+
+	@Test
+	public void getFileRange() throws IOException {
+		SubmodelRepository repo = getSubmodelRepositoryWithDummySubmodels();
+		repo.putFileByPath(DummySubmodelFactory.SUBMODEL_TECHNICAL_DATA_ID, SubmodelServiceHelper.SUBMODEL_TECHNICAL_DATA_FILE_ID_SHORT, "manual.txt", "text/plain", toStream(ATTACHMENT_CONTENT));
+
+		Attachment attachment = repo.getFileByPath(DummySubmodelFactory.SUBMODEL_TECHNICAL_DATA_ID, SubmodelServiceHelper.SUBMODEL_TECHNICAL_DATA_FILE_ID_SHORT);
+		assertEquals(ATTACHMENT_CONTENT.substring(6, 16), read(attachment, 6, 10));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void putFileOnNonFileSubmodelElement() {
+		SubmodelRepository repo = getSubmodelRepositoryWithDummySubmodels();
+		repo.putFileByPath(DummySubmodelFactory.SUBMODEL_TECHNICAL_DATA_ID, SubmodelServiceHelper.SUBMODEL_TECHNICAL_DATA_PROPERTY_ID_SHORT, "manual.txt", "text/plain", toStream(ATTACHMENT_CONTENT));
+	}
+
+	@Test(expected = ElementDoesNotExistException.class)
+	public void putFileOnNonExistingSubmodelElement() {
+		SubmodelRepository repo = getSubmodelRepositoryWithDummySubmodels();
+		repo.putFileByPath(DummySubmodelFactory.SUBMODEL_TECHNICAL_DATA_ID, "nonExisting", "manual.txt", "text/plain", toStream(ATTACHMENT_CONTENT));
+	}
+
+	@Test(expected = ElementDoesNotExistException.class)
+	public void getFileOfRecreatedFileSubmodelElement() {
+		SubmodelRepository repo = getSubmodelRepositoryWithDummySubmodels();
+		repo.putFileByPath(DummySubmodelFactory.SUBMODEL_TECHNICAL_DATA_ID, SubmodelServiceHelper.SUBMODEL_TECHNICAL_DATA_FILE_ID_SHORT, "manual.txt", "text/plain", toStream(ATTACHMENT_CONTENT));
+
+		repo.deleteSubmodelElement(DummySubmodelFactory.SUBMODEL_TECHNICAL_DATA_ID, SubmodelServiceHelper.SUBMODEL_TECHNICAL_DATA_FILE_ID_SHORT);
+		repo.createSubmodelElement(DummySubmodelFactory.SUBMODEL_TECHNICAL_DATA_ID, SubmodelServiceHelper.createFileSubmodelElement());
+
+		repo.getFileByPath(DummySubmodelFactory.SUBMODEL_TECHNICAL_DATA_ID, SubmodelServiceHelper.SUBMODEL_TECHNICAL_DATA_FILE_ID_SHORT);
+	}
+
 	@Test
 	public void createNestedSubmodelELement() {
 		SubmodelRepository repo = getSubmodelRepositoryWithDummySubmodels();
@@ -317,6 +527,61 @@ public abstract class SubmodelRepositorySuite {
 		assertEquals("test987", propertyInSmeListCreated.getIdShort());
 	}
 
+	@Test(expected = CollidingIdentifierException.class)
+	public void createNestedSubmodelElementWithCollidingIdShort() {
+		SubmodelRepository repo = getSubmodelRepositoryWithDummySubmodels();
+
+		repo.createSubmodelElement(DummySubmodelFactory.SUBMODEL_SIMPLE_DATA_ID, DummySubmodelFactory.SUBMODEL_ELEMENT_COLLECTION_SIMPLE, createProperty(DummySubmodelFactory.SUBMODEL_ELEMENT_FIRST_ID_SHORT, "305"));
+	}
+
+	@Test
+	public void createNestedSubmodelElementWithTopLevelIdShort() {
+		SubmodelRepository repo = getSubmodelRepositoryWithDummySubmodels();
+
+		repo.createSubmodelElement(DummySubmodelFactory.SUBMODEL_SIMPLE_DATA_ID, DummySubmodelFactory.SUBMODEL_ELEMENT_COLLECTION_SIMPLE, createProperty(DummySubmodelFactory.SUBMODEL_ELEMENT_SIMPLE_DATA_ID_SHORT, "305"));
+
+		String idShortPath = DummySubmodelFactory.SUBMODEL_ELEMENT_COLLECTION_SIMPLE + "." + DummySubmodelFactory.SUBMODEL_ELEMENT_SIMPLE_DATA_ID_SHORT;
+		Property created = (Property) repo.getSubmodelElement(DummySubmodelFactory.SUBMODEL_SIMPLE_DATA_ID, idShortPath);
+		assertEquals("305", created.getValue());
+	}
+
+	@Test
+	public void appendSubmodelElementsToList() {
+		SubmodelRepository repo = getSubmodelRepositoryWithDummySubmodels();
+
+		for (int i = 0; i < 3; i++)
+			repo.createSubmodelElement(DummySubmodelFactory.SUBMODEL_SIMPLE_DATA_ID, DummySubmodelFactory.SUBMODEL_ELEMENT_LIST_SIMPLE, createProperty(DummySubmodelFactory.SUBMODEL_ELEMENT_SECOND_ID_SHORT, String.valueOf(i)));
+
+		for (int i = 0; i < 3; i++) {
+			String idShortPath = DummySubmodelFactory.SUBMODEL_ELEMENT_LIST_SIMPLE + "[" + (i + 1) + "]";
+			Property appended = (Property) repo.getSubmodelElement(DummySubmodelFactory.SUBMODEL_SIMPLE_DATA_ID, idShortPath);
+			assertEquals(String.valueOf(i), appended.getValue());
+		}
+	}
+
+	@Test
+	public void getNestedSubmodelElementsPaged() {
+		SubmodelRepository repo = getSubmodelRepositoryWithDummySubmodels();
+		for (int i = 0; i < 2; i++)
+			repo.createSubmodelElement(DummySubmodelFactory.SUBMODEL_SIMPLE_DATA_ID, DummySubmodelFactory.SUBMODEL_ELEMENT_LIST_SIMPLE, createProperty(DummySubmodelFactory.SUBMODEL_ELEMENT_SECOND_ID_SHORT, String.valueOf(i)));
+
+		CursorResult<List<SubmodelElement>> firstPage = repo.getSubmodelElements(DummySubmodelFactory.SUBMODEL_SIMPLE_DATA_ID, DummySubmodelFactory.SUBMODEL_ELEMENT_LIST_SIMPLE, new PaginationInfo(2, null));
+		assertEquals(2, firstPage.getResult().size());
+		assertEquals("0", ((Property) firstPage.getResult().get(1)).getValue());
+
+		CursorResult<List<SubmodelElement>> secondPage = repo.getSubmodelElements(DummySubmodelFactory.SUBMODEL_SIMPLE_DATA_ID, DummySubmodelFactory.SUBMODEL_ELEMENT_LIST_SIMPLE, new PaginationInfo(2, firstPage.getCursor()));
+		assertEquals(1, secondPage.getResult().size());
+		assertEquals("1", ((Property) secondPage.getResult().get(0)).getValue());
+		assertNull(secondPage.getCursor());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void getNestedSubmodelElementsOfNonContainer() {
+		SubmodelRepository repo = getSubmodelRepositoryWithDummySubmodels();
+
+		repo.getSubmodelElements(DummySubmodelFactory.SUBMODEL_SIMPLE_DATA_ID, DummySubmodelFactory.SUBMODEL_ELEMENT_SIMPLE_DATA_ID_SHORT, new PaginationInfo(2, null));
+	}
+
 	@Test(expected = ElementDoesNotExistException.class)
 	public void deleteNestedSubmodelElementInSubmodelElementCollection() {
 		SubmodelRepository repo = getSubmodelRepositoryWithDummySubmodels();
@@ -388,6 +653,13 @@ public abstract class SubmodelRepositorySuite {
 	}
 
 
+	private Property createProperty(String idShort, String value) {
+		return new DefaultProperty.Builder().idShort(idShort)
+				.value(value)
+				.valueType(DataTypeDefXSD.INTEGER)
+				.build();
+	}
+
 	private SubmodelElement getExpectedSubmodelElement() {
 		return DummySubmodelFactory.createOperationalDataSubmodel()
 				.getSubmodelElements()
@@ -407,6 +679,58 @@ public abstract class SubmodelRepositorySuite {
 				.build();
 	}
 
+	private String getNestedCollectionPropertyPath() {
+		return DummySubmodelFactory.SUBMODEL_ELEMENT_COLLECTION_SIMPLE + "." + DummySubmodelFactory.SUBMODEL_ELEMENT_FIRST_ID_SHORT;
+	}
+
+	private String getNestedListPropertyPath() {
+		return DummySubmodelFactory.SUBMODEL_ELEMENT_LIST_SIMPLE + "[0]";
+	}
+
+	private SubmodelRepository getSubmodelRepositoryWithFilterableSubmodels() {
+		SubmodelRepository repo = getSubmodelRepository();
+		repo.createSubmodel(buildFilterableSubmodel("filter3", "filterA", FILTER_SEMANTIC_ID));
+		repo.createSubmodel(buildFilterableSubmodel("filter1", "filterA", FILTER_SEMANTIC_ID));
+		repo.createSubmodel(buildFilterableSubmodel("other", "filterA", "urn:other"));
+		repo.createSubmodel(buildFilterableSubmodel("filter2", "filterB", FILTER_SEMANTIC_ID));
+		return repo;
+	}
+
+	private Submodel buildFilterableSubmodel(String id, String idShort, String semanticId) {
+		Reference reference = new DefaultReference.Builder().type(ReferenceTypes.EXTERNAL_REFERENCE)
+				.keys(new DefaultKey.Builder().type(KeyTypes.GLOBAL_REFERENCE)
+						.value(semanticId)
+						.build())
+				.build();
+
+		return new DefaultSubmodel.Builder().id(id)
+				.idShort(idShort)
+				.semanticID(reference)
+				.build();
+	}
+
+	private List<String> getIds(CursorIterator<Submodel> submodels) {
+		List<String> ids = new ArrayList<>();
+		submodels.forEachRemaining(submodel -> ids.add(submodel.getId()));
+		return ids;
+	}
+
+	private List<String> getIds(List<Submodel> submodels) {
+		return submodels.stream()
+				.map(Submodel::getId)
+				.collect(Collectors.toList());
+	}
+
+	private static ByteArrayInputStream toStream(String content) {
+		return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static String read(Attachment attachment, long position, long count) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		attachment.transferTo(position, count, Channels.newChannel(out));
+		return new String(out.toByteArray(), StandardCharsets.UTF_8);
+	}
+
 	private SubmodelRepository getSubmodelRepositoryWithDummySubmodels() {
 		Collection<Submodel> expectedSubmodels = DummySubmodelFactory.getSubmodels();
 		SubmodelRepository repo = getSubmodelRepository(expectedSubmodels);
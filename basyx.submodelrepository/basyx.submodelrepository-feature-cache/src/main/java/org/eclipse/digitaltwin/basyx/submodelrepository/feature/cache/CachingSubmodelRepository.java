@@ -0,0 +1,240 @@
+/*******************************************************************************
+ * Copyright (C) 2023 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+
+package org.eclipse.digitaltwin.basyx.submodelrepository.feature.cache;
+
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.digitaltwin.aas4j.v3.model.OperationVariable;
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.basyx.core.exceptions.CollidingIdentifierException;
+import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
+import org.eclipse.digitaltwin.basyx.core.pagination.CursorIterator;
+import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
+import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
+import org.eclipse.digitaltwin.basyx.submodelrepository.SubmodelRepository;
+import org.eclipse.digitaltwin.basyx.submodelrepository.attachment.Attachment;
+import org.eclipse.digitaltwin.basyx.submodelservice.InMemorySubmodelService;
+import org.eclipse.digitaltwin.basyx.submodelservice.LockingSubmodelService;
+import org.eclipse.digitaltwin.basyx.submodelservice.SubmodelService;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelElementValue;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelValueOnly;
+
+/**
+ * Repository decorator serving reads of single Submodels from a
+ * {@link SubmodelCache}. Value writes are applied to the cached entry of the
+ * Submodel, whereas structural writes invalidate it.<br>
+ * <br>
+ * As with the in-memory backend, the returned objects are the cached ones and
+ * must not be modified by the caller.
+ * 
+ * @author schnicke
+ *
+ */
+public class CachingSubmodelRepository implements SubmodelRepository {
+	private static final PaginationInfo NO_LIMIT_PAGINATION_INFO = new PaginationInfo(0, null);
+
+	private final SubmodelRepository decorated;
+	private final SubmodelCache cache;
+
+	public CachingSubmodelRepository(SubmodelRepository decorated, SubmodelCache cache) {
+		this.decorated = decorated;
+		this.cache = cache;
+	}
+
+	@Override
+	public CursorResult<List<Submodel>> getAllSubmodels(PaginationInfo pInfo) {
+		return decorated.getAllSubmodels(pInfo);
+	}
+
+	@Override
+	public CursorResult<List<Submodel>> getAllSubmodels(String semanticId, String idShort, PaginationInfo pInfo) {
+		return decorated.getAllSubmodels(semanticId, idShort, pInfo);
+	}
+
+	@Override
+	public CursorIterator<Submodel> iterateAllSubmodels(String semanticId, String idShort, PaginationInfo pInfo) {
+		return decorated.iterateAllSubmodels(semanticId, idShort, pInfo);
+	}
+
+	@Override
+	public Submodel getSubmodel(String submodelId) throws ElementDoesNotExistException {
+		return getSubmodelService(submodelId).getSubmodel();
+	}
+
+	@Override
+	public void updateSubmodel(String submodelId, Submodel submodel) throws ElementDoesNotExistException {
+		try {
+			decorated.updateSubmodel(submodelId, submodel);
+		} finally {
+			cache.invalidate(submodelId);
+		}
+	}
+
+	@Override
+	public void createSubmodel(Submodel submodel) throws CollidingIdentifierException {
+		decorated.createSubmodel(submodel);
+	}
+
+	@Override
+	public void deleteSubmodel(String submodelId) throws ElementDoesNotExistException {
+		try {
+			decorated.deleteSubmodel(submodelId);
+		} finally {
+			cache.invalidate(submodelId);
+		}
+	}
+
+	@Override
+	public CursorResult<List<SubmodelElement>> getSubmodelElements(String submodelId, PaginationInfo pInfo) throws ElementDoesNotExistException {
+		return getSubmodelService(submodelId).getSubmodelElements(pInfo);
+	}
+
+	@Override
+	public CursorResult<List<SubmodelElement>> getSubmodelElements(String submodelId, String idShortPath, PaginationInfo pInfo) throws ElementDoesNotExistException {
+		return getSubmodelService(submodelId).getSubmodelElements(idShortPath, pInfo);
+	}
+
+	@Override
+	public SubmodelElement getSubmodelElement(String submodelId, String idShortPath) throws ElementDoesNotExistException {
+		return getSubmodelService(submodelId).getSubmodelElement(idShortPath);
+	}
+
+	@Override
+	public SubmodelElementValue getSubmodelElementValue(String submodelId, String idShortPath) throws ElementDoesNotExistException {
+		return getSubmodelService(submodelId).getSubmodelElementValue(idShortPath);
+	}
+
+	@Override
+	public void setSubmodelElementValue(String submodelId, String idShortPath, SubmodelElementValue value) throws ElementDoesNotExistException {
+		try {
+			decorated.setSubmodelElementValue(submodelId, idShortPath, value);
+		} catch (RuntimeException e) {
+			cache.invalidate(submodelId);
+			throw e;
+		}
+
+		cache.update(submodelId, submodelService -> submodelService.setSubmodelElementValue(idShortPath, value));
+	}
+
+	@Override
+	public Map<String, SubmodelElement> getSubmodelElements(String submodelId, Collection<String> idShortPaths) throws ElementDoesNotExistException {
+		SubmodelService submodelService = getSubmodelService(submodelId);
+
+		Map<String, SubmodelElement> submodelElements = new LinkedHashMap<>();
+		for (String idShortPath : idShortPaths)
+			submodelElements.put(idShortPath, submodelService.getSubmodelElement(idShortPath));
+
+		return submodelElements;
+	}
+
+	@Override
+	public Map<String, SubmodelElementValue> getSubmodelElementValues(String submodelId, Collection<String> idShortPaths) throws ElementDoesNotExistException {
+		return getSubmodelService(submodelId).getSubmodelElementValues(idShortPaths);
+	}
+
+	@Override
+	public void setSubmodelElementValues(String submodelId, Map<String, SubmodelElementValue> values) throws ElementDoesNotExistException {
+		try {
+			decorated.setSubmodelElementValues(submodelId, values);
+		} catch (RuntimeException e) {
+			cache.invalidate(submodelId);
+			throw e;
+		}
+
+		cache.update(submodelId, submodelService -> submodelService.setSubmodelElementValues(values));
+	}
+
+	@Override
+	public void createSubmodelElement(String submodelId, SubmodelElement smElement) {
+		try {
+			decorated.createSubmodelElement(submodelId, smElement);
+		} finally {
+			cache.invalidate(submodelId);
+		}
+	}
+
+	@Override
+	public void createSubmodelElement(String submodelId, String idShortPath, SubmodelElement smElement) throws ElementDoesNotExistException {
+		try {
+			decorated.createSubmodelElement(submodelId, idShortPath, smElement);
+		} finally {
+			cache.invalidate(submodelId);
+		}
+	}
+
+	@Override
+	public void deleteSubmodelElement(String submodelId, String idShortPath) throws ElementDoesNotExistException {
+		try {
+			decorated.deleteSubmodelElement(submodelId, idShortPath);
+		} finally {
+			cache.invalidate(submodelId);
+		}
+	}
+
+	@Override
+	public Attachment getFileByPath(String submodelId, String idShortPath) throws ElementDoesNotExistException {
+		return decorated.getFileByPath(submodelId, idShortPath);
+	}
+
+	@Override
+	public void putFileByPath(String submodelId, String idShortPath, String fileName, String contentType, InputStream content) throws ElementDoesNotExistException {
+		try {
+			decorated.putFileByPath(submodelId, idShortPath, fileName, contentType, content);
+		} finally {
+			cache.invalidate(submodelId);
+		}
+	}
+
+	@Override
+	public String getName() {
+		return decorated.getName();
+	}
+
+	@Override
+	public OperationVariable[] invokeOperation(String submodelId, String idShortPath, OperationVariable[] input) throws ElementDoesNotExistException {
+		return decorated.invokeOperation(submodelId, idShortPath, input);
+	}
+
+	@Override
+	public SubmodelValueOnly getSubmodelByIdValueOnly(String submodelId) throws ElementDoesNotExistException {
+		return new SubmodelValueOnly(getSubmodelService(submodelId).getSubmodelElements(NO_LIMIT_PAGINATION_INFO).getResult());
+	}
+
+	@Override
+	public Submodel getSubmodelByIdMetadata(String submodelId) throws ElementDoesNotExistException {
+		return decorated.getSubmodelByIdMetadata(submodelId);
+	}
+
+	private SubmodelService getSubmodelService(String submodelId) {
+		return cache.get(submodelId, id -> new LockingSubmodelService(new InMemorySubmodelService(decorated.getSubmodel(id))));
+	}
+}
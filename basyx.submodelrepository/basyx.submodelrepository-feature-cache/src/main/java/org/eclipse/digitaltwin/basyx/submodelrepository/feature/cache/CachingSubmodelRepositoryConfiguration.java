@@ -0,0 +1,60 @@
+/*******************************************************************************
+ * Copyright (C) 2023 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+
+package org.eclipse.digitaltwin.basyx.submodelrepository.feature.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+/**
+ * Configuration of the {@link SubmodelCache} and, for the MongoDB backend, of
+ * its invalidation by changes of other instances
+ * 
+ * @author schnicke
+ *
+ */
+@ConditionalOnProperty(CachingSubmodelRepositoryFeature.FEATURENAME + ".enabled")
+@Configuration
+public class CachingSubmodelRepositoryConfiguration {
+
+	@Bean
+	public SubmodelCache submodelCache(@Value("${" + CachingSubmodelRepositoryFeature.FEATURENAME + ".max-weight:100000}") long maximumWeight) {
+		return new SubmodelCache(maximumWeight);
+	}
+
+	@Bean
+	@ConditionalOnExpression("'${basyx.backend}'.equals('MongoDB')")
+	public MongoDBChangeStreamInvalidator mongoDBChangeStreamInvalidator(MongoTemplate mongoTemplate, @Value("${basyx.submodelrepository.mongodb.collectionName:submodel-repo}") String collectionName, SubmodelCache cache) {
+		MongoDBChangeStreamInvalidator invalidator = new MongoDBChangeStreamInvalidator(mongoTemplate, collectionName, cache);
+		invalidator.start();
+
+		return invalidator;
+	}
+}
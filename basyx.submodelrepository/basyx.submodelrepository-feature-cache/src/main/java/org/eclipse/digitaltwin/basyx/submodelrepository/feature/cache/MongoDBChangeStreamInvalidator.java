@@ -0,0 +1,166 @@
+/*******************************************************************************
+ * Copyright (C) 2023 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+
+package org.eclipse.digitaltwin.basyx.submodelrepository.feature.cache;
+
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.eclipse.digitaltwin.basyx.common.mongocore.MongoDBWriteToken;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import com.mongodb.MongoCommandException;
+import com.mongodb.MongoException;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.OperationType;
+
+/**
+ * Invalidates the entries of the {@link SubmodelCache} changed by other
+ * instances sharing the MongoDB collection, using a change stream. Changes
+ * marked by a {@link MongoDBWriteToken} of this process are skipped, since the
+ * cache has already been updated by the local write.<br>
+ * <br>
+ * Change streams require a replica set. On a standalone server, the cache is
+ * only invalidated by the writes of this instance.
+ * 
+ * @author schnicke
+ *
+ */
+public class MongoDBChangeStreamInvalidator implements AutoCloseable {
+	private static final Logger logger = LoggerFactory.getLogger(MongoDBChangeStreamInvalidator.class);
+	private static final int CHANGE_STREAM_NOT_SUPPORTED = 40573;
+	private static final long RETRY_DELAY_MILLIS = 5000;
+	private static final String ID = "_id";
+
+	private final MongoCollection<Document> collection;
+	private final SubmodelCache cache;
+
+	private volatile boolean running;
+	private volatile MongoChangeStreamCursor<ChangeStreamDocument<Document>> cursor;
+	private Thread watcher;
+
+	public MongoDBChangeStreamInvalidator(MongoTemplate mongoTemplate, String collectionName, SubmodelCache cache) {
+		this.collection = mongoTemplate.getCollection(collectionName);
+		this.cache = cache;
+	}
+
+	/**
+	 * Starts watching the collection in a background thread
+	 */
+	public synchronized void start() {
+		if (running)
+			return;
+
+		running = true;
+		watcher = new Thread(this::watch, "basyx-submodel-cache-invalidation");
+		watcher.setDaemon(true);
+		watcher.start();
+	}
+
+	@Override
+	public synchronized void close() {
+		running = false;
+
+		MongoChangeStreamCursor<ChangeStreamDocument<Document>> toClose = cursor;
+		if (toClose != null)
+			toClose.close();
+
+		if (watcher != null)
+			watcher.interrupt();
+	}
+
+	private void watch() {
+		while (running) {
+			try (MongoChangeStreamCursor<ChangeStreamDocument<Document>> changes = collection.watch().cursor()) {
+				cursor = changes;
+
+				// Changes may have been missed before the stream was (re)opened
+				cache.invalidateAll();
+
+				while (running)
+					invalidate(changes.next());
+			} catch (MongoCommandException e) {
+				if (e.getErrorCode() == CHANGE_STREAM_NOT_SUPPORTED) {
+					logger.warn("MongoDB does not support change streams, the Submodel cache is only invalidated by local writes: {}", e.getErrorMessage());
+					return;
+				}
+
+				retryAfterFailure(e);
+			} catch (MongoException | IllegalStateException e) {
+				retryAfterFailure(e);
+			}
+		}
+	}
+
+	private void invalidate(ChangeStreamDocument<Document> change) {
+		BsonDocument documentKey = change.getDocumentKey();
+
+		// Events such as drop or rename are not related to a single document
+		if (documentKey == null || !documentKey.isString(ID)) {
+			cache.invalidateAll();
+			return;
+		}
+
+		if (isOwnChange(change))
+			return;
+
+		cache.invalidate(documentKey.getString(ID).getValue());
+	}
+
+	private static boolean isOwnChange(ChangeStreamDocument<Document> change) {
+		OperationType operationType = change.getOperationType();
+
+		if (operationType == OperationType.UPDATE) {
+			BsonDocument updatedFields = change.getUpdateDescription().getUpdatedFields();
+			return updatedFields != null && updatedFields.isString(MongoDBWriteToken.FIELD) && MongoDBWriteToken.isOwn(updatedFields.getString(MongoDBWriteToken.FIELD).getValue());
+		}
+
+		if (operationType == OperationType.INSERT || operationType == OperationType.REPLACE) {
+			Document document = change.getFullDocument();
+			return document != null && MongoDBWriteToken.isOwn(document.getString(MongoDBWriteToken.FIELD));
+		}
+
+		return false;
+	}
+
+	private void retryAfterFailure(RuntimeException e) {
+		if (!running)
+			return;
+
+		cache.invalidateAll();
+		logger.warn("Watching the Submodel collection failed, retrying in {} ms", RETRY_DELAY_MILLIS, e);
+
+		try {
+			Thread.sleep(RETRY_DELAY_MILLIS);
+		} catch (InterruptedException interrupted) {
+			Thread.currentThread().interrupt();
+			running = false;
+		}
+	}
+}
@@ -0,0 +1,157 @@
+/*******************************************************************************
+ * Copyright (C) 2023 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+
+package org.eclipse.digitaltwin.basyx.submodelrepository.feature.cache;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.eclipse.digitaltwin.aas4j.v3.model.Entity;
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementCollection;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementList;
+import org.eclipse.digitaltwin.basyx.submodelservice.SubmodelService;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Bounded cache of SubmodelServices mapped by the id of their Submodel.<br>
+ * <br>
+ * Entries are weighted by the number of SubmodelElements they contain, thus
+ * a large Submodel displaces more small ones. Eviction follows the
+ * W-TinyLFU policy of Caffeine.
+ * 
+ * @author schnicke
+ *
+ */
+public class SubmodelCache implements MeterBinder {
+	public static final String CACHE_NAME = "basyx.submodelrepository";
+
+	private final Cache<String, SubmodelService> cache;
+
+	/**
+	 * @param maximumWeight
+	 *            the maximum number of SubmodelElements held by all cached
+	 *            Submodels
+	 */
+	public SubmodelCache(long maximumWeight) {
+		if (maximumWeight < 1)
+			throw new IllegalArgumentException("The maximum weight of the Submodel cache has to be positive");
+
+		cache = Caffeine.newBuilder().maximumWeight(maximumWeight).weigher((String id, SubmodelService service) -> weigh(service.getSubmodel())).recordStats().build();
+	}
+
+	/**
+	 * Returns the cached SubmodelService, loading it if it is not cached
+	 * 
+	 * @param submodelId
+	 * @param loader
+	 *            creates the SubmodelService for the submodelId
+	 * @return
+	 */
+	public SubmodelService get(String submodelId, Function<String, SubmodelService> loader) {
+		return cache.get(submodelId, loader);
+	}
+
+	/**
+	 * Modifies the cached SubmodelService, if the Submodel is cached. The
+	 * modification is executed under the lock of the cache entry, thus it is
+	 * ordered with concurrent loads and invalidations of the same Submodel. If
+	 * the modification fails, the entry is invalidated instead.
+	 * 
+	 * @param submodelId
+	 * @param modification
+	 *            the modification of the cached SubmodelService
+	 */
+	public void update(String submodelId, Consumer<SubmodelService> modification) {
+		cache.asMap().computeIfPresent(submodelId, (id, service) -> {
+			try {
+				modification.accept(service);
+				return service;
+			} catch (RuntimeException e) {
+				return null;
+			}
+		});
+	}
+
+	public void invalidate(String submodelId) {
+		cache.invalidate(submodelId);
+	}
+
+	public void invalidateAll() {
+		cache.invalidateAll();
+	}
+
+	/**
+	 * Performs pending maintenance, e.g., evictions, that is otherwise done
+	 * asynchronously
+	 */
+	void cleanUp() {
+		cache.cleanUp();
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		new CaffeineCacheMetrics(cache, CACHE_NAME, Tags.empty()).bindTo(registry);
+	}
+
+	private static int weigh(Submodel submodel) {
+		return 1 + weigh(submodel.getSubmodelElements());
+	}
+
+	private static int weigh(Collection<SubmodelElement> submodelElements) {
+		if (submodelElements == null)
+			return 0;
+
+		int weight = submodelElements.size();
+		for (SubmodelElement submodelElement : submodelElements)
+			weight += weigh(getChildren(submodelElement));
+
+		return weight;
+	}
+
+	private static Collection<SubmodelElement> getChildren(SubmodelElement submodelElement) {
+		if (submodelElement instanceof SubmodelElementCollection)
+			return ((SubmodelElementCollection) submodelElement).getValue();
+
+		if (submodelElement instanceof SubmodelElementList)
+			return ((SubmodelElementList) submodelElement).getValue();
+
+		if (submodelElement instanceof Entity)
+			return ((Entity) submodelElement).getStatements();
+
+		return Collections.emptyList();
+	}
+}
@@ -0,0 +1,189 @@
+/*******************************************************************************
+ * Copyright (C) 2023 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+
+package org.eclipse.digitaltwin.basyx.submodelrepository.feature.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.digitaltwin.aas4j.v3.model.Property;
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultProperty;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodel;
+import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
+import org.eclipse.digitaltwin.basyx.submodelrepository.InMemorySubmodelRepository;
+import org.eclipse.digitaltwin.basyx.submodelrepository.InMemorySubmodelRepositoryFactory;
+import org.eclipse.digitaltwin.basyx.submodelrepository.SubmodelRepository;
+import org.eclipse.digitaltwin.basyx.submodelrepository.core.SubmodelRepositorySuite;
+import org.eclipse.digitaltwin.basyx.submodelservice.InMemorySubmodelService;
+import org.eclipse.digitaltwin.basyx.submodelservice.InMemorySubmodelServiceFactory;
+import org.eclipse.digitaltwin.basyx.submodelservice.LockingSubmodelService;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.PropertyValue;
+import org.junit.Test;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Tests the {@link CachingSubmodelRepository} by the SubmodelRepositorySuite
+ * and its cache specific behavior
+ * 
+ * @author schnicke
+ *
+ */
+public class TestCachingSubmodelRepository extends SubmodelRepositorySuite {
+	private static final String SUBMODEL_ID = "cachedSubmodel";
+	private static final String PROPERTY_ID_SHORT = "cachedProperty";
+
+	@Override
+	protected SubmodelRepository getSubmodelRepository() {
+		return new CachingSubmodelRepositoryFactory(new InMemorySubmodelRepositoryFactory(new InMemorySubmodelServiceFactory()), new SubmodelCache(1000)).create();
+	}
+
+	@Override
+	protected SubmodelRepository getSubmodelRepository(Collection<Submodel> submodels) {
+		return new CachingSubmodelRepository(new InMemorySubmodelRepository(new InMemorySubmodelServiceFactory(), submodels), new SubmodelCache(1000));
+	}
+
+	@Test
+	public void repeatedReadsAreServedFromCache() {
+		SubmodelCache cache = new SubmodelCache(1000);
+		MeterRegistry registry = bindMetrics(cache);
+		SubmodelRepository repository = createRepository(cache);
+
+		Submodel submodel = repository.getSubmodel(SUBMODEL_ID);
+		assertSame(submodel, repository.getSubmodel(SUBMODEL_ID));
+		repository.getSubmodelElementValue(SUBMODEL_ID, PROPERTY_ID_SHORT);
+
+		assertEquals(1, getCacheGets(registry, "miss"), 0);
+		assertEquals(2, getCacheGets(registry, "hit"), 0);
+	}
+
+	@Test
+	public void valueWriteUpdatesCachedSubmodel() {
+		SubmodelCache cache = new SubmodelCache(1000);
+		MeterRegistry registry = bindMetrics(cache);
+		SubmodelRepository repository = createRepository(cache);
+
+		// The cached Submodel is a separate object, as with a non in-memory backend
+		cache.get(SUBMODEL_ID, id -> new LockingSubmodelService(new InMemorySubmodelService(createSubmodel(id))));
+		repository.setSubmodelElementValue(SUBMODEL_ID, PROPERTY_ID_SHORT, new PropertyValue("42"));
+		repository.setSubmodelElementValues(SUBMODEL_ID, Collections.singletonMap(PROPERTY_ID_SHORT, new PropertyValue("43")));
+
+		PropertyValue value = (PropertyValue) repository.getSubmodelElementValue(SUBMODEL_ID, PROPERTY_ID_SHORT);
+		assertEquals("43", value.getValue());
+		assertEquals(1, getCacheGets(registry, "miss"), 0);
+	}
+
+	@Test
+	public void structuralWriteInvalidatesCachedSubmodel() {
+		SubmodelCache cache = new SubmodelCache(1000);
+		MeterRegistry registry = bindMetrics(cache);
+		SubmodelRepository repository = createRepository(cache);
+
+		repository.getSubmodel(SUBMODEL_ID);
+		repository.createSubmodelElement(SUBMODEL_ID, new DefaultProperty.Builder().idShort("addedProperty").build());
+		repository.getSubmodelElement(SUBMODEL_ID, "addedProperty");
+
+		assertEquals(2, getCacheGets(registry, "miss"), 0);
+	}
+
+	@Test
+	public void failedValueWriteInvalidatesCachedSubmodel() {
+		SubmodelCache cache = new SubmodelCache(1000);
+		MeterRegistry registry = bindMetrics(cache);
+		SubmodelRepository repository = createRepository(cache);
+
+		repository.getSubmodel(SUBMODEL_ID);
+		try {
+			repository.setSubmodelElementValue(SUBMODEL_ID, "nonExisting", new PropertyValue("42"));
+			fail();
+		} catch (ElementDoesNotExistException expected) {
+		}
+		repository.getSubmodel(SUBMODEL_ID);
+
+		assertEquals(2, getCacheGets(registry, "miss"), 0);
+	}
+
+	@Test
+	public void externalInvalidation() {
+		SubmodelCache cache = new SubmodelCache(1000);
+		MeterRegistry registry = bindMetrics(cache);
+		SubmodelRepository repository = createRepository(cache);
+
+		repository.getSubmodel(SUBMODEL_ID);
+		cache.invalidate(SUBMODEL_ID);
+		repository.getSubmodel(SUBMODEL_ID);
+
+		assertEquals(2, getCacheGets(registry, "miss"), 0);
+	}
+
+	@Test
+	public void submodelsAreWeightedBySubmodelElements() {
+		SubmodelCache cache = new SubmodelCache(3);
+		MeterRegistry registry = bindMetrics(cache);
+
+		SubmodelRepository decorated = new InMemorySubmodelRepositoryFactory(new InMemorySubmodelServiceFactory()).create();
+		decorated.createSubmodel(createSubmodel("first"));
+		decorated.createSubmodel(createSubmodel("second"));
+		SubmodelRepository repository = new CachingSubmodelRepository(decorated, cache);
+
+		repository.getSubmodel("first");
+		repository.getSubmodel("second");
+		cache.cleanUp();
+
+		assertEquals(1, registry.get("cache.evictions").functionCounter().count(), 0);
+	}
+
+	private SubmodelRepository createRepository(SubmodelCache cache) {
+		return new CachingSubmodelRepository(new InMemorySubmodelRepository(new InMemorySubmodelServiceFactory(), Collections.singleton(createSubmodel(SUBMODEL_ID))), cache);
+	}
+
+	private static Submodel createSubmodel(String id) {
+		Property property = new DefaultProperty.Builder().idShort(PROPERTY_ID_SHORT).value("0").build();
+		List<SubmodelElement> submodelElements = new ArrayList<>(Collections.singletonList(property));
+
+		return new DefaultSubmodel.Builder().id(id).submodelElements(submodelElements).build();
+	}
+
+	private static MeterRegistry bindMetrics(SubmodelCache cache) {
+		MeterRegistry registry = new SimpleMeterRegistry();
+		cache.bindTo(registry);
+
+		return registry;
+	}
+
+	private static double getCacheGets(MeterRegistry registry, String result) {
+		return registry.get("cache.gets").tag("result", result).functionCounter().count();
+	}
+}
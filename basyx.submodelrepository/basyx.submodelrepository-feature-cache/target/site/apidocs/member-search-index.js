@@ -0,0 +1 @@
+memberSearchIndex = [{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.cache","c":"SubmodelCache","l":"bindTo(MeterRegistry)","u":"bindTo(io.micrometer.core.instrument.MeterRegistry)"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.cache","c":"SubmodelCache","l":"CACHE_NAME"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.cache","c":"CachingSubmodelRepository","l":"CachingSubmodelRepository(SubmodelRepository, SubmodelCache)","u":"%3Cinit%3E(org.eclipse.digitaltwin.basyx.submodelrepository.SubmodelRepository,org.eclipse.digitaltwin.basyx.submodelrepository.feature.cache.SubmodelCache)"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.cache","c":"CachingSubmodelRepositoryConfiguration","l":"CachingSubmodelRepositoryConfiguration()","u":"%3Cinit%3E()"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.cache","c":"CachingSubmodelRepositoryFactory","l":"CachingSubmodelRepositoryFactory(SubmodelRepositoryFactory, SubmodelCache)","u":"%3Cinit%3E(org.eclipse.digitaltwin.basyx.submodelrepository.SubmodelRepositoryFactory,org.eclipse.digitaltwin.basyx.submodelrepository.feature.cache.SubmodelCache)"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.cache","c":"CachingSubmodelRepositoryFeature","l":"CachingSubmodelRepositoryFeature(SubmodelCache)","u":"%3Cinit%3E(org.eclipse.digitaltwin.basyx.submodelrepository.feature.cache.SubmodelCache)"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.cache","c":"CachingSubmodelRepositoryFeature","l":"cleanUp()"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.cache","c":"MongoDBChangeStreamInvalidator","l":"close()"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.cache","c":"CachingSubmodelRepositoryFactory","l":"create()"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.cache","c":"CachingSubmodelRepository","l":"createSubmodel(Submodel)","u":"createSubmodel(org.eclipse.digitaltwin.aas4j.v3.model.Submodel)"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.cache","c":"CachingSubmodelRepository","l":"createSubmodelElement(String, String, SubmodelElement)","u":"createSubmodelElement(java.lang.String,java.lang.String,org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement)"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.cache","c":"CachingSubmodelRepository","l":"createSubmodelElement(String, SubmodelElement)","u":"createSubmodelElement(java.lang.String,org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement)"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.cache","c":"CachingSubmodelRepositoryFeature","l":"decorate(SubmodelRepositoryFactory)","u":"decorate(org.eclipse.digitaltwin.basyx.submodelrepository.SubmodelRepositoryFactory)"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.cache","c":"CachingSubmodelRepository","l":"deleteSubmodel(String)","u":"deleteSubmodel(java.lang.String)"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.cache","c":"CachingSubmodelRepository","l":"deleteSubmodelElement(String, String)","u":"deleteSubmodelElement(java.lang.String,java.lang.String)"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.cache","c":"CachingSubmodelRepositoryFeature","l":"FEATURENAME"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.cache","c":"SubmodelCache","l":"get(String, Function<String, SubmodelService>)","u":"get(java.lang.String,java.util.function.Function)"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.cache","c":"CachingSubmodelRepository","l":"getAllSubmodels(PaginationInfo)","u":"getAllSubmodels(org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo)"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.cache","c":"CachingSubmodelRepository","l":"getAllSubmodels(String, String, PaginationInfo)","u":"getAllSubmodels(java.lang.String,java.lang.String,org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo)"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.cache","c":"CachingSubmodelRepository","l":"getFileByPath(String, String)","u":"getFileByPath(java.lang.String,java.lang.String)"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.cache","c":"CachingSubmodelRepository","l":"getName()"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.cache","c":"CachingSubmodelRepositoryFeature","l":"getName()"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.cache","c":"CachingSubmodelRepository","l":"getSubmodel(String)","u":"getSubmodel(java.lang.String)"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.cache","c":"CachingSubmodelRepository","l":"getSubmodelByIdMetadata(String)","u":"getSubmodelByIdMetadata(java.lang.String)"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.cache","c":"CachingSubmodelRepository","l":"getSubmodelByIdValueOnly(String)","u":"getSubmodelByIdValueOnly(java.lang.String)"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.cache","c":"CachingSubmodelRepository","l":"getSubmodelElement(String, String)","u":"getSubmodelElement(java.lang.String,java.lang.String)"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.cache","c":"CachingSubmodelRepository","l":"getSubmodelElements(String, Collection<String>)","u":"getSubmodelElements(java.lang.String,java.util.Collection)"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.cache","c":"CachingSubmodelRepository","l":"getSubmodelElements(String, PaginationInfo)","u":"getSubmodelElements(java.lang.String,org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo)"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.cache","c":"CachingSubmodelRepository","l":"getSubmodelElements(String, String, PaginationInfo)","u":"getSubmodelElements(java.lang.String,java.lang.String,org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo)"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.cache","c":"CachingSubmodelRepository","l":"getSubmodelElementValue(String, String)","u":"getSubmodelElementValue(java.lang.String,java.lang.String)"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.cache","c":"CachingSubmodelRepository","l":"getSubmodelElementValues(String, Collection<String>)","u":"getSubmodelElementValues(java.lang.String,java.util.Collection)"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.cache","c":"CachingSubmodelRepositoryFeature","l":"initialize()"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.cache","c":"SubmodelCache","l":"invalidate(String)","u":"invalidate(java.lang.String)"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.cache","c":"SubmodelCache","l":"invalidateAll()"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.cache","c":"CachingSubmodelRepository","l":"invokeOperation(String, String, OperationVariable[])","u":"invokeOperation(java.lang.String,java.lang.String,org.eclipse.digitaltwin.aas4j.v3.model.OperationVariable[])"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.cache","c":"CachingSubmodelRepositoryFeature","l":"isEnabled()"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.cache","c":"CachingSubmodelRepository","l":"iterateAllSubmodels(String, String, PaginationInfo)","u":"iterateAllSubmodels(java.lang.String,java.lang.String,org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo)"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.cache","c":"CachingSubmodelRepositoryConfiguration","l":"mongoDBChangeStreamInvalidator(MongoTemplate, String, SubmodelCache)","u":"mongoDBChangeStreamInvalidator(org.springframework.data.mongodb.core.MongoTemplate,java.lang.String,org.eclipse.digitaltwin.basyx.submodelrepository.feature.cache.SubmodelCache)"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.cache","c":"MongoDBChangeStreamInvalidator","l":"MongoDBChangeStreamInvalidator(MongoTemplate, String, SubmodelCache)","u":"%3Cinit%3E(org.springframework.data.mongodb.core.MongoTemplate,java.lang.String,org.eclipse.digitaltwin.basyx.submodelrepository.feature.cache.SubmodelCache)"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.cache","c":"CachingSubmodelRepository","l":"putFileByPath(String, String, String, String, InputStream)","u":"putFileByPath(java.lang.String,java.lang.String,java.lang.String,java.lang.String,java.io.InputStream)"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.cache","c":"CachingSubmodelRepository","l":"setSubmodelElementValue(String, String, SubmodelElementValue)","u":"setSubmodelElementValue(java.lang.String,java.lang.String,org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelElementValue)"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.cache","c":"CachingSubmodelRepository","l":"setSubmodelElementValues(String, Map<String, SubmodelElementValue>)","u":"setSubmodelElementValues(java.lang.String,java.util.Map)"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.cache","c":"MongoDBChangeStreamInvalidator","l":"start()"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.cache","c":"CachingSubmodelRepositoryConfiguration","l":"submodelCache(long)"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.cache","c":"SubmodelCache","l":"SubmodelCache(long)","u":"%3Cinit%3E(long)"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.cache","c":"SubmodelCache","l":"update(String, Consumer<SubmodelService>)","u":"update(java.lang.String,java.util.function.Consumer)"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.cache","c":"CachingSubmodelRepository","l":"updateSubmodel(String, Submodel)","u":"updateSubmodel(java.lang.String,org.eclipse.digitaltwin.aas4j.v3.model.Submodel)"}];updateSearchResults();
\ No newline at end of file
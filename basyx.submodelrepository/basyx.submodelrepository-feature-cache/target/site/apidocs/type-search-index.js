@@ -0,0 +1 @@
+typeSearchIndex = [{"l":"All Classes and Interfaces","u":"allclasses-index.html"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.cache","l":"CachingSubmodelRepository"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.cache","l":"CachingSubmodelRepositoryConfiguration"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.cache","l":"CachingSubmodelRepositoryFactory"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.cache","l":"CachingSubmodelRepositoryFeature"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.cache","l":"MongoDBChangeStreamInvalidator"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.cache","l":"SubmodelCache"}];updateSearchResults();
\ No newline at end of file
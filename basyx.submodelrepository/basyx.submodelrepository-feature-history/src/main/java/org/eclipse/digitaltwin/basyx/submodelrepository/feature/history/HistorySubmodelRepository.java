@@ -0,0 +1,371 @@
+/*******************************************************************************
+ * Copyright (C) 2023 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+
+package org.eclipse.digitaltwin.basyx.submodelrepository.feature.history;
+
+import java.io.InputStream;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.eclipse.digitaltwin.aas4j.v3.model.OperationVariable;
+import org.eclipse.digitaltwin.aas4j.v3.model.Property;
+import org.eclipse.digitaltwin.aas4j.v3.model.Qualifier;
+import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.basyx.core.exceptions.CollidingIdentifierException;
+import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
+import org.eclipse.digitaltwin.basyx.core.pagination.CursorIterator;
+import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
+import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
+import org.eclipse.digitaltwin.basyx.submodelrepository.SubmodelRepository;
+import org.eclipse.digitaltwin.basyx.submodelrepository.attachment.Attachment;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.EntityValue;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.PropertyValue;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelElementCollectionValue;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelElementListValue;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelElementValue;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelValueOnly;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.ValueOnly;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Repository decorator recording the values set for Properties in a
+ * {@link PropertyHistoryStore}.<br>
+ * <br>
+ * The history of a Property is recorded if it has a Qualifier of type
+ * <i>history</i> with value <i>true</i> or if its semanticId references one of
+ * the configured semanticIds. Values are recorded whether they are set
+ * directly, as part of a batch or as part of the value of a containing
+ * SubmodelElementCollection, SubmodelElementList or Entity. Histories are kept
+ * until the Property is deleted or its Submodel is updated or deleted.
+ * 
+ * @author schnicke
+ *
+ */
+public class HistorySubmodelRepository implements SubmodelRepository {
+	public static final String HISTORY_QUALIFIER_TYPE = "history";
+	static final int MAX_UNTRACKED_ID_SHORT_PATHS = 10000;
+
+	private static Logger logger = LoggerFactory.getLogger(HistorySubmodelRepository.class);
+
+	private final SubmodelRepository decorated;
+	private final PropertyHistoryStore store;
+	private final Set<String> semanticIds;
+
+	private final Map<Entry<String, String>, Boolean> untrackedIdShortPaths = Collections.synchronizedMap(new UntrackedIdShortPathCache());
+
+	/**
+	 * @param decorated
+	 * @param store
+	 * @param semanticIds
+	 *            the semanticIds of Properties whose history is recorded
+	 */
+	public HistorySubmodelRepository(SubmodelRepository decorated, PropertyHistoryStore store, Set<String> semanticIds) {
+		this.decorated = decorated;
+		this.store = store;
+		this.semanticIds = semanticIds;
+	}
+
+	@Override
+	public CursorResult<List<Submodel>> getAllSubmodels(PaginationInfo pInfo) {
+		return decorated.getAllSubmodels(pInfo);
+	}
+
+	@Override
+	public CursorResult<List<Submodel>> getAllSubmodels(String semanticId, String idShort, PaginationInfo pInfo) {
+		return decorated.getAllSubmodels(semanticId, idShort, pInfo);
+	}
+
+	@Override
+	public CursorIterator<Submodel> iterateAllSubmodels(String semanticId, String idShort, PaginationInfo pInfo) {
+		return decorated.iterateAllSubmodels(semanticId, idShort, pInfo);
+	}
+
+	@Override
+	public Submodel getSubmodel(String submodelId) throws ElementDoesNotExistException {
+		return decorated.getSubmodel(submodelId);
+	}
+
+	@Override
+	public void updateSubmodel(String submodelId, Submodel submodel) throws ElementDoesNotExistException {
+		decorated.updateSubmodel(submodelId, submodel);
+		removeUntracked(submodelId, path -> true);
+		store.remove(submodelId);
+	}
+
+	@Override
+	public void createSubmodel(Submodel submodel) throws CollidingIdentifierException {
+		decorated.createSubmodel(submodel);
+	}
+
+	@Override
+	public void deleteSubmodel(String submodelId) throws ElementDoesNotExistException {
+		decorated.deleteSubmodel(submodelId);
+		removeUntracked(submodelId, path -> true);
+		store.remove(submodelId);
+	}
+
+	@Override
+	public CursorResult<List<SubmodelElement>> getSubmodelElements(String submodelId, PaginationInfo pInfo) throws ElementDoesNotExistException {
+		return decorated.getSubmodelElements(submodelId, pInfo);
+	}
+
+	@Override
+	public CursorResult<List<SubmodelElement>> getSubmodelElements(String submodelId, String idShortPath, PaginationInfo pInfo) throws ElementDoesNotExistException {
+		return decorated.getSubmodelElements(submodelId, idShortPath, pInfo);
+	}
+
+	@Override
+	public SubmodelElement getSubmodelElement(String submodelId, String smeIdShort) throws ElementDoesNotExistException {
+		return decorated.getSubmodelElement(submodelId, smeIdShort);
+	}
+
+	@Override
+	public SubmodelElementValue getSubmodelElementValue(String submodelId, String smeIdShort) throws ElementDoesNotExistException {
+		return decorated.getSubmodelElementValue(submodelId, smeIdShort);
+	}
+
+	@Override
+	public void setSubmodelElementValue(String submodelId, String idShortPath, SubmodelElementValue value) throws ElementDoesNotExistException {
+		decorated.setSubmodelElementValue(submodelId, idShortPath, value);
+		record(submodelId, Collections.singletonMap(idShortPath, value), System.currentTimeMillis());
+	}
+
+	@Override
+	public Map<String, SubmodelElement> getSubmodelElements(String submodelId, Collection<String> idShortPaths) throws ElementDoesNotExistException {
+		return decorated.getSubmodelElements(submodelId, idShortPaths);
+	}
+
+	@Override
+	public Map<String, SubmodelElementValue> getSubmodelElementValues(String submodelId, Collection<String> idShortPaths) throws ElementDoesNotExistException {
+		return decorated.getSubmodelElementValues(submodelId, idShortPaths);
+	}
+
+	@Override
+	public void setSubmodelElementValues(String submodelId, Map<String, SubmodelElementValue> values) throws ElementDoesNotExistException {
+		decorated.setSubmodelElementValues(submodelId, values);
+		record(submodelId, values, System.currentTimeMillis());
+	}
+
+	@Override
+	public void createSubmodelElement(String submodelId, SubmodelElement smElement) {
+		decorated.createSubmodelElement(submodelId, smElement);
+	}
+
+	@Override
+	public void createSubmodelElement(String submodelId, String idShortPath, SubmodelElement smElement) throws ElementDoesNotExistException {
+		decorated.createSubmodelElement(submodelId, idShortPath, smElement);
+	}
+
+	@Override
+	public void deleteSubmodelElement(String submodelId, String idShortPath) throws ElementDoesNotExistException {
+		decorated.deleteSubmodelElement(submodelId, idShortPath);
+		removeUntracked(submodelId, path -> PropertyHistoryStore.isSelfOrChild(path, idShortPath));
+		store.remove(submodelId, idShortPath);
+	}
+
+	@Override
+	public Attachment getFileByPath(String submodelId, String idShortPath) throws ElementDoesNotExistException {
+		return decorated.getFileByPath(submodelId, idShortPath);
+	}
+
+	@Override
+	public void putFileByPath(String submodelId, String idShortPath, String fileName, String contentType, InputStream content) throws ElementDoesNotExistException {
+		decorated.putFileByPath(submodelId, idShortPath, fileName, contentType, content);
+	}
+
+	@Override
+	public String getName() {
+		return decorated.getName();
+	}
+
+	@Override
+	public OperationVariable[] invokeOperation(String submodelId, String idShortPath, OperationVariable[] input) throws ElementDoesNotExistException {
+		return decorated.invokeOperation(submodelId, idShortPath, input);
+	}
+
+	@Override
+	public SubmodelValueOnly getSubmodelByIdValueOnly(String submodelId) throws ElementDoesNotExistException {
+		return decorated.getSubmodelByIdValueOnly(submodelId);
+	}
+
+	@Override
+	public Submodel getSubmodelByIdMetadata(String submodelId) throws ElementDoesNotExistException {
+		return decorated.getSubmodelByIdMetadata(submodelId);
+	}
+
+	private void record(String submodelId, Map<String, SubmodelElementValue> values, long timestamp) {
+		Map<String, String> propertyValues = new LinkedHashMap<>();
+		values.forEach((idShortPath, value) -> collectPropertyValues(idShortPath, value, propertyValues));
+		if (propertyValues.isEmpty())
+			return;
+
+		getHistories(submodelId, propertyValues.keySet()).forEach((idShortPath, history) -> {
+			String propertyValue = propertyValues.get(idShortPath);
+			try {
+				history.record(timestamp, propertyValue);
+			} catch (IllegalArgumentException e) {
+				logger.warn("Could not record value '" + propertyValue + "' in the history of " + idShortPath + " of submodel " + submodelId, e);
+			}
+		});
+	}
+
+	/**
+	 * Collects the values of all Properties set by the value, mapped by their
+	 * idShortPath
+	 */
+	private static void collectPropertyValues(String idShortPath, SubmodelElementValue value, Map<String, String> propertyValues) {
+		if (value instanceof PropertyValue) {
+			propertyValues.put(idShortPath, ((PropertyValue) value).getValue());
+		} else if (value instanceof SubmodelElementCollectionValue) {
+			collectPropertyValues(idShortPath, ((SubmodelElementCollectionValue) value).getValue(), propertyValues);
+		} else if (value instanceof EntityValue) {
+			collectPropertyValues(idShortPath, ((EntityValue) value).getStatements(), propertyValues);
+		} else if (value instanceof SubmodelElementListValue) {
+			List<SubmodelElementValue> elementValues = ((SubmodelElementListValue) value).getSubmodelElementValues();
+			for (int i = 0; elementValues != null && i < elementValues.size(); i++)
+				collectPropertyValues(idShortPath + "[" + i + "]", elementValues.get(i), propertyValues);
+		}
+	}
+
+	private static void collectPropertyValues(String idShortPath, List<ValueOnly> valueOnlies, Map<String, String> propertyValues) {
+		if (valueOnlies == null)
+			return;
+
+		for (ValueOnly valueOnly : valueOnlies)
+			collectPropertyValues(idShortPath + "." + valueOnly.getIdShort(), valueOnly.getSubmodelElementValue(), propertyValues);
+	}
+
+	/**
+	 * Whether a Property is recorded or not is resolved on its first value update
+	 * and is remembered afterwards, so that the SubmodelElement does not have to
+	 * be retrieved for every update. The SubmodelElements of all Properties not
+	 * resolved yet are retrieved together.
+	 */
+	private Map<String, PropertyHistory> getHistories(String submodelId, Collection<String> idShortPaths) {
+		Map<String, PropertyHistory> histories = new LinkedHashMap<>();
+		List<String> unresolvedIdShortPaths = new ArrayList<>();
+
+		for (String idShortPath : idShortPaths) {
+			Optional<PropertyHistory> history = store.get(submodelId, idShortPath);
+			if (history.isPresent())
+				histories.put(idShortPath, history.get());
+			else if (untrackedIdShortPaths.get(new SimpleImmutableEntry<>(submodelId, idShortPath)) == null)
+				unresolvedIdShortPaths.add(idShortPath);
+		}
+
+		if (unresolvedIdShortPaths.isEmpty())
+			return histories;
+
+		getExistingSubmodelElements(submodelId, unresolvedIdShortPaths).forEach((idShortPath, submodelElement) -> {
+			if (submodelElement instanceof Property && isHistoryEnabled((Property) submodelElement))
+				histories.put(idShortPath, store.getOrCreate(submodelId, idShortPath, (Property) submodelElement));
+			else
+				untrackedIdShortPaths.put(new SimpleImmutableEntry<>(submodelId, idShortPath), Boolean.TRUE);
+		});
+
+		return histories;
+	}
+
+	/**
+	 * Values of a SubmodelElementCollection, SubmodelElementList or Entity
+	 * without a matching child are ignored when being set, thus their
+	 * idShortPaths may not exist
+	 */
+	private Map<String, SubmodelElement> getExistingSubmodelElements(String submodelId, List<String> idShortPaths) {
+		try {
+			return decorated.getSubmodelElements(submodelId, idShortPaths);
+		} catch (ElementDoesNotExistException e) {
+			Map<String, SubmodelElement> submodelElements = new LinkedHashMap<>();
+			for (String idShortPath : idShortPaths) {
+				try {
+					submodelElements.put(idShortPath, decorated.getSubmodelElement(submodelId, idShortPath));
+				} catch (ElementDoesNotExistException notExisting) {
+					// Not set by the value
+				}
+			}
+			return submodelElements;
+		}
+	}
+
+	private void removeUntracked(String submodelId, Predicate<String> idShortPathFilter) {
+		synchronized (untrackedIdShortPaths) {
+			untrackedIdShortPaths.keySet().removeIf(key -> key.getKey().equals(submodelId) && idShortPathFilter.test(key.getValue()));
+		}
+	}
+
+	private boolean isHistoryEnabled(Property property) {
+		return hasHistoryQualifier(property) || hasHistorySemanticId(property);
+	}
+
+	private boolean hasHistoryQualifier(Property property) {
+		if (property.getQualifiers() == null)
+			return false;
+
+		for (Qualifier qualifier : property.getQualifiers()) {
+			if (HISTORY_QUALIFIER_TYPE.equals(qualifier.getType()) && Boolean.parseBoolean(qualifier.getValue()))
+				return true;
+		}
+		return false;
+	}
+
+	private boolean hasHistorySemanticId(Property property) {
+		Reference semanticId = property.getSemanticID();
+		if (semanticIds.isEmpty() || semanticId == null || semanticId.getKeys() == null)
+			return false;
+
+		return semanticId.getKeys().stream().anyMatch(key -> semanticIds.contains(key.getValue()));
+	}
+
+	/**
+	 * Keeps the {@value #MAX_UNTRACKED_ID_SHORT_PATHS} most recently updated
+	 * Properties that are not recorded, mapped by their Submodel id and
+	 * idShortPath
+	 */
+	private static class UntrackedIdShortPathCache extends LinkedHashMap<Entry<String, String>, Boolean> {
+		private static final long serialVersionUID = 1L;
+
+		public UntrackedIdShortPathCache() {
+			super(16, 0.75f, true);
+		}
+
+		@Override
+		protected boolean removeEldestEntry(Entry<Entry<String, String>, Boolean> eldest) {
+			return size() > MAX_UNTRACKED_ID_SHORT_PATHS;
+		}
+	}
+}
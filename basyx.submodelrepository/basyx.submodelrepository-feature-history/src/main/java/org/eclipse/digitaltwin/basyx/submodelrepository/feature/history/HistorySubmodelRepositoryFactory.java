@@ -0,0 +1,56 @@
+/*******************************************************************************
+ * Copyright (C) 2023 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+
+package org.eclipse.digitaltwin.basyx.submodelrepository.feature.history;
+
+import java.util.Set;
+
+import org.eclipse.digitaltwin.basyx.submodelrepository.SubmodelRepository;
+import org.eclipse.digitaltwin.basyx.submodelrepository.SubmodelRepositoryFactory;
+
+/**
+ * Repository factory for the Property history feature
+ * 
+ * @author schnicke
+ *
+ */
+public class HistorySubmodelRepositoryFactory implements SubmodelRepositoryFactory {
+
+	private final SubmodelRepositoryFactory decorated;
+	private final PropertyHistoryStore store;
+	private final Set<String> semanticIds;
+
+	public HistorySubmodelRepositoryFactory(SubmodelRepositoryFactory decorated, PropertyHistoryStore store, Set<String> semanticIds) {
+		this.decorated = decorated;
+		this.store = store;
+		this.semanticIds = semanticIds;
+	}
+
+	@Override
+	public SubmodelRepository create() {
+		return new HistorySubmodelRepository(decorated.create(), store, semanticIds);
+	}
+}
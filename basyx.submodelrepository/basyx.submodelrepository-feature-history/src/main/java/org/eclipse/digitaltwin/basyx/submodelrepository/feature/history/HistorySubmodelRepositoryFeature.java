@@ -0,0 +1,85 @@
+/*******************************************************************************
+ * Copyright (C) 2023 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+
+package org.eclipse.digitaltwin.basyx.submodelrepository.feature.history;
+
+import java.util.Set;
+
+import org.eclipse.digitaltwin.basyx.submodelrepository.SubmodelRepositoryFactory;
+import org.eclipse.digitaltwin.basyx.submodelrepository.feature.SubmodelRepositoryFeature;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Repository feature recording the history of Property values
+ * 
+ * @author schnicke
+ *
+ */
+@ConditionalOnProperty(HistorySubmodelRepositoryFeature.FEATURENAME + ".enabled")
+@Component
+public class HistorySubmodelRepositoryFeature implements SubmodelRepositoryFeature {
+	public final static String FEATURENAME = "basyx.submodelrepository.feature.history";
+
+	@Value("${" + FEATURENAME + ".enabled:false}")
+	private boolean enabled;
+
+	@Value("${" + FEATURENAME + ".semantic-ids:}")
+	private Set<String> semanticIds;
+
+	private PropertyHistoryStore store;
+
+	@Autowired
+	public HistorySubmodelRepositoryFeature(PropertyHistoryStore store) {
+		this.store = store;
+	}
+
+	@Override
+	public SubmodelRepositoryFactory decorate(SubmodelRepositoryFactory submodelRepositoryFactory) {
+		return new HistorySubmodelRepositoryFactory(submodelRepositoryFactory, store, semanticIds);
+	}
+
+	@Override
+	public void initialize() {
+	}
+
+	@Override
+	public void cleanUp() {
+
+	}
+
+	@Override
+	public String getName() {
+		return "SubmodelRepository Property History";
+	}
+
+	@Override
+	public boolean isEnabled() {
+		return enabled;
+	}
+}
@@ -0,0 +1,95 @@
+/*******************************************************************************
+ * Copyright (C) 2023 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+
+package org.eclipse.digitaltwin.basyx.submodelrepository.feature.history;
+
+import java.nio.ByteBuffer;
+
+/**
+ * {@link PropertyHistory} for numeric Properties. Timestamps and values are
+ * stored off-heap in a direct {@link ByteBuffer}, so recording a value does not
+ * allocate. Downsampling aggregates the values of an interval to their mean.
+ * 
+ * @author schnicke
+ *
+ */
+public class NumericPropertyHistory extends PropertyHistory {
+	private static final int SLOT_SIZE = 2 * Long.BYTES;
+
+	private final ByteBuffer buffer;
+	private final boolean integral;
+
+	/**
+	 * @param capacity
+	 * @param integral
+	 *            if true, values are stored as long. Otherwise, they are stored as
+	 *            double
+	 */
+	public NumericPropertyHistory(int capacity, boolean integral) {
+		super(capacity);
+		this.buffer = ByteBuffer.allocateDirect(Math.multiplyExact(capacity, SLOT_SIZE));
+		this.integral = integral;
+	}
+
+	@Override
+	protected void write(int slot, long timestamp, String value) {
+		int offset = slot * SLOT_SIZE;
+		long bits = integral ? Long.parseLong(value) : Double.doubleToRawLongBits(Double.parseDouble(value));
+
+		buffer.putLong(offset, timestamp);
+		buffer.putLong(offset + Long.BYTES, bits);
+	}
+
+	@Override
+	protected long getTimestamp(int slot) {
+		return buffer.getLong(slot * SLOT_SIZE);
+	}
+
+	@Override
+	protected String getValue(int slot) {
+		return integral ? Long.toString(getLongValue(slot)) : Double.toString(getDoubleValue(slot));
+	}
+
+	@Override
+	protected String aggregate(int fromIndex, int toIndex) {
+		if (toIndex - fromIndex == 1)
+			return getValue(toSlot(fromIndex));
+
+		double sum = 0;
+		for (int index = fromIndex; index < toIndex; index++)
+			sum += integral ? getLongValue(toSlot(index)) : getDoubleValue(toSlot(index));
+
+		return Double.toString(sum / (toIndex - fromIndex));
+	}
+
+	private long getLongValue(int slot) {
+		return buffer.getLong(slot * SLOT_SIZE + Long.BYTES);
+	}
+
+	private double getDoubleValue(int slot) {
+		return Double.longBitsToDouble(getLongValue(slot));
+	}
+}
@@ -0,0 +1,168 @@
+/*******************************************************************************
+ * Copyright (C) 2023 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+
+package org.eclipse.digitaltwin.basyx.submodelrepository.feature.history;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bounded history of the values of a Property. If the capacity is reached, the
+ * oldest value is overwritten.<br>
+ * <br>
+ * The timestamps are kept in ascending order, i.e., a value recorded with a
+ * timestamp older than the latest one is recorded with the latest timestamp.
+ * This allows answering range queries using a binary search.
+ * 
+ * @author schnicke
+ *
+ */
+public abstract class PropertyHistory {
+	private final int capacity;
+	private int oldestSlot;
+	private int size;
+	private long latestTimestamp = Long.MIN_VALUE;
+
+	protected PropertyHistory(int capacity) {
+		if (capacity < 1)
+			throw new IllegalArgumentException("The capacity of a property history has to be positive but was " + capacity);
+
+		this.capacity = capacity;
+	}
+
+	/**
+	 * Records a value of the Property
+	 * 
+	 * @param timestamp
+	 *            in milliseconds since the epoch
+	 * @param value
+	 *            the value of the Property
+	 * @throws IllegalArgumentException
+	 *             if the value can not be stored by this history
+	 */
+	public synchronized void record(long timestamp, String value) {
+		latestTimestamp = Math.max(latestTimestamp, timestamp);
+
+		int slot;
+		if (size < capacity) {
+			slot = toSlot(size);
+			write(slot, latestTimestamp, value);
+			size++;
+		} else {
+			slot = oldestSlot;
+			write(slot, latestTimestamp, value);
+			oldestSlot = (oldestSlot + 1) % capacity;
+		}
+	}
+
+	/**
+	 * Returns the recorded values within the time range
+	 * 
+	 * @param from
+	 *            inclusive start of the range in milliseconds since the epoch
+	 * @param to
+	 *            inclusive end of the range in milliseconds since the epoch
+	 * @param interval
+	 *            if positive, the values are downsampled to one entry per
+	 *            interval of the given milliseconds starting at <i>from</i>.
+	 *            Each entry is timestamped with the start of its interval
+	 * @return the entries ordered by their timestamp
+	 */
+	public synchronized List<PropertyHistoryEntry> getEntries(long from, long to, long interval) {
+		List<PropertyHistoryEntry> entries = new ArrayList<>();
+
+		int index = getFirstIndexNotBefore(from);
+		while (index < size && getTimestamp(toSlot(index)) <= to) {
+			long timestamp = getTimestamp(toSlot(index));
+
+			if (interval <= 0) {
+				entries.add(new PropertyHistoryEntry(timestamp, getValue(toSlot(index))));
+				index++;
+				continue;
+			}
+
+			long intervalStart = from + (timestamp - from) / interval * interval;
+			long intervalEnd = Math.min(to, intervalStart > Long.MAX_VALUE - interval ? Long.MAX_VALUE : intervalStart + interval - 1);
+
+			int endIndex = index + 1;
+			while (endIndex < size && getTimestamp(toSlot(endIndex)) <= intervalEnd)
+				endIndex++;
+
+			entries.add(new PropertyHistoryEntry(intervalStart, aggregate(index, endIndex)));
+			index = endIndex;
+		}
+
+		return entries;
+	}
+
+	/**
+	 * @return the count of currently recorded values
+	 */
+	public synchronized int size() {
+		return size;
+	}
+
+	/**
+	 * Aggregates the values of a downsampling interval. Per default, the latest
+	 * value of the interval is used.
+	 * 
+	 * @param fromIndex
+	 *            inclusive index of the first value of the interval
+	 * @param toIndex
+	 *            exclusive index of the last value of the interval
+	 * @return the aggregated value
+	 */
+	protected String aggregate(int fromIndex, int toIndex) {
+		return getValue(toSlot(toIndex - 1));
+	}
+
+	/**
+	 * Maps the index of a value, with 0 being the oldest one, to its slot in the
+	 * ring buffer
+	 */
+	protected int toSlot(int index) {
+		return (oldestSlot + index) % capacity;
+	}
+
+	protected abstract void write(int slot, long timestamp, String value);
+
+	protected abstract long getTimestamp(int slot);
+
+	protected abstract String getValue(int slot);
+
+	private int getFirstIndexNotBefore(long timestamp) {
+		int low = 0;
+		int high = size;
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (getTimestamp(toSlot(middle)) < timestamp)
+				low = middle + 1;
+			else
+				high = middle;
+		}
+		return low;
+	}
+}
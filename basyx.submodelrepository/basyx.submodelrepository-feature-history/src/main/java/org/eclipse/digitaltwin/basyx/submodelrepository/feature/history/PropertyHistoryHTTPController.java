@@ -0,0 +1,111 @@
+/*******************************************************************************
+ * Copyright (C) 2023 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+
+package org.eclipse.digitaltwin.basyx.submodelrepository.feature.history;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
+import org.eclipse.digitaltwin.basyx.http.Base64UrlEncodedIdentifier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Provides the recorded history of Properties
+ * 
+ * @author schnicke
+ *
+ */
+@RestController
+@ConditionalOnProperty(HistorySubmodelRepositoryFeature.FEATURENAME + ".enabled")
+public class PropertyHistoryHTTPController {
+
+	private final PropertyHistoryStore store;
+
+	@Autowired
+	public PropertyHistoryHTTPController(PropertyHistoryStore store) {
+		this.store = store;
+	}
+
+	/**
+	 * Returns the recorded values of a Property
+	 * 
+	 * @param submodelIdentifier
+	 * @param idShortPath
+	 * @param from
+	 *            optional ISO-8601 instant, inclusive start of the time range
+	 * @param to
+	 *            optional ISO-8601 instant, inclusive end of the time range
+	 * @param interval
+	 *            optional ISO-8601 duration. If given, the values are downsampled
+	 *            to one entry per interval
+	 * @return the recorded values ordered by their timestamp
+	 */
+	@GetMapping(value = "/submodels/{submodelIdentifier}/submodel-elements/{idShortPath}/$history", produces = { "application/json", "application/cbor", "application/x-jackson-smile" })
+	public ResponseEntity<List<PropertyHistoryEntry>> getPropertyHistory(@PathVariable("submodelIdentifier") Base64UrlEncodedIdentifier submodelIdentifier, @PathVariable("idShortPath") String idShortPath,
+			@RequestParam(value = "from", required = false) String from, @RequestParam(value = "to", required = false) String to, @RequestParam(value = "interval", required = false) String interval) {
+		PropertyHistory history = store.get(submodelIdentifier.getIdentifier(), idShortPath).orElseThrow(() -> new ElementDoesNotExistException(idShortPath));
+
+		List<PropertyHistoryEntry> entries = history.getEntries(parseInstant(from, Instant.EPOCH), parseInstant(to, Instant.ofEpochMilli(Long.MAX_VALUE)), parseInterval(interval));
+
+		return new ResponseEntity<List<PropertyHistoryEntry>>(entries, HttpStatus.OK);
+	}
+
+	private long parseInstant(String instant, Instant defaultInstant) {
+		if (instant == null)
+			return defaultInstant.toEpochMilli();
+
+		try {
+			return Instant.parse(instant).toEpochMilli();
+		} catch (DateTimeParseException e) {
+			throw new IllegalArgumentException("Invalid instant " + instant, e);
+		}
+	}
+
+	private long parseInterval(String interval) {
+		if (interval == null)
+			return 0;
+
+		try {
+			long millis = Duration.parse(interval).toMillis();
+			if (millis <= 0)
+				throw new IllegalArgumentException("The interval has to be positive but was " + interval);
+
+			return millis;
+		} catch (DateTimeParseException e) {
+			throw new IllegalArgumentException("Invalid interval " + interval, e);
+		}
+	}
+}
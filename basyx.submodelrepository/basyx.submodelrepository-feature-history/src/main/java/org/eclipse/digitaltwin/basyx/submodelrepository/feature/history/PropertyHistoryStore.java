@@ -0,0 +1,135 @@
+/*******************************************************************************
+ * Copyright (C) 2023 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+
+package org.eclipse.digitaltwin.basyx.submodelrepository.feature.history;
+
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.digitaltwin.aas4j.v3.model.DataTypeDefXSD;
+import org.eclipse.digitaltwin.aas4j.v3.model.Property;
+
+/**
+ * Stores the {@link PropertyHistory} of Properties by their submodelId and
+ * idShortPath
+ * 
+ * @author schnicke
+ *
+ */
+public class PropertyHistoryStore {
+	private static final Set<DataTypeDefXSD> INTEGRAL_TYPES = EnumSet.of(DataTypeDefXSD.BYTE, DataTypeDefXSD.SHORT, DataTypeDefXSD.INT, DataTypeDefXSD.LONG, DataTypeDefXSD.INTEGER, DataTypeDefXSD.NEGATIVE_INTEGER,
+			DataTypeDefXSD.NON_NEGATIVE_INTEGER, DataTypeDefXSD.NON_POSITIVE_INTEGER, DataTypeDefXSD.POSITIVE_INTEGER, DataTypeDefXSD.UNSIGNED_BYTE, DataTypeDefXSD.UNSIGNED_SHORT, DataTypeDefXSD.UNSIGNED_INT,
+			DataTypeDefXSD.UNSIGNED_LONG);
+	private static final Set<DataTypeDefXSD> FLOATING_POINT_TYPES = EnumSet.of(DataTypeDefXSD.DECIMAL, DataTypeDefXSD.DOUBLE, DataTypeDefXSD.FLOAT);
+
+	private final int capacity;
+	private final Map<String, Map<String, PropertyHistory>> histories = new ConcurrentHashMap<>();
+
+	/**
+	 * @param capacity
+	 *            the count of values kept per Property
+	 */
+	public PropertyHistoryStore(int capacity) {
+		if (capacity < 1)
+			throw new IllegalArgumentException("The capacity of a property history has to be positive but was " + capacity);
+
+		this.capacity = capacity;
+	}
+
+	/**
+	 * Returns the history of the Property, creating it if it does not exist yet
+	 * 
+	 * @param submodelId
+	 * @param idShortPath
+	 * @param property
+	 * @return the history
+	 */
+	public PropertyHistory getOrCreate(String submodelId, String idShortPath, Property property) {
+		return histories.computeIfAbsent(submodelId, id -> new ConcurrentHashMap<>()).computeIfAbsent(idShortPath, path -> createHistory(property.getValueType()));
+	}
+
+	/**
+	 * @param submodelId
+	 * @param idShortPath
+	 * @return the history of the Property, if it is recorded
+	 */
+	public Optional<PropertyHistory> get(String submodelId, String idShortPath) {
+		Map<String, PropertyHistory> submodelHistories = histories.get(submodelId);
+		if (submodelHistories == null)
+			return Optional.empty();
+
+		return Optional.ofNullable(submodelHistories.get(idShortPath));
+	}
+
+	/**
+	 * Removes the histories of all Properties of the Submodel
+	 * 
+	 * @param submodelId
+	 */
+	public void remove(String submodelId) {
+		histories.remove(submodelId);
+	}
+
+	/**
+	 * Removes the history of the SubmodelElement and all its children
+	 * 
+	 * @param submodelId
+	 * @param idShortPath
+	 */
+	public void remove(String submodelId, String idShortPath) {
+		Map<String, PropertyHistory> submodelHistories = histories.get(submodelId);
+		if (submodelHistories == null)
+			return;
+
+		submodelHistories.keySet().removeIf(path -> isSelfOrChild(path, idShortPath));
+	}
+
+	/**
+	 * Returns whether the idShortPath addresses the SubmodelElement of the parent
+	 * idShortPath or one of its children
+	 * 
+	 * @param idShortPath
+	 * @param parentIdShortPath
+	 * @return true if the idShortPath equals or starts with the parent
+	 *         idShortPath
+	 */
+	static boolean isSelfOrChild(String idShortPath, String parentIdShortPath) {
+		return idShortPath.equals(parentIdShortPath) || idShortPath.startsWith(parentIdShortPath + ".") || idShortPath.startsWith(parentIdShortPath + "[");
+	}
+
+	private PropertyHistory createHistory(DataTypeDefXSD valueType) {
+		if (INTEGRAL_TYPES.contains(valueType))
+			return new NumericPropertyHistory(capacity, true);
+
+		if (FLOATING_POINT_TYPES.contains(valueType))
+			return new NumericPropertyHistory(capacity, false);
+
+		return new StringPropertyHistory(capacity);
+	}
+}
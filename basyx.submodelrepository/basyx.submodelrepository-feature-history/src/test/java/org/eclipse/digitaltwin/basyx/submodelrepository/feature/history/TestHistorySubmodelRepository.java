@@ -0,0 +1,221 @@
+/*******************************************************************************
+ * Copyright (C) 2023 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+
+package org.eclipse.digitaltwin.basyx.submodelrepository.feature.history;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.eclipse.digitaltwin.aas4j.v3.model.DataTypeDefXSD;
+import org.eclipse.digitaltwin.aas4j.v3.model.KeyTypes;
+import org.eclipse.digitaltwin.aas4j.v3.model.Property;
+import org.eclipse.digitaltwin.aas4j.v3.model.ReferenceTypes;
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementCollection;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementList;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultKey;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultProperty;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultQualifier;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultReference;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodelElementCollection;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodelElementList;
+import org.eclipse.digitaltwin.basyx.submodelrepository.InMemorySubmodelRepositoryFactory;
+import org.eclipse.digitaltwin.basyx.submodelrepository.SubmodelRepository;
+import org.eclipse.digitaltwin.basyx.submodelservice.InMemorySubmodelServiceFactory;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.PropertyValue;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelElementCollectionValue;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelElementListValue;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelElementValue;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.ValueOnly;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the recording of Property values by the
+ * {@link HistorySubmodelRepository}
+ * 
+ * @author schnicke
+ *
+ */
+public class TestHistorySubmodelRepository {
+	private static final String SUBMODEL_ID = "historySubmodel";
+	private static final String QUALIFIED_PROPERTY = "qualified";
+	private static final String SEMANTIC_PROPERTY = "semantic";
+	private static final String UNTRACKED_PROPERTY = "untracked";
+	private static final String COLLECTION = "collection";
+	private static final String LIST = "list";
+	private static final String HISTORY_SEMANTIC_ID = "0173-1#02-BAA120#008";
+
+	private PropertyHistoryStore store;
+	private SubmodelRepository repository;
+
+	@Before
+	public void setUp() {
+		store = new PropertyHistoryStore(100);
+		repository = new HistorySubmodelRepositoryFactory(new InMemorySubmodelRepositoryFactory(new InMemorySubmodelServiceFactory()), store, Collections.singleton(HISTORY_SEMANTIC_ID)).create();
+		repository.createSubmodel(createSubmodel());
+	}
+
+	@Test
+	public void valuesOfQualifiedPropertyAreRecorded() {
+		repository.setSubmodelElementValue(SUBMODEL_ID, QUALIFIED_PROPERTY, new PropertyValue("1"));
+		repository.setSubmodelElementValue(SUBMODEL_ID, QUALIFIED_PROPERTY, new PropertyValue("2"));
+
+		assertEquals(Arrays.asList("1", "2"), getRecordedValues(QUALIFIED_PROPERTY));
+	}
+
+	@Test
+	public void valuesOfPropertyWithConfiguredSemanticIdAreRecorded() {
+		repository.setSubmodelElementValue(SUBMODEL_ID, SEMANTIC_PROPERTY, new PropertyValue("1.5"));
+
+		assertEquals(Arrays.asList("1.5"), getRecordedValues(SEMANTIC_PROPERTY));
+	}
+
+	@Test
+	public void valuesOfOtherPropertiesAreNotRecorded() {
+		repository.setSubmodelElementValue(SUBMODEL_ID, UNTRACKED_PROPERTY, new PropertyValue("value"));
+
+		assertFalse(store.get(SUBMODEL_ID, UNTRACKED_PROPERTY).isPresent());
+	}
+
+	@Test
+	public void batchValuesAreRecorded() {
+		Map<String, SubmodelElementValue> values = new LinkedHashMap<>();
+		values.put(QUALIFIED_PROPERTY, new PropertyValue("3"));
+		values.put(SEMANTIC_PROPERTY, new PropertyValue("4.5"));
+		values.put(UNTRACKED_PROPERTY, new PropertyValue("value"));
+
+		repository.setSubmodelElementValues(SUBMODEL_ID, values);
+
+		assertEquals(Arrays.asList("3"), getRecordedValues(QUALIFIED_PROPERTY));
+		assertEquals(Arrays.asList("4.5"), getRecordedValues(SEMANTIC_PROPERTY));
+		assertFalse(store.get(SUBMODEL_ID, UNTRACKED_PROPERTY).isPresent());
+	}
+
+	@Test
+	public void invalidNumericValueIsNotRecorded() {
+		repository.setSubmodelElementValue(SUBMODEL_ID, QUALIFIED_PROPERTY, new PropertyValue("notANumber"));
+
+		assertTrue(getRecordedValues(QUALIFIED_PROPERTY).isEmpty());
+		assertEquals("notANumber", ((Property) repository.getSubmodelElement(SUBMODEL_ID, QUALIFIED_PROPERTY)).getValue());
+	}
+
+	@Test
+	public void historyIsRemovedWithProperty() {
+		repository.setSubmodelElementValue(SUBMODEL_ID, QUALIFIED_PROPERTY, new PropertyValue("1"));
+		repository.deleteSubmodelElement(SUBMODEL_ID, QUALIFIED_PROPERTY);
+
+		assertFalse(store.get(SUBMODEL_ID, QUALIFIED_PROPERTY).isPresent());
+	}
+
+	@Test
+	public void historyIsRemovedWithSubmodel() {
+		repository.setSubmodelElementValue(SUBMODEL_ID, QUALIFIED_PROPERTY, new PropertyValue("1"));
+		repository.deleteSubmodel(SUBMODEL_ID);
+
+		assertFalse(store.get(SUBMODEL_ID, QUALIFIED_PROPERTY).isPresent());
+	}
+
+	@Test
+	public void propertyQualifiedByUpdateIsRecorded() {
+		repository.setSubmodelElementValue(SUBMODEL_ID, UNTRACKED_PROPERTY, new PropertyValue("before"));
+
+		Submodel submodel = createSubmodel();
+		submodel.getSubmodelElements().stream().filter(element -> element.getIdShort().equals(UNTRACKED_PROPERTY)).forEach(element -> element.setQualifiers(Arrays.asList(createHistoryQualifier())));
+		repository.updateSubmodel(SUBMODEL_ID, submodel);
+
+		repository.setSubmodelElementValue(SUBMODEL_ID, UNTRACKED_PROPERTY, new PropertyValue("after"));
+
+		assertEquals(Arrays.asList("after"), getRecordedValues(UNTRACKED_PROPERTY));
+	}
+
+	@Test
+	public void historyIsRemovedWithSubmodelUpdate() {
+		repository.setSubmodelElementValue(SUBMODEL_ID, QUALIFIED_PROPERTY, new PropertyValue("1"));
+
+		Submodel submodel = createSubmodel();
+		submodel.getSubmodelElements().stream().filter(element -> element.getIdShort().equals(QUALIFIED_PROPERTY)).forEach(element -> ((Property) element).setValueType(DataTypeDefXSD.STRING));
+		repository.updateSubmodel(SUBMODEL_ID, submodel);
+
+		repository.setSubmodelElementValue(SUBMODEL_ID, QUALIFIED_PROPERTY, new PropertyValue("text"));
+
+		assertEquals(Arrays.asList("text"), getRecordedValues(QUALIFIED_PROPERTY));
+	}
+
+	@Test
+	public void valuesSetByContainingElementsAreRecorded() {
+		String nestedPath = COLLECTION + "." + QUALIFIED_PROPERTY;
+		String listPath = LIST + "[0]";
+		SubmodelElementCollectionValue collectionValue = new SubmodelElementCollectionValue(Arrays.asList(new ValueOnly(QUALIFIED_PROPERTY, new PropertyValue("1")), new ValueOnly(UNTRACKED_PROPERTY, new PropertyValue("value"))));
+
+		repository.setSubmodelElementValue(SUBMODEL_ID, COLLECTION, collectionValue);
+		repository.setSubmodelElementValues(SUBMODEL_ID, Collections.singletonMap(LIST, new SubmodelElementListValue(Arrays.asList(new PropertyValue("2")))));
+
+		assertEquals(Arrays.asList("1"), getRecordedValues(nestedPath));
+		assertEquals(Arrays.asList("2"), getRecordedValues(listPath));
+		assertFalse(store.get(SUBMODEL_ID, COLLECTION + "." + UNTRACKED_PROPERTY).isPresent());
+	}
+
+	private List<String> getRecordedValues(String idShortPath) {
+		return store.get(SUBMODEL_ID, idShortPath).get().getEntries(0, Long.MAX_VALUE, 0).stream().map(PropertyHistoryEntry::getValue).collect(Collectors.toList());
+	}
+
+	private static Submodel createSubmodel() {
+		Property qualified = createQualifiedProperty(QUALIFIED_PROPERTY);
+		Property semantic = new DefaultProperty.Builder().idShort(SEMANTIC_PROPERTY).valueType(DataTypeDefXSD.DOUBLE).value("0.0")
+				.semanticID(new DefaultReference.Builder().type(ReferenceTypes.EXTERNAL_REFERENCE).keys(new DefaultKey.Builder().type(KeyTypes.GLOBAL_REFERENCE).value(HISTORY_SEMANTIC_ID).build()).build()).build();
+		Property untracked = createUntrackedProperty();
+
+		SubmodelElementCollection collection = new DefaultSubmodelElementCollection.Builder().idShort(COLLECTION).value(new ArrayList<>(Arrays.asList(createQualifiedProperty(QUALIFIED_PROPERTY), createUntrackedProperty()))).build();
+		SubmodelElementList list = new DefaultSubmodelElementList.Builder().idShort(LIST).value(new ArrayList<>(Arrays.asList(createQualifiedProperty(null)))).build();
+
+		List<SubmodelElement> submodelElements = new ArrayList<>(Arrays.asList(qualified, semantic, untracked, collection, list));
+		return new DefaultSubmodel.Builder().id(SUBMODEL_ID).submodelElements(submodelElements).build();
+	}
+
+	private static Property createQualifiedProperty(String idShort) {
+		return new DefaultProperty.Builder().idShort(idShort).valueType(DataTypeDefXSD.INT).value("0").qualifiers(createHistoryQualifier()).build();
+	}
+
+	private static Property createUntrackedProperty() {
+		return new DefaultProperty.Builder().idShort(UNTRACKED_PROPERTY).valueType(DataTypeDefXSD.STRING).value("").build();
+	}
+
+	private static DefaultQualifier createHistoryQualifier() {
+		return new DefaultQualifier.Builder().type(HistorySubmodelRepository.HISTORY_QUALIFIER_TYPE).value("true").build();
+	}
+}
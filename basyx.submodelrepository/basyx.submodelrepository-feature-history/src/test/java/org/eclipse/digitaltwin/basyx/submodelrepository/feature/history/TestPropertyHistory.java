@@ -0,0 +1,129 @@
+/*******************************************************************************
+ * Copyright (C) 2023 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+
+package org.eclipse.digitaltwin.basyx.submodelrepository.feature.history;
+
+import static org.junit.Assert.assertEquals;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Tests the {@link PropertyHistory} implementations
+ * 
+ * @author schnicke
+ *
+ */
+public class TestPropertyHistory {
+	private static final long T0 = Instant.parse("2023-10-01T12:00:00Z").toEpochMilli();
+
+	@Test
+	public void entriesWithinRange() {
+		PropertyHistory history = new NumericPropertyHistory(10, true);
+		for (int i = 0; i < 5; i++)
+			history.record(T0 + i * 1000, String.valueOf(i));
+
+		List<PropertyHistoryEntry> entries = history.getEntries(T0 + 1000, T0 + 3000, 0);
+
+		assertEntries(entries, "2023-10-01T12:00:01Z", "1", "2023-10-01T12:00:02Z", "2", "2023-10-01T12:00:03Z", "3");
+	}
+
+	@Test
+	public void oldestValuesAreOverwritten() {
+		PropertyHistory history = new StringPropertyHistory(3);
+		for (int i = 0; i < 5; i++)
+			history.record(T0 + i * 1000, "value" + i);
+
+		assertEquals(3, history.size());
+		assertEntries(history.getEntries(T0, Long.MAX_VALUE, 0), "2023-10-01T12:00:02Z", "value2", "2023-10-01T12:00:03Z", "value3", "2023-10-01T12:00:04Z", "value4");
+	}
+
+	@Test
+	public void outdatedTimestampIsRecordedWithLatestTimestamp() {
+		PropertyHistory history = new StringPropertyHistory(3);
+		history.record(T0 + 1000, "first");
+		history.record(T0, "second");
+
+		assertEntries(history.getEntries(T0, Long.MAX_VALUE, 0), "2023-10-01T12:00:01Z", "first", "2023-10-01T12:00:01Z", "second");
+	}
+
+	@Test
+	public void numericValuesAreDownsampledToMean() {
+		PropertyHistory history = new NumericPropertyHistory(100, false);
+		for (int i = 0; i < 40; i++)
+			history.record(T0 + i * 100, String.valueOf(i * 0.5));
+
+		List<PropertyHistoryEntry> entries = history.getEntries(T0, Long.MAX_VALUE, 1000);
+
+		assertEntries(entries, "2023-10-01T12:00:00Z", "2.25", "2023-10-01T12:00:01Z", "7.25", "2023-10-01T12:00:02Z", "12.25", "2023-10-01T12:00:03Z", "17.25");
+	}
+
+	@Test
+	public void stringValuesAreDownsampledToLatestValue() {
+		PropertyHistory history = new StringPropertyHistory(100);
+		history.record(T0, "a");
+		history.record(T0 + 500, "b");
+		history.record(T0 + 2500, "c");
+
+		List<PropertyHistoryEntry> entries = history.getEntries(T0, Long.MAX_VALUE, 1000);
+
+		assertEntries(entries, "2023-10-01T12:00:00Z", "b", "2023-10-01T12:00:02Z", "c");
+	}
+
+	@Test
+	public void downsamplingAfterWrapAround() {
+		PropertyHistory history = new NumericPropertyHistory(4, true);
+		for (int i = 0; i < 10; i++)
+			history.record(T0 + i * 1000, String.valueOf(i));
+
+		List<PropertyHistoryEntry> entries = history.getEntries(T0, Long.MAX_VALUE, 2000);
+
+		assertEntries(entries, "2023-10-01T12:00:06Z", "6.5", "2023-10-01T12:00:08Z", "8.5");
+	}
+
+	@Test(expected = NumberFormatException.class)
+	public void nonNumericValueIsRejected() {
+		PropertyHistory history = new NumericPropertyHistory(4, true);
+		history.record(T0, "1");
+
+		try {
+			history.record(T0, "notANumber");
+		} finally {
+			assertEquals(1, history.size());
+		}
+	}
+
+	private static void assertEntries(List<PropertyHistoryEntry> entries, String... expectedTimestampsAndValues) {
+		assertEquals(expectedTimestampsAndValues.length / 2, entries.size());
+
+		for (int i = 0; i < entries.size(); i++) {
+			assertEquals(expectedTimestampsAndValues[2 * i], entries.get(i).getTimestamp());
+			assertEquals(expectedTimestampsAndValues[2 * i + 1], entries.get(i).getValue());
+		}
+	}
+}
@@ -0,0 +1 @@
+memberSearchIndex = [{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.history","c":"NumericPropertyHistory","l":"aggregate(int, int)","u":"aggregate(int,int)"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.history","c":"PropertyHistory","l":"aggregate(int, int)","u":"aggregate(int,int)"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.history","c":"HistorySubmodelRepositoryFeature","l":"cleanUp()"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.history","c":"HistorySubmodelRepositoryFactory","l":"create()"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.history","c":"HistorySubmodelRepository","l":"createSubmodel(Submodel)","u":"createSubmodel(org.eclipse.digitaltwin.aas4j.v3.model.Submodel)"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.history","c":"HistorySubmodelRepository","l":"createSubmodelElement(String, String, SubmodelElement)","u":"createSubmodelElement(java.lang.String,java.lang.String,org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement)"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.history","c":"HistorySubmodelRepository","l":"createSubmodelElement(String, SubmodelElement)","u":"createSubmodelElement(java.lang.String,org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement)"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.history","c":"HistorySubmodelRepositoryFeature","l":"decorate(SubmodelRepositoryFactory)","u":"decorate(org.eclipse.digitaltwin.basyx.submodelrepository.SubmodelRepositoryFactory)"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.history","c":"HistorySubmodelRepository","l":"deleteSubmodel(String)","u":"deleteSubmodel(java.lang.String)"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.history","c":"HistorySubmodelRepository","l":"deleteSubmodelElement(String, String)","u":"deleteSubmodelElement(java.lang.String,java.lang.String)"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.history","c":"HistorySubmodelRepositoryFeature","l":"FEATURENAME"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.history","c":"PropertyHistoryStore","l":"get(String, String)","u":"get(java.lang.String,java.lang.String)"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.history","c":"HistorySubmodelRepository","l":"getAllSubmodels(PaginationInfo)","u":"getAllSubmodels(org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo)"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.history","c":"HistorySubmodelRepository","l":"getAllSubmodels(String, String, PaginationInfo)","u":"getAllSubmodels(java.lang.String,java.lang.String,org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo)"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.history","c":"PropertyHistory","l":"getEntries(long, long, long)","u":"getEntries(long,long,long)"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.history","c":"HistorySubmodelRepository","l":"getFileByPath(String, String)","u":"getFileByPath(java.lang.String,java.lang.String)"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.history","c":"HistorySubmodelRepository","l":"getName()"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.history","c":"HistorySubmodelRepositoryFeature","l":"getName()"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.history","c":"PropertyHistoryStore","l":"getOrCreate(String, String, Property)","u":"getOrCreate(java.lang.String,java.lang.String,org.eclipse.digitaltwin.aas4j.v3.model.Property)"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.history","c":"PropertyHistoryHTTPController","l":"getPropertyHistory(Base64UrlEncodedIdentifier, String, String, String, String)","u":"getPropertyHistory(org.eclipse.digitaltwin.basyx.http.Base64UrlEncodedIdentifier,java.lang.String,java.lang.String,java.lang.String,java.lang.String)"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.history","c":"HistorySubmodelRepository","l":"getSubmodel(String)","u":"getSubmodel(java.lang.String)"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.history","c":"HistorySubmodelRepository","l":"getSubmodelByIdMetadata(String)","u":"getSubmodelByIdMetadata(java.lang.String)"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.history","c":"HistorySubmodelRepository","l":"getSubmodelByIdValueOnly(String)","u":"getSubmodelByIdValueOnly(java.lang.String)"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.history","c":"HistorySubmodelRepository","l":"getSubmodelElement(String, String)","u":"getSubmodelElement(java.lang.String,java.lang.String)"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.history","c":"HistorySubmodelRepository","l":"getSubmodelElements(String, Collection<String>)","u":"getSubmodelElements(java.lang.String,java.util.Collection)"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.history","c":"HistorySubmodelRepository","l":"getSubmodelElements(String, PaginationInfo)","u":"getSubmodelElements(java.lang.String,org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo)"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.history","c":"HistorySubmodelRepository","l":"getSubmodelElements(String, String, PaginationInfo)","u":"getSubmodelElements(java.lang.String,java.lang.String,org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo)"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.history","c":"HistorySubmodelRepository","l":"getSubmodelElementValue(String, String)","u":"getSubmodelElementValue(java.lang.String,java.lang.String)"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.history","c":"HistorySubmodelRepository","l":"getSubmodelElementValues(String, Collection<String>)","u":"getSubmodelElementValues(java.lang.String,java.util.Collection)"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.history","c":"PropertyHistoryEntry","l":"getTimestamp()"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.history","c":"NumericPropertyHistory","l":"getTimestamp(int)"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.history","c":"PropertyHistory","l":"getTimestamp(int)"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.history","c":"StringPropertyHistory","l":"getTimestamp(int)"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.history","c":"PropertyHistoryEntry","l":"getValue()"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.history","c":"NumericPropertyHistory","l":"getValue(int)"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.history","c":"PropertyHistory","l":"getValue(int)"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.history","c":"StringPropertyHistory","l":"getValue(int)"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.history","c":"HistorySubmodelRepository","l":"HISTORY_QUALIFIER_TYPE"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.history","c":"HistorySubmodelRepository","l":"HistorySubmodelRepository(SubmodelRepository, PropertyHistoryStore, Set<String>)","u":"%3Cinit%3E(org.eclipse.digitaltwin.basyx.submodelrepository.SubmodelRepository,org.eclipse.digitaltwin.basyx.submodelrepository.feature.history.PropertyHistoryStore,java.util.Set)"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.history","c":"HistorySubmodelRepositoryConfiguration","l":"HistorySubmodelRepositoryConfiguration()","u":"%3Cinit%3E()"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.history","c":"HistorySubmodelRepositoryFactory","l":"HistorySubmodelRepositoryFactory(SubmodelRepositoryFactory, PropertyHistoryStore, Set<String>)","u":"%3Cinit%3E(org.eclipse.digitaltwin.basyx.submodelrepository.SubmodelRepositoryFactory,org.eclipse.digitaltwin.basyx.submodelrepository.feature.history.PropertyHistoryStore,java.util.Set)"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.history","c":"HistorySubmodelRepositoryFeature","l":"HistorySubmodelRepositoryFeature(PropertyHistoryStore)","u":"%3Cinit%3E(org.eclipse.digitaltwin.basyx.submodelrepository.feature.history.PropertyHistoryStore)"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.history","c":"HistorySubmodelRepositoryFeature","l":"initialize()"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.history","c":"HistorySubmodelRepository","l":"invokeOperation(String, String, OperationVariable[])","u":"invokeOperation(java.lang.String,java.lang.String,org.eclipse.digitaltwin.aas4j.v3.model.OperationVariable[])"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.history","c":"HistorySubmodelRepositoryFeature","l":"isEnabled()"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.history","c":"HistorySubmodelRepository","l":"iterateAllSubmodels(String, String, PaginationInfo)","u":"iterateAllSubmodels(java.lang.String,java.lang.String,org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo)"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.history","c":"NumericPropertyHistory","l":"NumericPropertyHistory(int, boolean)","u":"%3Cinit%3E(int,boolean)"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.history","c":"PropertyHistory","l":"PropertyHistory(int)","u":"%3Cinit%3E(int)"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.history","c":"PropertyHistoryEntry","l":"PropertyHistoryEntry(long, String)","u":"%3Cinit%3E(long,java.lang.String)"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.history","c":"PropertyHistoryHTTPController","l":"PropertyHistoryHTTPController(PropertyHistoryStore)","u":"%3Cinit%3E(org.eclipse.digitaltwin.basyx.submodelrepository.feature.history.PropertyHistoryStore)"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.history","c":"HistorySubmodelRepositoryConfiguration","l":"propertyHistoryStore(int)"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.history","c":"PropertyHistoryStore","l":"PropertyHistoryStore(int)","u":"%3Cinit%3E(int)"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.history","c":"HistorySubmodelRepository","l":"putFileByPath(String, String, String, String, InputStream)","u":"putFileByPath(java.lang.String,java.lang.String,java.lang.String,java.lang.String,java.io.InputStream)"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.history","c":"PropertyHistory","l":"record(long, String)","u":"record(long,java.lang.String)"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.history","c":"PropertyHistoryStore","l":"remove(String)","u":"remove(java.lang.String)"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.history","c":"PropertyHistoryStore","l":"remove(String, String)","u":"remove(java.lang.String,java.lang.String)"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.history","c":"HistorySubmodelRepository","l":"setSubmodelElementValue(String, String, SubmodelElementValue)","u":"setSubmodelElementValue(java.lang.String,java.lang.String,org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelElementValue)"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.history","c":"HistorySubmodelRepository","l":"setSubmodelElementValues(String, Map<String, SubmodelElementValue>)","u":"setSubmodelElementValues(java.lang.String,java.util.Map)"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.history","c":"PropertyHistory","l":"size()"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.history","c":"StringPropertyHistory","l":"StringPropertyHistory(int)","u":"%3Cinit%3E(int)"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.history","c":"PropertyHistory","l":"toSlot(int)"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.history","c":"HistorySubmodelRepository","l":"updateSubmodel(String, Submodel)","u":"updateSubmodel(java.lang.String,org.eclipse.digitaltwin.aas4j.v3.model.Submodel)"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.history","c":"NumericPropertyHistory","l":"write(int, long, String)","u":"write(int,long,java.lang.String)"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.history","c":"PropertyHistory","l":"write(int, long, String)","u":"write(int,long,java.lang.String)"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.history","c":"StringPropertyHistory","l":"write(int, long, String)","u":"write(int,long,java.lang.String)"}];updateSearchResults();
\ No newline at end of file
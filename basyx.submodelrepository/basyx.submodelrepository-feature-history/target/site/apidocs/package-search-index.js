@@ -0,0 +1 @@
+packageSearchIndex = [{"l":"All Packages","u":"allpackages-index.html"},{"l":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.history"}];updateSearchResults();
\ No newline at end of file
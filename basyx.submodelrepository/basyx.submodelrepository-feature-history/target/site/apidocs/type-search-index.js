@@ -0,0 +1 @@
+typeSearchIndex = [{"l":"All Classes and Interfaces","u":"allclasses-index.html"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.history","l":"HistorySubmodelRepository"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.history","l":"HistorySubmodelRepositoryConfiguration"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.history","l":"HistorySubmodelRepositoryFactory"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.history","l":"HistorySubmodelRepositoryFeature"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.history","l":"NumericPropertyHistory"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.history","l":"PropertyHistory"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.history","l":"PropertyHistoryEntry"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.history","l":"PropertyHistoryHTTPController"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.history","l":"PropertyHistoryStore"},{"p":"org.eclipse.digitaltwin.basyx.submodelrepository.feature.history","l":"StringPropertyHistory"}];updateSearchResults();
\ No newline at end of file
@@ -1,25 +1,27 @@
 package org.eclipse.digitaltwin.basyx.submodelrepository.feature.mqtt;
 
+import java.io.InputStream;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.digitaltwin.aas4j.v3.model.OperationVariable;
 import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
 import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.basyx.common.mqttcore.publisher.MqttEventPublisher;
+import org.eclipse.digitaltwin.basyx.common.mqttcore.publisher.SynchronousMqttEventPublisher;
 import org.eclipse.digitaltwin.basyx.common.mqttcore.serializer.SubmodelElementSerializer;
 import org.eclipse.digitaltwin.basyx.common.mqttcore.serializer.SubmodelSerializer;
 import org.eclipse.digitaltwin.basyx.core.exceptions.CollidingIdentifierException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
+import org.eclipse.digitaltwin.basyx.core.pagination.CursorIterator;
 import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
 import org.eclipse.digitaltwin.basyx.submodelrepository.SubmodelRepository;
+import org.eclipse.digitaltwin.basyx.submodelrepository.attachment.Attachment;
 import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelElementValue;
 import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelValueOnly;
 import org.eclipse.paho.client.mqttv3.IMqttClient;
-import org.eclipse.paho.client.mqttv3.MqttException;
-import org.eclipse.paho.client.mqttv3.MqttMessage;
-import org.eclipse.paho.client.mqttv3.MqttPersistenceException;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 /**
  * Repository decorator for the MQTT eventing on the submodel level.
@@ -27,17 +29,62 @@ import org.slf4j.LoggerFactory;
  * @author fischer
  */
 public class MqttSubmodelRepository implements SubmodelRepository {
-	private static Logger logger = LoggerFactory.getLogger(MqttSubmodelRepository.class);
 	private MqttSubmodelRepositoryTopicFactory topicFactory;
 
 	private SubmodelRepository decorated;
 
-	private IMqttClient mqttClient;
+	private MqttEventPublisher publisher;
+
+	private boolean batchEvents;
+
+	private SubmodelElementUpdatePayloadSerializer updatePayloadSerializer;
 
 	public MqttSubmodelRepository(SubmodelRepository decorated, IMqttClient mqttClient, MqttSubmodelRepositoryTopicFactory topicFactory) {
+		this(decorated, mqttClient, topicFactory, false);
+	}
+
+	/**
+	 * @param decorated
+	 * @param mqttClient
+	 * @param topicFactory
+	 * @param batchEvents
+	 *            if true, a single event is sent for a batch of value updates
+	 *            instead of one event per submodelElement
+	 */
+	public MqttSubmodelRepository(SubmodelRepository decorated, IMqttClient mqttClient, MqttSubmodelRepositoryTopicFactory topicFactory, boolean batchEvents) {
+		this(decorated, new SynchronousMqttEventPublisher(mqttClient), topicFactory, batchEvents);
+	}
+
+	/**
+	 * @param decorated
+	 * @param publisher
+	 *            publishes the events to the broker
+	 * @param topicFactory
+	 * @param batchEvents
+	 *            if true, a single event is sent for a batch of value updates
+	 *            instead of one event per submodelElement
+	 */
+	public MqttSubmodelRepository(SubmodelRepository decorated, MqttEventPublisher publisher, MqttSubmodelRepositoryTopicFactory topicFactory, boolean batchEvents) {
+		this(decorated, publisher, topicFactory, batchEvents, MqttPayloadMode.FULL);
+	}
+
+	/**
+	 * @param decorated
+	 * @param publisher
+	 *            publishes the events to the broker
+	 * @param topicFactory
+	 * @param batchEvents
+	 *            if true, a single event is sent for a batch of value updates
+	 *            instead of one event per submodelElement
+	 * @param payloadMode
+	 *            the payload of the submodelElement update events
+	 */
+	public MqttSubmodelRepository(SubmodelRepository decorated, MqttEventPublisher publisher, MqttSubmodelRepositoryTopicFactory topicFactory, boolean batchEvents, MqttPayloadMode payloadMode) {
 		this.topicFactory = topicFactory;
 		this.decorated = decorated;
-		this.mqttClient = mqttClient;
+		this.publisher = publisher;
+		this.batchEvents = batchEvents;
+		this.updatePayloadSerializer = new SubmodelElementUpdatePayloadSerializer(payloadMode);
 	}
 
 	@Override
@@ -45,6 +92,16 @@ public class MqttSubmodelRepository implements SubmodelRepository {
 		return decorated.getAllSubmodels(pInfo);
 	}
 
+	@Override
+	public CursorResult<List<Submodel>> getAllSubmodels(String semanticId, String idShort, PaginationInfo pInfo) {
+		return decorated.getAllSubmodels(semanticId, idShort, pInfo);
+	}
+
+	@Override
+	public CursorIterator<Submodel> iterateAllSubmodels(String semanticId, String idShort, PaginationInfo pInfo) {
+		return decorated.iterateAllSubmodels(semanticId, idShort, pInfo);
+	}
+
 	@Override
 	public Submodel getSubmodel(String submodelId) throws ElementDoesNotExistException {
 		return decorated.getSubmodel(submodelId);
@@ -75,6 +132,11 @@ public class MqttSubmodelRepository implements SubmodelRepository {
 		return decorated.getSubmodelElements(submodelId, pInfo);
 	}
 
+	@Override
+	public CursorResult<List<SubmodelElement>> getSubmodelElements(String submodelId, String idShortPath, PaginationInfo pInfo) throws ElementDoesNotExistException {
+		return decorated.getSubmodelElements(submodelId, idShortPath, pInfo);
+	}
+
 	@Override
 	public SubmodelElement getSubmodelElement(String submodelId, String smeIdShort) throws ElementDoesNotExistException {
 		return decorated.getSubmodelElement(submodelId, smeIdShort);
@@ -92,6 +154,30 @@ public class MqttSubmodelRepository implements SubmodelRepository {
 		submodelElementUpdated(submodelElement, getName(), submodelId, idShortPath);
 	}
 
+	@Override
+	public Map<String, SubmodelElement> getSubmodelElements(String submodelId, Collection<String> idShortPaths) throws ElementDoesNotExistException {
+		return decorated.getSubmodelElements(submodelId, idShortPaths);
+	}
+
+	@Override
+	public Map<String, SubmodelElementValue> getSubmodelElementValues(String submodelId, Collection<String> idShortPaths) throws ElementDoesNotExistException {
+		return decorated.getSubmodelElementValues(submodelId, idShortPaths);
+	}
+
+	@Override
+	public void setSubmodelElementValues(String submodelId, Map<String, SubmodelElementValue> values) throws ElementDoesNotExistException {
+		decorated.setSubmodelElementValues(submodelId, values);
+
+		Map<String, SubmodelElement> submodelElements = decorated.getSubmodelElements(submodelId, values.keySet());
+
+		if (batchEvents) {
+			submodelElementsUpdated(submodelElements, getName(), submodelId);
+			return;
+		}
+
+		submodelElements.forEach((idShortPath, submodelElement) -> submodelElementUpdated(submodelElement, getName(), submodelId, idShortPath));
+	}
+
 	@Override
 	public void createSubmodelElement(String submodelId, SubmodelElement smElement) {
 		decorated.createSubmodelElement(submodelId, smElement);
@@ -113,6 +199,18 @@ public class MqttSubmodelRepository implements SubmodelRepository {
 		submodelElementDeleted(submodelElement, getName(), submodelId, idShortPath);
 	}
 
+	@Override
+	public Attachment getFileByPath(String submodelId, String idShortPath) throws ElementDoesNotExistException {
+		return decorated.getFileByPath(submodelId, idShortPath);
+	}
+
+	@Override
+	public void putFileByPath(String submodelId, String idShortPath, String fileName, String contentType, InputStream content) throws ElementDoesNotExistException {
+		decorated.putFileByPath(submodelId, idShortPath, fileName, contentType, content);
+		SubmodelElement submodelElement = decorated.getSubmodelElement(submodelId, idShortPath);
+		submodelElementUpdated(submodelElement, getName(), submodelId, idShortPath);
+	}
+
 	@Override
 	public String getName() {
 		return decorated.getName();
@@ -145,40 +243,23 @@ public class MqttSubmodelRepository implements SubmodelRepository {
 	}
 
 	private void submodelElementUpdated(SubmodelElement submodelElement, String repoId, String submodelId, String submodelElementId) {
-		sendMqttMessage(topicFactory.createUpdateSubmodelElementTopic(repoId, submodelId, submodelElementId), SubmodelElementSerializer.serializeSubmodelElement(submodelElement));
+		sendMqttMessage(topicFactory.createUpdateSubmodelElementTopic(repoId, submodelId, submodelElementId), updatePayloadSerializer.serialize(submodelElement));
+	}
+
+	private void submodelElementsUpdated(Map<String, SubmodelElement> submodelElements, String repoId, String submodelId) {
+		sendMqttMessage(topicFactory.createUpdateSubmodelElementsTopic(repoId, submodelId), updatePayloadSerializer.serialize(submodelElements));
 	}
 
 	private void submodelElementDeleted(SubmodelElement submodelElement, String repoId, String submodelId, String submodelElementId) {
 		sendMqttMessage(topicFactory.createDeleteSubmodelElementTopic(repoId, submodelId, submodelElementId), SubmodelElementSerializer.serializeSubmodelElement(submodelElement));
 	}
 
-	/**
-	 * Sends MQTT message to connected broker
-	 * 
-	 * @param topic
-	 *            in which the message will be published
-	 * @param payload
-	 *            the actual message
-	 */
 	private void sendMqttMessage(String topic, String payload) {
-		MqttMessage msg = createMqttMessage(payload);
-
-		try {
-			logger.debug("Send MQTT message to " + topic + ": " + payload);
-			mqttClient.publish(topic, msg);
-		} catch (MqttPersistenceException e) {
-			logger.error("Could not persist mqtt message", e);
-		} catch (MqttException e) {
-			logger.error("Could not send mqtt message", e);
-		}
+		publisher.publish(topic, payload);
 	}
 
-	private MqttMessage createMqttMessage(String payload) {
-		if (payload == null) {
-			return new MqttMessage();
-		} else {
-			return new MqttMessage(payload.getBytes());
-		}
+	private void sendMqttMessage(String topic, byte[] payload) {
+		publisher.publish(topic, payload);
 	}
 
 	@Override
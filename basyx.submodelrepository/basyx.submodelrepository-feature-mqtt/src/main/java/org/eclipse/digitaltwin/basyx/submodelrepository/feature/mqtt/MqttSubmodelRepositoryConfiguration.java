@@ -25,8 +25,8 @@
 
 package org.eclipse.digitaltwin.basyx.submodelrepository.feature.mqtt;
 
+import org.eclipse.digitaltwin.basyx.common.mqttcore.publisher.BaSyxMqttClient;
 import org.eclipse.paho.client.mqttv3.IMqttClient;
-import org.eclipse.paho.client.mqttv3.MqttClient;
 import org.eclipse.paho.client.mqttv3.MqttConnectOptions;
 import org.eclipse.paho.client.mqttv3.MqttException;
 import org.eclipse.paho.client.mqttv3.persist.MemoryPersistence;
@@ -48,7 +48,7 @@ public class MqttSubmodelRepositoryConfiguration {
 	@ConditionalOnMissingBean
 	@Bean
 	public IMqttClient mqttClient(@Value("${mqtt.clientId}") String clientId, @Value("${mqtt.hostname}") String hostname, @Value("${mqtt.port}") int port) throws MqttException {
-		IMqttClient mqttClient = new MqttClient("tcp://" + hostname + ":" + port, clientId, new MemoryPersistence());
+		IMqttClient mqttClient = new BaSyxMqttClient("tcp://" + hostname + ":" + port, clientId, new MemoryPersistence());
 
 		mqttClient.connect(mqttConnectOptions());
 
@@ -25,6 +25,8 @@
 
 package org.eclipse.digitaltwin.basyx.submodelrepository.feature.mqtt;
 
+import org.eclipse.digitaltwin.basyx.common.mqttcore.publisher.MqttEventPublisher;
+import org.eclipse.digitaltwin.basyx.common.mqttcore.publisher.SynchronousMqttEventPublisher;
 import org.eclipse.digitaltwin.basyx.submodelrepository.SubmodelRepository;
 import org.eclipse.digitaltwin.basyx.submodelrepository.SubmodelRepositoryFactory;
 import org.eclipse.paho.client.mqttv3.IMqttClient;
@@ -37,17 +39,61 @@ import org.eclipse.paho.client.mqttv3.IMqttClient;
 public class MqttSubmodelRepositoryFactory implements SubmodelRepositoryFactory {
 
 	private SubmodelRepositoryFactory decorated;
-	private IMqttClient client;
+	private MqttEventPublisher publisher;
 	private MqttSubmodelRepositoryTopicFactory topicFactory;
+	private boolean batchEvents;
+	private MqttPayloadMode payloadMode;
 
 	public MqttSubmodelRepositoryFactory(SubmodelRepositoryFactory decorated, IMqttClient client, MqttSubmodelRepositoryTopicFactory topicFactory) {
+		this(decorated, client, topicFactory, false);
+	}
+
+	/**
+	 * @param decorated
+	 * @param client
+	 * @param topicFactory
+	 * @param batchEvents
+	 *            if true, a single event is sent for a batch of value updates
+	 *            instead of one event per submodelElement
+	 */
+	public MqttSubmodelRepositoryFactory(SubmodelRepositoryFactory decorated, IMqttClient client, MqttSubmodelRepositoryTopicFactory topicFactory, boolean batchEvents) {
+		this(decorated, new SynchronousMqttEventPublisher(client), topicFactory, batchEvents);
+	}
+
+	/**
+	 * @param decorated
+	 * @param publisher
+	 *            publishes the events to the broker
+	 * @param topicFactory
+	 * @param batchEvents
+	 *            if true, a single event is sent for a batch of value updates
+	 *            instead of one event per submodelElement
+	 */
+	public MqttSubmodelRepositoryFactory(SubmodelRepositoryFactory decorated, MqttEventPublisher publisher, MqttSubmodelRepositoryTopicFactory topicFactory, boolean batchEvents) {
+		this(decorated, publisher, topicFactory, batchEvents, MqttPayloadMode.FULL);
+	}
+
+	/**
+	 * @param decorated
+	 * @param publisher
+	 *            publishes the events to the broker
+	 * @param topicFactory
+	 * @param batchEvents
+	 *            if true, a single event is sent for a batch of value updates
+	 *            instead of one event per submodelElement
+	 * @param payloadMode
+	 *            the payload of the submodelElement update events
+	 */
+	public MqttSubmodelRepositoryFactory(SubmodelRepositoryFactory decorated, MqttEventPublisher publisher, MqttSubmodelRepositoryTopicFactory topicFactory, boolean batchEvents, MqttPayloadMode payloadMode) {
 		this.decorated = decorated;
-		this.client = client;
+		this.publisher = publisher;
 		this.topicFactory = topicFactory;
+		this.batchEvents = batchEvents;
+		this.payloadMode = payloadMode;
 	}
 
 	@Override
 	public SubmodelRepository create() {
-		return new MqttSubmodelRepository(decorated.create(), client, topicFactory);
+		return new MqttSubmodelRepository(decorated.create(), publisher, topicFactory, batchEvents, payloadMode);
 	}
 }
@@ -96,6 +96,16 @@ public class MqttSubmodelRepositoryTopicFactory extends AbstractMqttTopicFactory
 		return new StringJoiner("/", "", "").add(SUBMODELREPOSITORY).add(repoId).add(SUBMODELS).add(encodeId(submodelId)).add(SUBMODELELEMENTS).add(submodelElementId).add(UPDATED).toString();
 	}
 
+	/**
+	 * Creates the hierarchical topic for the update event of multiple
+	 * submodelElements of one submodel
+	 * 
+	 * @param repoId
+	 */
+	public String createUpdateSubmodelElementsTopic(String repoId, String submodelId) {
+		return new StringJoiner("/", "", "").add(SUBMODELREPOSITORY).add(repoId).add(SUBMODELS).add(encodeId(submodelId)).add(SUBMODELELEMENTS).add(UPDATED).toString();
+	}
+
 	/**
 	 * Creates the hierarchical topic for the delete event of submodelElements
 	 * 
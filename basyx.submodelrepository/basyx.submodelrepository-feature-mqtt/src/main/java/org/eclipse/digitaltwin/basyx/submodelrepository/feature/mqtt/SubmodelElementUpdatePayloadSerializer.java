@@ -0,0 +1,133 @@
+/*******************************************************************************
+ * Copyright (C) 2023 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.submodelrepository.feature.mqtt;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.basyx.common.mqttcore.serializer.SubmodelElementSerializer;
+import org.eclipse.digitaltwin.basyx.serialization.SubmodelElementValueOnlyWriter;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+
+/**
+ * Serializes the payload of SubmodelElement update events according to the
+ * configured {@link MqttPayloadMode}. In the ValueOnly modes, the values are
+ * written directly from the SubmodelElements. SubmodelElements annotated with
+ * an emptyValueUpdateEvent Qualifier are written as null.
+ * 
+ * @author schnicke
+ *
+ */
+public class SubmodelElementUpdatePayloadSerializer {
+	private static final SubmodelElementValueOnlyWriter VALUE_ONLY_WRITER = new SubmodelElementValueOnlyWriter();
+	private static final JsonFactory CBOR_FACTORY = new CBORFactory();
+
+	private final MqttPayloadMode payloadMode;
+
+	public SubmodelElementUpdatePayloadSerializer(MqttPayloadMode payloadMode) {
+		this.payloadMode = payloadMode;
+	}
+
+	/**
+	 * Serializes the payload for the update of a single submodelElement
+	 * 
+	 * @param submodelElement
+	 * @return the payload
+	 */
+	public byte[] serialize(SubmodelElement submodelElement) {
+		if (payloadMode == MqttPayloadMode.FULL)
+			return SubmodelElementSerializer.serializeSubmodelElement(submodelElement).getBytes(StandardCharsets.UTF_8);
+
+		return writeValueOnly((gen, serializers) -> writeValue(submodelElement, gen, serializers));
+	}
+
+	/**
+	 * Serializes the payload for the update of multiple submodelElements. The
+	 * payload is an object containing each submodelElement under its idShortPath.
+	 * 
+	 * @param submodelElements
+	 *            the submodelElements mapped by their idShortPath
+	 * @return the payload
+	 */
+	public byte[] serialize(Map<String, SubmodelElement> submodelElements) {
+		if (payloadMode == MqttPayloadMode.FULL)
+			return SubmodelElementSerializer.serializeSubmodelElements(submodelElements).getBytes(StandardCharsets.UTF_8);
+
+		return writeValueOnly((gen, serializers) -> {
+			gen.writeStartObject();
+			for (Entry<String, SubmodelElement> entry : submodelElements.entrySet()) {
+				gen.writeFieldName(entry.getKey());
+				writeValue(entry.getValue(), gen, serializers);
+			}
+			gen.writeEndObject();
+		});
+	}
+
+	private byte[] writeValueOnly(PayloadWriter payloadWriter) {
+		ObjectMapper mapper = SubmodelElementSerializer.getMapper();
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		// The provider is created per payload as it is not thread-safe
+		try (JsonGenerator gen = createGenerator(mapper, out)) {
+			payloadWriter.write(gen, mapper.getSerializerProviderInstance());
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+
+		return out.toByteArray();
+	}
+
+	private JsonGenerator createGenerator(ObjectMapper mapper, ByteArrayOutputStream out) throws IOException {
+		if (payloadMode == MqttPayloadMode.VALUE_ONLY_CBOR)
+			return CBOR_FACTORY.createGenerator(out).setCodec(mapper);
+
+		return mapper.getFactory().createGenerator(out, JsonEncoding.UTF8);
+	}
+
+	private static void writeValue(SubmodelElement submodelElement, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+		if (SubmodelElementSerializer.shouldSendEmptyValueEvent(submodelElement)) {
+			gen.writeNull();
+			return;
+		}
+
+		VALUE_ONLY_WRITER.writeValue(submodelElement, gen, serializers);
+	}
+
+	@FunctionalInterface
+	private interface PayloadWriter {
+		void write(JsonGenerator gen, SerializerProvider serializers) throws IOException;
+	}
+}
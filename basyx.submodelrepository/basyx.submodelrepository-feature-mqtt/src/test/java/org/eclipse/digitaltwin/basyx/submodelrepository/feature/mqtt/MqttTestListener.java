@@ -47,6 +47,7 @@ public class MqttTestListener implements InterceptHandler {
 	// Topic and payload of the most recent event
 	public String lastTopic;
 	public String lastPayload;
+	public byte[] lastRawPayload;
 	private ArrayList<String> topics = new ArrayList<>();
 
 	@Override
@@ -80,6 +81,8 @@ public class MqttTestListener implements InterceptHandler {
 		topics.add(msg.getTopicName());
 		lastTopic = msg.getTopicName();
 		lastPayload = msg.getPayload().toString(StandardCharsets.UTF_8);
+		lastRawPayload = new byte[msg.getPayload().readableBytes()];
+		msg.getPayload().getBytes(msg.getPayload().readerIndex(), lastRawPayload);
 	}
 
 	@Override
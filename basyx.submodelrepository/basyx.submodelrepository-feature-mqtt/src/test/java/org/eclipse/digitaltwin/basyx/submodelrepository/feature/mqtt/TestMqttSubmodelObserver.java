@@ -30,7 +30,10 @@ import static org.junit.Assert.assertNotEquals;
 
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.DeserializationException;
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.json.JsonDeserializer;
@@ -42,6 +45,7 @@ import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultProperty;
 import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultQualifier;
 import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodel;
 import org.eclipse.digitaltwin.basyx.common.mqttcore.encoding.Base64URLEncoder;
+import org.eclipse.digitaltwin.basyx.common.mqttcore.publisher.SynchronousMqttEventPublisher;
 import org.eclipse.digitaltwin.basyx.common.mqttcore.serializer.SubmodelElementSerializer;
 import org.eclipse.digitaltwin.basyx.submodelrepository.InMemorySubmodelRepositoryFactory;
 import org.eclipse.digitaltwin.basyx.submodelrepository.SubmodelRepository;
@@ -56,6 +60,11 @@ import org.junit.AfterClass;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+
 import io.moquette.broker.Server;
 import io.moquette.broker.config.ClasspathResourceLoader;
 import io.moquette.broker.config.IConfig;
@@ -144,6 +153,109 @@ public class TestMqttSubmodelObserver {
 		assertEquals(submodelElement, deserializeSubmodelElementPayload(listener.lastPayload));
 	}
 
+	@Test
+	public void updateSubmodelElementsEvent() throws DeserializationException {
+		Submodel submodel = createSubmodelDummy("updateSubmodelForElementsEventId");
+		submodelRepository.createSubmodel(submodel);
+		Map<String, SubmodelElementValue> values = createSubmodelElementDummies(submodelRepository, submodel, "updateSubmodelElementsEventId1", "updateSubmodelElementsEventId2");
+		submodelRepository.setSubmodelElementValues(submodel.getId(), values);
+
+		List<String> topics = listener.getTopics();
+		List<String> expectedTopics = values.keySet().stream().map(idShort -> topicFactory.createUpdateSubmodelElementTopic(submodelRepository.getName(), submodel.getId(), idShort)).collect(Collectors.toList());
+		assertEquals(expectedTopics, topics.subList(topics.size() - 2, topics.size()));
+		assertEquals(submodelRepository.getSubmodelElement(submodel.getId(), "updateSubmodelElementsEventId2"), deserializeSubmodelElementPayload(listener.lastPayload));
+	}
+
+	@Test
+	public void updateSubmodelElementsBatchEvent() throws DeserializationException, JsonProcessingException {
+		SubmodelRepository batchRepository = new MqttSubmodelRepository(createInMemorySubmodelRepository(), mqttClient, topicFactory, true);
+
+		Submodel submodel = createSubmodelDummy("updateSubmodelForElementsBatchEventId");
+		batchRepository.createSubmodel(submodel);
+		Map<String, SubmodelElementValue> values = createSubmodelElementDummies(batchRepository, submodel, "updateSubmodelElementsBatchEventId1", "updateSubmodelElementsBatchEventId2");
+		batchRepository.setSubmodelElementValues(submodel.getId(), values);
+
+		assertEquals(topicFactory.createUpdateSubmodelElementsTopic(batchRepository.getName(), submodel.getId()), listener.lastTopic);
+
+		JsonNode payload = new ObjectMapper().readTree(listener.lastPayload);
+		assertEquals(values.size(), payload.size());
+		for (String idShort : values.keySet())
+			assertEquals(batchRepository.getSubmodelElement(submodel.getId(), idShort), deserializeSubmodelElementPayload(payload.get(idShort).toString()));
+	}
+
+	@Test
+	public void updateSubmodelElementValueOnlyEvent() {
+		SubmodelRepository valueOnlyRepository = createMqttSubmodelRepository(MqttPayloadMode.VALUE_ONLY);
+
+		Submodel submodel = createSubmodelDummy("updateSubmodelForElementValueOnlyEventId");
+		valueOnlyRepository.createSubmodel(submodel);
+		SubmodelElement submodelElement = createSubmodelElementDummy("updateSubmodelElementValueOnlyEventId");
+		valueOnlyRepository.createSubmodelElement(submodel.getId(), submodelElement);
+		valueOnlyRepository.setSubmodelElementValue(submodel.getId(), submodelElement.getIdShort(), new PropertyValue("updatedValue"));
+
+		assertEquals(topicFactory.createUpdateSubmodelElementTopic(valueOnlyRepository.getName(), submodel.getId(), submodelElement.getIdShort()), listener.lastTopic);
+		assertEquals("\"updatedValue\"", listener.lastPayload);
+	}
+
+	@Test
+	public void updateSubmodelElementValueOnlyCborEvent() throws IOException {
+		SubmodelRepository cborRepository = createMqttSubmodelRepository(MqttPayloadMode.VALUE_ONLY_CBOR);
+
+		Submodel submodel = createSubmodelDummy("updateSubmodelForElementCborEventId");
+		cborRepository.createSubmodel(submodel);
+		SubmodelElement submodelElement = createSubmodelElementDummy("updateSubmodelElementCborEventId");
+		cborRepository.createSubmodelElement(submodel.getId(), submodelElement);
+		cborRepository.setSubmodelElementValue(submodel.getId(), submodelElement.getIdShort(), new PropertyValue("updatedValue"));
+
+		assertEquals(topicFactory.createUpdateSubmodelElementTopic(cborRepository.getName(), submodel.getId(), submodelElement.getIdShort()), listener.lastTopic);
+		assertEquals("updatedValue", new ObjectMapper(new CBORFactory()).readTree(listener.lastRawPayload).textValue());
+	}
+
+	@Test
+	public void updateSubmodelElementsValueOnlyBatchEvent() throws JsonProcessingException {
+		SubmodelRepository batchRepository = new MqttSubmodelRepository(createInMemorySubmodelRepository(), new SynchronousMqttEventPublisher(mqttClient), topicFactory, true, MqttPayloadMode.VALUE_ONLY);
+
+		Submodel submodel = createSubmodelDummy("updateSubmodelForElementsValueOnlyBatchEventId");
+		batchRepository.createSubmodel(submodel);
+		Map<String, SubmodelElementValue> values = createSubmodelElementDummies(batchRepository, submodel, "updateSubmodelElementsValueOnlyBatchEventId1", "updateSubmodelElementsValueOnlyBatchEventId2");
+		batchRepository.setSubmodelElementValues(submodel.getId(), values);
+
+		assertEquals(topicFactory.createUpdateSubmodelElementsTopic(batchRepository.getName(), submodel.getId()), listener.lastTopic);
+		assertEquals(new ObjectMapper().readTree("{\"updateSubmodelElementsValueOnlyBatchEventId1\":\"updatedValue\",\"updateSubmodelElementsValueOnlyBatchEventId2\":\"updatedValue\"}"), new ObjectMapper().readTree(listener.lastPayload));
+	}
+
+	@Test
+	public void updateSubmodelElementWithoutValueValueOnlyEvent() {
+		SubmodelRepository valueOnlyRepository = createMqttSubmodelRepository(MqttPayloadMode.VALUE_ONLY);
+
+		Submodel submodel = createSubmodelDummy("updateSubmodelForElementWithoutValueValueOnlyEventId");
+		valueOnlyRepository.createSubmodel(submodel);
+		SubmodelElement submodelElement = createSubmodelElementDummy("updateSubmodelElementWithoutValueValueOnlyEventId");
+		submodelElement.setQualifiers(createNoValueQualifierList());
+		valueOnlyRepository.createSubmodelElement(submodel.getId(), submodelElement);
+		valueOnlyRepository.setSubmodelElementValue(submodel.getId(), submodelElement.getIdShort(), new PropertyValue("updatedValue"));
+
+		assertEquals("null", listener.lastPayload);
+	}
+
+	@Test
+	public void updateSubmodelElementWithoutValueEvent() throws DeserializationException {
+		Submodel submodel = createSubmodelDummy("updateSubmodelForElementWithoutValueEventId");
+		submodelRepository.createSubmodel(submodel);
+		SubmodelElement submodelElement = createSubmodelElementDummy("updateSubmodelElementWithoutValueEventId");
+		submodelElement.setQualifiers(createNoValueQualifierList());
+		submodelRepository.createSubmodelElement(submodel.getId(), submodelElement);
+		submodelRepository.setSubmodelElementValue(submodel.getId(), submodelElement.getIdShort(), new PropertyValue("updatedValue"));
+
+		// The value is filtered from the payload without modifying the stored element
+		SubmodelElement storedElement = submodelRepository.getSubmodelElement(submodel.getId(), submodelElement.getIdShort());
+		assertEquals("updatedValue", ((Property) storedElement).getValue());
+
+		// remove value for equality check
+		((Property) submodelElement).setValue(null);
+		assertEquals(submodelElement, deserializeSubmodelElementPayload(listener.lastPayload));
+	}
+
 	@Test
 	public void deleteSubmodelElementEvent() throws DeserializationException {
 		Submodel submodel = createSubmodelDummy("deleteSubmodelForElementEventId");
@@ -190,16 +302,36 @@ public class TestMqttSubmodelObserver {
 		return new DefaultSubmodel.Builder().id(submodelId).build();
 	}
 
+	private Map<String, SubmodelElementValue> createSubmodelElementDummies(SubmodelRepository repository, Submodel submodel, String... submodelElementIds) {
+		Map<String, SubmodelElementValue> values = new LinkedHashMap<>();
+		for (String submodelElementId : submodelElementIds) {
+			repository.createSubmodelElement(submodel.getId(), createSubmodelElementDummy(submodelElementId));
+			values.put(submodelElementId, new PropertyValue("updatedValue"));
+		}
+
+		return values;
+	}
+
 	private SubmodelElement createSubmodelElementDummy(String submodelElementId) {
 		return new DefaultProperty.Builder().idShort(submodelElementId).value("defaultValue").build();
 	}
 
+	private static SubmodelRepository createInMemorySubmodelRepository() {
+		return new InMemorySubmodelRepositoryFactory(new InMemorySubmodelServiceFactory()).create();
+	}
+
 	private static SubmodelRepository createMqttSubmodelRepository(MqttClient client) {
 		SubmodelRepositoryFactory repoFactory = new InMemorySubmodelRepositoryFactory(new InMemorySubmodelServiceFactory());
 
 		return new MqttSubmodelRepositoryFactory(repoFactory, client, new MqttSubmodelRepositoryTopicFactory(new Base64URLEncoder())).create();
 	}
 
+	private static SubmodelRepository createMqttSubmodelRepository(MqttPayloadMode payloadMode) {
+		SubmodelRepositoryFactory repoFactory = new InMemorySubmodelRepositoryFactory(new InMemorySubmodelServiceFactory());
+
+		return new MqttSubmodelRepositoryFactory(repoFactory, new SynchronousMqttEventPublisher(mqttClient), topicFactory, false, payloadMode).create();
+	}
+
 	private static MqttTestListener configureInterceptListener(Server broker) {
 		MqttTestListener testListener = new MqttTestListener();
 		broker.addInterceptHandler(testListener);
@@ -25,35 +25,58 @@
 
 package org.eclipse.digitaltwin.basyx.submodelrepository.http;
 
-import java.util.ArrayList;
-import java.util.Arrays;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.channels.Channels;
+import java.nio.file.Path;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
 import javax.validation.constraints.Min;
 import javax.validation.constraints.Size;
 
+import org.eclipse.digitaltwin.aas4j.v3.model.Operation;
 import org.eclipse.digitaltwin.aas4j.v3.model.OperationVariable;
 import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
 import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.basyx.core.exceptions.NotInvokableException;
+import org.eclipse.digitaltwin.basyx.core.pagination.CursorIterator;
 import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
 import org.eclipse.digitaltwin.basyx.http.Base64UrlEncodedIdentifier;
+import org.eclipse.digitaltwin.basyx.http.model.BaseOperationResult;
 import org.eclipse.digitaltwin.basyx.http.model.OperationRequest;
 import org.eclipse.digitaltwin.basyx.http.model.OperationResult;
+import org.eclipse.digitaltwin.basyx.http.operation.OperationInvocationExecutor;
 import org.eclipse.digitaltwin.basyx.http.pagination.PagedResult;
 import org.eclipse.digitaltwin.basyx.http.pagination.PagedResultPagingMetadata;
+import org.eclipse.digitaltwin.basyx.http.pagination.StreamingPagedResult;
 import org.eclipse.digitaltwin.basyx.pagination.GetSubmodelElementsResult;
 import org.eclipse.digitaltwin.basyx.submodelrepository.SubmodelRepository;
-import org.eclipse.digitaltwin.basyx.submodelrepository.http.pagination.GetSubmodelsResult;
+import org.eclipse.digitaltwin.basyx.submodelrepository.attachment.Attachment;
 import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelElementValue;
 import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelValueOnly;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.mapper.RawValueUtil;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
@@ -62,11 +85,20 @@ import io.swagger.v3.oas.annotations.media.Schema;
 @javax.annotation.Generated(value = "io.swagger.codegen.v3.generators.java.SpringCodegen", date = "2022-01-10T15:59:05.892Z[GMT]")
 @RestController
 public class SubmodelRepositoryApiHTTPController implements SubmodelRepositoryHTTPApi {
+	private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+	private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+	private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+	private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
 	private SubmodelRepository repository;
+	private OperationInvocationExecutor operationInvocationExecutor;
+	private HttpServletRequest request;
 
 	@Autowired
-	public SubmodelRepositoryApiHTTPController(SubmodelRepository repository) {
+	public SubmodelRepositoryApiHTTPController(SubmodelRepository repository, OperationInvocationExecutor operationInvocationExecutor, HttpServletRequest request) {
 		this.repository = repository;
+		this.operationInvocationExecutor = operationInvocationExecutor;
+		this.request = request;
 	}
 
 	@Override
@@ -90,6 +122,71 @@ public class SubmodelRepositoryApiHTTPController implements SubmodelRepositoryHT
 		return new ResponseEntity<Void>(HttpStatus.NO_CONTENT);
 	}
 
+	@Override
+	public ResponseEntity<StreamingResponseBody> getFileByPathSubmodelRepo(Base64UrlEncodedIdentifier submodelIdentifier, String idShortPath, String range) {
+		Attachment attachment = repository.getFileByPath(submodelIdentifier.getIdentifier(), idShortPath);
+
+		HttpHeaders headers = new HttpHeaders();
+		headers.setContentType(getMediaType(attachment.getContentType()));
+		headers.set(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+		long size = attachment.getSize();
+		List<HttpRange> ranges = range == null ? List.of() : HttpRange.parseRanges(range);
+		if (ranges.size() != 1) {
+			headers.setContentLength(size);
+			return createResponse(attachment, 0, size, headers, HttpStatus.OK);
+		}
+
+		long start = ranges.get(0).getRangeStart(size);
+		long end = ranges.get(0).getRangeEnd(size);
+		if (start >= size || start > end) {
+			headers.set(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+			return new ResponseEntity<StreamingResponseBody>(headers, HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE);
+		}
+
+		headers.setContentLength(end - start + 1);
+		headers.set(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + size);
+		return createResponse(attachment, start, end - start + 1, headers, HttpStatus.PARTIAL_CONTENT);
+	}
+
+	@Override
+	public ResponseEntity<Void> putFileByPathSubmodelRepo(Base64UrlEncodedIdentifier submodelIdentifier, String idShortPath, String fileName, @Valid MultipartFile file) {
+		try (InputStream content = file.getInputStream()) {
+			repository.putFileByPath(submodelIdentifier.getIdentifier(), idShortPath, fileName, file.getContentType(), content);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+
+		return new ResponseEntity<Void>(HttpStatus.NO_CONTENT);
+	}
+
+	/**
+	 * Content kept in a file is handed to the sendfile support of Tomcat, which
+	 * transfers it from the file to the socket after the headers have been
+	 * written. Otherwise, the content is written directly to the channel of the
+	 * response, thus it is neither buffered in memory nor read completely.
+	 */
+	private ResponseEntity<StreamingResponseBody> createResponse(Attachment attachment, long position, long count, HttpHeaders headers, HttpStatus status) {
+		Optional<Path> file = attachment.getFile();
+		if (file.isPresent() && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+			request.setAttribute(SENDFILE_FILENAME, file.get().toAbsolutePath().toString());
+			request.setAttribute(SENDFILE_START, position);
+			request.setAttribute(SENDFILE_END, position + count);
+
+			return new ResponseEntity<StreamingResponseBody>(headers, status);
+		}
+
+		StreamingResponseBody body = out -> attachment.transferTo(position, count, Channels.newChannel(out));
+		return new ResponseEntity<StreamingResponseBody>(body, headers, status);
+	}
+
+	private static MediaType getMediaType(String contentType) {
+		if (contentType == null || contentType.isEmpty())
+			return MediaType.APPLICATION_OCTET_STREAM;
+
+		return MediaType.parseMediaType(contentType);
+	}
+
 
 	@Override
 	public ResponseEntity<PagedResult> getAllSubmodels(@Size(min = 1, max = 3072) @Valid Base64UrlEncodedIdentifier semanticId, @Valid String idShort, @Min(1) @Valid Integer limit, @Valid String cursor, @Valid String level,
@@ -99,13 +196,9 @@ public class SubmodelRepositoryApiHTTPController implements SubmodelRepositoryHT
 		if (cursor == null)
 			cursor = "";
 		PaginationInfo pInfo = new PaginationInfo(limit, cursor);
-		CursorResult<List<Submodel>> cursorResult = repository.getAllSubmodels(pInfo);
-
-		GetSubmodelsResult paginatedSubmodel = new GetSubmodelsResult();
-		paginatedSubmodel.result(new ArrayList<>(cursorResult.getResult()));
-		paginatedSubmodel.setPagingMetadata(new PagedResultPagingMetadata().cursor(cursorResult.getCursor()));
+		CursorIterator<Submodel> submodels = repository.iterateAllSubmodels(getDecodedValue(semanticId), idShort, pInfo);
 
-		return new ResponseEntity<PagedResult>(paginatedSubmodel, HttpStatus.OK);
+		return new ResponseEntity<PagedResult>(new StreamingPagedResult<>(submodels, Submodel.class), HttpStatus.OK);
 	}
 
 	@Override
@@ -137,6 +230,20 @@ public class SubmodelRepositoryApiHTTPController implements SubmodelRepositoryHT
 		return new ResponseEntity<PagedResult>(paginatedSubmodelElement, HttpStatus.OK);
 	}
 
+	@Override
+	public ResponseEntity<PagedResult> getNestedSubmodelElementsSubmodelRepo(Base64UrlEncodedIdentifier submodelIdentifier, String idShortPath, @Min(1) @Valid Integer limit, @Valid String cursor) {
+		if (limit == null)
+			limit = 100;
+		PaginationInfo pInfo = new PaginationInfo(limit, cursor);
+		CursorResult<List<SubmodelElement>> submodelElements = repository.getSubmodelElements(submodelIdentifier.getIdentifier(), idShortPath, pInfo);
+
+		GetSubmodelElementsResult paginatedSubmodelElement = new GetSubmodelElementsResult();
+		paginatedSubmodelElement.setResult(submodelElements.getResult());
+		paginatedSubmodelElement.setPagingMetadata(new PagedResultPagingMetadata().cursor(submodelElements.getCursor()));
+
+		return new ResponseEntity<PagedResult>(paginatedSubmodelElement, HttpStatus.OK);
+	}
+
 	@Override
 	public ResponseEntity<SubmodelElement> getSubmodelElementByPathSubmodelRepo(Base64UrlEncodedIdentifier submodelIdentifier, String idShortPath, @Valid String level, @Valid String extent) {
 			return handleSubmodelElementValueNormalGetRequest(submodelIdentifier.getIdentifier(), idShortPath);
@@ -164,6 +271,17 @@ public class SubmodelRepositoryApiHTTPController implements SubmodelRepositoryHT
 		return handleSubmodelElementValueSetRequest(submodelIdentifier, idShortPath, body);
 	}
 
+	@Override
+	public ResponseEntity<Map<String, SubmodelElementValue>> getSubmodelElementsByPathValueOnlySubmodelRepo(Base64UrlEncodedIdentifier submodelIdentifier, @Valid List<String> idShortPaths) {
+		return new ResponseEntity<Map<String, SubmodelElementValue>>(repository.getSubmodelElementValues(submodelIdentifier.getIdentifier(), idShortPaths), HttpStatus.OK);
+	}
+
+	@Override
+	public ResponseEntity<Void> patchSubmodelElementsByPathValueOnlySubmodelRepo(Base64UrlEncodedIdentifier submodelIdentifier, @Valid Map<String, SubmodelElementValue> body) {
+		repository.setSubmodelElementValues(submodelIdentifier.getIdentifier(), body);
+		return new ResponseEntity<Void>(HttpStatus.NO_CONTENT);
+	}
+
 	@Override
 	public ResponseEntity<SubmodelValueOnly> getSubmodelByIdValueOnly(Base64UrlEncodedIdentifier submodelIdentifier, @Valid String level, @Valid String extent) {
 		return new ResponseEntity<SubmodelValueOnly>(repository.getSubmodelByIdValueOnly(submodelIdentifier.getIdentifier()), HttpStatus.OK);
@@ -174,6 +292,21 @@ public class SubmodelRepositoryApiHTTPController implements SubmodelRepositoryHT
 		return new ResponseEntity<Submodel>(repository.getSubmodelByIdMetadata(submodelIdentifier.getIdentifier()), HttpStatus.OK);
 	}
 
+	@Override
+	public ResponseEntity<byte[]> getSubmodelElementByPathRawSubmodelRepo(Base64UrlEncodedIdentifier submodelIdentifier, String idShortPath) {
+		SubmodelElement submodelElement = repository.getSubmodelElement(submodelIdentifier.getIdentifier(), idShortPath);
+		return ResponseEntity.ok().contentType(MediaType.parseMediaType(RawValueUtil.getRawContentType(submodelElement))).body(RawValueUtil.getRawValue(submodelElement));
+	}
+
+	@Override
+	public ResponseEntity<Void> putSubmodelElementByPathRawSubmodelRepo(Base64UrlEncodedIdentifier submodelIdentifier, String idShortPath, byte[] body, String contentType) {
+		String submodelId = submodelIdentifier.getIdentifier();
+		SubmodelElement submodelElement = repository.getSubmodelElement(submodelId, idShortPath);
+
+		repository.setSubmodelElementValue(submodelId, idShortPath, RawValueUtil.createValue(submodelElement, body == null ? new byte[0] : body, contentType));
+		return new ResponseEntity<Void>(HttpStatus.NO_CONTENT);
+	}
+
 	private ResponseEntity<Void> handleSubmodelElementValueSetRequest(Base64UrlEncodedIdentifier submodelIdentifier, String idShortPath, SubmodelElementValue body) {
 		repository.setSubmodelElementValue(submodelIdentifier.getIdentifier(), idShortPath, body);
 		return new ResponseEntity<Void>(HttpStatus.NO_CONTENT);
@@ -190,16 +323,46 @@ public class SubmodelRepositoryApiHTTPController implements SubmodelRepositoryHT
 	}
 
 	@Override
-	public ResponseEntity<OperationResult> invokeOperationSubmodelRepo(Base64UrlEncodedIdentifier submodelIdentifier, String idShortPath, @Valid OperationRequest body, @Valid Boolean async) {
-		OperationVariable[] result = repository.invokeOperation(submodelIdentifier.getIdentifier(), idShortPath, body.getInputArguments().toArray(new OperationVariable[0]));
+	public DeferredResult<ResponseEntity<OperationResult>> invokeOperationSubmodelRepo(Base64UrlEncodedIdentifier submodelIdentifier, String idShortPath, @Valid OperationRequest body, @Valid Boolean async) {
+		String submodelId = submodelIdentifier.getIdentifier();
+		OperationVariable[] input = body.getInputArguments().toArray(new OperationVariable[0]);
+		Supplier<OperationVariable[]> invocation = () -> repository.invokeOperation(submodelId, idShortPath, input);
+		String operationKey = OperationInvocationExecutor.getOperationKey(submodelId, idShortPath);
+
+		// The repository itself rejects elements that are not invokable, which is
+		// reported as error of the synchronous invocation
+		if (!Boolean.TRUE.equals(async))
+			return OperationInvocationExecutor.toDeferredResult(operationInvocationExecutor.invoke(operationKey, invocation, body.getClientTimeoutDuration()).thenApply(result -> new ResponseEntity<OperationResult>(result, HttpStatus.OK)));
+
+		// An asynchronous invocation reports failures only via its status, thus
+		// missing or non-invokable elements have to be rejected beforehand
+		throwIfNotAnOperation(submodelId, idShortPath);
+
+		String handleId = operationInvocationExecutor.invokeAsync(operationKey, invocation, body.getClientTimeoutDuration());
+		URI location = ServletUriComponentsBuilder.fromCurrentContextPath().path("/submodels/{submodelIdentifier}/submodel-elements/{idShortPath}/operation-status/{handleId}")
+				.buildAndExpand(submodelIdentifier.getEncodedIdentifier(), idShortPath, handleId).toUri();
+
+		return OperationInvocationExecutor.toDeferredResult(CompletableFuture.completedFuture(ResponseEntity.accepted().location(location).body(operationInvocationExecutor.getResult(operationKey, handleId))));
+	}
 
-		return new ResponseEntity<OperationResult>(createOperationResult(result), HttpStatus.OK);
+	@Override
+	public ResponseEntity<BaseOperationResult> getOperationAsyncStatusSubmodelRepo(Base64UrlEncodedIdentifier submodelIdentifier, String idShortPath, String handleId) {
+		BaseOperationResult status = operationInvocationExecutor.getStatus(OperationInvocationExecutor.getOperationKey(submodelIdentifier.getIdentifier(), idShortPath), handleId);
+		return new ResponseEntity<BaseOperationResult>(status, HttpStatus.OK);
+	}
+
+	@Override
+	public ResponseEntity<OperationResult> getOperationAsyncResultSubmodelRepo(Base64UrlEncodedIdentifier submodelIdentifier, String idShortPath, String handleId) {
+		OperationResult result = operationInvocationExecutor.getResult(OperationInvocationExecutor.getOperationKey(submodelIdentifier.getIdentifier(), idShortPath), handleId);
+		return new ResponseEntity<OperationResult>(result, HttpStatus.OK);
+	}
 
+	private void throwIfNotAnOperation(String submodelId, String idShortPath) {
+		if (!(repository.getSubmodelElement(submodelId, idShortPath) instanceof Operation))
+			throw new NotInvokableException(idShortPath);
 	}
 
-	private OperationResult createOperationResult(OperationVariable[] result) {
-		OperationResult operationResult = new OperationResult();
-		operationResult.setOutputArguments(Arrays.asList(result));
-		return operationResult;
+	private String getDecodedValue(Base64UrlEncodedIdentifier identifier) {
+		return identifier == null ? null : identifier.getIdentifier();
 	}
 }
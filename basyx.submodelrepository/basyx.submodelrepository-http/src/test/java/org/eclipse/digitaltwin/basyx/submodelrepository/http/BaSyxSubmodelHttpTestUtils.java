@@ -27,7 +27,12 @@ package org.eclipse.digitaltwin.basyx.submodelrepository.http;
 
 import java.io.IOException;
 
+import org.apache.hc.client5.http.classic.methods.HttpGet;
+import org.apache.hc.client5.http.classic.methods.HttpPut;
+import org.apache.hc.client5.http.entity.mime.MultipartEntityBuilder;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpResponse;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.core5.http.ContentType;
 import org.apache.hc.core5.http.ParseException;
 import org.eclipse.digitaltwin.basyx.http.Base64UrlEncodedIdentifier;
 import org.eclipse.digitaltwin.basyx.http.serialization.BaSyxHttpTestUtils;
@@ -47,6 +52,22 @@ public class BaSyxSubmodelHttpTestUtils {
 		return BaSyxHttpTestUtils.executePostOnURL(url, submodelJSON);
 	}
 
+	public static CloseableHttpResponse putAttachment(String url, String fileName, byte[] content, ContentType contentType) throws IOException {
+		HttpPut putRequest = new HttpPut(url);
+		putRequest.setEntity(MultipartEntityBuilder.create()
+				.addTextBody("fileName", fileName)
+				.addBinaryBody("file", content, contentType, fileName)
+				.build());
+		return HttpClients.createDefault().execute(putRequest);
+	}
+
+	public static CloseableHttpResponse requestAttachment(String url, String range) throws IOException {
+		HttpGet getRequest = new HttpGet(url);
+		if (range != null)
+			getRequest.setHeader("Range", range);
+		return HttpClients.createDefault().execute(getRequest);
+	}
+
 	public static String requestAllSubmodels(String url) throws IOException, ParseException {
 		try (CloseableHttpResponse response = BaSyxHttpTestUtils.executeGetOnURL(url)) {
 			return BaSyxHttpTestUtils.getResponseAsString(response);	
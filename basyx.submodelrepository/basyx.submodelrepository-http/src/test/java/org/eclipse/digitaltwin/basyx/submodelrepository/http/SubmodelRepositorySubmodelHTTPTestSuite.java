@@ -26,25 +26,39 @@
 package org.eclipse.digitaltwin.basyx.submodelrepository.http;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.List;
 
+import org.apache.hc.client5.http.classic.methods.HttpGet;
+import org.apache.hc.client5.http.classic.methods.HttpPost;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpResponse;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.core5.http.ContentType;
 import org.apache.hc.core5.http.ParseException;
+import org.apache.hc.core5.http.io.entity.ByteArrayEntity;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
 import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
 import org.eclipse.digitaltwin.basyx.http.Base64UrlEncodedIdentifier;
 import org.eclipse.digitaltwin.basyx.http.serialization.BaSyxHttpTestUtils;
 import org.eclipse.digitaltwin.basyx.submodelservice.DummySubmodelFactory;
+import org.eclipse.digitaltwin.basyx.submodelservice.SubmodelServiceHelper;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 
 /**
  * Base testsuite for all Submodel Repository HTTP tests
@@ -53,6 +67,10 @@ import com.fasterxml.jackson.databind.JsonMappingException;
  *
  */
 public abstract class SubmodelRepositorySubmodelHTTPTestSuite {
+	private static final String ATTACHMENT_CONTENT = "Hello BaSyx attachment";
+	private static final String CBOR = "application/cbor";
+	private static final String SMILE = "application/x-jackson-smile";
+
 	@Before
 	public abstract void populateRepository();
 
@@ -88,6 +106,38 @@ public abstract class SubmodelRepositorySubmodelHTTPTestSuite {
 		BaSyxHttpTestUtils.assertSameJSONContent(expectedSubmodelJSON, BaSyxHttpTestUtils.getResponseAsString(response));
 	}
 
+	@Test
+	public void getSpecificSubmodelAsCbor() throws ParseException, IOException {
+		HttpGet getRequest = new HttpGet(BaSyxSubmodelHttpTestUtils.getSpecificSubmodelAccessPath(getURL(), DummySubmodelFactory.createTechnicalDataSubmodel()
+				.getId()));
+		getRequest.setHeader(HttpHeaders.ACCEPT, CBOR);
+		CloseableHttpResponse response = HttpClients.createDefault()
+				.execute(getRequest);
+
+		assertEquals(HttpStatus.OK.value(), response.getCode());
+		assertEquals(CBOR, response.getFirstHeader(HttpHeaders.CONTENT_TYPE)
+				.getValue());
+
+		String submodelJSON = transcodeToJSON(new ObjectMapper(new CBORFactory()), EntityUtils.toByteArray(response.getEntity()));
+		BaSyxHttpTestUtils.assertSameJSONContent(getSingleSubmodelJSON(), submodelJSON);
+	}
+
+	@Test
+	public void createSubmodelAsSmile() throws IOException, ParseException {
+		String submodelJSON = getNewSubmodelJSON();
+		ObjectMapper smileMapper = new ObjectMapper(new SmileFactory());
+
+		HttpPost postRequest = new HttpPost(getURL());
+		postRequest.setEntity(new ByteArrayEntity(smileMapper.writeValueAsBytes(new ObjectMapper().readTree(submodelJSON)), ContentType.create(SMILE)));
+		CloseableHttpResponse creationResponse = HttpClients.createDefault()
+				.execute(postRequest);
+
+		assertEquals(HttpStatus.CREATED.value(), creationResponse.getCode());
+
+		String requestedSubmodel = requestSpecificSubmodelJSON("newSubmodel");
+		BaSyxHttpTestUtils.assertSameJSONContent(submodelJSON, requestedSubmodel);
+	}
+
 	@Test
 	public void getSpecificSubmodelNonExisting() throws IOException {
 		CloseableHttpResponse response = requestSubmodel("nonExisting");
@@ -175,12 +225,90 @@ public abstract class SubmodelRepositorySubmodelHTTPTestSuite {
 		BaSyxHttpTestUtils.assertSameJSONContent(expected, submodelsJSON);
 	}
 
+	@Test
+	public void getSubmodelsByIdShort() throws ParseException, IOException {
+		String submodelsJSON = BaSyxSubmodelHttpTestUtils.requestAllSubmodels(getURL() + "?limit=1&idShort=" + DummySubmodelFactory.SUBMODEL_OPERATIONAL_DATA_ID_SHORT);
+		String expected = getSingleSubmodelPaginatedJson();
+
+		BaSyxHttpTestUtils.assertSameJSONContent(expected, submodelsJSON);
+	}
+
+	@Test
+	public void getSpecificSubmodelWithLevelCore() throws ParseException, IOException {
+		String url = BaSyxSubmodelHttpTestUtils.getSpecificSubmodelAccessPath(getURL(), DummySubmodelFactory.SUBMODEL_TECHNICAL_DATA_ID) + "?level=core";
+		CloseableHttpResponse response = BaSyxHttpTestUtils.executeGetOnURL(url);
+		assertEquals(HttpStatus.OK.value(), response.getCode());
+
+		JsonNode submodel = new ObjectMapper().readTree(BaSyxHttpTestUtils.getResponseAsString(response));
+		for (JsonNode submodelElement : submodel.get("submodelElements")) {
+			String modelType = submodelElement.get("modelType").asText();
+			if (modelType.equals("SubmodelElementCollection") || modelType.equals("SubmodelElementList"))
+				assertFalse(submodelElement.has("value"));
+			if (modelType.equals("Entity"))
+				assertFalse(submodelElement.has("statements"));
+		}
+	}
+
+	@Test
+	public void putAndGetAttachment() throws IOException, ParseException {
+		String url = createAttachmentURL();
+		CloseableHttpResponse putResponse = BaSyxSubmodelHttpTestUtils.putAttachment(url, "manual.txt", ATTACHMENT_CONTENT.getBytes(StandardCharsets.UTF_8), ContentType.TEXT_PLAIN);
+		assertEquals(HttpStatus.NO_CONTENT.value(), putResponse.getCode());
+
+		CloseableHttpResponse getResponse = BaSyxSubmodelHttpTestUtils.requestAttachment(url, null);
+		assertEquals(HttpStatus.OK.value(), getResponse.getCode());
+		assertEquals("bytes", getResponse.getFirstHeader("Accept-Ranges").getValue());
+		assertEquals(ATTACHMENT_CONTENT, BaSyxHttpTestUtils.getResponseAsString(getResponse));
+	}
+
+	@Test
+	public void getAttachmentRange() throws IOException, ParseException {
+		String url = createAttachmentURL();
+		BaSyxSubmodelHttpTestUtils.putAttachment(url, "manual.txt", ATTACHMENT_CONTENT.getBytes(StandardCharsets.UTF_8), ContentType.TEXT_PLAIN);
+
+		CloseableHttpResponse response = BaSyxSubmodelHttpTestUtils.requestAttachment(url, "bytes=6-15");
+		assertEquals(HttpStatus.PARTIAL_CONTENT.value(), response.getCode());
+		assertEquals("bytes 6-15/" + ATTACHMENT_CONTENT.length(), response.getFirstHeader("Content-Range").getValue());
+		assertEquals(ATTACHMENT_CONTENT.substring(6, 16), BaSyxHttpTestUtils.getResponseAsString(response));
+	}
+
+	@Test
+	public void getAttachmentUnsatisfiableRange() throws IOException {
+		String url = createAttachmentURL();
+		BaSyxSubmodelHttpTestUtils.putAttachment(url, "manual.txt", ATTACHMENT_CONTENT.getBytes(StandardCharsets.UTF_8), ContentType.TEXT_PLAIN);
+
+		CloseableHttpResponse response = BaSyxSubmodelHttpTestUtils.requestAttachment(url, "bytes=1000-");
+		assertEquals(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value(), response.getCode());
+		assertEquals("bytes */" + ATTACHMENT_CONTENT.length(), response.getFirstHeader("Content-Range").getValue());
+	}
+
+	@Test
+	public void getNonExistingAttachment() throws IOException {
+		CloseableHttpResponse response = BaSyxSubmodelHttpTestUtils.requestAttachment(createAttachmentURL(), null);
+		assertEquals(HttpStatus.NOT_FOUND.value(), response.getCode());
+	}
+
+	@Test
+	public void putAttachmentOnNonFileSubmodelElement() throws IOException {
+		String url = BaSyxSubmodelHttpTestUtils.getSpecificSubmodelAccessPath(getURL(), DummySubmodelFactory.SUBMODEL_TECHNICAL_DATA_ID) + "/submodel-elements/" + SubmodelServiceHelper.SUBMODEL_TECHNICAL_DATA_PROPERTY_ID_SHORT + "/attachment";
+		CloseableHttpResponse response = BaSyxSubmodelHttpTestUtils.putAttachment(url, "manual.txt", ATTACHMENT_CONTENT.getBytes(StandardCharsets.UTF_8), ContentType.TEXT_PLAIN);
+		assertEquals(HttpStatus.BAD_REQUEST.value(), response.getCode());
+	}
+
+	private String createAttachmentURL() {
+		return BaSyxSubmodelHttpTestUtils.getSpecificSubmodelAccessPath(getURL(), DummySubmodelFactory.SUBMODEL_TECHNICAL_DATA_ID) + "/submodel-elements/" + SubmodelServiceHelper.SUBMODEL_TECHNICAL_DATA_FILE_ID_SHORT + "/attachment";
+	}
+
 	private void assertSubmodelCreationReponse(String submodelJSON, CloseableHttpResponse creationResponse) throws IOException, ParseException, JsonProcessingException, JsonMappingException {
 		assertEquals(HttpStatus.CREATED.value(), creationResponse.getCode());
 		String response = BaSyxHttpTestUtils.getResponseAsString(creationResponse);
 		BaSyxHttpTestUtils.assertSameJSONContent(submodelJSON, response);
 	}
 
+	private static String transcodeToJSON(ObjectMapper binaryMapper, byte[] content) throws IOException {
+		return new ObjectMapper().writeValueAsString(binaryMapper.readTree(content));
+	}
+
 	private String createSubmodelMetadataURL(String id) {
 		return BaSyxSubmodelHttpTestUtils.getSpecificSubmodelAccessPath(getURL(), id) + "/$metadata";
 	}
@@ -25,8 +25,12 @@
 
 package org.eclipse.digitaltwin.basyx.submodelservice;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.TreeMap;
 import java.util.stream.Collectors;
 
@@ -40,9 +44,9 @@ import org.eclipse.digitaltwin.basyx.core.exceptions.CollidingIdentifierExceptio
 import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.NotInvokableException;
 import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
+import org.eclipse.digitaltwin.basyx.core.pagination.IndexPaginationSupport;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationSupport;
-import org.eclipse.digitaltwin.basyx.submodelservice.pathparsing.HierarchicalSubmodelElementParser;
 import org.eclipse.digitaltwin.basyx.submodelservice.pathparsing.SubmodelElementIdShortHelper;
 import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelElementValue;
 import org.eclipse.digitaltwin.basyx.submodelservice.value.factory.SubmodelElementValueMapperFactory;
@@ -58,7 +62,7 @@ import org.eclipse.digitaltwin.basyx.submodelservice.value.mapper.ValueMapper;
 public class InMemorySubmodelService implements SubmodelService {
 
 	private final Submodel submodel;
-	private HierarchicalSubmodelElementParser parser;
+	private final SubmodelElementIdShortIndex index;
 	private SubmodelElementIdShortHelper helper = new SubmodelElementIdShortHelper();
 
 	/**
@@ -68,7 +72,7 @@ public class InMemorySubmodelService implements SubmodelService {
 	 */
 	public InMemorySubmodelService(Submodel submodel) {
 		this.submodel = submodel;
-		parser = new HierarchicalSubmodelElementParser(submodel);
+		index = new SubmodelElementIdShortIndex(submodel);
 	}
 
 	@Override
@@ -89,9 +93,17 @@ public class InMemorySubmodelService implements SubmodelService {
 		return paginatedSubmodels;
 	}
 
+	@Override
+	public CursorResult<List<SubmodelElement>> getSubmodelElements(String idShortPath, PaginationInfo pInfo) throws ElementDoesNotExistException {
+		int startIndex = IndexPaginationSupport.getStartIndex(pInfo);
+		List<SubmodelElement> page = index.getChildren(idShortPath, startIndex, IndexPaginationSupport.getLimit(pInfo));
+
+		return IndexPaginationSupport.createResult(page, startIndex, pInfo);
+	}
+
 	@Override
 	public SubmodelElement getSubmodelElement(String idShortPath) throws ElementDoesNotExistException {
-		return parser.getSubmodelElementFromIdShortPath(idShortPath);
+		return index.getSubmodelElement(idShortPath);
 	}
 
 	@Override
@@ -110,6 +122,30 @@ public class InMemorySubmodelService implements SubmodelService {
 		valueMapper.setValue(value);	
 	}
 
+	@Override
+	public Map<String, SubmodelElementValue> getSubmodelElementValues(Collection<String> idShortPaths) throws ElementDoesNotExistException {
+		SubmodelElementValueMapperFactory submodelElementValueFactory = new SubmodelElementValueMapperFactory();
+
+		Map<String, SubmodelElementValue> values = new LinkedHashMap<>();
+		for (String idShortPath : idShortPaths)
+			values.put(idShortPath, submodelElementValueFactory.create(getSubmodelElement(idShortPath)).getValue());
+
+		return values;
+	}
+
+	@Override
+	public void setSubmodelElementValues(Map<String, SubmodelElementValue> values) throws ElementDoesNotExistException {
+		SubmodelElementValueMapperFactory submodelElementValueFactory = new SubmodelElementValueMapperFactory();
+
+		List<ValueMapper<SubmodelElementValue>> valueMappers = new ArrayList<>(values.size());
+		for (String idShortPath : values.keySet())
+			valueMappers.add(submodelElementValueFactory.create(getSubmodelElement(idShortPath)));
+
+		Iterator<SubmodelElementValue> valueIterator = values.values().iterator();
+		for (ValueMapper<SubmodelElementValue> valueMapper : valueMappers)
+			valueMapper.setValue(valueIterator.next());
+	}
+
 	@Override
 	public void createSubmodelElement(SubmodelElement submodelElement) throws CollidingIdentifierException {
 		throwIfSubmodelElementExists(submodelElement.getIdShort());
@@ -117,6 +153,7 @@ public class InMemorySubmodelService implements SubmodelService {
 		List<SubmodelElement> smElements = submodel.getSubmodelElements();
 		smElements.add(submodelElement);
 		submodel.setSubmodelElements(smElements);
+		index.submodelElementAdded(null, submodelElement);
 	}
 	
 	private void throwIfSubmodelElementExists(String submodelElementId) {
@@ -130,23 +167,28 @@ public class InMemorySubmodelService implements SubmodelService {
 
 	@Override
 	public void createSubmodelElement(String idShortPath, SubmodelElement submodelElement) throws ElementDoesNotExistException, CollidingIdentifierException {
-		throwIfSubmodelElementExists(submodelElement.getIdShort());
-		
-		SubmodelElement parentSme = parser.getSubmodelElementFromIdShortPath(idShortPath);
-		if(parentSme instanceof SubmodelElementList) {
-			SubmodelElementList list = (SubmodelElementList) parentSme;
-			List<SubmodelElement> submodelElements = list.getValue();
-			submodelElements.add(submodelElement);
-			list.setValue(submodelElements);
+		SubmodelElement parentSme = getSubmodelElement(idShortPath);
+		Collection<SubmodelElement> children = SubmodelElementIdShortIndex.getChildren(parentSme);
+		if (children == null)
 			return;
-		}
-		if (parentSme instanceof SubmodelElementCollection) {
-			SubmodelElementCollection collection = (SubmodelElementCollection) parentSme;
-			Collection<SubmodelElement> submodelElements = collection.getValue();
-			submodelElements.add(submodelElement);
-			collection.setValue(submodelElements);
+
+		if (!(parentSme instanceof SubmodelElementList))
+			throwIfChildExists(idShortPath, submodelElement.getIdShort());
+
+		children.add(submodelElement);
+		index.submodelElementAdded(idShortPath, submodelElement);
+	}
+
+	/**
+	 * Only the direct children of the container are checked by their index.
+	 * Children of SubmodelElementLists are addressed by their position, thus
+	 * their idShorts are not required to be unique.
+	 */
+	private void throwIfChildExists(String parentIdShortPath, String idShort) {
+		if (idShort == null)
 			return;
-		}
+
+		throwIfSubmodelElementExists(parentIdShortPath + "." + idShort);
 	}
 
 	@Override
@@ -159,7 +201,7 @@ public class InMemorySubmodelService implements SubmodelService {
 	}
 
 	private void deleteNestedSubmodelElement(String idShortPath) {
-		SubmodelElement sm = parser.getSubmodelElementFromIdShortPath(idShortPath);
+		SubmodelElement sm = getSubmodelElement(idShortPath);
 		if(helper.isDirectParentASubmodelElementList(idShortPath)) {
 			deleteNestedSubmodelElementFromList(idShortPath, sm);
 		} else {
@@ -169,33 +211,32 @@ public class InMemorySubmodelService implements SubmodelService {
 
 	private void deleteNestedSubmodelElementFromList(String idShortPath, SubmodelElement sm) {
 		String collectionId = helper.extractDirectParentSubmodelElementListIdShort(idShortPath);
-		SubmodelElementList list = (SubmodelElementList) parser.getSubmodelElementFromIdShortPath(collectionId);
-		list.getValue().remove(sm);
+		SubmodelElementList list = (SubmodelElementList) getSubmodelElement(collectionId);
+		removeByIdentity(list.getValue(), sm);
+		index.invalidate(collectionId);
 	}
 
 	private void deleteNestedSubmodelElementFromCollection(String idShortPath, SubmodelElement sm) {
 		String collectionId = helper.extractDirectParentSubmodelElementCollectionIdShort(idShortPath);
-		SubmodelElementCollection collection = (SubmodelElementCollection) parser
-				.getSubmodelElementFromIdShortPath(collectionId);
-		collection.getValue().remove(sm);
+		SubmodelElementCollection collection = (SubmodelElementCollection) getSubmodelElement(collectionId);
+		removeByIdentity(collection.getValue(), sm);
+		index.invalidate(collectionId);
 	}
 
 	private void deleteFlatSubmodelElement(String idShortPath) throws ElementDoesNotExistException {
-		int index = findIndexOfElementTobeDeleted(idShortPath);
-		if (index >= 0) {
-			submodel.getSubmodelElements().remove(index);
-			return;
-		}
-		throw new ElementDoesNotExistException();
+		SubmodelElement sm = getSubmodelElement(idShortPath);
+		removeByIdentity(submodel.getSubmodelElements(), sm);
+		index.invalidate(null);
 	}
 
-	private int findIndexOfElementTobeDeleted(String idShortPath) {
-		for (SubmodelElement sme : submodel.getSubmodelElements()) {
-			if (sme.getIdShort().equals(idShortPath)) {
-				return submodel.getSubmodelElements().indexOf(sme);
+	private static void removeByIdentity(Collection<SubmodelElement> submodelElements, SubmodelElement toRemove) {
+		Iterator<SubmodelElement> iterator = submodelElements.iterator();
+		while (iterator.hasNext()) {
+			if (iterator.next() == toRemove) {
+				iterator.remove();
+				return;
 			}
 		}
-		return -1;
 	}
 
 	@Override
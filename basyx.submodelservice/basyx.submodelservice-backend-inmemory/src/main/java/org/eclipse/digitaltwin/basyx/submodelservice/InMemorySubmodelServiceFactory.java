@@ -31,7 +31,9 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.stereotype.Component;
 
 /**
- * SubmodelService factory returning an in-memory backend SubmodelService
+ * SubmodelService factory returning an in-memory backend SubmodelService. As
+ * the in-memory backend is not thread-safe by itself, it is guarded by a
+ * {@link LockingSubmodelService}.
  * 
  * @author schnicke
  *
@@ -42,7 +44,7 @@ public class InMemorySubmodelServiceFactory implements SubmodelServiceFactory {
 
 	@Override
 	public SubmodelService create(Submodel submodel) {
-		return new InMemorySubmodelService(submodel);
+		return new LockingSubmodelService(new InMemorySubmodelService(submodel));
 	}
 
 }
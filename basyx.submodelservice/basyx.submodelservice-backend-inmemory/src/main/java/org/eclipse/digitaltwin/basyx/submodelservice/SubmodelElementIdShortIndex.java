@@ -0,0 +1,397 @@
+/*******************************************************************************
+ * Copyright (C) 2023 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.submodelservice;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.digitaltwin.aas4j.v3.model.Entity;
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementCollection;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementList;
+import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
+import org.eclipse.digitaltwin.basyx.submodelservice.pathparsing.IdShortPath;
+import org.eclipse.digitaltwin.basyx.submodelservice.pathparsing.ListIndexPathToken;
+import org.eclipse.digitaltwin.basyx.submodelservice.pathparsing.PathToken;
+import org.eclipse.digitaltwin.basyx.submodelservice.pathparsing.SubmodelElementIdShortPathParser;
+
+/**
+ * Per-container index of the SubmodelElements contained in a Submodel. Each
+ * container (the Submodel itself, SubmodelElementCollections, Entities and
+ * SubmodelElementLists) gets its own lazily built idShort/position index, so
+ * that resolving an idShortPath costs O(path depth) instead of scanning all
+ * children on every level.<br>
+ * <br>
+ * Each index remembers the child collection and the size it was built from.
+ * Found children are additionally checked by their identity at the indexed
+ * position. If the Submodel is modified without going through the service,
+ * e.g. by replacing, resizing or replacing elements of a child collection, the
+ * affected index is rebuilt on the next access. Children renamed without going
+ * through the service are only found by their new idShort once the index is
+ * rebuilt.
+ * 
+ * @author schnicke
+ *
+ */
+class SubmodelElementIdShortIndex {
+
+	private final Submodel submodel;
+	private final SubmodelElementIdShortPathParser pathParser = new SubmodelElementIdShortPathParser();
+	private final ContainerIndex rootIndex = new ContainerIndex();
+
+	/**
+	 * Creates the index for the passed Submodel
+	 * 
+	 * @param submodel
+	 */
+	public SubmodelElementIdShortIndex(Submodel submodel) {
+		this.submodel = submodel;
+	}
+
+	/**
+	 * Returns the SubmodelElement identified by the idShortPath
+	 * 
+	 * @param idShortPath
+	 * @return the SubmodelElement
+	 * @throws ElementDoesNotExistException
+	 *             if there is no SubmodelElement at the idShortPath
+	 */
+	public SubmodelElement getSubmodelElement(String idShortPath) throws ElementDoesNotExistException {
+		return resolve(idShortPath).element;
+	}
+
+	/**
+	 * Returns a range of the direct children of the container identified by
+	 * parentIdShortPath in their order
+	 * 
+	 * @param parentIdShortPath
+	 *            the idShortPath of the container
+	 * @param fromIndex
+	 *            the position of the first returned child
+	 * @param count
+	 *            the maximum number of returned children
+	 * @return the children, empty if there is no child at fromIndex
+	 * @throws ElementDoesNotExistException
+	 *             if there is no SubmodelElement at the parentIdShortPath
+	 * @throws IllegalArgumentException
+	 *             if the SubmodelElement does not contain other SubmodelElements
+	 */
+	public List<SubmodelElement> getChildren(String parentIdShortPath, int fromIndex, int count) throws ElementDoesNotExistException, IllegalArgumentException {
+		IndexEntry entry = resolve(parentIdShortPath);
+
+		Collection<SubmodelElement> children = getChildren(entry.element);
+		if (children == null)
+			throw new IllegalArgumentException("SubmodelElement " + parentIdShortPath + " does not contain other SubmodelElements");
+
+		return entry.getChildIndex().getRange(children, fromIndex, count);
+	}
+
+	/**
+	 * Registers a SubmodelElement that has been appended to the children of the
+	 * container identified by parentIdShortPath
+	 * 
+	 * @param parentIdShortPath
+	 *            the idShortPath of the container or null for the top level of
+	 *            the Submodel
+	 * @param submodelElement
+	 *            the appended SubmodelElement
+	 */
+	public void submodelElementAdded(String parentIdShortPath, SubmodelElement submodelElement) {
+		ContainerIndex index = getContainerIndex(parentIdShortPath);
+		index.appended(getChildren(parentIdShortPath), submodelElement);
+	}
+
+	/**
+	 * Invalidates the index of the container identified by parentIdShortPath, e.g.
+	 * after one of its children has been removed
+	 * 
+	 * @param parentIdShortPath
+	 *            the idShortPath of the container or null for the top level of
+	 *            the Submodel
+	 */
+	public void invalidate(String parentIdShortPath) {
+		getContainerIndex(parentIdShortPath).invalidate();
+	}
+
+	/**
+	 * Returns the direct children of a SubmodelElement or null if the
+	 * SubmodelElement is not able to contain other SubmodelElements
+	 * 
+	 * @param submodelElement
+	 * @return the children
+	 */
+	static Collection<SubmodelElement> getChildren(SubmodelElement submodelElement) {
+		if (submodelElement instanceof SubmodelElementCollection)
+			return ((SubmodelElementCollection) submodelElement).getValue();
+
+		if (submodelElement instanceof SubmodelElementList)
+			return ((SubmodelElementList) submodelElement).getValue();
+
+		if (submodelElement instanceof Entity)
+			return ((Entity) submodelElement).getStatements();
+
+		return null;
+	}
+
+	private Collection<SubmodelElement> getChildren(String parentIdShortPath) {
+		if (parentIdShortPath == null)
+			return submodel.getSubmodelElements();
+
+		return getChildren(getSubmodelElement(parentIdShortPath));
+	}
+
+	private ContainerIndex getContainerIndex(String parentIdShortPath) {
+		if (parentIdShortPath == null)
+			return rootIndex;
+
+		return resolve(parentIdShortPath).getChildIndex();
+	}
+
+	private IndexEntry resolve(String idShortPath) {
+		IdShortPath path = pathParser.parse(idShortPath);
+
+		ContainerIndex index = rootIndex;
+		SubmodelElement parent = null;
+		Collection<SubmodelElement> children = submodel.getSubmodelElements();
+		IndexEntry entry = null;
+
+		for (int i = 0; i < path.size(); i++) {
+			entry = resolveToken(index, parent, children, path.getToken(i), idShortPath);
+
+			parent = entry.element;
+			children = getChildren(parent);
+			index = entry.getChildIndex();
+		}
+
+		return entry;
+	}
+
+	private IndexEntry resolveToken(ContainerIndex index, SubmodelElement parent, Collection<SubmodelElement> children, PathToken token, String idShortPath) {
+		if (children == null)
+			throw new ElementDoesNotExistException(idShortPath);
+
+		if (token instanceof ListIndexPathToken) {
+			if (!(parent instanceof SubmodelElementList))
+				throw new ElementDoesNotExistException(idShortPath);
+
+			return index.getByPosition(children, ((ListIndexPathToken) token).getIndex(), idShortPath);
+		}
+
+		if (parent instanceof SubmodelElementList)
+			throw new ElementDoesNotExistException(idShortPath);
+
+		return index.getByIdShort(children, token.getToken(), idShortPath);
+	}
+
+	/**
+	 * A SubmodelElement together with the lazily created index of its children
+	 */
+	private static class IndexEntry {
+		private final SubmodelElement element;
+		private volatile ContainerIndex childIndex;
+
+		private IndexEntry(SubmodelElement element) {
+			this.element = element;
+		}
+
+		private ContainerIndex getChildIndex() {
+			ContainerIndex index = childIndex;
+			if (index == null) {
+				index = new ContainerIndex();
+				childIndex = index;
+			}
+			return index;
+		}
+	}
+
+	/**
+	 * Index of the direct children of a single container
+	 */
+	private static class ContainerIndex {
+		private volatile Snapshot snapshot;
+
+		private IndexEntry getByIdShort(Collection<SubmodelElement> children, String idShort, String idShortPath) {
+			Snapshot current = getValidSnapshot(children);
+			Integer position = current.positionsByIdShort.get(idShort);
+			if (position == null)
+				throw new ElementDoesNotExistException(idShortPath);
+
+			IndexEntry entry = current.byPosition.get(position);
+			if (isCurrent(children, entry, position, idShort))
+				return entry;
+
+			Snapshot rebuilt = rebuild(children);
+			position = rebuilt.positionsByIdShort.get(idShort);
+			if (position == null)
+				throw new ElementDoesNotExistException(idShortPath);
+
+			return rebuilt.byPosition.get(position);
+		}
+
+		/**
+		 * Elements may have been replaced or renamed without changing the size of
+		 * the children, which is detected by comparing the element at the indexed
+		 * position
+		 */
+		private static boolean isCurrent(Collection<SubmodelElement> children, IndexEntry entry, int position, String idShort) {
+			if (children instanceof List && ((List<SubmodelElement>) children).get(position) != entry.element)
+				return false;
+
+			return idShort.equals(entry.element.getIdShort());
+		}
+
+		private IndexEntry getByPosition(Collection<SubmodelElement> children, int position, String idShortPath) {
+			List<IndexEntry> entries = getValidSnapshot(children).byPosition;
+
+			if (position >= entries.size())
+				throw new ElementDoesNotExistException(idShortPath);
+
+			IndexEntry entry = entries.get(position);
+			if (children instanceof List && ((List<SubmodelElement>) children).get(position) != entry.element)
+				entry = rebuild(children).byPosition.get(position);
+
+			return entry;
+		}
+
+		private List<SubmodelElement> getRange(Collection<SubmodelElement> children, int fromIndex, int count) {
+			List<IndexEntry> entries = getValidSnapshot(children).byPosition;
+			if (fromIndex >= entries.size())
+				return new ArrayList<>();
+
+			int toIndex = (int) Math.min(entries.size(), (long) fromIndex + count);
+			if (!isCurrent(children, entries, fromIndex, toIndex))
+				entries = rebuild(children).byPosition;
+
+			List<SubmodelElement> range = new ArrayList<>(toIndex - fromIndex);
+			for (int i = fromIndex; i < toIndex; i++)
+				range.add(entries.get(i).element);
+
+			return range;
+		}
+
+		/**
+		 * Elements of lists may have been replaced without changing the size of
+		 * the list, which is only detected by comparing the positions of the range
+		 */
+		private static boolean isCurrent(Collection<SubmodelElement> children, List<IndexEntry> entries, int fromIndex, int toIndex) {
+			if (!(children instanceof List))
+				return true;
+
+			List<SubmodelElement> list = (List<SubmodelElement>) children;
+			for (int i = fromIndex; i < toIndex; i++) {
+				if (list.get(i) != entries.get(i).element)
+					return false;
+			}
+
+			return true;
+		}
+
+		private void appended(Collection<SubmodelElement> children, SubmodelElement submodelElement) {
+			Snapshot current = snapshot;
+
+			if (current == null || !current.isBuiltFrom(children, children.size() - 1)) {
+				invalidate();
+				return;
+			}
+
+			current.append(submodelElement);
+		}
+
+		private void invalidate() {
+			snapshot = null;
+		}
+
+		private Snapshot getValidSnapshot(Collection<SubmodelElement> children) {
+			Snapshot current = snapshot;
+
+			if (current != null && current.isBuiltFrom(children, children.size()))
+				return current;
+
+			return rebuild(children);
+		}
+
+		private Snapshot rebuild(Collection<SubmodelElement> children) {
+			Snapshot rebuilt = new Snapshot(children, snapshot);
+			snapshot = rebuilt;
+			return rebuilt;
+		}
+	}
+
+	/**
+	 * Immutable view of the children of a container at the time it was built.
+	 * Entries of the previous snapshot are reused for unchanged children, so that
+	 * the indices of deeper levels survive a rebuild.
+	 */
+	private static class Snapshot {
+		private final Collection<SubmodelElement> source;
+		private final Map<String, Integer> positionsByIdShort;
+		private final List<IndexEntry> byPosition;
+		private int size;
+
+		private Snapshot(Collection<SubmodelElement> children, Snapshot previous) {
+			Map<SubmodelElement, IndexEntry> previousEntries = getEntriesByIdentity(previous);
+
+			this.source = children;
+			this.size = children.size();
+			this.positionsByIdShort = new HashMap<>(Math.max(16, size * 4 / 3 + 1));
+			this.byPosition = new ArrayList<>(size);
+
+			for (SubmodelElement child : children) {
+				IndexEntry entry = previousEntries.get(child);
+				addEntry(entry != null ? entry : new IndexEntry(child));
+			}
+		}
+
+		private boolean isBuiltFrom(Collection<SubmodelElement> children, int expectedSize) {
+			return source == children && size == expectedSize;
+		}
+
+		private void append(SubmodelElement submodelElement) {
+			addEntry(new IndexEntry(submodelElement));
+			size++;
+		}
+
+		private void addEntry(IndexEntry entry) {
+			positionsByIdShort.putIfAbsent(entry.element.getIdShort(), byPosition.size());
+			byPosition.add(entry);
+		}
+
+		private static Map<SubmodelElement, IndexEntry> getEntriesByIdentity(Snapshot snapshot) {
+			if (snapshot == null)
+				return Collections.emptyMap();
+
+			Map<SubmodelElement, IndexEntry> entries = new IdentityHashMap<>(snapshot.byPosition.size());
+			snapshot.byPosition.forEach(entry -> entries.put(entry.element, entry));
+			return entries;
+		}
+	}
+}
@@ -0,0 +1,122 @@
+/*******************************************************************************
+ * Copyright (C) 2023 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.submodelservice;
+
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultProperty;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodel;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.PropertyValue;
+import org.junit.Test;
+
+/**
+ * Measures the throughput of the {@link LockingSubmodelService} for 1, 4, 16
+ * and 64 threads under a read mostly workload, one value write per
+ * {@value #READS_PER_WRITE} reads. Each thread count is measured once with
+ * all threads sharing a single Submodel and once with one Submodel per thread,
+ * which shows the contention on the lock of a single Submodel.<br>
+ * <br>
+ * Not part of the regular build, run it explicitly using
+ * <code>mvn test -Dtest=LockingSubmodelServiceBenchmark</code>
+ * 
+ * @author agent
+ *
+ */
+public class LockingSubmodelServiceBenchmark {
+	private static final int[] THREAD_COUNTS = { 1, 4, 16, 64 };
+	private static final int PROPERTY_COUNT = 100;
+	private static final int READS_PER_WRITE = 9;
+	private static final int WARMUP_OPERATIONS = 2_000_000;
+	private static final int MEASURED_OPERATIONS = 4_000_000;
+
+	@Test
+	public void throughput() throws Exception {
+		run(4, true, WARMUP_OPERATIONS);
+
+		for (int threadCount : THREAD_COUNTS) {
+			for (boolean shared : new boolean[] { true, false }) {
+				long nanos = run(threadCount, shared, MEASURED_OPERATIONS);
+				long operationsPerSecond = MEASURED_OPERATIONS * TimeUnit.SECONDS.toNanos(1) / nanos;
+
+				System.out.println(threadCount + " threads, " + (shared ? "shared Submodel" : "Submodel per thread") + ": " + operationsPerSecond + " ops/s");
+			}
+		}
+	}
+
+	private long run(int threadCount, boolean shared, int operations) throws Exception {
+		List<SubmodelService> services = new ArrayList<>(threadCount);
+		SubmodelService sharedService = createService();
+		for (int thread = 0; thread < threadCount; thread++)
+			services.add(shared ? sharedService : createService());
+
+		int operationsPerThread = operations / threadCount;
+		ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+		try {
+			long start = System.nanoTime();
+
+			List<Future<?>> futures = new ArrayList<>(threadCount);
+			for (SubmodelService service : services)
+				futures.add(executor.submit(() -> runWorkload(service, operationsPerThread)));
+
+			for (Future<?> future : futures)
+				future.get();
+
+			return System.nanoTime() - start;
+		} finally {
+			executor.shutdown();
+			assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+		}
+	}
+
+	private static void runWorkload(SubmodelService service, int operations) {
+		for (int i = 0; i < operations; i++) {
+			String idShort = "property" + i % PROPERTY_COUNT;
+
+			if (i % (READS_PER_WRITE + 1) == 0)
+				service.setSubmodelElementValue(idShort, new PropertyValue(Integer.toString(i)));
+			else
+				service.getSubmodelElementValue(idShort);
+		}
+	}
+
+	private static SubmodelService createService() {
+		List<SubmodelElement> submodelElements = new ArrayList<>(PROPERTY_COUNT);
+		for (int i = 0; i < PROPERTY_COUNT; i++)
+			submodelElements.add(new DefaultProperty.Builder().idShort("property" + i).value("0").build());
+
+		Submodel submodel = new DefaultSubmodel.Builder().id("benchmarkSubmodel").submodelElements(submodelElements).build();
+		return new InMemorySubmodelServiceFactory().create(submodel);
+	}
+}
@@ -26,7 +26,20 @@
 
 package org.eclipse.digitaltwin.basyx.submodelservice;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.digitaltwin.aas4j.v3.model.Property;
 import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementList;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultProperty;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodelElementList;
+import org.junit.Test;
 
 /**
  * 
@@ -40,4 +53,53 @@ public class TestInMemorySubmodelService extends SubmodelServiceSuite {
 		return new InMemorySubmodelServiceFactory().create(submodel);
 	}
 
+	@Test
+	public void deleteNestedSubmodelElementRemovesByIdentity() {
+		Property first = createListProperty();
+		Property second = createListProperty();
+		SubmodelElementList list = new DefaultSubmodelElementList.Builder().idShort("list")
+				.value(new ArrayList<>(Arrays.asList(first, second)))
+				.build();
+
+		Submodel submodel = DummySubmodelFactory.createTechnicalDataSubmodel();
+		submodel.getSubmodelElements().add(list);
+		SubmodelService submodelService = getSubmodelService(submodel);
+
+		submodelService.deleteSubmodelElement("list[1]");
+
+		assertEquals(1, list.getValue().size());
+		assertSame(first, submodelService.getSubmodelElement("list[0]"));
+	}
+
+	@Test
+	public void getSubmodelElementAddedWithoutService() {
+		Submodel submodel = DummySubmodelFactory.createTechnicalDataSubmodel();
+		SubmodelService submodelService = getSubmodelService(submodel);
+		submodelService.getSubmodelElement(SubmodelServiceHelper.SUBMODEL_TECHNICAL_DATA_PROPERTY_ID_SHORT);
+
+		Property property = new DefaultProperty.Builder().idShort("addedDirectly").value("1").build();
+		List<SubmodelElement> submodelElements = new ArrayList<>(submodel.getSubmodelElements());
+		submodelElements.add(property);
+		submodel.setSubmodelElements(submodelElements);
+
+		assertSame(property, submodelService.getSubmodelElement("addedDirectly"));
+	}
+
+	@Test
+	public void getSubmodelElementReplacedWithoutService() {
+		Submodel submodel = DummySubmodelFactory.createTechnicalDataSubmodel();
+		SubmodelService submodelService = getSubmodelService(submodel);
+		SubmodelElement submodelElement = submodelService.getSubmodelElement(SubmodelServiceHelper.SUBMODEL_TECHNICAL_DATA_PROPERTY_ID_SHORT);
+
+		Property replacement = new DefaultProperty.Builder().idShort(SubmodelServiceHelper.SUBMODEL_TECHNICAL_DATA_PROPERTY_ID_SHORT).value("1").build();
+		List<SubmodelElement> submodelElements = submodel.getSubmodelElements();
+		submodelElements.set(submodelElements.indexOf(submodelElement), replacement);
+
+		assertSame(replacement, submodelService.getSubmodelElement(SubmodelServiceHelper.SUBMODEL_TECHNICAL_DATA_PROPERTY_ID_SHORT));
+	}
+
+	private Property createListProperty() {
+		return new DefaultProperty.Builder().value("42").build();
+	}
+
 }
@@ -0,0 +1,131 @@
+/*******************************************************************************
+ * Copyright (C) 2023 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.submodelservice;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.digitaltwin.aas4j.v3.model.Property;
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultProperty;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodel;
+import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.PropertyValue;
+import org.junit.Test;
+
+/**
+ * Tests the {@link LockingSubmodelService} under a mixed concurrent workload
+ * of element creation, value updates and reads for 1, 4, 16 and 64 threads.
+ * These tests only check that no modification is lost and no read fails; they
+ * do not measure throughput.
+ * 
+ * @author schnicke
+ *
+ */
+public class TestLockingSubmodelService {
+	private static final int[] THREAD_COUNTS = { 1, 4, 16, 64 };
+	private static final int OPERATIONS_PER_THREAD = 1000;
+	private static final String COUNTER_ID_SHORT = "counter";
+
+	@Test
+	public void concurrentModificationsAreNotLost() throws Exception {
+		for (int threadCount : THREAD_COUNTS) {
+			SubmodelService submodelService = new InMemorySubmodelServiceFactory().create(createSubmodel());
+
+			runConcurrently(threadCount, thread -> {
+				for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+					submodelService.createSubmodelElement(createProperty("p" + thread + "_" + i));
+					submodelService.setSubmodelElementValue(COUNTER_ID_SHORT, new PropertyValue(Integer.toString(i)));
+					submodelService.getSubmodelElement("p" + thread + "_" + i);
+					submodelService.getSubmodelElementValue(COUNTER_ID_SHORT);
+				}
+			});
+
+			int expectedElements = threadCount * OPERATIONS_PER_THREAD + 1;
+			assertEquals(expectedElements, submodelService.getSubmodelElements(new PaginationInfo(null, null)).getResult().size());
+		}
+	}
+
+	@Test
+	public void readsDuringStructuralModificationsDoNotFail() throws Exception {
+		SubmodelService submodelService = new InMemorySubmodelServiceFactory().create(createSubmodel());
+
+		runConcurrently(16, thread -> {
+			for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+				if (thread % 2 == 0) {
+					String idShort = "p" + thread + "_" + i;
+					submodelService.createSubmodelElement(createProperty(idShort));
+					submodelService.deleteSubmodelElement(idShort);
+				} else {
+					assertEquals("0", ((Property) submodelService.getSubmodelElement(COUNTER_ID_SHORT)).getValue());
+					submodelService.getSubmodelElements(new PaginationInfo(null, null));
+				}
+			}
+		});
+
+		assertEquals(1, submodelService.getSubmodelElements(new PaginationInfo(null, null)).getResult().size());
+	}
+
+	private void runConcurrently(int threadCount, ThreadTask task) throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int thread = 0; thread < threadCount; thread++) {
+				int threadId = thread;
+				futures.add(executor.submit(() -> task.run(threadId)));
+			}
+
+			for (Future<?> future : futures)
+				future.get();
+		} finally {
+			executor.shutdown();
+			assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+		}
+	}
+
+	private Submodel createSubmodel() {
+		List<SubmodelElement> submodelElements = new ArrayList<>();
+		submodelElements.add(createProperty(COUNTER_ID_SHORT));
+
+		return new DefaultSubmodel.Builder().id("lockingTestSubmodel").submodelElements(submodelElements).build();
+	}
+
+	private Property createProperty(String idShort) {
+		return new DefaultProperty.Builder().idShort(idShort).value("0").build();
+	}
+
+	private interface ThreadTask {
+		void run(int thread);
+	}
+}
@@ -35,7 +35,6 @@ import org.eclipse.digitaltwin.basyx.submodelservice.value.SpecificAssetIDValue;
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.JsonMappingException;
@@ -78,8 +77,7 @@ public class SpecificAssetIDValueJsonDeserializer extends JsonDeserializer<Speci
 
 	private ReferenceValue handleExternalSubjectId(ObjectMapper mapper, JsonNode node) throws JsonProcessingException, JsonMappingException {
 		JsonNode externalSubjectIdNode = node.get(EXTERNAL_SUBJECT_ID_KEY);
-		Reference externalSubjectId = mapper.readValue(externalSubjectIdNode.toString(), new TypeReference<Reference>() {
-		});
+		Reference externalSubjectId = mapper.treeToValue(externalSubjectIdNode, Reference.class);
 		return new ReferenceValue(externalSubjectId.getType(), externalSubjectId.getKeys());
 	}
 }
\ No newline at end of file
@@ -28,14 +28,11 @@ package org.eclipse.digitaltwin.basyx.deserialization;
 
 import java.io.IOException;
 
-import org.eclipse.digitaltwin.basyx.deserialization.factory.SubmodelElementValueDeserializationFactory;
 import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelElementValue;
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
 /**
  * Deserializes a SubmodelElementValue as described in DotAAS Part 2
@@ -45,15 +42,12 @@ import com.fasterxml.jackson.databind.ObjectMapper;
  */
 public class SubmodelElementValueJsonDeserializer extends JsonDeserializer<SubmodelElementValue> {
 	
-	private SubmodelElementValueDeserializationFactory submodelElementValueDeserializationFactory = new SubmodelElementValueDeserializationFactory();
+	private SubmodelElementValueStreamReader reader = new SubmodelElementValueStreamReader();
 
 	@Override
 	public SubmodelElementValue deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
 		try {
-			ObjectMapper mapper = (ObjectMapper) p.getCodec();
-			JsonNode node = mapper.readTree(p);
-
-			return submodelElementValueDeserializationFactory.create(mapper, node);
+			return reader.readSubmodelElementValue(p, ctxt);
 		} catch (IOException e) {
 			throw new RuntimeException(e);
 		}
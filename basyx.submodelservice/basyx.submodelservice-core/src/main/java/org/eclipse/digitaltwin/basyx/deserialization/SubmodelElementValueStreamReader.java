@@ -0,0 +1,289 @@
+/*******************************************************************************
+ * Copyright (C) 2023 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+
+package org.eclipse.digitaltwin.basyx.deserialization;
+
+import static org.eclipse.digitaltwin.basyx.deserialization.util.SubmodelElementValueDeserializationUtil.ANNOTATED_RELATIONSHIP_ELEMENT_VALUE_SHAPE;
+import static org.eclipse.digitaltwin.basyx.deserialization.util.SubmodelElementValueDeserializationUtil.ENTITY_VALUE_SHAPE;
+import static org.eclipse.digitaltwin.basyx.deserialization.util.SubmodelElementValueDeserializationUtil.FILE_BLOB_VALUE_SHAPE;
+import static org.eclipse.digitaltwin.basyx.deserialization.util.SubmodelElementValueDeserializationUtil.RANGE_VALUE_SHAPE;
+import static org.eclipse.digitaltwin.basyx.deserialization.util.SubmodelElementValueDeserializationUtil.REFERENCE_VALUE_SHAPE;
+import static org.eclipse.digitaltwin.basyx.deserialization.util.SubmodelElementValueDeserializationUtil.RELATIONSHIP_ELEMENT_VALUE_SHAPE;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.function.Function;
+
+import org.eclipse.digitaltwin.aas4j.v3.model.EntityType;
+import org.eclipse.digitaltwin.aas4j.v3.model.Key;
+import org.eclipse.digitaltwin.aas4j.v3.model.LangStringTextType;
+import org.eclipse.digitaltwin.aas4j.v3.model.ReferenceTypes;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultLangStringTextType;
+import org.eclipse.digitaltwin.basyx.deserialization.exception.SubmodelElementValueDeserializationException;
+import org.eclipse.digitaltwin.basyx.deserialization.util.SubmodelElementValueShape;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.AnnotatedRelationshipElementValue;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.EntityValue;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.FileBlobValue;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.MultiLanguagePropertyValue;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.PropertyValue;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.RangeValue;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.ReferenceElementValue;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.ReferenceValue;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.RelationshipElementValue;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.SpecificAssetIDValue;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelElementCollectionValue;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelElementListValue;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelElementValue;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.ValueOnly;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+/**
+ * Reads SubmodelElementValues in a single pass directly from the token stream,
+ * i.e., without building an intermediate JSON tree.<br>
+ * <br>
+ * The type of a JSON object is determined by matching its attribute names
+ * against the precomputed {@link SubmodelElementValueShape}s. Since the
+ * attribute names determine the attribute types, attribute values are read
+ * while their object is still being parsed. Arrays are classified after all
+ * their elements have been read: Arrays of single attribute objects with
+ * textual values are MultiLanguageProperty values, arrays of single attribute
+ * objects are SubmodelElementCollection values and all other arrays are
+ * SubmodelElementList values.
+ * 
+ * @author schnicke
+ *
+ */
+class SubmodelElementValueStreamReader {
+
+	private static final Map<SubmodelElementValueShape, Function<Map<String, Object>, SubmodelElementValue>> SHAPED_VALUE_FACTORIES = createShapedValueFactories();
+	private static final Map<String, JavaType> SHAPE_ATTRIBUTE_TYPES = collectShapeAttributeTypes();
+
+	/**
+	 * Reads the SubmodelElementValue starting at the current token of the parser
+	 * 
+	 * @param parser
+	 * @param context
+	 * @return
+	 * @throws IOException
+	 */
+	public SubmodelElementValue readSubmodelElementValue(JsonParser parser, DeserializationContext context) throws IOException {
+		JsonToken token = parser.currentToken();
+
+		if (token == JsonToken.VALUE_STRING)
+			return new PropertyValue(parser.getText());
+
+		if (token == JsonToken.START_ARRAY)
+			return readArray(parser, context);
+
+		if (token == JsonToken.START_OBJECT || token == JsonToken.FIELD_NAME) {
+			Object object = readObject(parser, context);
+			if (object instanceof SubmodelElementValue)
+				return (SubmodelElementValue) object;
+		}
+
+		throw new SubmodelElementValueDeserializationException();
+	}
+
+	/**
+	 * Reads the ValueOnly starting at the current token of the parser
+	 * 
+	 * @param parser
+	 * @param context
+	 * @return
+	 * @throws IOException
+	 */
+	public ValueOnly readValueOnly(JsonParser parser, DeserializationContext context) throws IOException {
+		JsonToken token = parser.currentToken() == JsonToken.START_OBJECT ? parser.nextToken() : parser.currentToken();
+		if (token != JsonToken.FIELD_NAME)
+			throw new SubmodelElementValueDeserializationException();
+
+		String idShort = parser.getCurrentName();
+		parser.nextToken();
+		ValueOnly valueOnly = new ValueOnly(idShort, readSubmodelElementValue(parser, context));
+
+		skipRemainingAttributes(parser);
+
+		return valueOnly;
+	}
+
+	private SubmodelElementValue readArray(JsonParser parser, DeserializationContext context) throws IOException {
+		List<Object> elements = new ArrayList<>();
+		boolean containsValueOnly = false;
+		boolean containsSubmodelElementValue = false;
+		boolean isLangStringList = true;
+
+		JsonToken token;
+		while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+			Object element = token == JsonToken.START_OBJECT ? readObject(parser, context) : readSubmodelElementValue(parser, context);
+
+			if (element instanceof ValueOnly) {
+				containsValueOnly = true;
+				isLangStringList &= ((ValueOnly) element).getSubmodelElementValue() instanceof PropertyValue;
+			} else {
+				containsSubmodelElementValue = true;
+				isLangStringList = false;
+			}
+
+			elements.add(element);
+		}
+
+		if (isLangStringList)
+			return createMultiLanguagePropertyValue(elements);
+
+		if (containsValueOnly && containsSubmodelElementValue)
+			throw new SubmodelElementValueDeserializationException();
+
+		if (containsValueOnly)
+			return new SubmodelElementCollectionValue(castElements(elements));
+
+		return new SubmodelElementListValue(castElements(elements));
+	}
+
+	/**
+	 * Reads a JSON object, which is either a shaped SubmodelElementValue, e.g., a
+	 * RangeValue, or a single attribute object. The latter is returned as
+	 * {@link ValueOnly} and may also represent a LangString.
+	 */
+	private Object readObject(JsonParser parser, DeserializationContext context) throws IOException {
+		JsonToken token = parser.currentToken() == JsonToken.START_OBJECT ? parser.nextToken() : parser.currentToken();
+		if (token != JsonToken.FIELD_NAME)
+			throw new SubmodelElementValueDeserializationException();
+
+		String firstAttribute = parser.getCurrentName();
+		parser.nextToken();
+
+		if (!SHAPE_ATTRIBUTE_TYPES.containsKey(firstAttribute))
+			return readSingleAttributeObject(firstAttribute, parser, context);
+
+		// Whether the object is a shaped value or a single attribute object is only
+		// known after the first attribute, thus its value has to be buffered
+		TokenBuffer firstValue = context.bufferAsCopyOfValue(parser);
+		if (parser.nextToken() == JsonToken.END_OBJECT)
+			return new ValueOnly(firstAttribute, readSubmodelElementValue(firstValue.asParserOnFirstToken(), context));
+
+		Map<String, Object> attributes = new HashMap<>();
+		attributes.put(firstAttribute, context.readValue(firstValue.asParserOnFirstToken(), SHAPE_ATTRIBUTE_TYPES.get(firstAttribute)));
+
+		while (parser.currentToken() == JsonToken.FIELD_NAME) {
+			String attribute = parser.getCurrentName();
+			JavaType attributeType = SHAPE_ATTRIBUTE_TYPES.get(attribute);
+			parser.nextToken();
+
+			if (attributeType == null) {
+				parser.skipChildren();
+				attributes.put(attribute, null);
+			} else {
+				attributes.put(attribute, context.readValue(parser, attributeType));
+			}
+
+			parser.nextToken();
+		}
+
+		return createShapedValue(attributes);
+	}
+
+	private ValueOnly readSingleAttributeObject(String attribute, JsonParser parser, DeserializationContext context) throws IOException {
+		SubmodelElementValue value = readSubmodelElementValue(parser, context);
+
+		if (parser.nextToken() != JsonToken.END_OBJECT)
+			throw new SubmodelElementValueDeserializationException();
+
+		return new ValueOnly(attribute, value);
+	}
+
+	private static SubmodelElementValue createShapedValue(Map<String, Object> attributes) {
+		for (Entry<SubmodelElementValueShape, Function<Map<String, Object>, SubmodelElementValue>> shapedValueFactory : SHAPED_VALUE_FACTORIES.entrySet()) {
+			if (shapedValueFactory.getKey().matches(attributes.keySet()))
+				return shapedValueFactory.getValue().apply(attributes);
+		}
+
+		throw new SubmodelElementValueDeserializationException();
+	}
+
+	private static MultiLanguagePropertyValue createMultiLanguagePropertyValue(List<Object> elements) {
+		List<LangStringTextType> langStrings = new ArrayList<>(elements.size());
+
+		for (Object element : elements) {
+			ValueOnly langString = (ValueOnly) element;
+			String text = ((PropertyValue) langString.getSubmodelElementValue()).getValue();
+
+			langStrings.add(new DefaultLangStringTextType.Builder().language(langString.getIdShort()).text(text).build());
+		}
+
+		return new MultiLanguagePropertyValue(langStrings);
+	}
+
+	private static void skipRemainingAttributes(JsonParser parser) throws IOException {
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			parser.nextToken();
+			parser.skipChildren();
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> List<T> castElements(List<Object> elements) {
+		return (List<T>) (List<?>) elements;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Map<SubmodelElementValueShape, Function<Map<String, Object>, SubmodelElementValue>> createShapedValueFactories() {
+		// The order corresponds to the order in which SubmodelElementValueDeserializationFactory checks the types
+		Map<SubmodelElementValueShape, Function<Map<String, Object>, SubmodelElementValue>> factories = new LinkedHashMap<>();
+		factories.put(RANGE_VALUE_SHAPE, attributes -> new RangeValue(toInt(attributes.get("min")), toInt(attributes.get("max"))));
+		factories.put(FILE_BLOB_VALUE_SHAPE, attributes -> new FileBlobValue((String) attributes.get("contentType"), (String) attributes.get("value")));
+		factories.put(ENTITY_VALUE_SHAPE, attributes -> new EntityValue((List<ValueOnly>) attributes.get("statements"), (EntityType) attributes.get("entityType"), (String) attributes.get("globalAssetId"),
+				(List<SpecificAssetIDValue>) attributes.get("specificAssetIds")));
+		factories.put(REFERENCE_VALUE_SHAPE, attributes -> new ReferenceElementValue(new ReferenceValue((ReferenceTypes) attributes.get("type"), (List<Key>) attributes.get("keys"))));
+		factories.put(RELATIONSHIP_ELEMENT_VALUE_SHAPE, attributes -> new RelationshipElementValue((ReferenceValue) attributes.get("first"), (ReferenceValue) attributes.get("second")));
+		factories.put(ANNOTATED_RELATIONSHIP_ELEMENT_VALUE_SHAPE,
+				attributes -> new AnnotatedRelationshipElementValue((ReferenceValue) attributes.get("first"), (ReferenceValue) attributes.get("second"), (List<ValueOnly>) attributes.get("annotation")));
+
+		return factories;
+	}
+
+	private static Map<String, JavaType> collectShapeAttributeTypes() {
+		Map<String, JavaType> attributeTypes = new HashMap<>();
+
+		for (SubmodelElementValueShape shape : SHAPED_VALUE_FACTORIES.keySet())
+			attributeTypes.putAll(shape.getAttributeTypes());
+
+		return attributeTypes;
+	}
+
+	private static int toInt(Object value) {
+		return value == null ? 0 : (Integer) value;
+	}
+}
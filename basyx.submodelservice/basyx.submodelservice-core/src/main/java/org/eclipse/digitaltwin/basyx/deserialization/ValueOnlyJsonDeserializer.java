@@ -28,14 +28,11 @@ package org.eclipse.digitaltwin.basyx.deserialization;
 
 import java.io.IOException;
 
-import org.eclipse.digitaltwin.basyx.deserialization.factory.SubmodelElementValueDeserializationFactory;
 import org.eclipse.digitaltwin.basyx.submodelservice.value.ValueOnly;
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
 /**
  * Deserializes the ValueOnly as described in DotAAS Part 2
@@ -45,17 +42,12 @@ import com.fasterxml.jackson.databind.ObjectMapper;
  */
 public class ValueOnlyJsonDeserializer extends JsonDeserializer<ValueOnly> {
 	
-	private SubmodelElementValueDeserializationFactory submodelElementValueDeserializationFactory = new SubmodelElementValueDeserializationFactory();
+	private SubmodelElementValueStreamReader reader = new SubmodelElementValueStreamReader();
 
 	@Override
 	public ValueOnly deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
 		try {
-			ObjectMapper mapper = (ObjectMapper) p.getCodec();
-			JsonNode node = mapper.readTree(p);
-			
-			String idShort = node.fieldNames().next();
-			
-			return new ValueOnly(idShort, submodelElementValueDeserializationFactory.create(mapper, node.get(idShort)));
+			return reader.readValueOnly(p, ctxt);
 		} catch (IOException e) {
 			throw new RuntimeException(e);
 		}
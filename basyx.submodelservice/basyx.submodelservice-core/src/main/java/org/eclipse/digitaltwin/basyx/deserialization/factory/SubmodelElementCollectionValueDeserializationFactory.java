@@ -32,7 +32,6 @@ import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelElementCollec
 import org.eclipse.digitaltwin.basyx.submodelservice.value.ValueOnly;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -61,7 +60,7 @@ public class SubmodelElementCollectionValueDeserializationFactory {
 	 * 
 	 */
 	public SubmodelElementCollectionValue create() throws JsonProcessingException {
-		List<ValueOnly> valueOnlies = objectMapper.readValue(node.toString(), new TypeReference<List<ValueOnly>>() {});
+		List<ValueOnly> valueOnlies = objectMapper.treeToValue(node, objectMapper.getTypeFactory().constructCollectionType(List.class, ValueOnly.class));
 
 		return new SubmodelElementCollectionValue(valueOnlies);
 	}
@@ -31,7 +31,6 @@ import java.util.List;
 import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelElementListValue;
 import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelElementValue;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -60,7 +59,7 @@ public class SubmodelElementListValueDeserializationFactory {
 	 * 
 	 */
 	public SubmodelElementListValue create() throws JsonProcessingException {
-		List<SubmodelElementValue> submodelElementValues = objectMapper.readValue(node.toString(), new TypeReference<List<SubmodelElementValue>>() {});
+		List<SubmodelElementValue> submodelElementValues = objectMapper.treeToValue(node, objectMapper.getTypeFactory().constructCollectionType(List.class, SubmodelElementValue.class));
 		
 		return new SubmodelElementListValue(submodelElementValues);
 	}
@@ -25,9 +25,6 @@
 
 package org.eclipse.digitaltwin.basyx.deserialization.util;
 
-import java.lang.reflect.Array;
-import java.lang.reflect.Field;
-import java.util.Optional;
 import java.util.stream.Stream;
 
 import org.eclipse.digitaltwin.basyx.submodelservice.value.AnnotatedRelationshipElementValue;
@@ -47,6 +44,13 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
  */
 public class SubmodelElementValueDeserializationUtil {
 
+	public static final SubmodelElementValueShape FILE_BLOB_VALUE_SHAPE = SubmodelElementValueShape.of(FileBlobValue.class);
+	public static final SubmodelElementValueShape RANGE_VALUE_SHAPE = SubmodelElementValueShape.of(RangeValue.class);
+	public static final SubmodelElementValueShape ENTITY_VALUE_SHAPE = SubmodelElementValueShape.of(EntityValue.class);
+	public static final SubmodelElementValueShape REFERENCE_VALUE_SHAPE = SubmodelElementValueShape.of(ReferenceValue.class);
+	public static final SubmodelElementValueShape RELATIONSHIP_ELEMENT_VALUE_SHAPE = SubmodelElementValueShape.of(RelationshipElementValue.class);
+	public static final SubmodelElementValueShape ANNOTATED_RELATIONSHIP_ELEMENT_VALUE_SHAPE = SubmodelElementValueShape.of(AnnotatedRelationshipElementValue.class);
+
 	private SubmodelElementValueDeserializationUtil() {
 		throw new IllegalStateException("Utility class");
 	}
@@ -56,11 +60,11 @@ public class SubmodelElementValueDeserializationUtil {
 	}
 
 	public static boolean isTypeOfFileBlobValue(JsonNode node) {
-		return isTypeOf(FileBlobValue.class, node);
+		return FILE_BLOB_VALUE_SHAPE.matches(node);
 	}
 
 	public static boolean isTypeOfRangeValue(JsonNode node) {
-		return isTypeOf(RangeValue.class, node);
+		return RANGE_VALUE_SHAPE.matches(node);
 	}
 
 	public static boolean isTypeOfMultiLanguagePropertyValue(JsonNode node) {
@@ -68,19 +72,19 @@ public class SubmodelElementValueDeserializationUtil {
 	}
 
 	public static boolean isTypeOfEntityValue(JsonNode node) {
-		return isTypeOf(EntityValue.class, node);
+		return ENTITY_VALUE_SHAPE.matches(node);
 	}
 
 	public static boolean isTypeOfReferenceElementValue(JsonNode node) {
-		return isTypeOf(ReferenceValue.class, node);
+		return REFERENCE_VALUE_SHAPE.matches(node);
 	}
 
 	public static boolean isTypeOfRelationshipElementValue(JsonNode node) {
-		return isTypeOf(RelationshipElementValue.class, node);
+		return RELATIONSHIP_ELEMENT_VALUE_SHAPE.matches(node);
 	}
 
 	public static boolean isTypeOfAnnotatedRelationshipElementValue(JsonNode node) {
-		return isTypeOf(AnnotatedRelationshipElementValue.class, node);
+		return ANNOTATED_RELATIONSHIP_ELEMENT_VALUE_SHAPE.matches(node);
 	}
 
 	public static boolean isTypeOfSubmodelElementCollectionValue(JsonNode node) {
@@ -91,60 +95,6 @@ public class SubmodelElementValueDeserializationUtil {
 		return node.isArray() && hasStructureOfSubmodelElementListValue(node);
 	}
 
-	private static boolean isTypeOf(Class<?> clazz, JsonNode node) {
-		Field[] superClassFields = clazz.getSuperclass().getDeclaredFields();
-		Field[] fields = clazz.getDeclaredFields();
-
-		if (superClassFields.length != 0)
-			fields = merge(superClassFields, fields);
-
-		int countOfOptionalAttributes = getOptionalAttributesCount(fields);
-		int totalCountOfAttributes = fields.length;
-
-		if (!isSizeOfAttributesValid(node.size(), countOfOptionalAttributes, totalCountOfAttributes))
-			return false;
-
-		for (Field field : fields) {
-			if (!isOptionalAttribute(field) && !node.has(field.getName()))
-				return false;
-		}
-
-		return true;
-	}
-
-	private static boolean isSizeOfAttributesValid(int nodeSize, int countOfOptionalAttributes,
-			int totalCountOfAttributes) {
-		if (countOfOptionalAttributes == 0)
-			return nodeSize == totalCountOfAttributes;
-
-		return nodeSize >= (totalCountOfAttributes - countOfOptionalAttributes);
-	}
-
-	private static int getOptionalAttributesCount(Field[] fields) {
-		int count = 0;
-
-		for (Field field : fields) {
-			if (isOptionalAttribute(field))
-				count++;
-		}
-
-		return count;
-	}
-
-	private static boolean isOptionalAttribute(Field field) {
-		return Optional.class.isAssignableFrom(field.getType());
-	}
-
-	private static Field[] merge(Field[] fieldArray1, Field[] fieldArray2) {
-		int lengthFieldArray1 = Array.getLength(fieldArray1);
-		int lengthFieldArray2 = Array.getLength(fieldArray2);
-		Field[] result = (Field[]) Array.newInstance(Field.class, lengthFieldArray1 + lengthFieldArray2);
-		System.arraycopy(fieldArray1, 0, result, 0, lengthFieldArray1);
-		System.arraycopy(fieldArray2, 0, result, lengthFieldArray1, lengthFieldArray2);
-
-		return result;
-	}
-
 	private static boolean hasStructureOfMultiLanguagePropertyValue(JsonNode node) {
 		for (JsonNode element : node) {
 			if (!isValidLanguagePropertyValue(element))
@@ -0,0 +1,158 @@
+/*******************************************************************************
+ * Copyright (C) 2023 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+
+package org.eclipse.digitaltwin.basyx.deserialization.util;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+
+/**
+ * Describes the JSON structure of a SubmodelElementValue class, i.e., its
+ * required and optional attributes and their types. Attributes of type
+ * {@link Optional} are optional, all others are required.<br>
+ * <br>
+ * The shape is derived once from the declared fields of the class and its
+ * superclass, so that matching JSON content against it does not need any
+ * reflection.
+ * 
+ * @author schnicke
+ *
+ */
+public class SubmodelElementValueShape {
+
+	private final Map<String, JavaType> attributeTypes;
+	private final Set<String> requiredAttributes;
+	private final int countOfOptionalAttributes;
+
+	private SubmodelElementValueShape(Map<String, JavaType> attributeTypes, Set<String> requiredAttributes) {
+		this.attributeTypes = Collections.unmodifiableMap(attributeTypes);
+		this.requiredAttributes = Collections.unmodifiableSet(requiredAttributes);
+		this.countOfOptionalAttributes = attributeTypes.size() - requiredAttributes.size();
+	}
+
+	/**
+	 * Derives the shape of the passed class
+	 * 
+	 * @param clazz
+	 * @return
+	 */
+	public static SubmodelElementValueShape of(Class<?> clazz) {
+		Map<String, JavaType> attributeTypes = new LinkedHashMap<>();
+		Set<String> requiredAttributes = new HashSet<>();
+
+		for (Field field : getFields(clazz)) {
+			JavaType type = TypeFactory.defaultInstance().constructType(field.getGenericType());
+
+			if (type.hasRawClass(Optional.class)) {
+				attributeTypes.put(field.getName(), type.containedTypeOrUnknown(0));
+			} else {
+				attributeTypes.put(field.getName(), type);
+				requiredAttributes.add(field.getName());
+			}
+		}
+
+		return new SubmodelElementValueShape(attributeTypes, requiredAttributes);
+	}
+
+	/**
+	 * Checks if the JSON object has the structure described by this shape
+	 * 
+	 * @param node
+	 * @return
+	 */
+	public boolean matches(JsonNode node) {
+		if (!node.isObject() || !isSizeOfAttributesValid(node.size()))
+			return false;
+
+		for (String requiredAttribute : requiredAttributes) {
+			if (!node.has(requiredAttribute))
+				return false;
+		}
+
+		return true;
+	}
+
+	/**
+	 * Checks if a JSON object with the passed attribute names has the structure
+	 * described by this shape
+	 * 
+	 * @param attributeNames
+	 * @return
+	 */
+	public boolean matches(Collection<String> attributeNames) {
+		return isSizeOfAttributesValid(attributeNames.size()) && attributeNames.containsAll(requiredAttributes);
+	}
+
+	/**
+	 * Returns the attributes and their types. The type of optional attributes is
+	 * the type wrapped by the {@link Optional}.
+	 * 
+	 * @return
+	 */
+	public Map<String, JavaType> getAttributeTypes() {
+		return attributeTypes;
+	}
+
+	private boolean isSizeOfAttributesValid(int nodeSize) {
+		if (countOfOptionalAttributes == 0)
+			return nodeSize == attributeTypes.size();
+
+		return nodeSize >= requiredAttributes.size();
+	}
+
+	private static List<Field> getFields(Class<?> clazz) {
+		List<Field> fields = new ArrayList<>();
+
+		for (Field field : clazz.getSuperclass().getDeclaredFields()) {
+			if (isAttribute(field))
+				fields.add(field);
+		}
+
+		for (Field field : clazz.getDeclaredFields()) {
+			if (isAttribute(field))
+				fields.add(field);
+		}
+
+		return fields;
+	}
+
+	private static boolean isAttribute(Field field) {
+		return !field.isSynthetic() && !Modifier.isStatic(field.getModifiers());
+	}
+}
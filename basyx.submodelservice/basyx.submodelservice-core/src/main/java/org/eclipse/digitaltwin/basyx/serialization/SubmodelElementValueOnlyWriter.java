@@ -0,0 +1,245 @@
+/*******************************************************************************
+ * Copyright (C) 2023 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+
+package org.eclipse.digitaltwin.basyx.serialization;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+
+import org.eclipse.digitaltwin.aas4j.v3.model.AnnotatedRelationshipElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.Blob;
+import org.eclipse.digitaltwin.aas4j.v3.model.Entity;
+import org.eclipse.digitaltwin.aas4j.v3.model.File;
+import org.eclipse.digitaltwin.aas4j.v3.model.LangStringTextType;
+import org.eclipse.digitaltwin.aas4j.v3.model.MultiLanguageProperty;
+import org.eclipse.digitaltwin.aas4j.v3.model.Property;
+import org.eclipse.digitaltwin.aas4j.v3.model.Range;
+import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
+import org.eclipse.digitaltwin.aas4j.v3.model.ReferenceElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.RelationshipElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.SpecificAssetID;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementCollection;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementList;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.exception.ValueMapperNotFoundException;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.factory.SubmodelElementValueMapperFactory;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+/**
+ * Writes the ValueOnly representation of {@link SubmodelElement}s as described
+ * in DotAAS Part 2 directly to a {@link JsonGenerator}.<br>
+ * <br>
+ * In contrast to serializing the result of the
+ * {@link SubmodelElementValueMapperFactory}, the aas4j model is walked
+ * directly, i.e., no intermediate SubmodelElementValue graph is created. The
+ * written JSON is equal to the one of the SubmodelElementValue serializers.
+ * Thus, null fields are only omitted if the serialization inclusion of the
+ * mapper excludes them.
+ * 
+ * @author schnicke
+ *
+ */
+public class SubmodelElementValueOnlyWriter {
+
+	/**
+	 * Writes the submodel element as field named by its idShort having its value
+	 * as value
+	 * 
+	 * @param submodelElement
+	 * @param gen
+	 * @param serializers
+	 * @throws IOException
+	 * @throws ValueMapperNotFoundException
+	 *             if the type of a submodel element has no ValueOnly
+	 *             representation
+	 */
+	public void writeValueOnlyField(SubmodelElement submodelElement, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+		gen.writeFieldName(submodelElement.getIdShort());
+		writeValue(submodelElement, gen, serializers);
+	}
+
+	/**
+	 * Writes the value of the submodel element
+	 * 
+	 * @param submodelElement
+	 * @param gen
+	 * @param serializers
+	 * @throws IOException
+	 * @throws ValueMapperNotFoundException
+	 *             if the type of a submodel element has no ValueOnly
+	 *             representation
+	 */
+	public void writeValue(SubmodelElement submodelElement, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+		if (submodelElement instanceof Property) {
+			gen.writeString(((Property) submodelElement).getValue());
+		} else if (submodelElement instanceof Range) {
+			writeRange((Range) submodelElement, gen);
+		} else if (submodelElement instanceof MultiLanguageProperty) {
+			writeMultiLanguageProperty((MultiLanguageProperty) submodelElement, gen);
+		} else if (submodelElement instanceof File) {
+			File file = (File) submodelElement;
+			writeFileBlob(file.getContentType(), file.getValue(), gen, serializers);
+		} else if (submodelElement instanceof Blob) {
+			writeBlob((Blob) submodelElement, gen, serializers);
+		} else if (submodelElement instanceof Entity) {
+			writeEntity((Entity) submodelElement, gen, serializers);
+		} else if (submodelElement instanceof ReferenceElement) {
+			writeReference(((ReferenceElement) submodelElement).getValue(), gen, serializers);
+		} else if (submodelElement instanceof AnnotatedRelationshipElement) {
+			writeAnnotatedRelationshipElement((AnnotatedRelationshipElement) submodelElement, gen, serializers);
+		} else if (submodelElement instanceof RelationshipElement) {
+			gen.writeStartObject();
+			writeRelationshipReferences((RelationshipElement) submodelElement, gen, serializers);
+			gen.writeEndObject();
+		} else if (submodelElement instanceof SubmodelElementCollection) {
+			writeValueOnlyArray(((SubmodelElementCollection) submodelElement).getValue(), gen, serializers);
+		} else if (submodelElement instanceof SubmodelElementList) {
+			writeSubmodelElementList((SubmodelElementList) submodelElement, gen, serializers);
+		} else {
+			throw new ValueMapperNotFoundException(submodelElement.getIdShort());
+		}
+	}
+
+	private void writeRange(Range range, JsonGenerator gen) throws IOException {
+		gen.writeStartObject();
+		gen.writeNumberField("min", Integer.parseInt(range.getMin()));
+		gen.writeNumberField("max", Integer.parseInt(range.getMax()));
+		gen.writeEndObject();
+	}
+
+	private void writeMultiLanguageProperty(MultiLanguageProperty multiLanguageProperty, JsonGenerator gen) throws IOException {
+		gen.writeStartArray();
+		for (LangStringTextType langString : multiLanguageProperty.getValue()) {
+			gen.writeStartObject();
+			gen.writeStringField(langString.getLanguage(), langString.getText());
+			gen.writeEndObject();
+		}
+		gen.writeEndArray();
+	}
+
+	private void writeBlob(Blob blob, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+		byte[] value = blob.getValue();
+		writeFileBlob(blob.getContentType(), value == null ? null : new String(value, StandardCharsets.UTF_8), gen, serializers);
+	}
+
+	private void writeFileBlob(String contentType, String value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+		gen.writeStartObject();
+		writeField("contentType", contentType, gen, serializers);
+		writeField("value", value, gen, serializers);
+		gen.writeEndObject();
+	}
+
+	private void writeEntity(Entity entity, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+		gen.writeStartObject();
+		gen.writeFieldName("statements");
+		writeValueOnlyArray(entity.getStatements(), gen, serializers);
+
+		writeField("entityType", entity.getEntityType(), gen, serializers);
+		writeField("globalAssetId", entity.getGlobalAssetID(), gen, serializers);
+
+		gen.writeArrayFieldStart("specificAssetIds");
+		for (SpecificAssetID specificAssetId : entity.getSpecificAssetIds())
+			writeSpecificAssetId(specificAssetId, gen, serializers);
+		gen.writeEndArray();
+
+		gen.writeEndObject();
+	}
+
+	private void writeSpecificAssetId(SpecificAssetID specificAssetId, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+		gen.writeStartObject();
+		gen.writeStringField(specificAssetId.getName(), specificAssetId.getValue());
+
+		if (specificAssetId.getExternalSubjectID() != null) {
+			gen.writeFieldName("externalSubjectId");
+			writeReference(specificAssetId.getExternalSubjectID(), gen, serializers);
+		}
+
+		gen.writeEndObject();
+	}
+
+	private void writeAnnotatedRelationshipElement(AnnotatedRelationshipElement annotatedRelationshipElement, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+		gen.writeStartObject();
+		writeRelationshipReferences(annotatedRelationshipElement, gen, serializers);
+		gen.writeFieldName("annotation");
+		writeValueOnlyArray(annotatedRelationshipElement.getAnnotations(), gen, serializers);
+		gen.writeEndObject();
+	}
+
+	private void writeRelationshipReferences(RelationshipElement relationshipElement, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+		gen.writeFieldName("first");
+		writeReference(relationshipElement.getFirst(), gen, serializers);
+		gen.writeFieldName("second");
+		writeReference(relationshipElement.getSecond(), gen, serializers);
+	}
+
+	private void writeReference(Reference reference, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+		gen.writeStartObject();
+
+		writeField("type", reference.getType(), gen, serializers);
+		writeField("keys", reference.getKeys(), gen, serializers);
+
+		gen.writeEndObject();
+	}
+
+	private void writeValueOnlyArray(Collection<? extends SubmodelElement> submodelElements, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+		gen.writeStartArray();
+		for (SubmodelElement submodelElement : submodelElements) {
+			gen.writeStartObject();
+			writeValueOnlyField(submodelElement, gen, serializers);
+			gen.writeEndObject();
+		}
+		gen.writeEndArray();
+	}
+
+	private void writeSubmodelElementList(SubmodelElementList submodelElementList, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+		gen.writeStartArray();
+		for (SubmodelElement submodelElement : submodelElementList.getValue())
+			writeValue(submodelElement, gen, serializers);
+		gen.writeEndArray();
+	}
+
+	/**
+	 * Like a property of the SubmodelElementValues, a null value is only written
+	 * if the serialization inclusion of the mapper includes null values
+	 */
+	private void writeField(String fieldName, Object value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+		if (value == null && !includesNullValues(serializers))
+			return;
+
+		gen.writeFieldName(fieldName);
+		serializers.defaultSerializeValue(value, gen);
+	}
+
+	private static boolean includesNullValues(SerializerProvider serializers) {
+		JsonInclude.Include inclusion = serializers.getConfig().getDefaultPropertyInclusion().getValueInclusion();
+
+		return inclusion == JsonInclude.Include.ALWAYS || inclusion == JsonInclude.Include.USE_DEFAULTS;
+	}
+}
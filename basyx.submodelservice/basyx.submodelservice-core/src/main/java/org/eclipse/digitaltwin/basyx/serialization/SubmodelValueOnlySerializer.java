@@ -1,9 +1,8 @@
 package org.eclipse.digitaltwin.basyx.serialization;
 
 import java.io.IOException;
-import java.util.Map;
 
-import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelElementValue;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
 import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelValueOnly;
 
 import com.fasterxml.jackson.core.JsonGenerator;
@@ -11,19 +10,20 @@ import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializerProvider;
 
 /**
- * Serializes a {@link SubmodelValueOnly}
+ * Serializes a {@link SubmodelValueOnly} by streaming the values of its
+ * SubmodelElements using the {@link SubmodelElementValueOnlyWriter}
  * 
  * @author damm
  *
  */
 public class SubmodelValueOnlySerializer extends JsonSerializer<SubmodelValueOnly> {
+	private final SubmodelElementValueOnlyWriter writer = new SubmodelElementValueOnlyWriter();
+
 	@Override
 	public void serialize(SubmodelValueOnly values, JsonGenerator gen, SerializerProvider serializers) throws IOException {
 		gen.writeStartObject();
-		Map<String, SubmodelElementValue> vMap = values.getValuesOnlyMap();
-
-		for (String id : vMap.keySet()) {
-			gen.writePOJOField(id, vMap.get(id));
+		for (SubmodelElement submodelElement : values.getSubmodelElements()) {
+			writer.writeValueOnlyField(submodelElement, gen, serializers);
 		}
 		gen.writeEndObject();
 	}
@@ -0,0 +1,145 @@
+/*******************************************************************************
+ * Copyright (C) 2023 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.submodelservice;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Supplier;
+
+import org.eclipse.digitaltwin.aas4j.v3.model.OperationVariable;
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
+import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
+import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelElementValue;
+
+/**
+ * Guards a SubmodelService with its own {@link StampedLock}, i.e., one lock per
+ * Submodel. Thus, requests to different Submodels never contend.<br>
+ * <br>
+ * Modifications are executed exclusively, reads and operation invocations
+ * under the shared read lock. Reads are not tried optimistically, since the
+ * decorated service traverses plain collections that may be modified
+ * concurrently.<br>
+ * <br>
+ * As for the decorated service, the returned Submodels and SubmodelElements
+ * are the live objects. Thus, the lock guards the traversal of the Submodel
+ * within the service, but not the later serialization of the returned
+ * objects.
+ * 
+ * @author schnicke
+ *
+ */
+public class LockingSubmodelService implements SubmodelService {
+
+	private final SubmodelService decorated;
+	private final StampedLock lock = new StampedLock();
+
+	public LockingSubmodelService(SubmodelService decorated) {
+		this.decorated = decorated;
+	}
+
+	@Override
+	public Submodel getSubmodel() {
+		return read(decorated::getSubmodel);
+	}
+
+	@Override
+	public CursorResult<List<SubmodelElement>> getSubmodelElements(PaginationInfo pInfo) {
+		return read(() -> decorated.getSubmodelElements(pInfo));
+	}
+
+	@Override
+	public CursorResult<List<SubmodelElement>> getSubmodelElements(String idShortPath, PaginationInfo pInfo) throws ElementDoesNotExistException {
+		return read(() -> decorated.getSubmodelElements(idShortPath, pInfo));
+	}
+
+	@Override
+	public SubmodelElement getSubmodelElement(String idShortPath) throws ElementDoesNotExistException {
+		return read(() -> decorated.getSubmodelElement(idShortPath));
+	}
+
+	@Override
+	public SubmodelElementValue getSubmodelElementValue(String idShortPath) throws ElementDoesNotExistException {
+		return read(() -> decorated.getSubmodelElementValue(idShortPath));
+	}
+
+	@Override
+	public void setSubmodelElementValue(String idShortPath, SubmodelElementValue value) throws ElementDoesNotExistException {
+		write(() -> decorated.setSubmodelElementValue(idShortPath, value));
+	}
+
+	@Override
+	public Map<String, SubmodelElementValue> getSubmodelElementValues(Collection<String> idShortPaths) throws ElementDoesNotExistException {
+		return read(() -> decorated.getSubmodelElementValues(idShortPaths));
+	}
+
+	@Override
+	public void setSubmodelElementValues(Map<String, SubmodelElementValue> values) throws ElementDoesNotExistException {
+		write(() -> decorated.setSubmodelElementValues(values));
+	}
+
+	@Override
+	public void createSubmodelElement(SubmodelElement submodelElement) {
+		write(() -> decorated.createSubmodelElement(submodelElement));
+	}
+
+	@Override
+	public void createSubmodelElement(String idShortPath, SubmodelElement submodelElement) throws ElementDoesNotExistException {
+		write(() -> decorated.createSubmodelElement(idShortPath, submodelElement));
+	}
+
+	@Override
+	public void deleteSubmodelElement(String idShortPath) throws ElementDoesNotExistException {
+		write(() -> decorated.deleteSubmodelElement(idShortPath));
+	}
+
+	@Override
+	public OperationVariable[] invokeOperation(String idShortPath, OperationVariable[] input) throws ElementDoesNotExistException {
+		return read(() -> decorated.invokeOperation(idShortPath, input));
+	}
+
+	private <T> T read(Supplier<T> reader) {
+		long stamp = lock.readLock();
+		try {
+			return reader.get();
+		} finally {
+			lock.unlockRead(stamp);
+		}
+	}
+
+	private void write(Runnable writer) {
+		long stamp = lock.writeLock();
+		try {
+			writer.run();
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+}
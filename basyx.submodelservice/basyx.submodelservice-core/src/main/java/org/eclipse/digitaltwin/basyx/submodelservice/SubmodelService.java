@@ -25,7 +25,9 @@
 
 package org.eclipse.digitaltwin.basyx.submodelservice;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.digitaltwin.aas4j.v3.model.OperationVariable;
 import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
@@ -56,6 +58,23 @@ public interface SubmodelService {
 	 */
 	public CursorResult<List<SubmodelElement>> getSubmodelElements(PaginationInfo pInfo);
 
+	/**
+	 * Retrieves the direct children of a SubmodelElementCollection,
+	 * SubmodelElementList or Entity in their order. The cursor is the position of
+	 * the last child of the previous page.
+	 * 
+	 * @param idShortPath
+	 *            the idShortPath of the containing SubmodelElement
+	 * @param pInfo
+	 * @return the page of children
+	 * @throws ElementDoesNotExistException
+	 *             if the SubmodelElement does not exist
+	 * @throws IllegalArgumentException
+	 *             if the SubmodelElement does not contain other SubmodelElements
+	 *             or the cursor is invalid
+	 */
+	public CursorResult<List<SubmodelElement>> getSubmodelElements(String idShortPath, PaginationInfo pInfo) throws ElementDoesNotExistException;
+
 	/**
 	 * Retrieve specific SubmodelElement of the Submodel
 	 *
@@ -85,6 +104,30 @@ public interface SubmodelService {
 	 */
 	public void setSubmodelElementValue(String idShortPath, SubmodelElementValue value) throws ElementDoesNotExistException;
 
+	/**
+	 * Retrieves the values of multiple SubmodelElements of the Submodel
+	 * 
+	 * @param idShortPaths
+	 *            the SubmodelElement idShortPaths
+	 * @return the SubmodelElementValues mapped by their idShortPath, in the order
+	 *         of the passed idShortPaths
+	 * @throws ElementDoesNotExistException
+	 *             if one of the SubmodelElements does not exist
+	 */
+	public Map<String, SubmodelElementValue> getSubmodelElementValues(Collection<String> idShortPaths) throws ElementDoesNotExistException;
+
+	/**
+	 * Sets the values of multiple SubmodelElements of the Submodel. All
+	 * idShortPaths are resolved before any value is set, i.e., if one of the
+	 * SubmodelElements does not exist, no value is changed.
+	 * 
+	 * @param values
+	 *            the new values mapped by the idShortPath of their SubmodelElement
+	 * @throws ElementDoesNotExistException
+	 *             if one of the SubmodelElements does not exist
+	 */
+	public void setSubmodelElementValues(Map<String, SubmodelElementValue> values) throws ElementDoesNotExistException;
+
 	/**
 	 * Creates a Submodel Element
 	 * 
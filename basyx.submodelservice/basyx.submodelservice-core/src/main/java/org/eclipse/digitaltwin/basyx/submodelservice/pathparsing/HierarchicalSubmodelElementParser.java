@@ -24,8 +24,6 @@
  ******************************************************************************/
 package org.eclipse.digitaltwin.basyx.submodelservice.pathparsing;
 
-import java.util.Stack;
-
 import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
 import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
 import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
@@ -63,23 +61,21 @@ public class HierarchicalSubmodelElementParser {
 	 * 
 	 */
 	public SubmodelElement getSubmodelElementFromIdShortPath(String idShortPath) throws ElementDoesNotExistException {
-		Stack<PathToken> idShortPathTokenStack = pathParser.parsePathTokens(idShortPath);
+		IdShortPath path = pathParser.parse(idShortPath);
 
-		return getLastElementOfStack(idShortPathTokenStack);
+		return getLastElementOfPath(path);
 	}
 
-	private SubmodelElement getLastElementOfStack(Stack<PathToken> idShortPathTokenStack) {
-		PathToken nextToken = idShortPathTokenStack.pop();
-		SubmodelElement nextElement = getFirstSubmodelElementFromStack(nextToken.getToken());
-		while (!idShortPathTokenStack.isEmpty()) {
-			nextToken = idShortPathTokenStack.pop();
-			nextElement = nextToken.getSubmodelElement(nextElement);
+	private SubmodelElement getLastElementOfPath(IdShortPath path) {
+		SubmodelElement nextElement = getFirstSubmodelElement(path.getToken(0).getToken());
+		for (int i = 1; i < path.size(); i++) {
+			nextElement = path.getToken(i).getSubmodelElement(nextElement);
 		}
 
 		return nextElement;
 	}
 
-	private SubmodelElement getFirstSubmodelElementFromStack(String rootElementIdShort) {
+	private SubmodelElement getFirstSubmodelElement(String rootElementIdShort) {
 		return submodel.getSubmodelElements().stream().filter(sme -> sme.getIdShort().equals(rootElementIdShort))
 				.findAny().orElseThrow(() -> new ElementDoesNotExistException());
 	}
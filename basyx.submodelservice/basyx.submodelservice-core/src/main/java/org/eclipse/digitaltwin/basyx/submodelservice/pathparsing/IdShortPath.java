@@ -0,0 +1,130 @@
+/*******************************************************************************
+ * Copyright (C) 2023 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.submodelservice.pathparsing;
+
+import java.util.Stack;
+
+/**
+ * Immutable, parsed representation of an idShortPath. Instances are created by
+ * the {@link SubmodelElementIdShortPathParser} and may be shared between
+ * threads.
+ * 
+ * @author schnicke
+ *
+ */
+public final class IdShortPath {
+
+	private final String path;
+	private final PathToken[] tokens;
+	private final int parentPathEnd;
+	private volatile String parentPath;
+
+	IdShortPath(String path, PathToken[] tokens, int parentPathEnd) {
+		this.path = path;
+		this.tokens = tokens;
+		this.parentPathEnd = parentPathEnd;
+	}
+
+	/**
+	 * Returns the number of tokens of the path
+	 * 
+	 * @return the number of tokens
+	 */
+	public int size() {
+		return tokens.length;
+	}
+
+	/**
+	 * Returns the token at the passed position, beginning with the outermost
+	 * element
+	 * 
+	 * @param position
+	 * @return the token
+	 */
+	public PathToken getToken(int position) {
+		return tokens[position];
+	}
+
+	/**
+	 * Returns the innermost token of the path
+	 * 
+	 * @return the last token
+	 */
+	public PathToken getLastToken() {
+		return tokens[tokens.length - 1];
+	}
+
+	/**
+	 * Checks whether the path addresses a nested SubmodelElement
+	 * 
+	 * @return true if the path consists of more than one token
+	 */
+	public boolean isNested() {
+		return tokens.length > 1;
+	}
+
+	/**
+	 * Checks whether the direct parent of the addressed SubmodelElement is a
+	 * SubmodelElementList
+	 * 
+	 * @return true if the last token is a list index
+	 */
+	public boolean isDirectParentASubmodelElementList() {
+		return getLastToken() instanceof ListIndexPathToken;
+	}
+
+	/**
+	 * Returns the idShortPath of the direct parent of the addressed
+	 * SubmodelElement
+	 * 
+	 * @return the parent idShortPath or an empty String if the path is not nested
+	 */
+	public String getParentPath() {
+		String result = parentPath;
+		if (result == null) {
+			result = path.substring(0, parentPathEnd);
+			parentPath = result;
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the tokens as stack with the outermost token on top
+	 * 
+	 * @return a new Stack containing the tokens
+	 */
+	public Stack<PathToken> toStack() {
+		Stack<PathToken> tokenStack = new Stack<>();
+		for (int i = tokens.length - 1; i >= 0; i--) {
+			tokenStack.push(tokens[i]);
+		}
+		return tokenStack;
+	}
+
+	@Override
+	public String toString() {
+		return path;
+	}
+}
@@ -37,9 +37,15 @@ import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistExceptio
 public class ListIndexPathToken implements PathToken {
 
 	private final String token;
+	private final int index;
 
 	public ListIndexPathToken(String token) {
-		this.token = token;
+		this(Integer.parseInt(token));
+	}
+
+	public ListIndexPathToken(int index) {
+		this.index = index;
+		this.token = Integer.toString(index);
 	}
 
 	@Override
@@ -49,7 +55,6 @@ public class ListIndexPathToken implements PathToken {
 
 		SubmodelElementList sml = (SubmodelElementList) rootElement;
 
-		int index = getIndexFromToken(token);
 		if (index > sml.getValue().size() - 1) {
 			throw new ElementDoesNotExistException(rootElement.getIdShort() + token);
 		}
@@ -57,8 +62,13 @@ public class ListIndexPathToken implements PathToken {
 		return sml.getValue().get(index);
 	}
 
-	private int getIndexFromToken(String token) {
-		return Integer.valueOf(token);
+	/**
+	 * Returns the list index addressed by this token
+	 * 
+	 * @return the index
+	 */
+	public int getIndex() {
+		return index;
 	}
 
 	@Override
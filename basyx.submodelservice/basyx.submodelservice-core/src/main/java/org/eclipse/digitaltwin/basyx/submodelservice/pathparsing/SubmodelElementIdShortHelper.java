@@ -1,6 +1,12 @@
 package org.eclipse.digitaltwin.basyx.submodelservice.pathparsing;
 
+/**
+ * Helper for analyzing idShortPaths. Paths are parsed through the
+ * {@link SubmodelElementIdShortPathParser} and thus share its cache.
+ */
 public class SubmodelElementIdShortHelper {
+
+	private final SubmodelElementIdShortPathParser pathParser = new SubmodelElementIdShortPathParser();
 	
 	/**
 	 * Check whether the given idShortPath is a simple idShort or a path of idShorts
@@ -9,7 +15,7 @@ public class SubmodelElementIdShortHelper {
 	 * @return true if the given idShortPath is a path of IdShorts
 	 */
 	public boolean isNestedIdShortPath(String idShortPath) {
-		return hasDot(idShortPath)|| hasOpeningBrackets(idShortPath);
+		return pathParser.parse(idShortPath).isNested();
 	}
 
 	/**
@@ -21,8 +27,7 @@ public class SubmodelElementIdShortHelper {
 	 * @return idShort of the direct parent of the nested submodel element
 	 */
 	public String extractDirectParentSubmodelElementCollectionIdShort(String idShortPath) {
-		return idShortPath.substring(0, idShortPath.lastIndexOf("."));
-		
+		return pathParser.parse(idShortPath).getParentPath();
 	}
 	
 	/**
@@ -34,33 +39,11 @@ public class SubmodelElementIdShortHelper {
 	 * @return idShort of the direct parent of the nested submodel element
 	 */
 	public String extractDirectParentSubmodelElementListIdShort(String idShortPath) {
-		if(hasOpeningBrackets(idShortPath) && hasDot(idShortPath)) {
-			int indexDot = idShortPath.lastIndexOf(".");
-			int indexBracket = idShortPath.lastIndexOf("[");
-			if(indexDot > indexBracket)  return idShortPath.substring(0, indexDot);
-			
-			return idShortPath.substring(0, indexBracket);
-		}
-		
-		return idShortPath.substring(0, idShortPath.lastIndexOf("["));
+		return pathParser.parse(idShortPath).getParentPath();
 	}
 	
 	public boolean isDirectParentASubmodelElementList(String idShortPath) {
-		if(hasOpeningBrackets(idShortPath) && hasDot(idShortPath)) {
-			int indexDot = idShortPath.lastIndexOf(".");
-			int indexBracket = idShortPath.lastIndexOf("[");
-			return indexDot < indexBracket;
-		}
-		if(hasOpeningBrackets(idShortPath)) return true;
-		return false;
-	}
-
-	private boolean hasDot(String idShortPath) {
-		return idShortPath.contains(".");
-	}
-	
-	private boolean hasOpeningBrackets(String idShortPath) {
-		return idShortPath.contains("[");
+		return pathParser.parse(idShortPath).isDirectParentASubmodelElementList();
 	}
 
 }
@@ -25,19 +25,31 @@
 package org.eclipse.digitaltwin.basyx.submodelservice.pathparsing;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Stack;
 
 import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
 
 /**
- * Class for parsing an idShortPath
+ * Class for parsing an idShortPath<br>
+ * <br>
+ * Paths are tokenized in a single pass. The parsed {@link IdShortPath}s are
+ * immutable and kept in a cache that is shared by all parser instances, so
+ * that frequently requested paths are parsed only once. The cache evicts the
+ * least recently requested paths beyond its capacity.
  * 
- * @author fried
+ * @author fried, schnicke
  * 
  */
 public class SubmodelElementIdShortPathParser {
 
+	static final int CACHE_CAPACITY = 1024;
+
+	private static final Map<String, IdShortPath> PARSED_PATHS = Collections.synchronizedMap(new ParsedPathCache());
+
 	/**
 	 * Splits an idShortPath
 	 * 
@@ -46,112 +58,123 @@ public class SubmodelElementIdShortPathParser {
 	 * 
 	 */
 	public Stack<PathToken> parsePathTokens(String idShortPath) {
-		try {
-			String splitted[] = splitIdShortPathAtDots(idShortPath);
-			return generateTokenStackFromSplittedArray(splitted);
-		} catch (ElementDoesNotExistException e) {
-			throw new ElementDoesNotExistException(idShortPath);
-		}
+		return parse(idShortPath).toStack();
 	}
-	
 
-	private static String[] splitIdShortPathAtDots(String idShortPath) {
-		return idShortPath.split("\\.");
+	/**
+	 * Parses an idShortPath
+	 * 
+	 * @param idShortPath
+	 * @return the parsed and possibly cached IdShortPath
+	 * @throws ElementDoesNotExistException
+	 *             if the idShortPath is malformed
+	 */
+	public IdShortPath parse(String idShortPath) throws ElementDoesNotExistException {
+		IdShortPath parsed = PARSED_PATHS.get(idShortPath);
+		if (parsed != null)
+			return parsed;
+
+		parsed = tokenize(idShortPath);
+		PARSED_PATHS.put(idShortPath, parsed);
+		return parsed;
 	}
 
-	private static String getIdShortWithoutIndices(String idShort) {
-		return idShort.split("\\[")[0];
-	}
+	private static IdShortPath tokenize(String idShortPath) {
+		if (idShortPath == null)
+			throw new ElementDoesNotExistException();
 
-	private static Stack<PathToken> generateTokenStackFromSplittedArray(String[] splitted) {
-		Stack<PathToken> tokenStack = new Stack<>();
-		for (int i = splitted.length - 1; i >= 0; i--) {
-			List<Integer> indices = getAllIndices(splitted[i]);
-			for (int ix = indices.size() - 1; ix >= 0; ix--) {
-				tokenStack.push(new ListIndexPathToken(indices.get(ix).toString()));
-			}
-			tokenStack.push(new HierarchicalSubmodelElementIdShortPathToken(getIdShortWithoutIndices(splitted[i])));
-		}
-		return tokenStack;
-	}
+		List<PathToken> tokens = new ArrayList<>();
+		int length = idShortPath.length();
+		int position = 0;
+		int parentPathEnd = 0;
 
-	private static List<Integer> getAllIndices(String idShortToken) throws ElementDoesNotExistException {
-		List<Integer> indices = new ArrayList<>();
-		while (hasOpeningBrackets(idShortToken)) {
+		while (true) {
+			int idShortStart = position;
+			position = skipIdShort(idShortPath, position);
+			throwExceptionIfIdShortIsInvalid(idShortPath, idShortStart, position);
 
-			int occurrence = getIndexOfOpeningBracket(idShortToken);
-			int end = getIndexOfClosingBracket(idShortToken);
+			parentPathEnd = tokens.isEmpty() ? 0 : idShortStart - 1;
+			tokens.add(new HierarchicalSubmodelElementIdShortPathToken(idShortPath.substring(idShortStart, position)));
 
-			throwExceptionIfClosingBracketIsMissing(end);
-			throwExceptionIfInvalidCharacterAfterClosingBracket(idShortToken, end);
-			throwExceptionIfOpeningBracketIsInsideBrackets(idShortToken, occurrence, end);
+			while (position < length && idShortPath.charAt(position) == '[') {
+				parentPathEnd = position;
+				int end = findEndOfIndex(idShortPath, position);
+				tokens.add(new ListIndexPathToken(extractIndex(idShortPath, position + 1, end)));
+				position = end + 1;
+			}
 
-			int index = extractIndex(idShortToken, occurrence, end);
+			if (position == length)
+				break;
 
-			indices.add(index);
-			idShortToken = idShortToken.substring(end + 1);
+			if (idShortPath.charAt(position) != '.')
+				throw new ElementDoesNotExistException(idShortPath);
 
+			position++;
 		}
-		throwExceptionIfTooManyClosingBracketsExist(idShortToken);
 
-		return indices;
+		return new IdShortPath(idShortPath, tokens.toArray(new PathToken[0]), parentPathEnd);
 	}
 
-	private static boolean hasOpeningBrackets(String idShortToken) {
-		return getIndexOfOpeningBracket(idShortToken) != -1;
+	private static int skipIdShort(String idShortPath, int position) {
+		int length = idShortPath.length();
+		while (position < length && !isDelimiter(idShortPath.charAt(position))) {
+			position++;
+		}
+		return position;
 	}
 
-	private static int getIndexOfOpeningBracket(String idShortToken) {
-		return idShortToken.indexOf('[');
+	private static boolean isDelimiter(char c) {
+		return c == '.' || c == '[' || c == ']';
 	}
 
-	private static int getIndexOfClosingBracket(String idShortToken) {
-		return idShortToken.indexOf(']');
-	}
+	private static void throwExceptionIfIdShortIsInvalid(String idShortPath, int start, int end) {
+		if (start == end)
+			throw new ElementDoesNotExistException(idShortPath);
 
-	private static void throwExceptionIfClosingBracketIsMissing(int end) throws ElementDoesNotExistException {
-		if (end == -1) {
-			throw new ElementDoesNotExistException();
-		}
+		if (end < idShortPath.length() && idShortPath.charAt(end) == ']')
+			throw new ElementDoesNotExistException(idShortPath);
 	}
 
-	private static void throwExceptionIfInvalidCharacterAfterClosingBracket(String idShort, int end)
-			throws ElementDoesNotExistException {
-		if (idShort.length() - 1 > end) {
-			if (idShort.charAt(end + 1) != '[') {
-				throw new ElementDoesNotExistException();
-			}
-		}
-	}
+	private static int findEndOfIndex(String idShortPath, int openingBracket) {
+		int end = idShortPath.indexOf(']', openingBracket);
+		if (end == -1)
+			throw new ElementDoesNotExistException(idShortPath);
 
-	private static void throwExceptionIfOpeningBracketIsInsideBrackets(String idShort, int occurrence, int end)
-			throws ElementDoesNotExistException {
-		if (idShort.substring(occurrence + 1, end).indexOf('[') != -1) {
-			throw new ElementDoesNotExistException();
-		}
+		return end;
 	}
 
-	private static int extractIndex(String idShortToken, int occurrence, int end) {
-		String currentIndice = idShortToken.substring(occurrence + 1, end);
-		try {
-			int index = Integer.valueOf(currentIndice);
-			throwExceptionIfIndexIsInvalid(index);
-			return index;
-		} catch (NumberFormatException doesNotMatter) {
+	private static int extractIndex(String idShortPath, int start, int end) {
+		if (start == end || end - start > 10)
+			throw new ElementDoesNotExistException(idShortPath);
+
+		long index = 0;
+		for (int i = start; i < end; i++) {
+			char c = idShortPath.charAt(i);
+			if (c < '0' || c > '9')
+				throw new ElementDoesNotExistException(idShortPath);
+
+			index = index * 10 + (c - '0');
 		}
-		throw new ElementDoesNotExistException();
+
+		if (index > Integer.MAX_VALUE)
+			throw new ElementDoesNotExistException(idShortPath);
+
+		return (int) index;
 	}
 
-	private static void throwExceptionIfIndexIsInvalid(int index) throws ElementDoesNotExistException {
-		if (index < 0) {
-			throw new ElementDoesNotExistException();
+	/**
+	 * Access ordered, thus the least recently requested path is evicted
+	 */
+	private static class ParsedPathCache extends LinkedHashMap<String, IdShortPath> {
+		private static final long serialVersionUID = 1L;
+
+		private ParsedPathCache() {
+			super(16, 0.75f, true);
 		}
-	}
 
-	private static void throwExceptionIfTooManyClosingBracketsExist(String idShortToken) {
-		if (getIndexOfClosingBracket(idShortToken) != -1) {
-			throw new ElementDoesNotExistException();
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, IdShortPath> eldest) {
+			return size() > CACHE_CAPACITY;
 		}
 	}
-
 }
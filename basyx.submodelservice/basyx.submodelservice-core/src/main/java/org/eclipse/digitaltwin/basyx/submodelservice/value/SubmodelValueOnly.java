@@ -27,15 +27,20 @@ package org.eclipse.digitaltwin.basyx.submodelservice.value;
 
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.eclipse.digitaltwin.aas4j.v3.model.Operation;
 import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.basyx.serialization.SubmodelValueOnlySerializer;
 import org.eclipse.digitaltwin.basyx.submodelservice.value.mapper.ValueMapperUtil;
 
 /**
- * Represents the ValueOnly-Representation of a Submodel
+ * Represents the ValueOnly-Representation of a Submodel<br>
+ * <br>
+ * The values are not mapped eagerly. Instead, the SubmodelElements are kept so
+ * that the {@link SubmodelValueOnlySerializer} can write their values directly.
  * 
  * @author damm
  *
@@ -43,10 +48,11 @@ import org.eclipse.digitaltwin.basyx.submodelservice.value.mapper.ValueMapperUti
 public class SubmodelValueOnly {
 
 	private String idShort;
+	private List<SubmodelElement> submodelElements;
 	private Map<String, SubmodelElementValue> submodelValuesMap;
 	
 	public SubmodelValueOnly(Collection<SubmodelElement> submodelElements) {		
-		submodelValuesMap = submodelElements.stream().filter(SubmodelValueOnly::hasValueOnlyDefined).map(ValueMapperUtil::toValueOnly).collect(Collectors.toMap(ValueOnly::getIdShort, ValueOnly::getSubmodelElementValue));
+		this.submodelElements = submodelElements.stream().filter(SubmodelValueOnly::hasValueOnlyDefined).collect(Collectors.toList());
 	}
 
 	private static boolean hasValueOnlyDefined(SubmodelElement element) {
@@ -57,7 +63,19 @@ public class SubmodelValueOnly {
 		return idShort;
 	}	
 	
+	/**
+	 * Returns the SubmodelElements having a ValueOnly representation
+	 * 
+	 * @return the SubmodelElements
+	 */
+	public List<SubmodelElement> getSubmodelElements() {
+		return submodelElements;
+	}
+
 	public Map<String, SubmodelElementValue> getValuesOnlyMap() {
+		if (submodelValuesMap == null)
+			submodelValuesMap = submodelElements.stream().map(ValueMapperUtil::toValueOnly).collect(Collectors.toMap(ValueOnly::getIdShort, ValueOnly::getSubmodelElementValue));
+
 		return submodelValuesMap;
 	}	
 	
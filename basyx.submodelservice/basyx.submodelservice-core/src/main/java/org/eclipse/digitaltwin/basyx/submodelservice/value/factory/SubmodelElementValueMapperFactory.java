@@ -24,6 +24,8 @@
  ******************************************************************************/
 package org.eclipse.digitaltwin.basyx.submodelservice.value.factory;
 
+import java.util.function.Function;
+
 import org.eclipse.digitaltwin.aas4j.v3.model.AnnotatedRelationshipElement;
 import org.eclipse.digitaltwin.aas4j.v3.model.Blob;
 import org.eclipse.digitaltwin.aas4j.v3.model.Entity;
@@ -59,31 +61,48 @@ import org.eclipse.digitaltwin.basyx.submodelservice.value.mapper.ValueMapper;
  */
 public class SubmodelElementValueMapperFactory {
 
+	/**
+	 * The way to create the ValueMapper is resolved once per submodel element
+	 * class instead of checking all types for every submodel element
+	 */
+	private static final ClassValue<Function<SubmodelElement, ValueMapper>> VALUE_MAPPER_CONSTRUCTORS = new ClassValue<>() {
+		@Override
+		protected Function<SubmodelElement, ValueMapper> computeValue(Class<?> type) {
+			return resolveValueMapperConstructor(type);
+		}
+	};
+
 	public ValueMapper create(SubmodelElement submodelElement) {
-		if (submodelElement instanceof Property) {
-			return new PropertyValueMapper((Property) submodelElement);
-		} else if (submodelElement instanceof Range) {
-			return new RangeValueMapper((Range) submodelElement);
-		} else if (submodelElement instanceof MultiLanguageProperty) {
-			return new MultiLanguagePropertyValueMapper((MultiLanguageProperty) submodelElement);
-		} else if (submodelElement instanceof File) {
-			return new FileValueMapper((File) submodelElement);
-		} else if (submodelElement instanceof Blob) {
-			return new BlobValueMapper((Blob) submodelElement);
-		} else if (submodelElement instanceof Entity) {
-			return new EntityValueMapper((Entity) submodelElement);
-		} else if (submodelElement instanceof ReferenceElement) {
-			return new ReferenceElementValueMapper((ReferenceElement) submodelElement);
-		} else if (submodelElement instanceof AnnotatedRelationshipElement) {
-			return new AnnotatedRelationshipElementValueMapper((AnnotatedRelationshipElement) submodelElement);
-		} else if (submodelElement instanceof RelationshipElement) {
-			return new RelationshipElementValueMapper((RelationshipElement) submodelElement);
-		} else if (submodelElement instanceof SubmodelElementCollection) {
-			return new SubmodelElementCollectionValueMapper((SubmodelElementCollection) submodelElement);
-		} else if (submodelElement instanceof SubmodelElementList) {
-			return new SubmodelElementListValueMapper((SubmodelElementList) submodelElement);
+		return VALUE_MAPPER_CONSTRUCTORS.get(submodelElement.getClass()).apply(submodelElement);
+	}
+
+	private static Function<SubmodelElement, ValueMapper> resolveValueMapperConstructor(Class<?> type) {
+		if (Property.class.isAssignableFrom(type)) {
+			return submodelElement -> new PropertyValueMapper((Property) submodelElement);
+		} else if (Range.class.isAssignableFrom(type)) {
+			return submodelElement -> new RangeValueMapper((Range) submodelElement);
+		} else if (MultiLanguageProperty.class.isAssignableFrom(type)) {
+			return submodelElement -> new MultiLanguagePropertyValueMapper((MultiLanguageProperty) submodelElement);
+		} else if (File.class.isAssignableFrom(type)) {
+			return submodelElement -> new FileValueMapper((File) submodelElement);
+		} else if (Blob.class.isAssignableFrom(type)) {
+			return submodelElement -> new BlobValueMapper((Blob) submodelElement);
+		} else if (Entity.class.isAssignableFrom(type)) {
+			return submodelElement -> new EntityValueMapper((Entity) submodelElement);
+		} else if (ReferenceElement.class.isAssignableFrom(type)) {
+			return submodelElement -> new ReferenceElementValueMapper((ReferenceElement) submodelElement);
+		} else if (AnnotatedRelationshipElement.class.isAssignableFrom(type)) {
+			return submodelElement -> new AnnotatedRelationshipElementValueMapper((AnnotatedRelationshipElement) submodelElement);
+		} else if (RelationshipElement.class.isAssignableFrom(type)) {
+			return submodelElement -> new RelationshipElementValueMapper((RelationshipElement) submodelElement);
+		} else if (SubmodelElementCollection.class.isAssignableFrom(type)) {
+			return submodelElement -> new SubmodelElementCollectionValueMapper((SubmodelElementCollection) submodelElement);
+		} else if (SubmodelElementList.class.isAssignableFrom(type)) {
+			return submodelElement -> new SubmodelElementListValueMapper((SubmodelElementList) submodelElement);
 		} else {
-			throw new ValueMapperNotFoundException(submodelElement.getIdShort());
+			return submodelElement -> {
+				throw new ValueMapperNotFoundException(submodelElement.getIdShort());
+			};
 		}
 	}
 }
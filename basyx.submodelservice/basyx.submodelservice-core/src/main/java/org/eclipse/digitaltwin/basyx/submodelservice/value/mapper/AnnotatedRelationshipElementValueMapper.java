@@ -25,16 +25,13 @@
 package org.eclipse.digitaltwin.basyx.submodelservice.value.mapper;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 import org.eclipse.digitaltwin.aas4j.v3.model.AnnotatedRelationshipElement;
 import org.eclipse.digitaltwin.aas4j.v3.model.DataElement;
 import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
 import org.eclipse.digitaltwin.basyx.submodelservice.value.AnnotatedRelationshipElementValue;
 import org.eclipse.digitaltwin.basyx.submodelservice.value.ReferenceValue;
-import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelElementValue;
 import org.eclipse.digitaltwin.basyx.submodelservice.value.ValueOnly;
-import org.eclipse.digitaltwin.basyx.submodelservice.value.factory.SubmodelElementValueMapperFactory;
 
 /**
  * Maps {@link AnnotatedRelationshipElement} value to {@link AnnotatedRelationshipElementValue}
@@ -64,17 +61,11 @@ public class AnnotatedRelationshipElementValueMapper implements ValueMapper<Anno
 	}
 	
 	private void setDataElementValue(List<DataElement> annotations, List<ValueOnly> valueOnlies) {
-		annotations.stream().forEach(annotation -> setValue(annotation, valueOnlies));
-	}
-	
-	private void setValue(DataElement dataElement, List<ValueOnly> valueOnlies) {
-		ValueMapper<SubmodelElementValue> valueMapper = new SubmodelElementValueMapperFactory().create(dataElement);
-		
-		valueMapper.setValue(ValueMapperUtil.getSubmodelElementValue(dataElement, valueOnlies));
+		ValueMapperUtil.setValueOfSubmodelElementWithValueOnly(annotations, valueOnlies);
 	}
 
 	private List<ValueOnly> createValueOnly(List<DataElement> annotations) {
-		return annotations.stream().map(ValueMapperUtil::toValueOnly).collect(Collectors.toList());
+		return ValueMapperUtil.createValueOnlyCollection(annotations);
 	}
 
 	private void setReferenceValue(Reference reference, ReferenceValue referenceValue) {
@@ -30,14 +30,17 @@ import java.nio.charset.StandardCharsets;
 
 import org.eclipse.digitaltwin.aas4j.v3.model.Blob;
 import org.eclipse.digitaltwin.basyx.submodelservice.value.FileBlobValue;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.RawBlobValue;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelElementValue;
 
 /**
- * Maps {@link Blob} value to {@link FileBlobValue} 
+ * Maps {@link Blob} value to {@link FileBlobValue}. Both FileBlobValues and
+ * {@link RawBlobValue}s can be set.
  * 
  * @author danish
  *
  */
-public class BlobValueMapper implements ValueMapper<FileBlobValue> {
+public class BlobValueMapper implements ValueMapper<SubmodelElementValue> {
 	private Blob blob;
 	
 	public BlobValueMapper(Blob blob) {
@@ -50,7 +53,15 @@ public class BlobValueMapper implements ValueMapper<FileBlobValue> {
 	}
 
 	@Override
-	public void setValue(FileBlobValue fileValue) {
+	public void setValue(SubmodelElementValue value) {
+		if (value instanceof RawBlobValue) {
+			RawBlobValue rawValue = (RawBlobValue) value;
+			blob.setContentType(rawValue.getContentType());
+			blob.setValue(rawValue.getContent());
+			return;
+		}
+
+		FileBlobValue fileValue = (FileBlobValue) value;
 		blob.setContentType(fileValue.getContentType());
 		blob.setValue(getEncodedByteArray(fileValue.getValue()));
 	}
@@ -0,0 +1,125 @@
+/*******************************************************************************
+ * Copyright (C) 2023 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.submodelservice.value.mapper;
+
+import java.nio.charset.StandardCharsets;
+
+import org.eclipse.digitaltwin.aas4j.v3.model.Blob;
+import org.eclipse.digitaltwin.aas4j.v3.model.Property;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.PropertyValue;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.RawBlobValue;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelElementValue;
+
+/**
+ * Helper class for the raw representation of values, i.e., the unencoded
+ * content of {@link Blob}s and the plain text of {@link Property} values
+ * 
+ * @author schnicke
+ *
+ */
+public class RawValueUtil {
+	public static final String OCTET_STREAM = "application/octet-stream";
+	public static final String TEXT_PLAIN = "text/plain;charset=UTF-8";
+
+	private RawValueUtil() {
+	}
+
+	/**
+	 * Returns the raw value of the SubmodelElement. The content of a Blob is
+	 * returned as it is, without being copied.
+	 * 
+	 * @param submodelElement
+	 * @return the raw value or an empty array, if no value is set
+	 * @throws IllegalArgumentException
+	 *             if the SubmodelElement is neither a Blob nor a Property
+	 */
+	public static byte[] getRawValue(SubmodelElement submodelElement) {
+		if (submodelElement instanceof Blob) {
+			byte[] content = ((Blob) submodelElement).getValue();
+			return content == null ? new byte[0] : content;
+		}
+
+		String value = getProperty(submodelElement).getValue();
+		return value == null ? new byte[0] : value.getBytes(StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Returns the content type of the raw value of the SubmodelElement
+	 * 
+	 * @param submodelElement
+	 * @return the content type of a Blob, application/octet-stream if it has
+	 *         none, or text/plain for Properties
+	 * @throws IllegalArgumentException
+	 *             if the SubmodelElement is neither a Blob nor a Property
+	 */
+	public static String getRawContentType(SubmodelElement submodelElement) {
+		if (submodelElement instanceof Blob) {
+			String contentType = ((Blob) submodelElement).getContentType();
+			return contentType == null || contentType.isEmpty() ? OCTET_STREAM : contentType;
+		}
+
+		getProperty(submodelElement);
+		return TEXT_PLAIN;
+	}
+
+	/**
+	 * Creates the value setting the raw value for the SubmodelElement. Raw
+	 * values of Properties are decoded as UTF-8. The content type of a Blob is
+	 * only changed if a specific content type is passed, i.e., neither null nor
+	 * application/octet-stream.
+	 * 
+	 * @param submodelElement
+	 *            the SubmodelElement the value is created for
+	 * @param rawValue
+	 * @param contentType
+	 *            the content type of the raw value, may be null
+	 * @return the value
+	 * @throws IllegalArgumentException
+	 *             if the SubmodelElement is neither a Blob nor a Property
+	 */
+	public static SubmodelElementValue createValue(SubmodelElement submodelElement, byte[] rawValue, String contentType) {
+		if (submodelElement instanceof Blob)
+			return new RawBlobValue(getBlobContentType((Blob) submodelElement, contentType), rawValue);
+
+		getProperty(submodelElement);
+		return new PropertyValue(new String(rawValue, StandardCharsets.UTF_8));
+	}
+
+	private static String getBlobContentType(Blob blob, String contentType) {
+		if (contentType == null || contentType.startsWith(OCTET_STREAM))
+			return blob.getContentType();
+
+		return contentType;
+	}
+
+	private static Property getProperty(SubmodelElement submodelElement) {
+		if (!(submodelElement instanceof Property))
+			throw new IllegalArgumentException("The raw value is only supported for Blobs and Properties, but " + submodelElement.getIdShort() + " is neither");
+
+		return (Property) submodelElement;
+	}
+}
@@ -25,7 +25,10 @@
 
 package org.eclipse.digitaltwin.basyx.submodelservice.value.mapper;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -81,6 +84,15 @@ public class ValueMapperUtil {
             Map.entry(SubmodelElementList.class, SubmodelElementListValue.class)
     );
 
+	private static final ClassValue<List<Class<? extends SubmodelElementValue>>> VALUE_TYPES = new ClassValue<>() {
+		@Override
+		protected List<Class<? extends SubmodelElementValue>> computeValue(Class<?> submodelElementType) {
+			return SUBMODEL_ELEMENT_VALUE_MAP.entrySet().stream().filter(pair -> pair.getKey().isAssignableFrom(submodelElementType)).map(Map.Entry::getValue).collect(Collectors.toList());
+		}
+	};
+
+	private static final SubmodelElementValueMapperFactory VALUE_MAPPER_FACTORY = new SubmodelElementValueMapperFactory();
+
 	private ValueMapperUtil() {
 		throw new IllegalStateException("Utility class");
 	}
@@ -94,7 +106,7 @@ public class ValueMapperUtil {
 	 */
 	public static ValueOnly toValueOnly(SubmodelElement submodelElement) {
 		String idShort = submodelElement.getIdShort();
-		SubmodelElementValue submodelElementValue = new SubmodelElementValueMapperFactory().create(submodelElement)
+		SubmodelElementValue submodelElementValue = VALUE_MAPPER_FACTORY.create(submodelElement)
 				.getValue();
 
 		return new ValueOnly(idShort, submodelElementValue);
@@ -112,8 +124,8 @@ public class ValueMapperUtil {
 	 */
 	public static SubmodelElementValue getSubmodelElementValue(SubmodelElement submodelElement,
 			List<ValueOnly> valueOnlies) {
-		Optional<ValueOnly> optionalValueOnly = valueOnlies.stream().parallel()
-				.filter(filterMatchingValueOnly(submodelElement)).findAny();
+		Optional<ValueOnly> optionalValueOnly = valueOnlies.stream()
+				.filter(filterMatchingValueOnly(submodelElement)).findFirst();
 
 		if (!optionalValueOnly.isPresent())
 			throw new SubmodelElementValueNotFoundException(submodelElement.getIdShort());
@@ -128,30 +140,55 @@ public class ValueMapperUtil {
 	 * @return List<ValueOnly>       the created collection of value only
 	 * 
 	 */
-	public static List<ValueOnly> createValueOnlyCollection(Collection<SubmodelElement> submodelElements) {
+	public static List<ValueOnly> createValueOnlyCollection(Collection<? extends SubmodelElement> submodelElements) {
 		return submodelElements.stream().map(ValueMapperUtil::toValueOnly).collect(Collectors.toList());
 	}
 		
 	/**
-	 * Updates the value of {@link SubmodelElement} with its corresponding {@link ValueOnly}
+	 * Updates the value of {@link SubmodelElement} with its corresponding
+	 * {@link ValueOnly}, i.e., the ValueOnly having the same idShort. The values
+	 * are set only if there is a ValueOnly for each submodel element.
 	 * 
 	 * @param submodelElements       collection of submodel elements
 	 * @param valueOnlies            list of value onlies
 	 * 
+	 * @throws SubmodelElementValueNotFoundException
 	 */
-	public static void setValueOfSubmodelElementWithValueOnly(Collection<SubmodelElement> submodelElements, List<ValueOnly> valueOnlies) {
-		submodelElements.stream().forEach(submodelElement -> setValue(submodelElement, ValueMapperUtil.getSubmodelElementValue(submodelElement, valueOnlies)));
+	public static void setValueOfSubmodelElementWithValueOnly(Collection<? extends SubmodelElement> submodelElements, List<ValueOnly> valueOnlies) {
+		Map<String, SubmodelElementValue> valuesByIdShort = indexByIdShort(valueOnlies);
+
+		List<SubmodelElementValue> values = new ArrayList<>(submodelElements.size());
+		for (SubmodelElement submodelElement : submodelElements) {
+			SubmodelElementValue value = valuesByIdShort.get(submodelElement.getIdShort());
+			if (value == null)
+				throw new SubmodelElementValueNotFoundException(submodelElement.getIdShort());
+
+			values.add(value);
+		}
+
+		setValues(submodelElements, values);
 	}
 	
 	/**
-	 * Updates the value of {@link SubmodelElement} with its corresponding {@link SubmodelElementValue}
+	 * Updates the value of {@link SubmodelElement} with its corresponding
+	 * {@link SubmodelElementValue}, i.e., the SubmodelElementValue at the same
+	 * position. The values are set only if each submodel element has a value of
+	 * the matching type.
 	 * 
 	 * @param submodelElements          list of submodel elements
 	 * @param submodelElementValues     list of submodel element values
 	 * 
+	 * @throws SubmodelElementValueNotFoundException
 	 */
 	public static void setValueOfSubmodelElementWithSubmodelElementValue(List<SubmodelElement> submodelElements, List<SubmodelElementValue> submodelElementValues) {
-		submodelElements.stream().forEach(submodelElement -> setSubmodelElementValue(submodelElement, submodelElementValues));
+		for (int i = 0; i < submodelElements.size(); i++) {
+			SubmodelElement submodelElement = submodelElements.get(i);
+
+			if (i >= submodelElementValues.size() || !isRelatedToSubmodelElement(submodelElement, submodelElementValues.get(i)))
+				throw new SubmodelElementValueNotFoundException(submodelElement.getIdShort());
+		}
+
+		setValues(submodelElements, submodelElementValues);
 	}
 	
 	/**
@@ -165,19 +202,29 @@ public class ValueMapperUtil {
 		return submodelElements.stream().map(ValueMapperUtil::toSubmodelElementValue).collect(Collectors.toList());	
 	}
 
-	private static void setSubmodelElementValue(SubmodelElement submodelElement,
-			List<SubmodelElementValue> submodelElementValues) {
-		Optional<SubmodelElementValue> optionalSubmodelElementValue = submodelElementValues.stream().parallel().filter(submodelElementValue -> isRelatedToSubmodelElement(submodelElement, submodelElementValue)).findAny();
-		
-		if (!optionalSubmodelElementValue.isPresent())
-			throw new SubmodelElementValueNotFoundException(submodelElement.getIdShort());
+	private static Map<String, SubmodelElementValue> indexByIdShort(List<ValueOnly> valueOnlies) {
+		Map<String, SubmodelElementValue> valuesByIdShort = new HashMap<>(valueOnlies.size() * 4 / 3 + 1);
+
+		for (ValueOnly valueOnly : valueOnlies)
+			valuesByIdShort.putIfAbsent(valueOnly.getIdShort(), valueOnly.getSubmodelElementValue());
 
-		setValue(submodelElement, optionalSubmodelElementValue.get());
+		return valuesByIdShort;
+	}
+
+	private static void setValues(Collection<? extends SubmodelElement> submodelElements, List<SubmodelElementValue> values) {
+		Iterator<SubmodelElementValue> valueIterator = values.iterator();
+
+		for (SubmodelElement submodelElement : submodelElements)
+			setValue(submodelElement, valueIterator.next());
 	}
 	
 	private static boolean isRelatedToSubmodelElement(SubmodelElement submodelElement, SubmodelElementValue submodelElementValue) {
-	    return SUBMODEL_ELEMENT_VALUE_MAP.entrySet().stream()
-	            .anyMatch(pair -> pair.getKey().isInstance(submodelElement) && pair.getValue().isInstance(submodelElementValue));
+		for (Class<? extends SubmodelElementValue> valueType : VALUE_TYPES.get(submodelElement.getClass())) {
+			if (valueType.isInstance(submodelElementValue))
+				return true;
+		}
+
+		return false;
 	}
 
 	private static void setValue(SubmodelElement submodelElement, SubmodelElementValue submodelElementValue) {
@@ -197,7 +244,7 @@ public class ValueMapperUtil {
 	}
 	
 	private static ValueMapper<SubmodelElementValue> getValueMapper(SubmodelElement submodelElement) {
-		return new SubmodelElementValueMapperFactory().create(submodelElement);
+		return VALUE_MAPPER_FACTORY.create(submodelElement);
 	}
 
 }
@@ -0,0 +1,105 @@
+/*******************************************************************************
+ * Copyright (C) 2023 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+
+package org.eclipse.digitaltwin.basyx.deserialization;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.digitaltwin.basyx.deserialization.factory.SubmodelElementValueDeserializationFactory;
+import org.eclipse.digitaltwin.basyx.submodelservice.ValueOnlyMapperTestUtils;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelElementCollectionValue;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelElementValue;
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Compares the streaming {@link SubmodelElementValueJsonDeserializer} with the
+ * tree based {@link SubmodelElementValueDeserializationFactory} on a
+ * SubmodelElementCollection value with 10k elements.<br>
+ * <br>
+ * Not part of the regular build, run it explicitly using
+ * <code>mvn test -Dtest=SubmodelElementValueDeserializationBenchmark</code>
+ * 
+ * @author schnicke
+ *
+ */
+public class SubmodelElementValueDeserializationBenchmark {
+	private static final int ELEMENT_COUNT = 10_000;
+	private static final int WARMUP_ITERATIONS = 20;
+	private static final int MEASURED_ITERATIONS = 50;
+
+	private ObjectMapper mapper = ValueOnlyMapperTestUtils.createMapper();
+
+	@Test
+	public void deserializeLargeSubmodelElementCollectionValue() throws IOException {
+		String json = createCollectionValue();
+
+		long treeBased = measure(() -> new SubmodelElementValueDeserializationFactory().create(mapper, mapper.readTree(json)));
+		long streamed = measure(() -> mapper.readValue(json, SubmodelElementValue.class));
+
+		System.out.println("Tree based deserialization: " + TimeUnit.NANOSECONDS.toMicros(treeBased) + " us/op");
+		System.out.println("Streaming deserialization:  " + TimeUnit.NANOSECONDS.toMicros(streamed) + " us/op");
+	}
+
+	private long measure(Deserialization deserialization) throws IOException {
+		for (int i = 0; i < WARMUP_ITERATIONS; i++)
+			assertSize(deserialization.deserialize());
+
+		long start = System.nanoTime();
+		for (int i = 0; i < MEASURED_ITERATIONS; i++)
+			assertSize(deserialization.deserialize());
+
+		return (System.nanoTime() - start) / MEASURED_ITERATIONS;
+	}
+
+	private static void assertSize(SubmodelElementValue value) {
+		assertEquals(ELEMENT_COUNT, ((SubmodelElementCollectionValue) value).getValue().size());
+	}
+
+	private static String createCollectionValue() {
+		StringBuilder builder = new StringBuilder("[");
+
+		for (int i = 0; i < ELEMENT_COUNT; i++) {
+			if (i > 0)
+				builder.append(',');
+
+			if (i % 2 == 0)
+				builder.append("{\"property").append(i).append("\": \"").append(i).append("\"}");
+			else
+				builder.append("{\"range").append(i).append("\": {\"min\": ").append(i).append(", \"max\": ").append(i + 1).append("}}");
+		}
+
+		return builder.append(']').toString();
+	}
+
+	private interface Deserialization {
+		SubmodelElementValue deserialize() throws IOException;
+	}
+}
@@ -0,0 +1,136 @@
+/*******************************************************************************
+ * Copyright (C) 2023 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+
+package org.eclipse.digitaltwin.basyx.deserialization;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+
+import org.eclipse.digitaltwin.basyx.deserialization.exception.SubmodelElementValueDeserializationException;
+import org.eclipse.digitaltwin.basyx.deserialization.factory.SubmodelElementValueDeserializationFactory;
+import org.eclipse.digitaltwin.basyx.submodelservice.ValueOnlyMapperTestUtils;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.MultiLanguagePropertyValue;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.PropertyValue;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.RangeValue;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.ReferenceElementValue;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelElementCollectionValue;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelElementListValue;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelElementValue;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.ValueOnly;
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Tests the streaming {@link SubmodelElementValueJsonDeserializer} against the
+ * tree based {@link SubmodelElementValueDeserializationFactory}
+ * 
+ * @author schnicke
+ *
+ */
+public class TestSubmodelElementValueJsonDeserializer {
+	private static final String RANGE = "{\"min\": 200, \"max\": 300}";
+	private static final String FILE_BLOB = "{\"contentType\": \"application/pdf\", \"value\": \"file.pdf\"}";
+	private static final String REFERENCE = "{\"type\": \"ExternalReference\", \"keys\": [{\"type\": \"GlobalReference\", \"value\": \"ref\"}]}";
+	private static final String RELATIONSHIP = "{\"first\": " + REFERENCE + ", \"second\": " + REFERENCE + "}";
+	private static final String ANNOTATED_RELATIONSHIP = "{\"first\": " + REFERENCE + ", \"second\": " + REFERENCE + ", \"annotation\": [{\"annotationProperty\": \"annotation\"}]}";
+	private static final String ENTITY = "{\"statements\": [{\"speed\": \"5000\"}, {\"range\": " + RANGE + "}], \"entityType\": \"CoManagedEntity\", \"globalAssetId\": \"globalAssetId\", \"specificAssetIds\": [{\"name\": \"value\"}]}";
+	private static final String MULTI_LANGUAGE_PROPERTY = "[{\"en\": \"Hello\"}, {\"de\": \"Hallo\"}]";
+	private static final String COLLECTION = "[{\"property\": \"5\"}, {\"range\": " + RANGE + "}, {\"file\": " + FILE_BLOB + "}, {\"entity\": " + ENTITY + "}, {\"relationship\": " + RELATIONSHIP + "}, {\"annotated\": " + ANNOTATED_RELATIONSHIP
+			+ "}, {\"reference\": " + REFERENCE + "}, {\"mlp\": " + MULTI_LANGUAGE_PROPERTY + "}, {\"list\": [" + RANGE + "]}, {\"value\": [{\"type\": \"3\"}, {\"min\": " + RANGE + "}]}]";
+	private static final String LIST = "[" + RANGE + ", " + RANGE + "]";
+
+	private ObjectMapper mapper = ValueOnlyMapperTestUtils.createMapper();
+
+	@Test
+	public void propertyValue() throws IOException {
+		assertDeserializedAsTreeBasedDeserialization("\"5\"", PropertyValue.class);
+	}
+
+	@Test
+	public void shapedValues() throws IOException {
+		assertDeserializedAsTreeBasedDeserialization(RANGE, RangeValue.class);
+		assertDeserializedAsTreeBasedDeserialization(REFERENCE, ReferenceElementValue.class);
+		assertDeserializedAsTreeBasedDeserialization(FILE_BLOB, null);
+		assertDeserializedAsTreeBasedDeserialization(RELATIONSHIP, null);
+		assertDeserializedAsTreeBasedDeserialization(ANNOTATED_RELATIONSHIP, null);
+		assertDeserializedAsTreeBasedDeserialization(ENTITY, null);
+	}
+
+	@Test
+	public void multiLanguagePropertyValue() throws IOException {
+		assertDeserializedAsTreeBasedDeserialization(MULTI_LANGUAGE_PROPERTY, MultiLanguagePropertyValue.class);
+	}
+
+	@Test
+	public void submodelElementCollectionValue() throws IOException {
+		assertDeserializedAsTreeBasedDeserialization(COLLECTION, SubmodelElementCollectionValue.class);
+	}
+
+	@Test
+	public void submodelElementListValue() throws IOException {
+		assertDeserializedAsTreeBasedDeserialization(LIST, SubmodelElementListValue.class);
+	}
+
+	@Test
+	public void nestedListOfPropertyValues() throws IOException {
+		SubmodelElementCollectionValue collection = (SubmodelElementCollectionValue) mapper.readValue("[{\"list\": [\"1\", \"2\"]}]", SubmodelElementValue.class);
+		SubmodelElementListValue list = (SubmodelElementListValue) collection.getValue().get(0).getSubmodelElementValue();
+
+		assertEquals("2", ((PropertyValue) list.getSubmodelElementValues().get(1)).getValue());
+	}
+
+	@Test
+	public void valueOnly() throws IOException {
+		ValueOnly valueOnly = mapper.readValue("{\"range\": " + RANGE + "}", ValueOnly.class);
+
+		assertEquals("range", valueOnly.getIdShort());
+		assertEquals(300, ((RangeValue) valueOnly.getSubmodelElementValue()).getMax());
+	}
+
+	@Test(expected = SubmodelElementValueDeserializationException.class)
+	public void invalidValue() throws IOException {
+		mapper.readValue("{\"min\": 200, \"unknown\": 300}", SubmodelElementValue.class);
+	}
+
+	@Test(expected = SubmodelElementValueDeserializationException.class)
+	public void mixedArray() throws IOException {
+		mapper.readValue("[{\"property\": \"5\"}, " + RANGE + "]", SubmodelElementValue.class);
+	}
+
+	private void assertDeserializedAsTreeBasedDeserialization(String json, Class<? extends SubmodelElementValue> expectedType) throws IOException {
+		SubmodelElementValue streamed = mapper.readValue(json, SubmodelElementValue.class);
+		SubmodelElementValue treeBased = new SubmodelElementValueDeserializationFactory().create(mapper, mapper.readTree(json));
+
+		if (expectedType != null)
+			assertTrue(expectedType.isInstance(streamed));
+
+		assertEquals(treeBased.getClass(), streamed.getClass());
+		assertEquals(mapper.readTree(mapper.writeValueAsString(treeBased)), mapper.readTree(mapper.writeValueAsString(streamed)));
+	}
+}
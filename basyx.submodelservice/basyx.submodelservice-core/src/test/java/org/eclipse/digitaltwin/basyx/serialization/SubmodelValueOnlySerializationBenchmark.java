@@ -0,0 +1,99 @@
+/*******************************************************************************
+ * Copyright (C) 2023 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+
+package org.eclipse.digitaltwin.basyx.serialization;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultProperty;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodelElementCollection;
+import org.eclipse.digitaltwin.basyx.submodelservice.ValueOnlyMapperTestUtils;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelValueOnly;
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.management.ThreadMXBean;
+
+/**
+ * Compares the memory allocated while serializing the ValueOnly representation
+ * of a large Submodel by streaming it with the
+ * {@link SubmodelValueOnlySerializer} and by serializing the mapped
+ * SubmodelElementValues.<br>
+ * <br>
+ * Not part of the regular build, run it explicitly using
+ * <code>mvn test -Dtest=SubmodelValueOnlySerializationBenchmark</code>
+ * 
+ * @author schnicke
+ *
+ */
+public class SubmodelValueOnlySerializationBenchmark {
+	private static final int COLLECTION_COUNT = 1_000;
+	private static final int PROPERTIES_PER_COLLECTION = 500;
+	private static final int ITERATIONS = 5;
+
+	private ObjectMapper mapper = ValueOnlyMapperTestUtils.createMapper();
+	private ThreadMXBean threadBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+	@Test
+	public void serializeLargeSubmodel() throws IOException {
+		List<SubmodelElement> submodelElements = createSubmodelElements();
+
+		for (int i = 0; i < ITERATIONS; i++) {
+			long streamed = measureAllocatedBytes(() -> mapper.writeValue(OutputStream.nullOutputStream(), new SubmodelValueOnly(submodelElements)));
+			long mapped = measureAllocatedBytes(() -> mapper.writeValue(OutputStream.nullOutputStream(), new SubmodelValueOnly(submodelElements).getValuesOnlyMap()));
+
+			System.out.println("streamed: " + streamed / 1024 + " KiB/op, mapped: " + mapped / 1024 + " KiB/op");
+		}
+	}
+
+	private long measureAllocatedBytes(Serialization serialization) throws IOException {
+		long threadId = Thread.currentThread().getId();
+		long before = threadBean.getThreadAllocatedBytes(threadId);
+		serialization.serialize();
+		return threadBean.getThreadAllocatedBytes(threadId) - before;
+	}
+
+	private static List<SubmodelElement> createSubmodelElements() {
+		List<SubmodelElement> collections = new ArrayList<>(COLLECTION_COUNT);
+		for (int i = 0; i < COLLECTION_COUNT; i++) {
+			List<SubmodelElement> properties = new ArrayList<>(PROPERTIES_PER_COLLECTION);
+			for (int j = 0; j < PROPERTIES_PER_COLLECTION; j++)
+				properties.add(new DefaultProperty.Builder().idShort("property" + j).value(String.valueOf(i * j)).build());
+
+			collections.add(new DefaultSubmodelElementCollection.Builder().idShort("collection" + i).value(properties).build());
+		}
+		return collections;
+	}
+
+	private interface Serialization {
+		void serialize() throws IOException;
+	}
+}
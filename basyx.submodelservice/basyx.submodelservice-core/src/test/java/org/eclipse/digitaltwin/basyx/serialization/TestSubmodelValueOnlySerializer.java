@@ -0,0 +1,109 @@
+/*******************************************************************************
+ * Copyright (C) 2023 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+
+package org.eclipse.digitaltwin.basyx.serialization;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultBlob;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultEntity;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultFile;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultReference;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultReferenceElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultRelationshipElement;
+import org.eclipse.digitaltwin.basyx.submodelservice.SubmodelServiceHelper;
+import org.eclipse.digitaltwin.basyx.submodelservice.ValueOnlyMapperTestUtils;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelValueOnly;
+import org.junit.Test;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Tests that the streaming {@link SubmodelValueOnlySerializer} writes the same
+ * JSON as serializing the mapped SubmodelElementValues, which has been the
+ * serialization before
+ * 
+ * @author schnicke
+ *
+ */
+public class TestSubmodelValueOnlySerializer {
+
+	private ObjectMapper mapper = ValueOnlyMapperTestUtils.createMapper();
+	private ObjectMapper nullIncludingMapper = ValueOnlyMapperTestUtils.createMapper().setSerializationInclusion(JsonInclude.Include.ALWAYS);
+
+	@Test
+	public void sameSerializationAsMappedValues() throws JsonProcessingException {
+		for (SubmodelElement submodelElement : SubmodelServiceHelper.getAllSubmodelElements())
+			assertSameSerializationAsMappedValues(Collections.singletonList(submodelElement));
+	}
+
+	@Test
+	public void sameSerializationAsMappedValuesForAllSubmodelElements() throws JsonProcessingException {
+		assertSameSerializationAsMappedValues(SubmodelServiceHelper.getAllSubmodelElements());
+	}
+
+	@Test
+	public void sameSerializationAsMappedValuesWithNullFields() throws JsonProcessingException {
+		for (SubmodelElement submodelElement : createSubmodelElementsWithNullFields()) {
+			assertSameSerializationAsMappedValues(Collections.singletonList(submodelElement));
+			assertSameSerializationAsMappedValues(nullIncludingMapper, Collections.singletonList(submodelElement));
+		}
+	}
+
+	@Test
+	public void entityWithoutGlobalAssetId() throws JsonProcessingException {
+		SubmodelValueOnly submodelValueOnly = new SubmodelValueOnly(Collections.singletonList(new DefaultEntity.Builder().idShort("entity").build()));
+
+		assertEquals("{\"entity\":{\"statements\":[],\"specificAssetIds\":[]}}", mapper.writeValueAsString(submodelValueOnly));
+		assertEquals("{\"entity\":{\"statements\":[],\"entityType\":null,\"globalAssetId\":null,\"specificAssetIds\":[]}}", nullIncludingMapper.writeValueAsString(submodelValueOnly));
+	}
+
+	private void assertSameSerializationAsMappedValues(List<SubmodelElement> submodelElements) throws JsonProcessingException {
+		assertSameSerializationAsMappedValues(mapper, submodelElements);
+	}
+
+	private static void assertSameSerializationAsMappedValues(ObjectMapper mapper, List<SubmodelElement> submodelElements) throws JsonProcessingException {
+		SubmodelValueOnly submodelValueOnly = new SubmodelValueOnly(submodelElements);
+
+		String expected = mapper.writeValueAsString(submodelValueOnly.getValuesOnlyMap());
+		String actual = mapper.writeValueAsString(submodelValueOnly);
+
+		assertEquals(mapper.readTree(expected), mapper.readTree(actual));
+	}
+
+	private static List<SubmodelElement> createSubmodelElementsWithNullFields() {
+		return Arrays.asList(new DefaultFile.Builder().idShort("file").build(), new DefaultBlob.Builder().idShort("blob").value(new byte[0]).build(), new DefaultEntity.Builder().idShort("entity").build(),
+				new DefaultReferenceElement.Builder().idShort("referenceElement").value(new DefaultReference.Builder().build()).build(),
+				new DefaultRelationshipElement.Builder().idShort("relationshipElement").first(new DefaultReference.Builder().build()).second(new DefaultReference.Builder().build()).build());
+	}
+}
@@ -0,0 +1,88 @@
+/*******************************************************************************
+ * Copyright (C) 2023 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.submodelservice;
+
+import static org.junit.Assert.assertEquals;
+
+import java.lang.management.ManagementFactory;
+
+import org.eclipse.digitaltwin.basyx.submodelservice.pathparsing.SubmodelElementIdShortPathParser;
+import org.junit.Test;
+
+import com.sun.management.ThreadMXBean;
+
+/**
+ * Measures the time and the bytes allocated by parsing idShortPaths, once for
+ * a small set of repeatedly requested paths served by the cache and once for
+ * distinct paths that are tokenized on every request.<br>
+ * <br>
+ * Not part of the regular build, run it explicitly using
+ * <code>mvn test -Dtest=SubmodelElementIdShortPathParserBenchmark</code>
+ * 
+ * @author agent
+ *
+ */
+public class SubmodelElementIdShortPathParserBenchmark {
+	private static final String PATH_TEMPLATE = "collection%d.list[%d].entity.property";
+	private static final int CACHED_PATH_COUNT = 100;
+	private static final int DISTINCT_PATH_COUNT = 100_000;
+	private static final int WARMUP_ITERATIONS = 1_000_000;
+	private static final int MEASURED_ITERATIONS = 1_000_000;
+
+	private final SubmodelElementIdShortPathParser parser = new SubmodelElementIdShortPathParser();
+
+	@Test
+	public void parseIdShortPaths() {
+		ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+		for (int pathCount : new int[] { CACHED_PATH_COUNT, DISTINCT_PATH_COUNT }) {
+			String[] paths = createPaths(pathCount);
+
+			for (int i = 0; i < WARMUP_ITERATIONS; i++)
+				parser.parse(paths[i % pathCount]);
+
+			long tokens = 0;
+			long allocatedBefore = threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+			long start = System.nanoTime();
+			for (int i = 0; i < MEASURED_ITERATIONS; i++)
+				tokens += parser.parse(paths[i % pathCount]).size();
+			long nanosPerOperation = (System.nanoTime() - start) / MEASURED_ITERATIONS;
+			long bytesPerOperation = (threads.getThreadAllocatedBytes(Thread.currentThread().getId()) - allocatedBefore) / MEASURED_ITERATIONS;
+
+			assertEquals(5L * MEASURED_ITERATIONS, tokens);
+
+			System.out.println(pathCount + " distinct paths: " + nanosPerOperation + " ns/op, " + bytesPerOperation + " bytes/op");
+		}
+	}
+
+	private static String[] createPaths(int pathCount) {
+		String[] paths = new String[pathCount];
+		for (int i = 0; i < pathCount; i++)
+			paths[i] = String.format(PATH_TEMPLATE, i, i % 10);
+
+		return paths;
+	}
+}
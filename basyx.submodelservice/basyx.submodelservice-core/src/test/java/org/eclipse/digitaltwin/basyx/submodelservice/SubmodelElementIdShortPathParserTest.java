@@ -25,11 +25,17 @@
 package org.eclipse.digitaltwin.basyx.submodelservice;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 import java.util.Stack;
 
 import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
+import org.eclipse.digitaltwin.basyx.submodelservice.pathparsing.IdShortPath;
+import org.eclipse.digitaltwin.basyx.submodelservice.pathparsing.ListIndexPathToken;
 import org.eclipse.digitaltwin.basyx.submodelservice.pathparsing.PathToken;
+import org.eclipse.digitaltwin.basyx.submodelservice.pathparsing.SubmodelElementIdShortHelper;
 import org.eclipse.digitaltwin.basyx.submodelservice.pathparsing.SubmodelElementIdShortPathParser;
 import org.junit.Test;
 
@@ -78,4 +84,48 @@ public class SubmodelElementIdShortPathParserTest {
 		Stack<PathToken> tokenStack = pathParser.parsePathTokens(ID_SHORT_WITH_SPECIAL_CHARACTERS);
 		assertEquals(ID_SHORT_WITH_SPECIAL_CHARACTERS, tokenStack.pop().getToken());
 	}
-}
\ No newline at end of file
+
+	@Test
+	public void parsedPathIsCached() {
+		IdShortPath first = new SubmodelElementIdShortPathParser().parse(ID_SHORT_PATH);
+		IdShortPath second = new SubmodelElementIdShortPathParser().parse(ID_SHORT_PATH);
+
+		assertSame(first, second);
+		assertEquals(5, first.size());
+		assertEquals(INDEX_TWO, ((ListIndexPathToken) first.getToken(3)).getIndex());
+	}
+
+	@Test
+	public void recentlyParsedPathStaysCached() {
+		SubmodelElementIdShortPathParser parser = new SubmodelElementIdShortPathParser();
+		IdShortPath first = parser.parse(ID_SHORT_PATH);
+
+		for (int i = 0; i < 10_000; i++) {
+			parser.parse(ID_SHORT_PATH_FIRST_PART + i);
+			assertSame(first, parser.parse(ID_SHORT_PATH));
+		}
+	}
+
+	@Test
+	public void parentPathIsExtracted() {
+		SubmodelElementIdShortHelper helper = new SubmodelElementIdShortHelper();
+
+		assertEquals(ID_SHORT_PATH_FIRST_PART + "." + ID_SHORT_PATH_SECOND_PART, helper.extractDirectParentSubmodelElementCollectionIdShort(ID_SHORT_PATH));
+		assertFalse(helper.isDirectParentASubmodelElementList(ID_SHORT_PATH));
+
+		String listElementPath = ID_SHORT_PATH_FIRST_PART + "." + ID_SHORT_PATH_SECOND_PART;
+		assertEquals(ID_SHORT_PATH_FIRST_PART + "." + ID_SHORT_PATH_SECOND_PART_ID_SHORT + "[" + INDEX_ONE + "]", helper.extractDirectParentSubmodelElementListIdShort(listElementPath));
+		assertTrue(helper.isDirectParentASubmodelElementList(listElementPath));
+		assertFalse(helper.isNestedIdShortPath(ID_SHORT_PATH_FIRST_PART));
+	}
+
+	@Test(expected = ElementDoesNotExistException.class)
+	public void emptyIdShortThrowsError() {
+		new SubmodelElementIdShortPathParser().parse("test..hello");
+	}
+
+	@Test(expected = ElementDoesNotExistException.class)
+	public void invalidCharacterAfterIndexThrowsError() {
+		new SubmodelElementIdShortPathParser().parse("test[0]hello");
+	}
+}
@@ -31,7 +31,9 @@ import static org.junit.Assert.fail;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.digitaltwin.aas4j.v3.model.DataTypeDefXSD;
 import org.eclipse.digitaltwin.aas4j.v3.model.Entity;
@@ -57,6 +59,7 @@ import org.eclipse.digitaltwin.basyx.submodelservice.value.FileBlobValue;
 import org.eclipse.digitaltwin.basyx.submodelservice.value.MultiLanguagePropertyValue;
 import org.eclipse.digitaltwin.basyx.submodelservice.value.PropertyValue;
 import org.eclipse.digitaltwin.basyx.submodelservice.value.RangeValue;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelElementValue;
 import org.junit.Test;
 
 /**
@@ -247,6 +250,73 @@ public abstract class SubmodelServiceSuite {
 		getSubmodelService(technicalData).setSubmodelElementValue("nonExisting", submodelElementValue);
 	}
 
+	@Test
+	public void getSubmodelElementValues() {
+		Submodel technicalData = DummySubmodelFactory.createTechnicalDataSubmodel();
+		List<String> idShortPaths = Arrays.asList(SubmodelServiceHelper.SUBMODEL_TECHNICAL_DATA_RANGE_ID_SHORT, SubmodelServiceHelper.SUBMODEL_TECHNICAL_DATA_PROPERTY_ID_SHORT);
+
+		Map<String, SubmodelElementValue> values = getSubmodelService(technicalData).getSubmodelElementValues(idShortPaths);
+
+		assertEquals(idShortPaths, new ArrayList<>(values.keySet()));
+		assertEquals(SubmodelServiceHelper.SUBMODEL_TECHNICAL_DATA_PROPERTY_VALUE, ((PropertyValue) values.get(SubmodelServiceHelper.SUBMODEL_TECHNICAL_DATA_PROPERTY_ID_SHORT)).getValue());
+		assertEquals(SubmodelServiceHelper.SUBMODEL_TECHNICAL_DATA_RANGE_MIN_VALUE, String.valueOf(((RangeValue) values.get(SubmodelServiceHelper.SUBMODEL_TECHNICAL_DATA_RANGE_ID_SHORT)).getMin()));
+	}
+
+	@Test(expected = ElementDoesNotExistException.class)
+	public void getNonExistingSubmodelElementValues() {
+		Submodel technicalData = DummySubmodelFactory.createTechnicalDataSubmodel();
+
+		getSubmodelService(technicalData).getSubmodelElementValues(Arrays.asList(SubmodelServiceHelper.SUBMODEL_TECHNICAL_DATA_PROPERTY_ID_SHORT, "nonExisting"));
+	}
+
+	@Test
+	public void setSubmodelElementValues() {
+		Submodel technicalData = DummySubmodelFactory.createTechnicalDataSubmodel();
+		SubmodelService smService = getSubmodelService(technicalData);
+
+		Map<String, SubmodelElementValue> values = new LinkedHashMap<>();
+		values.put(SubmodelServiceHelper.SUBMODEL_TECHNICAL_DATA_PROPERTY_ID_SHORT, new PropertyValue("200"));
+		values.put(SubmodelServiceHelper.SUBMODEL_TECHNICAL_DATA_RANGE_ID_SHORT, new RangeValue(100, 400));
+
+		smService.setSubmodelElementValues(values);
+
+		assertEquals("200", ((PropertyValue) smService.getSubmodelElementValue(SubmodelServiceHelper.SUBMODEL_TECHNICAL_DATA_PROPERTY_ID_SHORT)).getValue());
+		RangeValue rangeValue = (RangeValue) smService.getSubmodelElementValue(SubmodelServiceHelper.SUBMODEL_TECHNICAL_DATA_RANGE_ID_SHORT);
+		assertEquals("100", String.valueOf(rangeValue.getMin()));
+		assertEquals("400", String.valueOf(rangeValue.getMax()));
+	}
+
+	@Test
+	public void setHierarchicalSubmodelElementValues() {
+		Submodel operationalData = DummySubmodelFactory.createOperationalDataSubmodelWithHierarchicalSubmodelElements();
+		SubmodelService smService = getSubmodelService(operationalData);
+
+		Map<String, SubmodelElementValue> values = new LinkedHashMap<>();
+		values.put(generateIdShortPath(), new PropertyValue("205"));
+
+		smService.setSubmodelElementValues(values);
+
+		assertEquals("205", ((PropertyValue) smService.getSubmodelElementValue(generateIdShortPath())).getValue());
+	}
+
+	@Test
+	public void setSubmodelElementValuesWithNonExistingElementChangesNothing() {
+		Submodel technicalData = DummySubmodelFactory.createTechnicalDataSubmodel();
+		SubmodelService smService = getSubmodelService(technicalData);
+
+		Map<String, SubmodelElementValue> values = new LinkedHashMap<>();
+		values.put(SubmodelServiceHelper.SUBMODEL_TECHNICAL_DATA_PROPERTY_ID_SHORT, new PropertyValue("200"));
+		values.put("nonExisting", new PropertyValue("doesNotMatter"));
+
+		try {
+			smService.setSubmodelElementValues(values);
+			fail();
+		} catch (ElementDoesNotExistException expected) {
+		}
+
+		assertEquals(SubmodelServiceHelper.SUBMODEL_TECHNICAL_DATA_PROPERTY_VALUE, ((PropertyValue) smService.getSubmodelElementValue(SubmodelServiceHelper.SUBMODEL_TECHNICAL_DATA_PROPERTY_ID_SHORT)).getValue());
+	}
+
 	@Test
 	public void getRangeValue() {
 		Submodel technicalData = DummySubmodelFactory.createTechnicalDataSubmodel();
@@ -314,6 +384,31 @@ public abstract class SubmodelServiceSuite {
 		}
 	}
 
+	@Test
+	public void getNestedSubmodelElementsPaged() {
+		SubmodelService smService = getSubmodelService(DummySubmodelFactory.createTechnicalDataSubmodel());
+		String idShortPath = SubmodelServiceHelper.SUBMODEL_TECHNICAL_DATA_SUBMODEL_ELEMENT_LIST_ID_SHORT;
+
+		CursorResult<List<SubmodelElement>> firstPage = smService.getSubmodelElements(idShortPath, new PaginationInfo(1, null));
+		assertEquals(1, firstPage.getResult().size());
+		assertEquals(SubmodelServiceHelper.SUBMODEL_TECHNICAL_DATA_RANGE_ID_SHORT, firstPage.getResult().get(0).getIdShort());
+
+		CursorResult<List<SubmodelElement>> secondPage = smService.getSubmodelElements(idShortPath, new PaginationInfo(1, firstPage.getCursor()));
+		assertEquals(1, secondPage.getResult().size());
+		assertEquals(SubmodelServiceHelper.SUBMODEL_TECHNICAL_DATA_PROPERTY_ID_SHORT, secondPage.getResult().get(0).getIdShort());
+
+		CursorResult<List<SubmodelElement>> lastPage = smService.getSubmodelElements(idShortPath, new PaginationInfo(1, secondPage.getCursor()));
+		assertTrue(lastPage.getResult().isEmpty());
+		assertEquals(null, lastPage.getCursor());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void getNestedSubmodelElementsOfNonContainer() {
+		SubmodelService smService = getSubmodelService(DummySubmodelFactory.createTechnicalDataSubmodel());
+
+		smService.getSubmodelElements(SubmodelServiceHelper.SUBMODEL_TECHNICAL_DATA_PROPERTY_ID_SHORT, new PaginationInfo(1, null));
+	}
+
 	@Test
 	public void createNestedSubmodelElement() {
 		Submodel operationDataSubmodel = DummySubmodelFactory.createOperationalDataSubmodelWithHierarchicalSubmodelElements();
@@ -0,0 +1,97 @@
+/*******************************************************************************
+ * Copyright (C) 2023 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+
+package org.eclipse.digitaltwin.basyx.submodelservice.value;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.digitaltwin.aas4j.v3.model.Property;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementCollection;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultProperty;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodelElementCollection;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.mapper.SubmodelElementCollectionValueMapper;
+import org.junit.Test;
+
+/**
+ * Measures setting the value of SubmodelElementCollections of increasing size
+ * to show that it scales linearly with the number of elements.<br>
+ * <br>
+ * Not part of the regular build, run it explicitly using
+ * <code>mvn test -Dtest=SubmodelElementCollectionValueMapperBenchmark</code>
+ * 
+ * @author schnicke
+ *
+ */
+public class SubmodelElementCollectionValueMapperBenchmark {
+	private static final int[] ELEMENT_COUNTS = { 1_000, 10_000, 100_000 };
+	private static final int WARMUP_ITERATIONS = 50;
+	private static final int WARMUP_ELEMENTS = 2_000_000;
+	private static final int MEASURED_ITERATIONS = 20;
+
+	@Test
+	public void setLargeSubmodelElementCollectionValue() {
+		for (int elementCount : ELEMENT_COUNTS) {
+			SubmodelElementCollection collection = createCollection(elementCount);
+			SubmodelElementCollectionValue value = createCollectionValue(elementCount);
+			SubmodelElementCollectionValueMapper mapper = new SubmodelElementCollectionValueMapper(collection);
+
+			int warmupIterations = Math.max(WARMUP_ITERATIONS, WARMUP_ELEMENTS / elementCount);
+			for (int i = 0; i < warmupIterations; i++)
+				mapper.setValue(value);
+
+			long start = System.nanoTime();
+			for (int i = 0; i < MEASURED_ITERATIONS; i++)
+				mapper.setValue(value);
+			long nanosPerOperation = (System.nanoTime() - start) / MEASURED_ITERATIONS;
+
+			assertEquals("value0", ((Property) collection.getValue().iterator().next()).getValue());
+
+			System.out.println(elementCount + " elements: " + TimeUnit.NANOSECONDS.toMicros(nanosPerOperation) + " us/op, " + nanosPerOperation / elementCount + " ns/element");
+		}
+	}
+
+	private static SubmodelElementCollection createCollection(int elementCount) {
+		List<SubmodelElement> submodelElements = new ArrayList<>(elementCount);
+		for (int i = 0; i < elementCount; i++)
+			submodelElements.add(new DefaultProperty.Builder().idShort("property" + i).value("initial").build());
+
+		return new DefaultSubmodelElementCollection.Builder().idShort("collection").value(submodelElements).build();
+	}
+
+	private static SubmodelElementCollectionValue createCollectionValue(int elementCount) {
+		// Reversed order, so that a linear search would be maximally penalized
+		List<ValueOnly> valueOnlies = new ArrayList<>(elementCount);
+		for (int i = elementCount - 1; i >= 0; i--)
+			valueOnlies.add(new ValueOnly("property" + i, new PropertyValue("value" + i)));
+
+		return new SubmodelElementCollectionValue(valueOnlies);
+	}
+}
@@ -24,10 +24,14 @@
  ******************************************************************************/
 package org.eclipse.digitaltwin.basyx.submodelservice.value;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
 
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -66,9 +70,14 @@ import org.eclipse.digitaltwin.basyx.submodelservice.value.mapper.ReferenceEleme
 import org.eclipse.digitaltwin.basyx.submodelservice.value.mapper.RelationshipElementValueMapper;
 import org.eclipse.digitaltwin.basyx.submodelservice.value.mapper.SubmodelElementCollectionValueMapper;
 import org.eclipse.digitaltwin.basyx.submodelservice.value.mapper.SubmodelElementListValueMapper;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.exception.SubmodelElementValueNotFoundException;
 import org.eclipse.digitaltwin.basyx.submodelservice.value.mapper.ValueMapper;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.mapper.ValueMapperUtil;
 import org.junit.Test;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 /**
  * Tests the mapped submodel element value from SubmodelElements
  * 
@@ -241,6 +250,29 @@ public class TestMappedSubmodelElementValue {
 		assertEquals(expectedValue, new String(blob.getValue(), StandardCharsets.UTF_8));
 	}
 
+	@Test
+	public void mappedSetRawBlobValue() {
+		byte[] expectedContent = new byte[] { 0, (byte) 0xC3, 0x28, (byte) 0xFF };
+
+		Blob blob = SubmodelServiceHelper.createBlobSubmodelElement();
+
+		BlobValueMapper blobValueMapper = new BlobValueMapper(blob);
+		blobValueMapper.setValue(new RawBlobValue("image/png", expectedContent));
+
+		assertEquals("image/png", blob.getContentType());
+		assertArrayEquals(expectedContent, blob.getValue());
+	}
+
+	@Test
+	public void serializeRawBlobValue() {
+		byte[] content = new byte[] { 0, (byte) 0xC3, 0x28, (byte) 0xFF };
+
+		JsonNode serialized = new ObjectMapper().valueToTree(new RawBlobValue("image/png", content));
+
+		assertEquals("image/png", serialized.get("contentType").asText());
+		assertEquals(Base64.getEncoder().encodeToString(content), serialized.get("content").asText());
+	}
+
 	@Test
 	public void mappedGetEntityValue() {
 		Entity expected = SubmodelServiceHelper.createEntitySubmodelElement();
@@ -377,6 +409,43 @@ public class TestMappedSubmodelElementValue {
 		assertValuesAreEqual(submodelElementValues, submodelElementList);
 	}
 
+	@Test
+	public void submodelElementCollectionValueWithMissingValueOnlyIsNotApplied() {
+		SubmodelElementCollection submodelElementCollection = SubmodelServiceHelper.createSubmodelElementCollection();
+		List<ValueOnly> expected = ValueMapperUtil.createValueOnlyCollection(submodelElementCollection.getValue());
+
+		SubmodelElementCollectionValue incompleteValue = new SubmodelElementCollectionValue(submodelElementCollectionValueOnlies.subList(0, 1));
+
+		try {
+			setSubmodelElementCollectionValue(submodelElementCollection, incompleteValue);
+			fail();
+		} catch (SubmodelElementValueNotFoundException e) {
+		}
+
+		assertValuesAreEqual(expected, submodelElementCollection);
+	}
+
+	@Test
+	public void submodelElementListValueIsAppliedByPosition() {
+		SubmodelElementList submodelElementList = SubmodelServiceHelper.createSubmodelElementList();
+		List<SubmodelElement> submodelElements = new ArrayList<>(submodelElementList.getValue());
+		submodelElements.add(SubmodelServiceHelper.createPropertySubmodelElement());
+		submodelElementList.setValue(submodelElements);
+
+		List<SubmodelElementValue> values = Arrays.asList(new RangeValue(12, 14), new PropertyValue("first"), new PropertyValue("second"));
+		setSubmodelElementListValue(submodelElementList, new SubmodelElementListValue(values));
+
+		assertValuesAreEqual(values, submodelElementList);
+		assertEquals("second", ((Property) getSubmodelElementAtIndex(submodelElementList, 2)).getValue());
+	}
+
+	@Test(expected = SubmodelElementValueNotFoundException.class)
+	public void submodelElementListValueWithMismatchingType() {
+		SubmodelElementList submodelElementList = SubmodelServiceHelper.createSubmodelElementList();
+
+		setSubmodelElementListValue(submodelElementList, new SubmodelElementListValue(Arrays.asList(new PropertyValue("TestProperty"), new RangeValue(12, 14))));
+	}
+
 	private static void assertValuesAreEqual(List<ValueOnly> expectedValueOnlies, ReferenceValue expectedFirst, ReferenceValue expectedSecond, AnnotatedRelationshipElement annotatedRelationshipElement) {
 		assertEquals(((PropertyValue) expectedValueOnlies.get(0)
 				.getSubmodelElementValue()).getValue(),
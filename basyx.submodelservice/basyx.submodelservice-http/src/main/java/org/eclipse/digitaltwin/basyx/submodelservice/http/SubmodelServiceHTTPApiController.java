@@ -25,32 +25,43 @@
 
 package org.eclipse.digitaltwin.basyx.submodelservice.http;
 
-import java.util.Arrays;
+import java.net.URI;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 
 import javax.validation.Valid;
 import javax.validation.constraints.Min;
 
+import org.eclipse.digitaltwin.aas4j.v3.model.Operation;
 import org.eclipse.digitaltwin.aas4j.v3.model.OperationVariable;
 import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
 import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.basyx.core.exceptions.NotInvokableException;
 import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
+import org.eclipse.digitaltwin.basyx.http.model.BaseOperationResult;
 import org.eclipse.digitaltwin.basyx.http.model.OperationRequest;
 import org.eclipse.digitaltwin.basyx.http.model.OperationResult;
+import org.eclipse.digitaltwin.basyx.http.operation.OperationInvocationExecutor;
 import org.eclipse.digitaltwin.basyx.http.pagination.PagedResult;
 import org.eclipse.digitaltwin.basyx.http.pagination.PagedResultPagingMetadata;
 import org.eclipse.digitaltwin.basyx.pagination.GetSubmodelElementsResult;
 import org.eclipse.digitaltwin.basyx.submodelservice.SubmodelService;
 import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelElementValue;
 import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelValueOnly;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.mapper.RawValueUtil;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
@@ -62,10 +73,12 @@ public class SubmodelServiceHTTPApiController implements SubmodelServiceHTTPApi
 
 	private static final PaginationInfo NO_LIMIT_PAGINATION_INFO = new PaginationInfo(0, null);
 	private SubmodelService service;
+	private OperationInvocationExecutor operationInvocationExecutor;
 
 	@Autowired
-	public SubmodelServiceHTTPApiController(SubmodelService service) {
+	public SubmodelServiceHTTPApiController(SubmodelService service, OperationInvocationExecutor operationInvocationExecutor) {
 		this.service = service;
+		this.operationInvocationExecutor = operationInvocationExecutor;
 	}
 
 	@Override
@@ -99,6 +112,24 @@ public class SubmodelServiceHTTPApiController implements SubmodelServiceHTTPApi
 		return new ResponseEntity<PagedResult>(paginatedSubmodelElement, HttpStatus.OK);
 	}
 
+	@Override
+	public ResponseEntity<PagedResult> getNestedSubmodelElements(
+			@Parameter(in = ParameterIn.PATH, description = "IdShort path to the containing submodel element (dot-separated)", required = true, schema = @Schema()) @PathVariable("idShortPath") String idShortPath,
+			@Min(1) @Parameter(in = ParameterIn.QUERY, description = "The maximum number of elements in the response array", schema = @Schema(allowableValues = {
+					"1" }, minimum = "1")) @Valid @RequestParam(value = "limit", required = false) Integer limit,
+			@Parameter(in = ParameterIn.QUERY, description = "A server-generated identifier retrieved from pagingMetadata that specifies from which position the result listing should continue", schema = @Schema()) @Valid @RequestParam(value = "cursor", required = false) String cursor) {
+		if (limit == null)
+			limit = 100;
+		PaginationInfo pInfo = new PaginationInfo(limit, cursor);
+		CursorResult<List<SubmodelElement>> submodelElements = service.getSubmodelElements(idShortPath, pInfo);
+
+		GetSubmodelElementsResult paginatedSubmodelElement = new GetSubmodelElementsResult();
+		paginatedSubmodelElement.setResult(submodelElements.getResult());
+		paginatedSubmodelElement.setPagingMetadata(new PagedResultPagingMetadata().cursor(submodelElements.getCursor()));
+
+		return new ResponseEntity<PagedResult>(paginatedSubmodelElement, HttpStatus.OK);
+	}
+
 	@Override
 	public ResponseEntity<Submodel> getSubmodel(
 			@Parameter(in = ParameterIn.QUERY, description = "Determines the structural depth of the respective resource content", schema = @Schema(allowableValues = { "deep",
@@ -179,6 +210,31 @@ public class SubmodelServiceHTTPApiController implements SubmodelServiceHTTPApi
 		return new ResponseEntity<Void>(HttpStatus.NO_CONTENT);
 	}
 
+	@Override
+	public ResponseEntity<byte[]> getSubmodelElementByPathRaw(String idShortPath) {
+		SubmodelElement submodelElement = service.getSubmodelElement(idShortPath);
+		return ResponseEntity.ok().contentType(MediaType.parseMediaType(RawValueUtil.getRawContentType(submodelElement))).body(RawValueUtil.getRawValue(submodelElement));
+	}
+
+	@Override
+	public ResponseEntity<Void> putSubmodelElementByPathRaw(String idShortPath, byte[] body, String contentType) {
+		SubmodelElement submodelElement = service.getSubmodelElement(idShortPath);
+
+		service.setSubmodelElementValue(idShortPath, RawValueUtil.createValue(submodelElement, body == null ? new byte[0] : body, contentType));
+		return new ResponseEntity<Void>(HttpStatus.NO_CONTENT);
+	}
+
+	@Override
+	public ResponseEntity<Map<String, SubmodelElementValue>> getSubmodelElementsByPathValueOnly(@Valid List<String> idShortPaths) {
+		return new ResponseEntity<Map<String, SubmodelElementValue>>(service.getSubmodelElementValues(idShortPaths), HttpStatus.OK);
+	}
+
+	@Override
+	public ResponseEntity<Void> patchSubmodelElementsByPathValueOnly(@Valid Map<String, SubmodelElementValue> body) {
+		service.setSubmodelElementValues(body);
+		return new ResponseEntity<Void>(HttpStatus.NO_CONTENT);
+	}
+
 	@Override
 	public ResponseEntity<SubmodelElement> postSubmodelElement(@Parameter(in = ParameterIn.DEFAULT, description = "Requested submodel element", required = true, schema = @Schema()) @Valid @RequestBody SubmodelElement body,
 			@Parameter(in = ParameterIn.QUERY, description = "Determines the structural depth of the respective resource content", schema = @Schema(allowableValues = { "deep",
@@ -196,19 +252,42 @@ public class SubmodelServiceHTTPApiController implements SubmodelServiceHTTPApi
 	}
 
 	@Override
-	public ResponseEntity<OperationResult> invokeOperation(
+	public DeferredResult<ResponseEntity<OperationResult>> invokeOperation(
 			@Parameter(in = ParameterIn.PATH, description = "IdShort path to the submodel element (dot-separated)", required = true, schema = @Schema()) @PathVariable("idShortPath") String idShortPath,
-			@Parameter(in = ParameterIn.DEFAULT, description = "Operation request object", required = true, schema = @Schema()) @Valid @RequestBody OperationRequest body) {
-		OperationVariable[] result = service.invokeOperation(idShortPath, body.getInputArguments().toArray(new OperationVariable[0]));
+			@Parameter(in = ParameterIn.DEFAULT, description = "Operation request object", required = true, schema = @Schema()) @Valid @RequestBody OperationRequest body,
+			@Parameter(in = ParameterIn.QUERY, description = "Determines whether an operation invocation is performed asynchronously or synchronously", schema = @Schema(defaultValue = "false")) @Valid @RequestParam(value = "async", required = false, defaultValue = "false") Boolean async) {
+		OperationVariable[] input = body.getInputArguments().toArray(new OperationVariable[0]);
+		Supplier<OperationVariable[]> invocation = () -> service.invokeOperation(idShortPath, input);
+		String operationKey = getOperationKey(idShortPath);
+
+		// The service itself rejects elements that are not invokable, which is
+		// reported as error of the synchronous invocation
+		if (!Boolean.TRUE.equals(async))
+			return OperationInvocationExecutor.toDeferredResult(operationInvocationExecutor.invoke(operationKey, invocation, body.getClientTimeoutDuration()).thenApply(result -> new ResponseEntity<OperationResult>(result, HttpStatus.OK)));
+
+		// An asynchronous invocation reports failures only via its status, thus
+		// missing or non-invokable elements have to be rejected beforehand
+		if (!(service.getSubmodelElement(idShortPath) instanceof Operation))
+			throw new NotInvokableException(idShortPath);
+
+		String handleId = operationInvocationExecutor.invokeAsync(operationKey, invocation, body.getClientTimeoutDuration());
+		URI location = ServletUriComponentsBuilder.fromCurrentContextPath().path("/submodel/submodel-elements/{idShortPath}/operation-status/{handleId}").buildAndExpand(idShortPath, handleId).toUri();
+
+		return OperationInvocationExecutor.toDeferredResult(CompletableFuture.completedFuture(ResponseEntity.accepted().location(location).body(operationInvocationExecutor.getResult(operationKey, handleId))));
+	}
 
-		return new ResponseEntity<OperationResult>(createOperationResult(result), HttpStatus.OK);
+	@Override
+	public ResponseEntity<BaseOperationResult> getOperationAsyncStatus(String idShortPath, String handleId) {
+		return new ResponseEntity<BaseOperationResult>(operationInvocationExecutor.getStatus(getOperationKey(idShortPath), handleId), HttpStatus.OK);
+	}
 
+	@Override
+	public ResponseEntity<OperationResult> getOperationAsyncResult(String idShortPath, String handleId) {
+		return new ResponseEntity<OperationResult>(operationInvocationExecutor.getResult(getOperationKey(idShortPath), handleId), HttpStatus.OK);
 	}
 
-	private OperationResult createOperationResult(OperationVariable[] result) {
-		OperationResult operationResult = new OperationResult();
-		operationResult.setOutputArguments(Arrays.asList(result));
-		return operationResult;
+	private String getOperationKey(String idShortPath) {
+		return OperationInvocationExecutor.getOperationKey(service.getSubmodel().getId(), idShortPath);
 	}
 
 }
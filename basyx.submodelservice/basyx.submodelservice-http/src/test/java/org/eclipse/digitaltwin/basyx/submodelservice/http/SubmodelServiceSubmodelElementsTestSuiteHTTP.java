@@ -25,22 +25,37 @@
 
 package org.eclipse.digitaltwin.basyx.submodelservice.http;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.stream.Collectors;
 
+import org.apache.hc.client5.http.classic.methods.HttpPut;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpResponse;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.core5.http.ContentType;
 import org.apache.hc.core5.http.ParseException;
+import org.apache.hc.core5.http.io.entity.ByteArrayEntity;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
 import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
 import org.eclipse.digitaltwin.basyx.http.serialization.BaSyxHttpTestUtils;
 import org.eclipse.digitaltwin.basyx.submodelservice.DummySubmodelFactory;
 import org.eclipse.digitaltwin.basyx.submodelservice.SubmodelServiceHelper;
 import org.junit.Test;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 /**
  * Base testsuite for all Submodel Service HTTP tests related to Submodel
@@ -108,6 +123,27 @@ public abstract class SubmodelServiceSubmodelElementsTestSuiteHTTP {
 		BaSyxHttpTestUtils.assertSameJSONContent(expectedValue, BaSyxHttpTestUtils.getResponseAsString(response));
 	}
 
+	@Test
+	public void setSubmodelElementValues() throws IOException, ParseException {
+		String expectedValues = getJSONValueAsString("value/setSubmodelElementValues.json");
+
+		CloseableHttpResponse writeResponse = BaSyxHttpTestUtils.executePatchOnURL(createSubmodelElementValuesURL(), expectedValues);
+		assertEquals(HttpStatus.NO_CONTENT.value(), writeResponse.getCode());
+
+		CloseableHttpResponse response = requestSubmodelElementValues(SubmodelServiceHelper.SUBMODEL_TECHNICAL_DATA_PROPERTY_ID_SHORT, SubmodelServiceHelper.SUBMODEL_TECHNICAL_DATA_RANGE_ID_SHORT,
+				createCollectionNestedIdShortPath(DummySubmodelFactory.SUBMODEL_ELEMENT_FIRST_ID_SHORT));
+
+		assertEquals(HttpStatus.OK.value(), response.getCode());
+		BaSyxHttpTestUtils.assertSameJSONContent(expectedValues, BaSyxHttpTestUtils.getResponseAsString(response));
+	}
+
+	@Test
+	public void getNonExistingSubmodelElementValues() throws IOException {
+		CloseableHttpResponse response = requestSubmodelElementValues(SubmodelServiceHelper.SUBMODEL_TECHNICAL_DATA_PROPERTY_ID_SHORT, "nonExisting");
+
+		assertEquals(HttpStatus.NOT_FOUND.value(), response.getCode());
+	}
+
 	@Test
 	public void getMultiLanguagePropertyValue() throws IOException, ParseException {
 		CloseableHttpResponse response = requestSubmodelElementValue(
@@ -212,6 +248,43 @@ public abstract class SubmodelServiceSubmodelElementsTestSuiteHTTP {
 		BaSyxHttpTestUtils.assertSameJSONContent(expectedValue, BaSyxHttpTestUtils.getResponseAsString(response));
 	}
 
+	@Test
+	public void getRawBlobValue() throws IOException {
+		CloseableHttpResponse response = BaSyxHttpTestUtils.executeGetOnURL(createSubmodelElementRawURL(SubmodelServiceHelper.SUBMODEL_TECHNICAL_DATA_BLOB_ID_SHORT));
+
+		assertEquals(HttpStatus.OK.value(), response.getCode());
+		assertEquals(SubmodelServiceHelper.SUBMODEL_TECHNICAL_DATA_BLOB_CONTENT_TYPE, response.getFirstHeader(HttpHeaders.CONTENT_TYPE).getValue());
+		assertArrayEquals(SubmodelServiceHelper.SUBMODEL_TECHNICAL_DATA_BLOB_VALUE.getBytes(StandardCharsets.UTF_8), EntityUtils.toByteArray(response.getEntity()));
+	}
+
+	@Test
+	public void setRawBlobValue() throws IOException {
+		byte[] expectedContent = new byte[] { 0, (byte) 0xC3, 0x28, (byte) 0xFF };
+
+		CloseableHttpResponse writeResponse = writeRawValue(SubmodelServiceHelper.SUBMODEL_TECHNICAL_DATA_BLOB_ID_SHORT, expectedContent, ContentType.IMAGE_PNG);
+		assertEquals(HttpStatus.NO_CONTENT.value(), writeResponse.getCode());
+
+		CloseableHttpResponse response = BaSyxHttpTestUtils.executeGetOnURL(createSubmodelElementRawURL(SubmodelServiceHelper.SUBMODEL_TECHNICAL_DATA_BLOB_ID_SHORT));
+		assertEquals(ContentType.IMAGE_PNG.getMimeType(), response.getFirstHeader(HttpHeaders.CONTENT_TYPE).getValue());
+		assertArrayEquals(expectedContent, EntityUtils.toByteArray(response.getEntity()));
+	}
+
+	@Test
+	public void setRawPropertyValue() throws IOException, ParseException {
+		CloseableHttpResponse writeResponse = writeRawValue(SubmodelServiceHelper.SUBMODEL_TECHNICAL_DATA_PROPERTY_ID_SHORT, "2567".getBytes(StandardCharsets.UTF_8), ContentType.TEXT_PLAIN);
+		assertEquals(HttpStatus.NO_CONTENT.value(), writeResponse.getCode());
+
+		CloseableHttpResponse response = BaSyxHttpTestUtils.executeGetOnURL(createSubmodelElementRawURL(SubmodelServiceHelper.SUBMODEL_TECHNICAL_DATA_PROPERTY_ID_SHORT));
+		assertEquals("2567", BaSyxHttpTestUtils.getResponseAsString(response));
+	}
+
+	@Test
+	public void getRawValueOfUnsupportedSubmodelElement() throws IOException {
+		CloseableHttpResponse response = BaSyxHttpTestUtils.executeGetOnURL(createSubmodelElementRawURL(SubmodelServiceHelper.SUBMODEL_TECHNICAL_DATA_ENTITY_ID_SHORT));
+
+		assertEquals(HttpStatus.BAD_REQUEST.value(), response.getCode());
+	}
+
 	@Test
 	public void getEntityValue() throws IOException, ParseException {
 		CloseableHttpResponse response = requestSubmodelElementValue(
@@ -441,6 +514,33 @@ public abstract class SubmodelServiceSubmodelElementsTestSuiteHTTP {
 				BaSyxHttpTestUtils.getResponseAsString(fetchedNestedInListResponse));
 	}
 
+	@Test
+	public void getNestedSubmodelElementsPaged() throws IOException, ParseException {
+		String url = createNestedSubmodelElementsURL(SubmodelServiceHelper.SUBMODEL_TECHNICAL_DATA_SUBMODEL_ELEMENT_LIST_ID_SHORT) + "?limit=1";
+
+		JsonNode firstPage = requestJSON(url);
+		assertEquals(1, firstPage.get("result").size());
+		assertEquals(SubmodelServiceHelper.SUBMODEL_TECHNICAL_DATA_RANGE_ID_SHORT, firstPage.get("result").get(0).get("idShort").asText());
+
+		JsonNode secondPage = requestJSON(url + "&cursor=" + firstPage.get("paging_metadata").get("cursor").asText());
+		assertEquals(1, secondPage.get("result").size());
+		assertEquals(SubmodelServiceHelper.SUBMODEL_TECHNICAL_DATA_PROPERTY_ID_SHORT, secondPage.get("result").get(0).get("idShort").asText());
+	}
+
+	@Test
+	public void getNestedSubmodelElementsOfNonContainer() throws IOException {
+		CloseableHttpResponse response = BaSyxHttpTestUtils.executeGetOnURL(createNestedSubmodelElementsURL(SubmodelServiceHelper.SUBMODEL_TECHNICAL_DATA_PROPERTY_ID_SHORT));
+
+		assertEquals(HttpStatus.BAD_REQUEST.value(), response.getCode());
+	}
+
+	@Test
+	public void getNestedSubmodelElementsOfNonExistingElement() throws IOException {
+		CloseableHttpResponse response = BaSyxHttpTestUtils.executeGetOnURL(createNestedSubmodelElementsURL("nonExisting"));
+
+		assertEquals(HttpStatus.NOT_FOUND.value(), response.getCode());
+	}
+
 	@Test
 	public void deleteNestedSubmodelElementFromSubmodelElementCollection()
 			throws FileNotFoundException, IOException, ParseException {
@@ -496,6 +596,90 @@ public abstract class SubmodelServiceSubmodelElementsTestSuiteHTTP {
 
 	}
 
+	@Test
+	public void invokeNonOperation() throws FileNotFoundException, IOException, ParseException {
+		String parameters = getJSONValueAsString("operation/parameters.json");
+		CloseableHttpResponse response = requestOperationInvocation(SubmodelServiceHelper.SUBMODEL_TECHNICAL_DATA_PROPERTY_ID_SHORT, parameters);
+
+		assertEquals(HttpStatus.METHOD_NOT_ALLOWED.value(), response.getCode());
+	}
+
+	@Test
+	public void invokeOperationAsync() throws FileNotFoundException, IOException, ParseException, InterruptedException {
+		String parameters = getJSONValueAsString("operation/parameters.json");
+		CloseableHttpResponse response = BaSyxHttpTestUtils.executePostOnURL(createSpecificSubmodelElementURL(SubmodelServiceHelper.SUBMODEL_TECHNICAL_DATA_OPERATION_ID) + "/invoke?async=true", parameters);
+
+		assertEquals(HttpStatus.ACCEPTED.value(), response.getCode());
+		String statusURL = response.getFirstHeader(HttpHeaders.LOCATION).getValue();
+		String handleId = statusURL.substring(statusURL.lastIndexOf('/') + 1);
+
+		awaitOperationCompletion(statusURL);
+
+		CloseableHttpResponse resultResponse = BaSyxHttpTestUtils.executeGetOnURL(createSpecificSubmodelElementURL(SubmodelServiceHelper.SUBMODEL_TECHNICAL_DATA_OPERATION_ID) + "/operation-results/" + handleId);
+		assertEquals(HttpStatus.OK.value(), resultResponse.getCode());
+
+		String expectedValue = getJSONValueAsString("operation/asyncResult.json");
+		BaSyxHttpTestUtils.assertSameJSONContent(expectedValue, BaSyxHttpTestUtils.getResponseAsString(resultResponse));
+	}
+
+	@Test
+	public void getStatusOfNonExistingOperationHandle() throws IOException {
+		CloseableHttpResponse response = BaSyxHttpTestUtils.executeGetOnURL(createSpecificSubmodelElementURL(SubmodelServiceHelper.SUBMODEL_TECHNICAL_DATA_OPERATION_ID) + "/operation-status/nonExisting");
+
+		assertEquals(HttpStatus.NOT_FOUND.value(), response.getCode());
+	}
+
+	@Test
+	public void getSubmodelElementsWithLevelCoreAndWithoutBlobValue() throws IOException, ParseException {
+		JsonNode submodelElements = requestJSON(createSubmodelElementsURL() + "?level=core&extent=WithoutBlobValue").get("result");
+
+		JsonNode collection = findByIdShort(submodelElements, SubmodelServiceHelper.SUBMODEL_TECHNICAL_DATA_SUBMODEL_ELEMENT_COLLECTION_ID_SHORT);
+		assertFalse(collection.has("value"));
+
+		JsonNode blob = findByIdShort(submodelElements, SubmodelServiceHelper.SUBMODEL_TECHNICAL_DATA_BLOB_ID_SHORT);
+		assertFalse(blob.has("value"));
+		assertTrue(blob.has("contentType"));
+
+		JsonNode property = findByIdShort(submodelElements, SubmodelServiceHelper.SUBMODEL_TECHNICAL_DATA_PROPERTY_ID_SHORT);
+		assertTrue(property.has("value"));
+	}
+
+	@Test
+	public void getSubmodelElementWithLevelCore() throws IOException, ParseException {
+		JsonNode collection = requestJSON(createSpecificSubmodelElementURL(SubmodelServiceHelper.SUBMODEL_TECHNICAL_DATA_SUBMODEL_ELEMENT_COLLECTION_ID_SHORT) + "?level=core");
+
+		assertEquals(2, collection.get("value").size());
+	}
+
+	@Test
+	public void getSubmodelElementWithBlobValue() throws IOException, ParseException {
+		JsonNode blob = requestJSON(createSpecificSubmodelElementURL(SubmodelServiceHelper.SUBMODEL_TECHNICAL_DATA_BLOB_ID_SHORT) + "?extent=WithBlobValue");
+
+		assertTrue(blob.has("value"));
+	}
+
+	private JsonNode findByIdShort(JsonNode submodelElements, String idShort) {
+		for (JsonNode submodelElement : submodelElements) {
+			if (idShort.equals(submodelElement.get("idShort").asText()))
+				return submodelElement;
+		}
+
+		fail("No SubmodelElement with idShort " + idShort);
+		return null;
+	}
+
+	private void awaitOperationCompletion(String statusURL) throws IOException, ParseException, InterruptedException {
+		for (int i = 0; i < 100; i++) {
+			String status = BaSyxHttpTestUtils.getResponseAsString(BaSyxHttpTestUtils.executeGetOnURL(statusURL));
+			if (status.contains("\"Completed\""))
+				return;
+
+			Thread.sleep(50);
+		}
+
+		fail("Operation did not complete in time");
+	}
+
 	private CloseableHttpResponse requestOperationInvocation(String operationId, String parameters) throws IOException {
 		return BaSyxHttpTestUtils.executePostOnURL(createSpecificSubmodelElementURL(operationId) + "/invoke", parameters);
 	}
@@ -518,11 +702,23 @@ public abstract class SubmodelServiceSubmodelElementsTestSuiteHTTP {
 		return BaSyxHttpTestUtils.executePatchOnURL(createSubmodelElementValueURL(smeIdShort), value);
 	}
 
+	private CloseableHttpResponse writeRawValue(String smeIdShort, byte[] content, ContentType contentType) throws IOException {
+		HttpPut putRequest = new HttpPut(createSubmodelElementRawURL(smeIdShort));
+		putRequest.setEntity(new ByteArrayEntity(content, contentType));
+		return HttpClients.createDefault().execute(putRequest);
+	}
+
 	private CloseableHttpResponse requestSubmodelElementValue(String smeIdShort) throws IOException {
 		return BaSyxHttpTestUtils.executeGetOnURL(createSubmodelElementValueURL(smeIdShort));
 
 	}
 
+	private CloseableHttpResponse requestSubmodelElementValues(String... idShortPaths) throws IOException {
+		String query = Arrays.stream(idShortPaths).map(idShortPath -> "idShortPath=" + idShortPath).collect(Collectors.joining("&"));
+
+		return BaSyxHttpTestUtils.executeGetOnURL(createSubmodelElementValuesURL() + "?" + query);
+	}
+
 	private CloseableHttpResponse requestSubmodelValues() throws IOException {
 		return BaSyxHttpTestUtils.executeGetOnURL(createSubmodelValueURL());
 	}
@@ -541,6 +737,14 @@ public abstract class SubmodelServiceSubmodelElementsTestSuiteHTTP {
 		return createSpecificSubmodelElementURL(smeIdShort) + "/$value";
 	}
 
+	private String createSubmodelElementRawURL(String smeIdShort) {
+		return createSpecificSubmodelElementURL(smeIdShort) + "/$raw";
+	}
+
+	private String createSubmodelElementValuesURL() {
+		return createSubmodelElementsURL() + "/$value";
+	}
+
 	private String createSubmodelValueURL() {
 		return getURL() + "/$value";
 	}
@@ -549,6 +753,17 @@ public abstract class SubmodelServiceSubmodelElementsTestSuiteHTTP {
 		return getURL() + "/submodel-elements/" + smeIdShort;
 	}
 
+	private String createNestedSubmodelElementsURL(String smeIdShort) {
+		return createSpecificSubmodelElementURL(smeIdShort) + "/submodel-elements";
+	}
+
+	private JsonNode requestJSON(String url) throws IOException, ParseException {
+		CloseableHttpResponse response = BaSyxHttpTestUtils.executeGetOnURL(url);
+		assertEquals(HttpStatus.OK.value(), response.getCode());
+
+		return new ObjectMapper().readTree(BaSyxHttpTestUtils.getResponseAsString(response));
+	}
+
 	private String createSubmodelElementsURL() {
 		return getURL() + "/submodel-elements";
 	}
@@ -0,0 +1,119 @@
+/*******************************************************************************
+ * Copyright (C) 2023 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.submodelservice.http;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultProperty;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodelElementCollection;
+import org.eclipse.digitaltwin.basyx.http.Aas4JHTTPSerializationExtension;
+import org.eclipse.digitaltwin.basyx.http.BaSyxHTTPConfiguration;
+import org.eclipse.digitaltwin.basyx.http.SerializationExtension;
+import org.eclipse.digitaltwin.basyx.http.modifier.SerializationModifierSerializationExtension;
+import org.eclipse.digitaltwin.basyx.submodelservice.DummySubmodelFactory;
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Compares the payload size and the (de-)serialization throughput of the JSON,
+ * CBOR and Smile mappers configured by the {@link BaSyxHTTPConfiguration} for
+ * a typical and a large Submodel.<br>
+ * <br>
+ * Not part of the regular build, run it explicitly using
+ * <code>mvn test -Dtest=SubmodelWireFormatBenchmark</code>
+ * 
+ * @author schnicke
+ *
+ */
+public class SubmodelWireFormatBenchmark {
+	private static final int COLLECTION_COUNT = 100;
+	private static final int PROPERTIES_PER_COLLECTION = 100;
+	private static final int ITERATIONS = 5_000;
+
+	private List<SerializationExtension> serializationExtensions = Arrays.asList(new Aas4JHTTPSerializationExtension(), new SubmodelServiceHTTPSerializationExtension(), new SerializationModifierSerializationExtension());
+	private BaSyxHTTPConfiguration configuration = new BaSyxHTTPConfiguration();
+
+	private ObjectMapper jsonMapper = configuration.jackson2ObjectMapperBuilder(serializationExtensions).build();
+	private ObjectMapper cborMapper = configuration.mappingJackson2CborHttpMessageConverter(serializationExtensions).getObjectMapper();
+	private ObjectMapper smileMapper = configuration.mappingJackson2SmileHttpMessageConverter(serializationExtensions).getObjectMapper();
+
+	@Test
+	public void compareTypicalSubmodel() throws IOException {
+		compare(DummySubmodelFactory.createSubmodelWithAllSubmodelElements(), ITERATIONS);
+	}
+
+	@Test
+	public void compareLargeSubmodel() throws IOException {
+		compare(createLargeSubmodel(), ITERATIONS / 100);
+	}
+
+	private void compare(Submodel submodel, int iterations) throws IOException {
+		measure("json", jsonMapper, submodel, iterations);
+		measure("cbor", cborMapper, submodel, iterations);
+		measure("smile", smileMapper, submodel, iterations);
+	}
+
+	private void measure(String format, ObjectMapper mapper, Submodel submodel, int iterations) throws IOException {
+		byte[] payload = mapper.writeValueAsBytes(submodel);
+		for (int i = 0; i < iterations; i++)
+			mapper.readValue(mapper.writeValueAsBytes(submodel), Submodel.class);
+
+		long serializationStart = System.nanoTime();
+		for (int i = 0; i < iterations; i++)
+			mapper.writeValueAsBytes(submodel);
+		long serializationNanos = System.nanoTime() - serializationStart;
+
+		long deserializationStart = System.nanoTime();
+		for (int i = 0; i < iterations; i++)
+			mapper.readValue(payload, Submodel.class);
+		long deserializationNanos = System.nanoTime() - deserializationStart;
+
+		System.out.println(format + ": " + payload.length + " bytes, serialization " + toOpsPerSecond(iterations, serializationNanos) + " ops/s, deserialization " + toOpsPerSecond(iterations, deserializationNanos) + " ops/s");
+	}
+
+	private static long toOpsPerSecond(int iterations, long nanos) {
+		return iterations * 1_000_000_000L / Math.max(nanos, 1);
+	}
+
+	private static Submodel createLargeSubmodel() {
+		List<SubmodelElement> collections = new ArrayList<>(COLLECTION_COUNT);
+		for (int i = 0; i < COLLECTION_COUNT; i++) {
+			List<SubmodelElement> properties = new ArrayList<>(PROPERTIES_PER_COLLECTION);
+			for (int j = 0; j < PROPERTIES_PER_COLLECTION; j++)
+				properties.add(new DefaultProperty.Builder().idShort("property" + j).value(String.valueOf(i * j)).build());
+
+			collections.add(new DefaultSubmodelElementCollection.Builder().idShort("collection" + i).value(properties).build());
+		}
+		return new DefaultSubmodel.Builder().id("largeSubmodel").idShort("LargeSubmodel").submodelElements(collections).build();
+	}
+}